@@ -0,0 +1,115 @@
+package com.goaleaf.accounts.system.concurrent;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the session mutations guarded by a single JVM-wide monitor (as with the former
+ * {@code @Synchronized} methods) with the mutations guarded by the {@link StripedSessionLocks}.
+ * Each benchmark thread mutates its own session, so the number of threads equals the number of concurrent sessions.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="SessionLockingBenchmark"}
+ *
+ * @author Created by: Pplociennik at 16.10.2026 16:40
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class SessionLockingBenchmark {
+
+    /**
+     * The amount of the CPU work done inside the critical section, standing in for the session's repository calls.
+     */
+    private static final long CRITICAL_SECTION_TOKENS = 200;
+
+    /**
+     * The locking modes being compared.
+     */
+    public enum LockingMode {
+
+        /**
+         * A single monitor shared by all the sessions (the state before the striped locking).
+         */
+        GLOBAL_MONITOR,
+
+        /**
+         * The striped per-session locks.
+         */
+        STRIPED
+    }
+
+    /**
+     * The locks shared by all the benchmark threads.
+     */
+    @State( Scope.Benchmark )
+    public static class SharedLocks {
+
+        @Param( { "GLOBAL_MONITOR", "STRIPED" } )
+        public LockingMode lockingMode;
+
+        final Object globalMonitor = new Object();
+
+        StripedSessionLocks stripedLocks;
+
+        @Setup
+        public void setUp() {
+            stripedLocks = new StripedSessionLocks( Runtime.getRuntime().availableProcessors() * 16 );
+        }
+    }
+
+    /**
+     * The session mutated by a single benchmark thread.
+     */
+    @State( Scope.Thread )
+    public static class ThreadSession {
+
+        String sessionId;
+
+        @Setup
+        public void setUp( ThreadParams aThreadParams ) {
+            sessionId = UUID.nameUUIDFromBytes( ( "session-" + aThreadParams.getThreadIndex() ).getBytes() ).toString();
+        }
+    }
+
+    @Benchmark
+    @Threads( 1 )
+    public void mutateOneConcurrentSession( SharedLocks aLocks, ThreadSession aSession ) {
+        mutate( aLocks, aSession );
+    }
+
+    @Benchmark
+    @Threads( 8 )
+    public void mutateEightConcurrentSessions( SharedLocks aLocks, ThreadSession aSession ) {
+        mutate( aLocks, aSession );
+    }
+
+    @Benchmark
+    @Threads( 64 )
+    public void mutateSixtyFourConcurrentSessions( SharedLocks aLocks, ThreadSession aSession ) {
+        mutate( aLocks, aSession );
+    }
+
+    /**
+     * Executes a single mutation of the thread's session in the chosen locking mode.
+     *
+     * @param aLocks
+     *         the shared locks.
+     * @param aSession
+     *         the thread's session.
+     */
+    private static void mutate( SharedLocks aLocks, ThreadSession aSession ) {
+        if ( aLocks.lockingMode == LockingMode.GLOBAL_MONITOR ) {
+            synchronized ( aLocks.globalMonitor ) {
+                Blackhole.consumeCPU( CRITICAL_SECTION_TOKENS );
+            }
+        } else {
+            aLocks.stripedLocks.executeLocked( aSession.sessionId, () -> Blackhole.consumeCPU( CRITICAL_SECTION_TOKENS ) );
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.goaleaf.accounts.system.filter;
+
+import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
+import com.github.pplociennik.commons.system.registry.impl.HashSetBasedSystemRegistry;
+import com.goaleaf.accounts.data.dto.auth.AuthenticationRequestDto;
+import com.goaleaf.accounts.data.dto.auth.RegistrationRequestDto;
+import com.goaleaf.accounts.data.dto.response.AuthenticationResponseDto;
+import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
+import com.goaleaf.accounts.data.dto.response.UserSessionResponseDto;
+import com.goaleaf.accounts.data.dto.user.UserDetailsDto;
+import com.goaleaf.accounts.data.dto.user.UserSessionDetailsDto;
+import com.goaleaf.accounts.persistence.entity.UserSessionDetails;
+import com.goaleaf.accounts.service.AuthenticationService;
+import com.goaleaf.accounts.service.SessionRefreshAheadService;
+import com.goaleaf.accounts.service.SupersededTokensService;
+import com.goaleaf.accounts.service.UserSessionDetailsService;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.BenchmarkTokens;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link UserTokenValidationFilter} on the path every authenticated request goes through: matching
+ * the request's path against the filtered paths and processing a request carrying a valid access token.
+ * The services are hand-written stubs answering immediately without allocating, so only the filter's own work
+ * (with the claims' parsing) is measured. The stubs throw on the calls the measured paths never make.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserTokenValidationFilterBenchmark"}
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:35
+ */
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime } )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class UserTokenValidationFilterBenchmark {
+
+    private UserTokenValidationFilter filter;
+
+    private MockHttpServletRequest filteredRequest;
+
+    private MockHttpServletRequest notFilteredRequest;
+
+    private MockHttpServletResponse response;
+
+    private FilterChain filterChain;
+
+    private ServletRequest lastChainedRequest;
+
+    @Setup
+    public void setUp() {
+        CollectingSystemRegistry< String > registry = new HashSetBasedSystemRegistry<>();
+        registry.add( "/api/auth/logout", "/api/auth/logout/all", "/api/auth/logout/session", "/api/sessions/all", "/api/account/delete" );
+
+        SessionRefreshAheadService noRefreshAhead = aClaims -> {
+        };
+        filter = new UserTokenValidationFilter( new ValidSessionDetailsService(), new UnusedAuthenticationService(),
+                noRefreshAhead, new NoReplacementsService(), registry );
+
+        filteredRequest = new MockHttpServletRequest( "GET", "/api/sessions/all" );
+        filteredRequest.addHeader( "User-Token", BenchmarkTokens.ACCESS_TOKEN );
+        notFilteredRequest = new MockHttpServletRequest( "POST", "/api/auth/login" );
+        response = new MockHttpServletResponse();
+        filterChain = ( aRequest, aResponse ) -> lastChainedRequest = aRequest;
+    }
+
+    @Benchmark
+    public boolean shouldNotFilterFilteredPath() {
+        return filter.shouldNotFilter( filteredRequest );
+    }
+
+    @Benchmark
+    public boolean shouldNotFilterNotFilteredPath() {
+        return filter.shouldNotFilter( notFilteredRequest );
+    }
+
+    @Benchmark
+    public ServletRequest doFilterInternalWithValidToken() throws ServletException, IOException {
+        filter.doFilterInternal( filteredRequest, response, filterChain );
+        return lastChainedRequest;
+    }
+
+    /**
+     * Reports every access token valid.
+     */
+    private static final class ValidSessionDetailsService implements UserSessionDetailsService {
+
+        @Override
+        public boolean checkAccessToken( AccessTokenClaims aAccessTokenClaims ) {
+            return true;
+        }
+
+        @Override
+        public boolean checkAccessToken( String aAccessToken ) {
+            return true;
+        }
+
+        @Override
+        public UserSessionDetailsDto createUserSessionDetails( AuthenticationRequestDto aDto, AuthenticationTokenDto aAuthenticationToken ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UserSessionDetailsDto createUserSessionDetails( UserSessionDetailsDto aDto, AuthenticationTokenDto aAuthenticationToken ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List< UserSessionResponseDto > getAllUserSessionsInfo( AccessTokenClaims aAccessTokenClaims ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean checkRefreshToken( String aRefreshToken ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean checkRefreshToken( UserSessionDetailsDto aSessionDetails ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional< UserSessionDetailsDto > getUserSessionDetails( String aSessionId ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void invalidateCachedSessionDetails( String aSessionId ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteSessionDetails( UserSessionDetails aSessionDetails ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteSessionDetails( String aSessionId ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int deleteAllUserSessionDetails( String aUserId ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean updateSessionDetails( UserSessionDetailsDto aSessionDetails, AuthenticationTokenDto aAuthenticationToken ) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Never holds a replacement of the carried token.
+     */
+    private static final class NoReplacementsService implements SupersededTokensService {
+
+        @Override
+        public Optional< AccessTokenClaims > findReplacement( AccessTokenClaims aClaims ) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void registerReplacement( AccessTokenClaims aSupersededClaims, AccessTokenClaims aReplacementClaims ) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Never called on the measured paths, as the carried token is valid.
+     */
+    private static final class UnusedAuthenticationService implements AuthenticationService {
+
+        @Override
+        public UserDetailsDto registerUserAccount( RegistrationRequestDto aDto ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AuthenticationResponseDto authenticateUserAccount( AuthenticationRequestDto aDto ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean terminateAllSessions( AccessTokenClaims aUserAccessTokenClaims ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean terminateCurrentUserSession( AccessTokenClaims aUserAccessTokenClaims ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean terminateSession( AccessTokenClaims aUserAccessTokenClaims, String aSessionId ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AuthenticationTokenDto refreshUserSession( String aAccessToken ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteUserSession( String aSessionId ) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.goaleaf.accounts.system.util;
+
+import java.time.Instant;
+
+/**
+ * The access tokens shared by the benchmarks of the token processing.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:20
+ */
+public final class BenchmarkTokens {
+
+    /**
+     * A token issued by the realm, with the issuance time '2025-05-27T18:44:45Z' and the expiration time '2025-05-27T18:49:45Z'.
+     */
+    public static final String ACCESS_TOKEN = "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICJXWXZpRWo5N3NZQmFvWVQ3bnN5Y2w1MnNWdm9oRU1pTzBVUXU1LTlFNHM4In0.eyJleHAiOjE3NDgzNzE3ODUsImlhdCI6MTc0ODM3MTQ4NSwianRpIjoib25ydHJvOjUwMDZmZDU2LTIzMGUtNGMzYi04NzRlLTgyOTY4MmMzYmI3YiIsImlzcyI6Imh0dHA6Ly9sb2NhbGhvc3Q6NzA4MC9yZWFsbXMvZ29hbGVhZiIsImF1ZCI6ImFjY291bnQiLCJzdWIiOiI0NTY4NjUxYi0xNWQ1LTQ0YzItOTQ4ZC0xMmEwMzQ4M2FjMWEiLCJ0eXAiOiJCZWFyZXIiLCJhenAiOiJnb2FsZWFmLW1zcy1zZXJ2ZXIiLCJzaWQiOiI4NjU2Y2ViNC02YWEwLTRlNTctOTdlZi05MTk4NTkzNThiMTgiLCJhY3IiOiIxIiwiYWxsb3dlZC1vcmlnaW5zIjpbIi8qIl0sInJlYWxtX2FjY2VzcyI6eyJyb2xlcyI6WyJvZmZsaW5lX2FjY2VzcyIsInVtYV9hdXRob3JpemF0aW9uIiwiZGVmYXVsdC1yb2xlcy1nb2FsZWFmIl19LCJyZXNvdXJjZV9hY2Nlc3MiOnsiYWNjb3VudCI6eyJyb2xlcyI6WyJtYW5hZ2UtYWNjb3VudCIsIm1hbmFnZS1hY2NvdW50LWxpbmtzIiwidmlldy1wcm9maWxlIl19fSwic2NvcGUiOiJwcm9maWxlIGVtYWlsIiwiZW1haWxfdmVyaWZpZWQiOnRydWUsInByZWZlcnJlZF91c2VybmFtZSI6InBwbG9jaWVubmlrMiIsImVtYWlsIjoicHJ6ZW14Ljg0QGdtYWlsLmNvbSJ9.fjVGhjvObZ6LmnOUVc7ek6Cm9wxFJC2a6ce1GWlc_o10wGTZZNCU53Ja3r_ki2eF2p_MSUwmKGzGGZYeAY6iwr9GfrIqtuJVyVJpABv-ds-jtPQoKvkos5tH0SPy4mRIlH__TnAcCKmBWtdmqXKyzXposRHcxsdEFjvuqZCQk24tlwfGQzW2gx5fJqF8QAPmNzv0bOuC3c8WaF67rAxfrZCSVhRI7wws6uZFZuOkrE1Y6LfqWxCQB2jfJ-jBcvET7vH_6ZzysizynQSEfhQSOvD3UtnDol5avi4bDgaetJtVZAJ4gShn_MNi8KVMqA08ZZKW1mdMvGYB21Uj_SoDtQ";
+
+    /**
+     * A moment within the lifetime of the {@link #ACCESS_TOKEN}.
+     */
+    public static final Instant WITHIN_ACCESS_TOKEN_LIFETIME = Instant.parse( "2025-05-27T18:47:00Z" );
+
+    private BenchmarkTokens() {
+    }
+}
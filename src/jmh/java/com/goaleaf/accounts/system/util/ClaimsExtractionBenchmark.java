@@ -0,0 +1,61 @@
+package com.goaleaf.accounts.system.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the extraction of the access token's claims with the {@code JWT.decode} (decoding the header, the payload
+ * and building the JSON trees) with the extraction with the {@link JwtClaimsExtractor}, and measures the claims' extraction
+ * through the {@link AccessTokenUtils} used by the services.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="ClaimsExtractionBenchmark"}
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:05
+ */
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime } )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class ClaimsExtractionBenchmark {
+
+    /**
+     * The token being decoded, kept in a non-final field so the JIT cannot treat it as a constant.
+     */
+    private String accessToken = BenchmarkTokens.ACCESS_TOKEN;
+
+    /**
+     * The token as carried by the {@code Authorization} header.
+     */
+    private String prefixedAccessToken = AccessTokenUtils.ACCESS_TOKEN_PREFIX + " " + BenchmarkTokens.ACCESS_TOKEN;
+
+    @Benchmark
+    public void decodeWithJavaJwt( Blackhole aBlackhole ) {
+        DecodedJWT decodedJWT = JWT.decode( accessToken );
+        aBlackhole.consume( decodedJWT.getClaim( "sid" ).asString() );
+        aBlackhole.consume( decodedJWT.getSubject() );
+        aBlackhole.consume( decodedJWT.getClaim( "email" ).asString() );
+        aBlackhole.consume( decodedJWT.getIssuedAtAsInstant() );
+        aBlackhole.consume( decodedJWT.getExpiresAtAsInstant() );
+    }
+
+    @Benchmark
+    public AccessTokenClaims extractWithJwtClaimsExtractor() {
+        return JwtClaimsExtractor.extract( accessToken );
+    }
+
+    @Benchmark
+    public AccessTokenClaims parseClaimsWithAccessTokenUtils() {
+        return AccessTokenUtils.parseClaims( accessToken );
+    }
+
+    @Benchmark
+    public String getUserIdOfPrefixedToken() {
+        return AccessTokenUtils.getUserId( prefixedAccessToken );
+    }
+}
@@ -0,0 +1,41 @@
+package com.goaleaf.accounts.system.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the resolution of the Keycloak URL templates done for every call to the realm.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="UrlTemplatesResolverBenchmark"}
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:25
+ */
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime } )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class UrlTemplatesResolverBenchmark {
+
+    private String realmName = "goaleaf";
+
+    private String userId = "4568651b-15d5-44c2-948d-12a03483ac1a";
+
+    @Benchmark
+    public String resolveUrlTemplate() {
+        return UrlTemplatesResolverUtil.resolveUrlTemplate( KeycloakUrlTemplates.GET_ALL_SESSIONS_URL_TEMPLATE, realmName, userId );
+    }
+
+    @Benchmark
+    public String resolveUriTemplate() {
+        return UrlTemplatesResolverUtil.resolveUriTemplate( KeycloakUrlTemplates.GET_ALL_SESSIONS_URL_TEMPLATE );
+    }
+
+    @Benchmark
+    public Map< String, Object > resolveUriVariables() {
+        return UrlTemplatesResolverUtil.resolveUriVariables( KeycloakUrlTemplates.GET_ALL_SESSIONS_URL_TEMPLATE, realmName, userId );
+    }
+}
@@ -0,0 +1,61 @@
+package com.goaleaf.accounts.system.util.token;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.AccessTokenUtils;
+import com.goaleaf.accounts.system.util.BenchmarkTokens;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the offline validation of the access tokens, both of the raw token (parsed by the strategy)
+ * and of the claims already parsed by the {@code UserTokenValidationFilter}. The registry holds a revoked session
+ * of another user, so the revocation lookups are not done on empty maps.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="OfflineValidationBenchmark"}
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:30
+ */
+@BenchmarkMode( { Mode.Throughput, Mode.AverageTime } )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class OfflineValidationBenchmark {
+
+    private String accessToken;
+
+    private AccessTokenClaims accessTokenClaims;
+
+    private OfflineValidationStrategy strategy;
+
+    @Setup
+    public void setUp() {
+        // a stub-only mock does not record the invocations, so it does not allocate during the measurement
+        TimeService timeService = Mockito.mock( TimeService.class, Mockito.withSettings().stubOnly() );
+        Mockito.when( timeService.getCurrentSystemDateTime() )
+                .thenReturn( BenchmarkTokens.WITHIN_ACCESS_TOKEN_LIFETIME.atZone( ZoneOffset.UTC ) );
+
+        TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry( timeService, Duration.ofMinutes( 5 ) );
+        tokenRevocationRegistry.revokeSession( "0c0ffee0-0000-4000-8000-000000000000" );
+
+        strategy = new OfflineValidationStrategy( timeService, tokenRevocationRegistry );
+        accessToken = BenchmarkTokens.ACCESS_TOKEN;
+        accessTokenClaims = AccessTokenUtils.parseClaims( accessToken );
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return strategy.validateAccessToken( accessToken );
+    }
+
+    @Benchmark
+    public boolean validateAccessTokenClaims() {
+        return strategy.validateAccessToken( accessTokenClaims );
+    }
+}
@@ -0,0 +1,82 @@
+package com.goaleaf.accounts.load;
+
+import com.goaleaf.accounts.integration.config.stub.KeycloakStubServer;
+import com.goaleaf.accounts.integration.config.stub.KeycloakStubSettings;
+import com.goaleaf.accounts.integration.config.stub.LatencyDistribution;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Base class for the load tests running the service with the embedded database against the in-process
+ * Keycloak stand-in, whose latency and error rate are taken from the {@link LoadTestSettings}.
+ * <p>
+ * The load tests are compiled and run only with the {@code load-test} Maven profile: {@code mvn -Pload-test test [-DloadTest.duration=...]}.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:30
+ */
+@SpringBootTest( webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT )
+@ActiveProfiles( "load-test" )
+@Tag( "load-test" )
+public abstract class AbstractLoadTestEnvironment {
+
+    protected static final LoadTestSettings settings = LoadTestSettings.read();
+
+    protected static final KeycloakStubServer keycloak;
+
+    static {
+        LatencyDistribution latency = settings.getKeycloakLatencyMedian().isZero()
+                ? LatencyDistribution.none()
+                : LatencyDistribution.logNormal( settings.getKeycloakLatencyMedian(), settings.getKeycloakLatencyP99() );
+
+        keycloak = new KeycloakStubServer( KeycloakStubSettings.builder()
+                .latency( latency )
+                .errorRate( settings.getKeycloakErrorRate() )
+                .build() ).start();
+    }
+
+    @LocalServerPort
+    protected int port;
+
+    @Autowired
+    protected Environment environment;
+
+    @DynamicPropertySource
+    static void configureProperties( DynamicPropertyRegistry registry ) {
+        keycloak.registerProperties( registry );
+    }
+
+    protected String getUrl( String aPath ) {
+        return "http://localhost:" + port + aPath;
+    }
+
+    /**
+     * Describes the configuration of the service and of the load for the report.
+     *
+     * @return the configuration.
+     */
+    protected Map< String, Object > describeConfiguration() {
+        Map< String, Object > configuration = new LinkedHashMap<>();
+        configuration.put( "validationStrategy", environment.getProperty( "com.goaleaf.accounts.auth.access.token.validationStrategy" ) );
+        configuration.put( "loginParallel", environment.getProperty( "com.goaleaf.accounts.auth.login.parallel" ) );
+        configuration.put( "virtualThreads", environment.getProperty( "spring.threads.virtual.enabled", "false" ) );
+        configuration.put( "tomcatMaxThreads", environment.getProperty( "server.tomcat.threads.max", "200" ) );
+        configuration.put( "keycloakMaxConnections", environment.getProperty( "com.goaleaf.accounts.keycloak.client.maxConnections" ) );
+        configuration.put( "keycloakLatencyMedianMs", settings.getKeycloakLatencyMedian().toMillis() );
+        configuration.put( "keycloakLatencyP99Ms", settings.getKeycloakLatencyP99().toMillis() );
+        configuration.put( "keycloakErrorRate", settings.getKeycloakErrorRate() );
+        configuration.put( "users", settings.getUsers() );
+        configuration.put( "warmupSeconds", settings.getWarmup().toSeconds() );
+        configuration.put( "durationSeconds", settings.getDuration().toSeconds() );
+        configuration.put( "availableProcessors", Runtime.getRuntime().availableProcessors() );
+        return configuration;
+    }
+}
@@ -0,0 +1,164 @@
+package com.goaleaf.accounts.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A client of the service's API used by the load tests, sending the requests from the virtual threads.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:45
+ */
+public final class AccountsApiClient {
+
+    /**
+     * The name of the header carrying the user's access token.
+     */
+    public static final String USER_TOKEN_HEADER = "User-Token";
+
+    /**
+     * The password of all the users registered by the load tests.
+     */
+    public static final String PASSWORD = "loadTestPassword";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds( 30 );
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version( HttpClient.Version.HTTP_1_1 )
+            .executor( Executors.newVirtualThreadPerTaskExecutor() )
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+
+    /**
+     * A constructor.
+     *
+     * @param aBaseUrl
+     *         the base URL of the service.
+     */
+    public AccountsApiClient( String aBaseUrl ) {
+        baseUrl = requireNonNull( aBaseUrl );
+    }
+
+    /**
+     * Registers a user with the {@link #PASSWORD}.
+     *
+     * @param aEmail
+     *         the email address of the user, its local part is used as the username.
+     * @throws IllegalStateException
+     *         if the user could not be registered
+     */
+    public void register( String aEmail ) throws IOException, InterruptedException {
+        Map< String, Object > body = Map.of(
+                "username", aEmail.substring( 0, aEmail.indexOf( '@' ) ),
+                "email", aEmail,
+                "enabled", true,
+                "credentials", List.of( Map.of( "value", PASSWORD, "temporary", false ) ) );
+        HttpResponse< String > response = send( postJson( "/api/auth/register", body ) );
+        if ( response.statusCode() != 201 ) {
+            throw new IllegalStateException( "Could not register the user " + aEmail + ": " + response.body() );
+        }
+    }
+
+    /**
+     * Logs the user in.
+     *
+     * @param aEmail
+     *         the email address of the user.
+     * @return the access token of the new session.
+     *
+     * @throws IllegalStateException
+     *         if the user could not be logged in
+     */
+    public String login( String aEmail ) throws IOException, InterruptedException {
+        HttpResponse< String > response = send( loginRequest( aEmail ) );
+        return findAccessToken( response )
+                .orElseThrow( () -> new IllegalStateException( "Could not log in the user " + aEmail + ": " + response.body() ) );
+    }
+
+    /**
+     * Creates the login request of the user.
+     *
+     * @param aEmail
+     *         the email address of the user.
+     * @return the request.
+     */
+    public HttpRequest.Builder loginRequest( String aEmail ) throws IOException {
+        return postJson( "/api/auth/login", Map.of(
+                "email", aEmail,
+                "password", PASSWORD,
+                "details", Map.of( "location", "Load Test", "deviceName", "load-test-client" ) ) );
+    }
+
+    /**
+     * Finds the access token in the successful response's body, regardless of the name of the field carrying it.
+     *
+     * @param aResponse
+     *         the response.
+     * @return the access token, empty if the response failed or carries none.
+     */
+    public Optional< String > findAccessToken( HttpResponse< String > aResponse ) throws IOException {
+        if ( aResponse.statusCode() / 100 != 2 || aResponse.body() == null || aResponse.body().isBlank() ) {
+            return Optional.empty();
+        }
+        return findAccessToken( objectMapper.readTree( aResponse.body() ) );
+    }
+
+    /**
+     * Creates a request to the service.
+     *
+     * @param aPath
+     *         the path of the endpoint.
+     * @return the request with the timeout set.
+     */
+    public HttpRequest.Builder request( String aPath ) {
+        return HttpRequest.newBuilder( URI.create( baseUrl + aPath ) ).timeout( REQUEST_TIMEOUT );
+    }
+
+    /**
+     * Sends the request.
+     *
+     * @param aRequest
+     *         the request.
+     * @return the response.
+     */
+    public HttpResponse< String > send( HttpRequest.Builder aRequest ) throws IOException, InterruptedException {
+        return httpClient.send( aRequest.build(), HttpResponse.BodyHandlers.ofString() );
+    }
+
+    private HttpRequest.Builder postJson( String aPath, Object aBody ) throws IOException {
+        return request( aPath )
+                .header( "Content-Type", "application/json" )
+                .POST( HttpRequest.BodyPublishers.ofByteArray( objectMapper.writeValueAsBytes( aBody ) ) );
+    }
+
+    private Optional< String > findAccessToken( JsonNode aNode ) {
+        if ( aNode.isTextual() ) {
+            String value = aNode.asText();
+            return value.startsWith( "eyJ" ) && value.chars().filter( aChar -> aChar == '.' ).count() == 2
+                    ? Optional.of( value )
+                    : Optional.empty();
+        }
+        for ( JsonNode child : aNode ) {
+            Optional< String > token = findAccessToken( child );
+            if ( token.isPresent() ) {
+                return token;
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.goaleaf.accounts.load;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of the concurrent logins, each making several sequential blocking calls to Keycloak.
+ * <p>
+ * With the platform threads the concurrent logins are capped by the small Tomcat pool: once the arrival rate exceeds
+ * {@code threads / login latency}, the requests queue up and the percentiles grow with the length of the run.
+ * In the virtual threads mode the pool's size does not apply and the latency stays close to the Keycloak round trips,
+ * bounded only by the Keycloak connection pool. Compare the reports of:
+ * <pre>
+ * mvn -Pload-test test -Dtest=ConcurrentLoginsLoadTest -DloadTest.keycloak.latency.median=50 -DloadTest.keycloak.latency.p99=200
+ * mvn -Pload-test test -Dtest=ConcurrentLoginsLoadTest -DloadTest.keycloak.latency.median=50 -DloadTest.keycloak.latency.p99=200 -Dspring.threads.virtual.enabled=true
+ * </pre>
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:45
+ */
+@TestInstance( TestInstance.Lifecycle.PER_CLASS )
+@TestPropertySource( properties = {
+        "server.tomcat.threads.max=${loadTest.tomcat.threads.max:20}",
+        "com.goaleaf.accounts.keycloak.client.maxConnections=${loadTest.keycloak.maxConnections:500}",
+        "com.goaleaf.accounts.keycloak.client.pendingAcquireTimeout=30000"
+} )
+class ConcurrentLoginsLoadTest extends AbstractLoadTestEnvironment {
+
+    private static final String SCENARIO = "concurrent-logins";
+
+    private AccountsApiClient client;
+
+    @BeforeAll
+    void prepareUsers() throws Exception {
+        client = new AccountsApiClient( getUrl( "" ) );
+        for ( int i = 0; i < settings.getUsers(); i++ ) {
+            client.register( userEmail( i ) );
+        }
+    }
+
+    @Test
+    void shouldReportLatencyPercentilesOfConcurrentLogins() throws Exception {
+
+        // GIVEN
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator( List.of(
+                EndpointLoad.of( "login", settings.getConcurrentLoginsRate(),
+                        aIgnored -> client.send( client.loginRequest( userEmail( ThreadLocalRandom.current().nextInt( settings.getUsers() ) ) ) ).statusCode() )
+        ) );
+
+        // WHEN
+        Map< String, EndpointStatistics > statistics = generator.run( settings.getWarmup(), settings.getDuration() );
+
+        // THEN
+        Path report = new LoadTestReport( SCENARIO, describeConfiguration() )
+                .write( settings.getReportDirectory(), settings.getDuration(), statistics );
+        assertTrue( report.toFile().isFile() );
+    }
+
+    private static String userEmail( int aIndex ) {
+        return "load.login." + aIndex + "@goaleaf.com";
+    }
+}
@@ -0,0 +1,72 @@
+package com.goaleaf.accounts.load;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The load of a single endpoint: the arrival rate and the request sent at every arrival.
+ * <p>
+ * The optional preparation (e.g. logging in before the logout) is executed ahead of the request's intended arrival time
+ * and is not measured, unless it delays the request beyond that time.
+ *
+ * @param <T>
+ *         the type of the prepared data passed to the request.
+ * @author Created by: Pplociennik at 16.10.2026 22:10
+ */
+@Getter
+@AllArgsConstructor
+public final class EndpointLoad< T > {
+
+    private final String name;
+
+    /**
+     * The number of the requests started per second.
+     */
+    private final double arrivalRate;
+
+    /**
+     * The preparation of the request's data, {@code null} if the request needs none.
+     */
+    private final Callable< T > preparation;
+
+    private final LoadRequest< T > request;
+
+    /**
+     * Creates the load of an endpoint whose requests need no preparation.
+     *
+     * @param aName
+     *         the name of the endpoint in the report.
+     * @param aArrivalRate
+     *         the number of the requests started per second.
+     * @param aRequest
+     *         the request.
+     * @return the load.
+     */
+    public static EndpointLoad< Void > of( String aName, double aArrivalRate, LoadRequest< Void > aRequest ) {
+        return new EndpointLoad<>( aName, aArrivalRate, null, aRequest );
+    }
+
+    /**
+     * A request sent to the endpoint.
+     *
+     * @param <T>
+     *         the type of the prepared data.
+     */
+    @FunctionalInterface
+    public interface LoadRequest< T > {
+
+        /**
+         * Sends the request.
+         *
+         * @param aPrepared
+         *         the prepared data, {@code null} if the load has no preparation.
+         * @return the HTTP status of the response.
+         *
+         * @throws Exception
+         *         if the request could not be sent.
+         */
+        int send( T aPrepared ) throws Exception;
+    }
+}
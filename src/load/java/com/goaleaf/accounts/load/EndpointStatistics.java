@@ -0,0 +1,76 @@
+package com.goaleaf.accounts.load;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latencies and the errors of the requests sent to a single endpoint during the measurement.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:10
+ */
+public final class EndpointStatistics {
+
+    /**
+     * The highest latency tracked by the histogram; the longer latencies are recorded as this one.
+     */
+    private static final long HIGHEST_TRACKABLE_LATENCY_NANOS = TimeUnit.MINUTES.toNanos( 1 );
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    @Getter
+    private final String name;
+
+    private final double arrivalRate;
+
+    private final Histogram latencies = new ConcurrentHistogram( HIGHEST_TRACKABLE_LATENCY_NANOS, 3 );
+
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStatistics( String aName, double aArrivalRate ) {
+        name = aName;
+        arrivalRate = aArrivalRate;
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param aLatencyNanos
+     *         the latency of the request.
+     * @param aSuccessful
+     *         whether the request has succeeded.
+     */
+    void record( long aLatencyNanos, boolean aSuccessful ) {
+        latencies.recordValue( Math.min( Math.max( aLatencyNanos, 0 ), HIGHEST_TRACKABLE_LATENCY_NANOS ) );
+        if ( !aSuccessful ) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Summarizes the statistics for the report.
+     *
+     * @param aMeasurementSeconds
+     *         the length of the measurement.
+     * @return the summary with the latencies in milliseconds.
+     */
+    Map< String, Object > summarize( double aMeasurementSeconds ) {
+        long count = latencies.getTotalCount();
+        Map< String, Object > summary = new LinkedHashMap<>();
+        summary.put( "arrivalRate", arrivalRate );
+        summary.put( "count", count );
+        summary.put( "errors", errors.sum() );
+        summary.put( "throughput", count / aMeasurementSeconds );
+        summary.put( "meanMs", latencies.getMean() / NANOS_PER_MILLI );
+        summary.put( "p50Ms", latencies.getValueAtPercentile( 50 ) / NANOS_PER_MILLI );
+        summary.put( "p99Ms", latencies.getValueAtPercentile( 99 ) / NANOS_PER_MILLI );
+        summary.put( "p999Ms", latencies.getValueAtPercentile( 99.9 ) / NANOS_PER_MILLI );
+        summary.put( "maxMs", latencies.getMaxValue() / NANOS_PER_MILLI );
+        return summary;
+    }
+}
@@ -0,0 +1,83 @@
+package com.goaleaf.accounts.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The machine-readable report of a load test run: the configuration of the service and of the load
+ * and the latency percentiles of every endpoint, written as JSON to {@code <reportDirectory>/<scenario>-<timestamp>.json}
+ * so the runs of different configurations can be compared.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:20
+ */
+@Log4j2
+public final class LoadTestReport {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern( "yyyyMMdd-HHmmss" ).withZone( ZoneOffset.UTC );
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable( SerializationFeature.INDENT_OUTPUT );
+
+    private final String scenario;
+
+    private final Map< String, Object > configuration;
+
+    /**
+     * A constructor.
+     *
+     * @param aScenario
+     *         the name of the scenario.
+     * @param aConfiguration
+     *         the configuration of the run.
+     */
+    public LoadTestReport( String aScenario, Map< String, Object > aConfiguration ) {
+        scenario = requireNonNull( aScenario );
+        configuration = new LinkedHashMap<>( requireNonNull( aConfiguration ) );
+    }
+
+    /**
+     * Writes the report of the measured statistics.
+     *
+     * @param aDirectory
+     *         the directory of the reports.
+     * @param aMeasurement
+     *         the length of the measurement.
+     * @param aStatistics
+     *         the statistics of the endpoints.
+     * @return the path of the written report.
+     *
+     * @throws IOException
+     *         if the report could not be written.
+     */
+    public Path write( Path aDirectory, Duration aMeasurement, Map< String, EndpointStatistics > aStatistics ) throws IOException {
+        Instant timestamp = Instant.now();
+        double measurementSeconds = aMeasurement.toMillis() / 1000.0;
+
+        Map< String, Object > endpoints = new LinkedHashMap<>();
+        aStatistics.forEach( ( aName, aEndpointStatistics ) -> endpoints.put( aName, aEndpointStatistics.summarize( measurementSeconds ) ) );
+
+        Map< String, Object > report = new LinkedHashMap<>();
+        report.put( "scenario", scenario );
+        report.put( "timestamp", timestamp.toString() );
+        report.put( "configuration", configuration );
+        report.put( "endpoints", endpoints );
+
+        Files.createDirectories( aDirectory );
+        Path file = aDirectory.resolve( scenario + "-" + FILE_TIMESTAMP_FORMAT.format( timestamp ) + ".json" );
+        objectMapper.writeValue( file.toFile(), report );
+        log.info( "The load test report has been written to {}:\n{}", file, objectMapper.writeValueAsString( endpoints ) );
+        return file;
+    }
+}
@@ -0,0 +1,95 @@
+package com.goaleaf.accounts.load;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The settings of a load test run, read from the system properties (passed with {@code -D} to the Maven build)
+ * so the same workload can be repeated with different service configurations.
+ * <p>
+ * The arrival rates are the requests per second started regardless of the completion of the previous ones (open model);
+ * the rate 0 disables the endpoint's load.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:10
+ */
+@Getter
+public final class LoadTestSettings {
+
+    private static final String PREFIX = "loadTest.";
+
+    private final Duration warmup;
+
+    private final Duration duration;
+
+    /**
+     * The number of the users whose sessions are used by the session listing and refresh requests.
+     */
+    private final int users;
+
+    private final double loginRate;
+
+    private final double refreshRate;
+
+    private final double sessionsRate;
+
+    private final double logoutRate;
+
+    private final double logoutAllRate;
+
+    /**
+     * The arrival rate of the logins of the login concurrency scenario.
+     */
+    private final double concurrentLoginsRate;
+
+    /**
+     * The arrival rate of the logins of the login latency scenario, kept low enough for the logins not to queue up.
+     */
+    private final double loginLatencyRate;
+
+    /**
+     * The median and the 99th percentile of the latency of the Keycloak stand-in; the median 0 disables the latency.
+     */
+    private final Duration keycloakLatencyMedian;
+
+    private final Duration keycloakLatencyP99;
+
+    private final double keycloakErrorRate;
+
+    private final Path reportDirectory;
+
+    private LoadTestSettings() {
+        warmup = Duration.ofSeconds( readLong( "warmup", 10 ) );
+        duration = Duration.ofSeconds( readLong( "duration", 60 ) );
+        users = ( int ) readLong( "users", 50 );
+        loginRate = readDouble( "rate.login", 5 );
+        refreshRate = readDouble( "rate.refresh", 10 );
+        sessionsRate = readDouble( "rate.sessions", 50 );
+        logoutRate = readDouble( "rate.logout", 5 );
+        logoutAllRate = readDouble( "rate.logoutAll", 2 );
+        concurrentLoginsRate = readDouble( "rate.concurrentLogins", 200 );
+        loginLatencyRate = readDouble( "rate.loginLatency", 20 );
+        keycloakLatencyMedian = Duration.ofMillis( readLong( "keycloak.latency.median", 5 ) );
+        keycloakLatencyP99 = Duration.ofMillis( readLong( "keycloak.latency.p99", 50 ) );
+        keycloakErrorRate = readDouble( "keycloak.errorRate", 0 );
+        reportDirectory = Path.of( System.getProperty( PREFIX + "reportDirectory", "target/load-test" ) );
+    }
+
+    /**
+     * Reads the settings from the system properties.
+     *
+     * @return the settings.
+     */
+    public static LoadTestSettings read() {
+        return new LoadTestSettings();
+    }
+
+    private static long readLong( String aName, long aDefault ) {
+        return Long.parseLong( System.getProperty( PREFIX + aName, String.valueOf( aDefault ) ) );
+    }
+
+    private static double readDouble( String aName, double aDefault ) {
+        return Double.parseDouble( System.getProperty( PREFIX + aName, String.valueOf( aDefault ) ) );
+    }
+}
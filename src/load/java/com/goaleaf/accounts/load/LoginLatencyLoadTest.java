@@ -0,0 +1,64 @@
+package com.goaleaf.accounts.load;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of the latency of a single login, whose email address verification check, password grant and reading
+ * of the user's details either run concurrently or one after another.
+ * <p>
+ * The arrival rate is kept low, so the logins do not queue up and the percentiles show the length of the login's
+ * critical path: the sum of the Keycloak round trips in the sequential mode, the longest of them in the concurrent one.
+ * Compare the reports of:
+ * <pre>
+ * mvn -Pload-test test -Dtest=LoginLatencyLoadTest -DloadTest.keycloak.latency.median=50 -DloadTest.keycloak.latency.p99=200 -Dcom.goaleaf.accounts.auth.login.parallel=false
+ * mvn -Pload-test test -Dtest=LoginLatencyLoadTest -DloadTest.keycloak.latency.median=50 -DloadTest.keycloak.latency.p99=200 -Dcom.goaleaf.accounts.auth.login.parallel=true
+ * </pre>
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:15
+ */
+@TestInstance( TestInstance.Lifecycle.PER_CLASS )
+class LoginLatencyLoadTest extends AbstractLoadTestEnvironment {
+
+    private static final String SCENARIO = "login-latency";
+
+    private AccountsApiClient client;
+
+    @BeforeAll
+    void prepareUsers() throws Exception {
+        client = new AccountsApiClient( getUrl( "" ) );
+        for ( int i = 0; i < settings.getUsers(); i++ ) {
+            client.register( userEmail( i ) );
+        }
+    }
+
+    @Test
+    void shouldReportLatencyPercentilesOfLogins() throws Exception {
+
+        // GIVEN
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator( List.of(
+                EndpointLoad.of( "login", settings.getLoginLatencyRate(),
+                        aIgnored -> client.send( client.loginRequest( userEmail( ThreadLocalRandom.current().nextInt( settings.getUsers() ) ) ) ).statusCode() )
+        ) );
+
+        // WHEN
+        Map< String, EndpointStatistics > statistics = generator.run( settings.getWarmup(), settings.getDuration() );
+
+        // THEN
+        Path report = new LoadTestReport( SCENARIO, describeConfiguration() )
+                .write( settings.getReportDirectory(), settings.getDuration(), statistics );
+        assertTrue( report.toFile().isFile() );
+    }
+
+    private static String userEmail( int aIndex ) {
+        return "load.latency." + aIndex + "@goaleaf.com";
+    }
+}
@@ -0,0 +1,145 @@
+package com.goaleaf.accounts.load;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Generates the load of the endpoints with the open model: the requests arrive at the fixed rates, each started
+ * in its own virtual thread, regardless of how many previous requests are still in progress.
+ * <p>
+ * The latency of a request is measured from its intended arrival time instead of the time it was actually sent,
+ * so the delays of the generator itself, caused by the overloaded service, are accounted for in the percentiles
+ * (no coordinated omission). The requests needing a preparation are started {@link #PREPARATION_LEAD} ahead
+ * of their intended arrival time and sent at that time, so the preparation is not measured unless it makes the request late.
+ * Only the requests arriving after the warmup are recorded.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:20
+ */
+@Log4j2
+public final class OpenModelLoadGenerator {
+
+    /**
+     * The time for which the requests in progress are awaited after the last arrival.
+     */
+    private static final Duration COMPLETION_TIMEOUT = Duration.ofSeconds( 30 );
+
+    /**
+     * The time by which the requests needing a preparation are started ahead of their intended arrival time.
+     */
+    private static final Duration PREPARATION_LEAD = Duration.ofSeconds( 1 );
+
+    private final List< EndpointLoad< ? > > loads;
+
+    /**
+     * A constructor.
+     *
+     * @param aLoads
+     *         the loads of the endpoints.
+     */
+    public OpenModelLoadGenerator( List< EndpointLoad< ? > > aLoads ) {
+        loads = List.copyOf( requireNonNull( aLoads ) );
+    }
+
+    /**
+     * Generates the load and waits for the completion of the started requests.
+     *
+     * @param aWarmup
+     *         the duration of the warmup, not recorded.
+     * @param aDuration
+     *         the duration of the measurement.
+     * @return the statistics of the endpoints mapped by their names.
+     *
+     * @throws InterruptedException
+     *         if interrupted while waiting.
+     */
+    public Map< String, EndpointStatistics > run( Duration aWarmup, Duration aDuration ) throws InterruptedException {
+        Map< String, EndpointStatistics > statistics = new LinkedHashMap<>();
+        long startNanos = System.nanoTime();
+        long measurementStartNanos = startNanos + aWarmup.toNanos();
+        long endNanos = measurementStartNanos + aDuration.toNanos();
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        List< ExecutorService > workers = new ArrayList<>();
+        try {
+            for ( EndpointLoad< ? > load : loads ) {
+                EndpointStatistics endpointStatistics = new EndpointStatistics( load.getName(), load.getArrivalRate() );
+                statistics.put( load.getName(), endpointStatistics );
+                if ( load.getArrivalRate() <= 0 ) {
+                    continue;
+                }
+                ExecutorService endpointWorkers = Executors.newVirtualThreadPerTaskExecutor();
+                workers.add( endpointWorkers );
+                long intervalNanos = ( long ) ( TimeUnit.SECONDS.toNanos( 1 ) / load.getArrivalRate() );
+                long leadNanos = load.getPreparation() != null ? PREPARATION_LEAD.toNanos() : 0L;
+                AtomicLong arrivals = new AtomicLong();
+                scheduler.scheduleAtFixedRate( () -> {
+                    // the delayed executions are caught up by the scheduler, the intended time stays on the schedule
+                    long intendedNanos = startNanos + leadNanos + arrivals.getAndIncrement() * intervalNanos;
+                    if ( intendedNanos < endNanos ) {
+                        endpointWorkers.execute( () -> send( load, endpointStatistics, intendedNanos, intendedNanos >= measurementStartNanos ) );
+                    }
+                }, 0, intervalNanos, TimeUnit.NANOSECONDS );
+            }
+
+            TimeUnit.NANOSECONDS.sleep( endNanos - System.nanoTime() );
+        } finally {
+            scheduler.shutdownNow();
+            for ( ExecutorService endpointWorkers : workers ) {
+                endpointWorkers.shutdown();
+            }
+        }
+
+        for ( ExecutorService endpointWorkers : workers ) {
+            if ( !endpointWorkers.awaitTermination( COMPLETION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS ) ) {
+                log.warn( "The requests still in progress {} after the end of the load have been abandoned.", COMPLETION_TIMEOUT );
+                endpointWorkers.shutdownNow();
+            }
+        }
+        return statistics;
+    }
+
+    private static < T > void send( EndpointLoad< T > aLoad, EndpointStatistics aStatistics, long aIntendedNanos, boolean aRecorded ) {
+        boolean successful;
+        try {
+            T prepared = null;
+            if ( aLoad.getPreparation() != null ) {
+                prepared = aLoad.getPreparation().call();
+                awaitIntendedTime( aIntendedNanos );
+            }
+            int status = aLoad.getRequest().send( prepared );
+            successful = status >= 200 && status < 300;
+        } catch ( Exception aE ) {
+            log.debug( "The request to {} has failed.", aLoad.getName(), aE );
+            successful = false;
+        }
+        if ( aRecorded ) {
+            aStatistics.record( System.nanoTime() - aIntendedNanos, successful );
+        }
+    }
+
+    /**
+     * Waits until the intended arrival time of the prepared request; returns immediately if it has already passed.
+     *
+     * @param aIntendedNanos
+     *         the intended arrival time.
+     */
+    private static void awaitIntendedTime( long aIntendedNanos ) {
+        long remainingNanos;
+        while ( ( remainingNanos = aIntendedNanos - System.nanoTime() ) > 0 ) {
+            LockSupport.parkNanos( remainingNanos );
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.goaleaf.accounts.load;
+
+import com.goaleaf.accounts.system.util.JwtClaimsExtractor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.goaleaf.accounts.load.AccountsApiClient.USER_TOKEN_HEADER;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of the authentication and sessions endpoints: the login, the session refresh, the sessions listing
+ * and the logouts going through the token validation filter, sent at the rates of the {@link LoadTestSettings}.
+ * <p>
+ * The refresh and listing requests use the sessions of the users logged in before the load; each logout request
+ * ends a session opened for it (the unmeasured preparation) by a user reserved for the logouts, so the logouts
+ * do not end the sessions used by the other requests. The latency percentiles of every endpoint and the service's
+ * configuration are written to the report, e.g. to compare the token validation strategies:
+ * {@code mvn -Pload-test test -Dcom.goaleaf.accounts.auth.access.token.validationStrategy=ONLINE}.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:30
+ */
+@TestInstance( TestInstance.Lifecycle.PER_CLASS )
+class SessionEndpointsLoadTest extends AbstractLoadTestEnvironment {
+
+    private static final String SCENARIO = "session-endpoints";
+
+    /**
+     * The number of the users reserved for each of the logout endpoints.
+     */
+    private static final int LOGOUT_USERS = 100;
+
+    private final AtomicLong logoutUsersCounter = new AtomicLong();
+
+    private AccountsApiClient client;
+
+    /**
+     * The access tokens of the sessions used by the refresh and listing requests, replaced by the refreshed ones.
+     */
+    private AtomicReferenceArray< String > userTokens;
+
+    @BeforeAll
+    void prepareUsers() throws Exception {
+        client = new AccountsApiClient( getUrl( "" ) );
+        userTokens = new AtomicReferenceArray<>( settings.getUsers() );
+        for ( int i = 0; i < settings.getUsers(); i++ ) {
+            client.register( userEmail( i ) );
+            userTokens.set( i, client.login( userEmail( i ) ) );
+        }
+        for ( int i = 0; i < LOGOUT_USERS; i++ ) {
+            client.register( logoutUserEmail( i ) );
+            client.register( logoutAllUserEmail( i ) );
+        }
+    }
+
+    @Test
+    void shouldReportLatencyPercentilesOfSessionEndpoints() throws Exception {
+
+        // GIVEN
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator( List.of(
+                EndpointLoad.of( "login", settings.getLoginRate(),
+                        aIgnored -> client.send( client.loginRequest( userEmail( randomUser() ) ) ).statusCode() ),
+                EndpointLoad.of( "session-refresh", settings.getRefreshRate(),
+                        aIgnored -> refresh( randomUser() ) ),
+                EndpointLoad.of( "sessions-all", settings.getSessionsRate(),
+                        aIgnored -> client.send( client.request( "/api/sessions/all" ).header( USER_TOKEN_HEADER, userTokens.get( randomUser() ) ).GET() ).statusCode() ),
+                new EndpointLoad<>( "logout", settings.getLogoutRate(),
+                        () -> client.login( logoutUserEmail( nextLogoutUser() ) ),
+                        aToken -> client.send( client.request( "/api/auth/logout" ).header( USER_TOKEN_HEADER, aToken ).DELETE() ).statusCode() ),
+                new EndpointLoad<>( "logout-session", settings.getLogoutRate(),
+                        () -> client.login( logoutUserEmail( nextLogoutUser() ) ),
+                        aToken -> client.send( client.request( "/api/auth/logout-session?sessionId=" + JwtClaimsExtractor.extract( aToken ).getSessionId() )
+                                .header( USER_TOKEN_HEADER, aToken ).DELETE() ).statusCode() ),
+                new EndpointLoad<>( "logout-all", settings.getLogoutAllRate(),
+                        () -> client.login( logoutAllUserEmail( nextLogoutUser() ) ),
+                        aToken -> client.send( client.request( "/api/auth/logout/all" ).header( USER_TOKEN_HEADER, aToken )
+                                .POST( HttpRequest.BodyPublishers.noBody() ) ).statusCode() )
+        ) );
+
+        // WHEN
+        Map< String, EndpointStatistics > statistics = generator.run( settings.getWarmup(), settings.getDuration() );
+
+        // THEN
+        Path report = new LoadTestReport( SCENARIO, describeConfiguration() )
+                .write( settings.getReportDirectory(), settings.getDuration(), statistics );
+        assertTrue( report.toFile().isFile() );
+    }
+
+    private int refresh( int aUser ) throws Exception {
+        HttpResponse< String > response = client.send( client.request( "/api/auth/session/refresh" )
+                .header( USER_TOKEN_HEADER, userTokens.get( aUser ) )
+                .POST( HttpRequest.BodyPublishers.noBody() ) );
+        client.findAccessToken( response ).ifPresent( aToken -> userTokens.set( aUser, aToken ) );
+        return response.statusCode();
+    }
+
+    private int randomUser() {
+        return ThreadLocalRandom.current().nextInt( settings.getUsers() );
+    }
+
+    private int nextLogoutUser() {
+        return ( int ) ( logoutUsersCounter.getAndIncrement() % LOGOUT_USERS );
+    }
+
+    private static String userEmail( int aIndex ) {
+        return "load.user." + aIndex + "@goaleaf.com";
+    }
+
+    private static String logoutUserEmail( int aIndex ) {
+        return "load.logout." + aIndex + "@goaleaf.com";
+    }
+
+    private static String logoutAllUserEmail( int aIndex ) {
+        return "load.logoutall." + aIndex + "@goaleaf.com";
+    }
+}
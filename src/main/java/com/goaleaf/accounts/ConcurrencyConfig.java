@@ -0,0 +1,93 @@
+package com.goaleaf.accounts;
+
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.system.concurrent.StripedSessionLocks;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration of the components coordinating the concurrent mutations of the application's state.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 16:25
+ */
+@Configuration
+class ConcurrencyConfig {
+
+    /**
+     * The minimal number of the session lock stripes per available processor.
+     */
+    private static final int SESSION_LOCK_STRIPES_PER_PROCESSOR = 16;
+
+    /**
+     * The prefix of the names of the threads executing the background refreshes of the sessions.
+     */
+    private static final String SESSION_REFRESH_AHEAD_THREAD_NAME_PREFIX = "session-refresh-ahead-";
+
+    /**
+     * Creates the locks guarding the mutations of the user sessions. The mutations of different sessions
+     * do not contend unless their identifiers fall into the same stripe.
+     *
+     * @return the striped session locks.
+     */
+    @Bean
+    StripedSessionLocks sessionLocks() {
+        return new StripedSessionLocks( Runtime.getRuntime().availableProcessors() * SESSION_LOCK_STRIPES_PER_PROCESSOR );
+    }
+
+    /**
+     * Creates the bounded executor of the background refreshes of the sessions. The refreshes exceeding the queue's
+     * capacity are rejected, so a burst of expiring sessions never blocks the requests; the rejected sessions
+     * are refreshed during the requests, once their access tokens expire.
+     * <p>
+     * In the virtual threads mode ({@code spring.threads.virtual.enabled}) the workers are virtual threads; the number
+     * of the workers still bounds the number of the concurrent refreshes.
+     *
+     * @param aAccountsConfigurationService
+     *         a service providing the executor's configuration.
+     * @param aEnvironment
+     *         the environment deciding whether the virtual threads are enabled.
+     * @return the executor service.
+     */
+    @Bean( destroyMethod = "shutdownNow" )
+    ExecutorService sessionRefreshAheadExecutor( AccountsConfigurationService aAccountsConfigurationService, Environment aEnvironment ) {
+        AccountsConfiguration configuration = aAccountsConfigurationService.getConfiguration();
+        int threads = configuration.getAccessTokenRefreshAheadThreads();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>( configuration.getAccessTokenRefreshAheadQueueCapacity() ),
+                Threading.VIRTUAL.isActive( aEnvironment )
+                        ? Thread.ofVirtual().name( SESSION_REFRESH_AHEAD_THREAD_NAME_PREFIX, 1 ).factory()
+                        : createDaemonThreadFactory( SESSION_REFRESH_AHEAD_THREAD_NAME_PREFIX ),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Creates a factory of the numbered daemon threads.
+     *
+     * @param aNamePrefix
+     *         the prefix of the threads' names.
+     * @return the thread factory.
+     */
+    private ThreadFactory createDaemonThreadFactory( String aNamePrefix ) {
+        AtomicInteger counter = new AtomicInteger();
+        return aRunnable -> {
+            Thread thread = new Thread( aRunnable, aNamePrefix + counter.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.goaleaf.accounts;
+
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+import io.netty.channel.ChannelOption;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the HTTP client used for the communication with the auth service (keycloak).
+ * All the requests share a single connection pool, so the connections are reused between the calls.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 14:40
+ */
+@Configuration
+@AllArgsConstructor
+class KeycloakClientConfig {
+
+    /**
+     * The name of the connection pool, used as the {@code name} tag of the pool's metrics.
+     */
+    private static final String KEYCLOAK_CONNECTION_POOL_NAME = "keycloak";
+
+    /**
+     * The interval of the background eviction of the idle and expired pooled connections.
+     */
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds( 30 );
+
+    /**
+     * The maximal lifetime of a pooled connection.
+     */
+    private static final Duration MAX_CONNECTION_LIFE_TIME = Duration.ofMinutes( 5 );
+
+    /**
+     * A service providing the pool's configuration.
+     */
+    private final AccountsConfigurationService accountsConfigurationService;
+
+    /**
+     * Creates the connection pool used for the requests to the auth service. The pool's gauges are exported
+     * to Micrometer as the {@code reactor.netty.connection.provider.*} metrics.
+     *
+     * @return the connection provider.
+     */
+    @Bean( destroyMethod = "dispose" )
+    ConnectionProvider keycloakConnectionProvider() {
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        int maxConnections = configuration.getKeycloakClientMaxConnections();
+        return ConnectionProvider.builder( KEYCLOAK_CONNECTION_POOL_NAME )
+                .maxConnections( maxConnections )
+                .pendingAcquireMaxCount( maxConnections * 4 )
+                .pendingAcquireTimeout( configuration.getKeycloakClientPendingAcquireTimeout() )
+                .maxIdleTime( configuration.getKeycloakClientMaxIdleTime() )
+                .maxLifeTime( MAX_CONNECTION_LIFE_TIME )
+                .evictInBackground( EVICTION_INTERVAL )
+                .metrics( true )
+                .build();
+    }
+
+    /**
+     * Creates the connector used by all the clients communicating with the auth service.
+     *
+     * @param keycloakConnectionProvider
+     *         the shared connection pool.
+     * @return the client HTTP connector.
+     */
+    @Bean
+    ClientHttpConnector keycloakClientHttpConnector( ConnectionProvider keycloakConnectionProvider ) {
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        HttpClient httpClient = HttpClient.create( keycloakConnectionProvider )
+                .option( ChannelOption.CONNECT_TIMEOUT_MILLIS, ( int ) configuration.getKeycloakClientConnectTimeout().toMillis() )
+                .option( ChannelOption.SO_KEEPALIVE, true )
+                .keepAlive( true )
+                .responseTimeout( configuration.getKeycloakClientResponseTimeout() );
+        return new ReactorClientHttpConnector( httpClient );
+    }
+}
@@ -1,7 +1,7 @@
 package com.goaleaf.accounts;
 
 import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
-import com.github.pplociennik.commons.system.registry.impl.SynchronizedHashSetBasedSystemRegistry;
+import com.github.pplociennik.commons.system.registry.impl.HashSetBasedSystemRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,13 +15,14 @@ import org.springframework.context.annotation.Configuration;
 class RegistryConfig {
 
     /**
-     * Creates and configures a synchronized registry for token validation filters.
-     * This bean provides thread-safe storage and management of token validation components.
+     * Creates and configures a registry for token validation filters.
+     * The paths are registered during the single-threaded creation of the security configuration and only read afterwards,
+     * once, when the filter compiles them into its matcher; no monitor is held by the request threads.
      *
-     * @return A synchronized registry instance for storing String-based token validation filters
+     * @return A registry instance for storing String-based token validation filters
      */
     @Bean( name = "tokenValidationFilterRegistry" )
     CollectingSystemRegistry< String > tokenValidationFilterRegistry() {
-        return new SynchronizedHashSetBasedSystemRegistry<>();
+        return new HashSetBasedSystemRegistry<>();
     }
 }
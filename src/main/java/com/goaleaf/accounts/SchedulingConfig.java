@@ -0,0 +1,58 @@
+package com.goaleaf.accounts;
+
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.SessionDetailsReaperService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Instant;
+
+/**
+ * Configuration of the application's periodic tasks.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:40
+ */
+@Configuration
+@EnableScheduling
+@AllArgsConstructor
+class SchedulingConfig implements SchedulingConfigurer {
+
+    /**
+     * A service removing the expired session details.
+     */
+    private final SessionDetailsReaperService sessionDetailsReaperService;
+
+    /**
+     * A service providing the intervals between the tasks' runs.
+     */
+    private final AccountsConfigurationService accountsConfigurationService;
+
+    /**
+     * Registers the removal of the expired session details, running the configured interval after the end
+     * of the previous run, so the runs never overlap.
+     *
+     * @param aTaskRegistrar
+     *         the registrar of the tasks.
+     */
+    @Override
+    public void configureTasks( ScheduledTaskRegistrar aTaskRegistrar ) {
+        aTaskRegistrar.addTriggerTask( sessionDetailsReaperService::reapExpiredSessionDetails, this::nextSessionDetailsReaperRun );
+    }
+
+    /**
+     * Computes the time of the next removal of the expired session details.
+     *
+     * @param aTriggerContext
+     *         the context holding the time of the previous run's end.
+     * @return the time of the next run.
+     */
+    private Instant nextSessionDetailsReaperRun( TriggerContext aTriggerContext ) {
+        Instant lastCompletion = aTriggerContext.lastCompletion();
+        Instant base = lastCompletion != null ? lastCompletion : aTriggerContext.getClock().instant();
+        return base.plus( accountsConfigurationService.getConfiguration().getSessionDetailsReaperInterval() );
+    }
+}
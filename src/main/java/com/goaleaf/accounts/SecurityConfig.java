@@ -2,6 +2,8 @@ package com.goaleaf.accounts;
 
 import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
 import com.goaleaf.accounts.service.AuthenticationService;
+import com.goaleaf.accounts.service.SessionRefreshAheadService;
+import com.goaleaf.accounts.service.SupersededTokensService;
 import com.goaleaf.accounts.service.UserSessionDetailsService;
 import com.goaleaf.accounts.system.filter.UserTokenValidationFilter;
 import lombok.AllArgsConstructor;
@@ -47,6 +49,16 @@ class SecurityConfig {
      */
     private final AuthenticationService authenticationService;
 
+    /**
+     * Refreshes the user sessions nearing the access token expiration in the background; used by the token validation filter.
+     */
+    private final SessionRefreshAheadService sessionRefreshAheadService;
+
+    /**
+     * Maps the just refreshed user access tokens to their replacements; used by the token validation filter.
+     */
+    private final SupersededTokensService supersededTokensService;
+
     /**
      * A registry for managing token validation filters in the security configuration.
      * This variable holds a collection of token validation filters mapped to their corresponding keys,
@@ -263,7 +275,7 @@ class SecurityConfig {
 
     /**
      * Configures security settings for the delete account endpoint.
-     * Allows unrestricted access to the "/api/accounts/delete" API endpoint.
+     * Allows unrestricted access to the "/api/accounts/delete" API endpoint and validates the user's token with the token validation filter.
      *
      * @param aHttp
      *         the HttpSecurity to configure
@@ -274,6 +286,7 @@ class SecurityConfig {
      */
     private HttpSecurity configureDeleteAccount( HttpSecurity aHttp ) throws Exception {
         aHttp.authorizeHttpRequests( auth -> auth.requestMatchers( "/api/accounts/delete" ).permitAll() );
+        tokenValidationFilterRegistry.add( "/api/accounts/delete" );
         return aHttp;
     }
 
@@ -289,7 +302,7 @@ class SecurityConfig {
      *         if an error occurs during configuration
      */
     private HttpSecurity configureTokenValidationFilter( HttpSecurity aHttp ) {
-        aHttp.addFilterAt( new UserTokenValidationFilter( userSessionDetailsService, authenticationService, tokenValidationFilterRegistry ), BasicAuthenticationFilter.class );
+        aHttp.addFilterAt( new UserTokenValidationFilter( userSessionDetailsService, authenticationService, sessionRefreshAheadService, supersededTokensService, tokenValidationFilterRegistry ), BasicAuthenticationFilter.class );
         return aHttp;
     }
 
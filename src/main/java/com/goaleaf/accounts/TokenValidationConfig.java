@@ -0,0 +1,61 @@
+package com.goaleaf.accounts;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.RealmPublicKeysService;
+import com.goaleaf.accounts.service.TokenIntrospectionService;
+import com.goaleaf.accounts.system.util.token.AccessTokenValidationStrategies;
+import com.goaleaf.accounts.system.util.token.TokenRevocationRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the access token validation strategies.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 18:30
+ */
+@Configuration
+class TokenValidationConfig {
+
+    /**
+     * Creates the registry of the access tokens revoked locally. The revocations are remembered for the maximal lifetime
+     * of the access tokens, read at startup.
+     *
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aAccountsConfigurationService
+     *         a service providing the maximal lifetime of the access tokens.
+     * @return the token revocation registry.
+     */
+    @Bean
+    TokenRevocationRegistry tokenRevocationRegistry( TimeService aTimeService, AccountsConfigurationService aAccountsConfigurationService ) {
+        return new TokenRevocationRegistry( aTimeService, aAccountsConfigurationService.getConfiguration().getAccessTokenMaxLifetime() );
+    }
+
+    /**
+     * Creates the holder of the single instances of the access token validation strategies. The strategy selected
+     * by the configuration is created eagerly, so a misconfigured strategy (e.g. the SIGNATURE strategy without
+     * the expected issuer) fails the startup instead of rejecting every token.
+     *
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aTokenIntrospectionService
+     *         a service checking the tokens against the realm.
+     * @param aRealmPublicKeysService
+     *         a service providing the realm's public keys.
+     * @param aTokenRevocationRegistry
+     *         the registry of the tokens revoked locally.
+     * @param aAccountsConfigurationService
+     *         a service providing the selected strategy.
+     * @return the access token validation strategies.
+     */
+    @Bean
+    AccessTokenValidationStrategies accessTokenValidationStrategies( TimeService aTimeService, TokenIntrospectionService aTokenIntrospectionService,
+                                                                     RealmPublicKeysService aRealmPublicKeysService, TokenRevocationRegistry aTokenRevocationRegistry,
+                                                                     AccountsConfigurationService aAccountsConfigurationService ) {
+        AccessTokenValidationStrategies strategies = new AccessTokenValidationStrategies( aTimeService, aTokenIntrospectionService, aRealmPublicKeysService,
+                aTokenRevocationRegistry );
+        strategies.getStrategy( aAccountsConfigurationService.getConfiguration() );
+        return strategies;
+    }
+}
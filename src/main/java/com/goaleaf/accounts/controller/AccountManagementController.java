@@ -1,6 +1,7 @@
 package com.goaleaf.accounts.controller;
 
 import com.github.pplociennik.commons.dto.ResponseDto;
+import com.github.pplociennik.commons.service.TimeService;
 import com.goaleaf.accounts.data.dto.account.EmailConfirmationLinkRequestDto;
 import com.goaleaf.accounts.data.dto.account.PasswordChangingRequestDto;
 import com.goaleaf.accounts.data.dto.account.PasswordResetRequestDto;
@@ -9,7 +10,7 @@ import com.goaleaf.accounts.data.dto.auth.AuthenticationRequestDto;
 import com.goaleaf.accounts.service.AccountService;
 import com.goaleaf.accounts.service.AuthenticationService;
 import com.goaleaf.accounts.system.client.ServerEventResponseFlag;
-import com.goaleaf.accounts.system.util.AccessTokenUtils;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -52,6 +53,11 @@ class AccountManagementController {
      */
     private final AuthenticationService authenticationService;
 
+    /**
+     * Provides the current system time for computing the remaining lifetime of the returned access tokens.
+     */
+    private final TimeService timeService;
+
     /**
      * Triggers an email verification process by sending an email confirmation link to the user.
      * This endpoint is used to request email address verification for a specified user account.
@@ -85,7 +91,7 @@ class AccountManagementController {
      * @return a ResponseEntity containing a ResponseDto with the status code and a message indicating the result of the operation.
      */
     @PostMapping( path = "/confirm" )
-    ResponseEntity< ResponseDto > verifyEmailAddress( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) boolean aTokenRefreshed, @RequestHeader( value = "User-Token" ) @NonNull String aUserAccessToken, @RequestParam @NonNull String aToken ) {
+    ResponseEntity< ResponseDto > verifyEmailAddress( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) boolean aTokenRefreshed, @RequestAttribute( value = "USER_ACCESS_TOKEN_CLAIMS" ) @NonNull AccessTokenClaims aUserAccessTokenClaims, @RequestParam @NonNull String aToken ) {
         requireNonEmpty( aToken );
         log.info( "Verifying email address." );
         accountService.verifyEmailAddress( aToken );
@@ -95,7 +101,7 @@ class AccountManagementController {
                 .body(
                         ResponseDto.builder()
                                 .withStatusInfo( "200", "Email address confirmed successfully." )
-                                .withUserAccessToken( aTokenRefreshed, aUserAccessToken, AccessTokenUtils.getExpiresIn( aUserAccessToken ) )
+                                .withUserAccessToken( aTokenRefreshed, aUserAccessTokenClaims.getToken(), aUserAccessTokenClaims.getExpiresIn( timeService ) )
                                 .build()
                 );
     }
@@ -131,31 +137,31 @@ class AccountManagementController {
      *
      * @param aTokenRefreshed
      *         indicates whether the user's access token was refreshed, provided as a request attribute.
-     * @param aUserAccessToken
-     *         a non-null string representing the user's access token, provided as a request header, must not be empty.
+     * @param aUserAccessTokenClaims
+     *         a non-null view of the claims of the user's access token, provided as a request attribute by the token validation filter.
      * @param aPasswordChangingRequestDto
      *         a non-null object containing the current password, new password, and its confirmation details for password change.
      * @return a ResponseEntity containing a ResponseDto with the status code and a message indicating the outcome of the password change request.
      */
     @PostMapping( "/password/change" )
-    ResponseEntity< ResponseDto > changePassword( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) boolean aTokenRefreshed, @RequestHeader( value = "User-Token" ) String aUserAccessToken, @RequestBody @NonNull PasswordChangingRequestDto aPasswordChangingRequestDto ) {
-        requireNonEmpty( aUserAccessToken );
+    ResponseEntity< ResponseDto > changePassword( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) boolean aTokenRefreshed, @RequestAttribute( value = "USER_ACCESS_TOKEN_CLAIMS" ) @NonNull AccessTokenClaims aUserAccessTokenClaims, @RequestBody @NonNull PasswordChangingRequestDto aPasswordChangingRequestDto ) {
+        requireNonNull( aUserAccessTokenClaims );
         log.info( "Changing password requested." );
 
         // First we need to ensure, user gave us the correct current password. We're authenticating the account by email and password. If the password is incorrect, the exception will be thrown
-        String userEmail = AccessTokenUtils.getUserEmail( aUserAccessToken );
+        String userEmail = aUserAccessTokenClaims.getEmailAddress();
         AuthenticationRequestDto requestDto = new AuthenticationRequestDto( userEmail, aPasswordChangingRequestDto.getCurrentPassword(), new AuthenticationDetailsDto( "SYSTEM", "SYSTEM" ) );
         authenticationService.authenticateUserAccount( requestDto );
-        accountService.changeAccountPassword( aUserAccessToken, aPasswordChangingRequestDto );
+        accountService.changeAccountPassword( aUserAccessTokenClaims, aPasswordChangingRequestDto );
         log.info( "Password changed successfully." );
         log.info( "Terminating user sessions." );
-        authenticationService.terminateAllSessions( aUserAccessToken );
+        authenticationService.terminateAllSessions( aUserAccessTokenClaims );
         return ResponseEntity
                 .status( HttpStatus.OK )
                 .body(
                         ResponseDto.builder()
                                 .withStatusInfo( "200", "Password changed successfully." )
-                                .withUserAccessToken( aTokenRefreshed, aUserAccessToken, AccessTokenUtils.getExpiresIn( aUserAccessToken ) )
+                                .withUserAccessToken( aTokenRefreshed, aUserAccessTokenClaims.getToken(), aUserAccessTokenClaims.getExpiresIn( timeService ) )
                                 .withServerEventFlag( ServerEventResponseFlag.CURRENT_SESSION_CLOSED_BY_USER_IMPLICITLY )
                                 .build()
                 );
@@ -165,20 +171,19 @@ class AccountManagementController {
     /**
      * Deletes a user's account based on the provided user access token. This operation is intended
      * for authenticated users to permanently remove their account from the system.
-     * The access token is validated to ensure that the deletion request is authorized.
+     * The access token is validated by the token validation filter to ensure that the deletion request is authorized.
      *
-     * @param aUserAccessToken
-     *         a non-null string representing the user's access token, provided as a request header.
-     *         It must not be empty and is required to identify and authenticate the user initiating the request.
+     * @param aUserAccessTokenClaims
+     *         a non-null view of the claims of the user's access token, provided as a request attribute by the token validation filter.
      * @return a ResponseEntity containing a ResponseDto with the status code and a message indicating
      * the outcome of the account deletion request.
      */
     @DeleteMapping( "/delete" )
     @Transactional( value = Transactional.TxType.REQUIRES_NEW )
-    ResponseEntity< ResponseDto > deleteAccount( @RequestHeader( value = "User-Token" ) String aUserAccessToken ) {
-        requireNonNull( aUserAccessToken );
+    ResponseEntity< ResponseDto > deleteAccount( @RequestAttribute( value = "USER_ACCESS_TOKEN_CLAIMS" ) @NonNull AccessTokenClaims aUserAccessTokenClaims ) {
+        requireNonNull( aUserAccessTokenClaims );
         log.info( "Deleting account." );
-        accountService.deleteAccount( aUserAccessToken );
+        accountService.deleteAccount( aUserAccessTokenClaims );
         log.info( "Account deleted successfully." );
         return ResponseEntity
                 .status( HttpStatus.OK )
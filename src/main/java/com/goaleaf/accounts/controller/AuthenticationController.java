@@ -1,6 +1,7 @@
 package com.goaleaf.accounts.controller;
 
 import com.github.pplociennik.commons.dto.ResponseDto;
+import com.github.pplociennik.commons.service.TimeService;
 import com.goaleaf.accounts.data.dto.auth.AuthenticationRequestDto;
 import com.goaleaf.accounts.data.dto.auth.RegistrationRequestDto;
 import com.goaleaf.accounts.data.dto.response.AuthenticationResponseDto;
@@ -9,7 +10,7 @@ import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
 import com.goaleaf.accounts.service.AccountService;
 import com.goaleaf.accounts.service.AuthenticationService;
 import com.goaleaf.accounts.system.client.ServerEventResponseFlag;
-import com.goaleaf.accounts.system.util.AccessTokenUtils;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
@@ -46,6 +47,11 @@ class AuthenticationController {
      */
     private AccountService accountService;
 
+    /**
+     * Provides the current system time for computing the remaining lifetime of the returned access tokens.
+     */
+    private TimeService timeService;
+
     /**
      * Registers a new user account using the provided registration request data.
      *
@@ -137,17 +143,17 @@ class AuthenticationController {
      *
      * @param aTokenRefreshed
      *         an attribute indicating whether the user access token has been refreshed or not
-     * @param aUserAccessToken
-     *         a non-null {@code String} representing the access token of the user whose sessions are to be terminated.
+     * @param aUserAccessTokenClaims
+     *         a non-null view of the claims of the access token of the user whose sessions are to be terminated.
      * @return a {@code ResponseEntity<ResponseDto>} containing the HTTP status and a confirmation message
      * indicating the result of the session termination process.
      */
     @PostMapping( path = "/logout/all" )
-    ResponseEntity< ResponseDto > logoutAllUserSessions( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) @NonNull boolean aTokenRefreshed, @RequestHeader( value = "User-Token" ) @NonNull String aUserAccessToken ) {
-        requireNonNull( aUserAccessToken );
-        log.debug( "Terminating user sessions for {}", aUserAccessToken );
-        authenticationService.terminateAllSessions( aUserAccessToken );
-        log.debug( "Terminated user sessions for {}", aUserAccessToken );
+    ResponseEntity< ResponseDto > logoutAllUserSessions( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) @NonNull boolean aTokenRefreshed, @RequestAttribute( value = "USER_ACCESS_TOKEN_CLAIMS" ) @NonNull AccessTokenClaims aUserAccessTokenClaims ) {
+        requireNonNull( aUserAccessTokenClaims );
+        log.debug( "Terminating user sessions for {}", aUserAccessTokenClaims.getUserId() );
+        authenticationService.terminateAllSessions( aUserAccessTokenClaims );
+        log.debug( "Terminated user sessions for {}", aUserAccessTokenClaims.getUserId() );
         return ResponseEntity
                 .status( HttpStatus.OK )
                 .body(
@@ -165,17 +171,17 @@ class AuthenticationController {
      *
      * @param aTokenRefreshed
      *         an attribute indicating whether the user access token has been refreshed or not
-     * @param aUserAccessToken
-     *         the access token of the user whose session should be terminated; must not be null
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token of the user whose session should be terminated; must not be null
      * @return a ResponseEntity containing a ResponseDto with the status and message indicating
      * if the session termination was successful
      */
     @DeleteMapping( path = "/logout" )
-    ResponseEntity< ResponseDto > logoutCurrentUserSession( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) @NonNull boolean aTokenRefreshed, @NonNull @RequestHeader( value = "User-Token" ) String aUserAccessToken ) {
-        requireNonNull( aUserAccessToken );
-        log.debug( "Logout current user session for {}", aUserAccessToken );
-        authenticationService.terminateCurrentUserSession( aUserAccessToken );
-        log.debug( "Terminated current user session for {}", aUserAccessToken );
+    ResponseEntity< ResponseDto > logoutCurrentUserSession( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) @NonNull boolean aTokenRefreshed, @RequestAttribute( value = "USER_ACCESS_TOKEN_CLAIMS" ) @NonNull AccessTokenClaims aUserAccessTokenClaims ) {
+        requireNonNull( aUserAccessTokenClaims );
+        log.debug( "Logout current user session for {}", aUserAccessTokenClaims.getSessionId() );
+        authenticationService.terminateCurrentUserSession( aUserAccessTokenClaims );
+        log.debug( "Terminated current user session for {}", aUserAccessTokenClaims.getSessionId() );
         return ResponseEntity
                 .status( HttpStatus.OK )
                 .body(
@@ -190,28 +196,29 @@ class AuthenticationController {
      *
      * @param aTokenRefreshed
      *         an attribute indicating whether the user access token has been refreshed or not
-     * @param aUserAccessToken
-     *         the access token of the user requesting the logout
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token of the user requesting the logout
      * @param aSessionId
      *         the unique identifier of the session to be terminated
      * @return a {@code ResponseEntity} containing a {@code ResponseDto} with the status code and message indicating the result of the operation
      */
     @DeleteMapping( path = "/logout-session" )
-    ResponseEntity< ResponseDto > logoutSpecificSession( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) @NonNull boolean aTokenRefreshed, @NonNull @RequestHeader( value = "User-Token" ) String aUserAccessToken, @NonNull @RequestParam( value = "sessionId" ) String aSessionId ) {
-        requireNonNull( aUserAccessToken );
+    ResponseEntity< ResponseDto > logoutSpecificSession( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) @NonNull boolean aTokenRefreshed, @RequestAttribute( value = "USER_ACCESS_TOKEN_CLAIMS" ) @NonNull AccessTokenClaims aUserAccessTokenClaims, @NonNull @RequestParam( value = "sessionId" ) String aSessionId ) {
+        requireNonNull( aUserAccessTokenClaims );
         requireNonNull( aSessionId );
         log.debug( "Logout specific session for {}", aSessionId );
-        authenticationService.terminateSession( aUserAccessToken, aSessionId );
+        authenticationService.terminateSession( aUserAccessTokenClaims, aSessionId );
         log.debug( "Terminated specific session for {}", aSessionId );
+        boolean isCurrentSession = aUserAccessTokenClaims.getSessionId().equals( aSessionId );
         // If the token was refreshed but the user terminates the current session, the new token must not be returned as it is no longer valid.
-        boolean shouldTokenBeReturned = aTokenRefreshed && !AccessTokenUtils.getSessionId( aUserAccessToken ).equals( aSessionId );
+        boolean shouldTokenBeReturned = aTokenRefreshed && !isCurrentSession;
 
         ResponseDto.Builder< Serializable > responseBuilder = ResponseDto.builder()
                 .withStatusInfo( "200", "Session terminated successfully." )
                 // Method .withUserAccessToken adds token info only if the first argument is true.
-                .withUserAccessToken( shouldTokenBeReturned, aUserAccessToken, AccessTokenUtils.getExpiresIn( aUserAccessToken ) );
+                .withUserAccessToken( shouldTokenBeReturned, aUserAccessTokenClaims.getToken(), aUserAccessTokenClaims.getExpiresIn( timeService ) );
 
-        if ( AccessTokenUtils.getSessionId( aUserAccessToken ).equals( aSessionId ) ) {
+        if ( isCurrentSession ) {
             responseBuilder.withServerEventFlag( ServerEventResponseFlag.CURRENT_SESSION_CLOSED_BY_USER_IMPLICITLY );
         } else {
             responseBuilder.withServerEventFlag( ServerEventResponseFlag.OTHER_USER_SESSION_CLOSED_BY_USER );
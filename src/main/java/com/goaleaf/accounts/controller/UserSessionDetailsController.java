@@ -1,9 +1,10 @@
 package com.goaleaf.accounts.controller;
 
 import com.github.pplociennik.commons.dto.ResponseDto;
+import com.github.pplociennik.commons.service.TimeService;
 import com.goaleaf.accounts.data.dto.response.UserSessionResponseDto;
 import com.goaleaf.accounts.service.UserSessionDetailsService;
-import com.goaleaf.accounts.system.util.AccessTokenUtils;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
@@ -54,6 +55,11 @@ class UserSessionDetailsController {
      */
     private final UserSessionDetailsService userSessionDetailsService;
 
+    /**
+     * Provides the current system time for computing the remaining lifetime of the returned access tokens.
+     */
+    private final TimeService timeService;
+
     /**
      * Retrieves a list of all user sessions associated with the provided access token.
      *
@@ -62,16 +68,16 @@ class UserSessionDetailsController {
      */
     @SuppressWarnings( "unchecked" )
     @GetMapping( path = "/all" )
-    ResponseEntity< ResponseDto< UserSessionResponseDto > > getUserSessions( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) @NonNull boolean aTokenRefreshed, @NonNull @RequestHeader( value = "User-Token" ) String aUserAccessToken ) {
-        log.debug( "Getting user sessions for {}", aUserAccessToken );
-        requireNonNull( aUserAccessToken, "User-Token" );
-        List< UserSessionResponseDto > allUserSessionDetails = userSessionDetailsService.getAllUserSessionsInfo( aUserAccessToken );
+    ResponseEntity< ResponseDto< UserSessionResponseDto > > getUserSessions( @RequestAttribute( value = "USER_ACCESS_TOKEN_REFRESHED" ) @NonNull boolean aTokenRefreshed, @RequestAttribute( value = "USER_ACCESS_TOKEN_CLAIMS" ) @NonNull AccessTokenClaims aUserAccessTokenClaims ) {
+        requireNonNull( aUserAccessTokenClaims, "User-Token" );
+        log.debug( "Getting user sessions for {}", aUserAccessTokenClaims.getUserId() );
+        List< UserSessionResponseDto > allUserSessionDetails = userSessionDetailsService.getAllUserSessionsInfo( aUserAccessTokenClaims );
         return ResponseEntity
                 .status( HttpStatus.ACCEPTED )
                 .body(
                         ResponseDto.< UserSessionResponseDto >builder()
                                 .withStatusInfo( "200", "All user sessions retrieved successfully." )
-                                .withUserAccessToken( aTokenRefreshed, aUserAccessToken, AccessTokenUtils.getExpiresIn( aUserAccessToken ) )
+                                .withUserAccessToken( aTokenRefreshed, aUserAccessTokenClaims.getToken(), aUserAccessTokenClaims.getExpiresIn( timeService ) )
                                 .withResponseData( allUserSessionDetails )
                                 .build()
                 );
@@ -0,0 +1,75 @@
+package com.goaleaf.accounts.data.dto.keycloak.key;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.pplociennik.commons.dto.BaseAbstractExtendableDto;
+import lombok.*;
+
+/**
+ * Data Transfer Object (DTO) representing a single JSON Web Key (JWK) published by the Keycloak realm.
+ * <p>
+ * Only the members required for the reconstruction of the RSA and elliptic curve public keys are mapped.
+ * The remaining members (e.g. the certificate chain) are ignored.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 10:12
+ */
+@EqualsAndHashCode( callSuper = true )
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JsonWebKeyDto extends BaseAbstractExtendableDto {
+
+    /**
+     * The identifier of the key, matched against the {@code kid} header of the token.
+     */
+    @JsonProperty( value = "kid" )
+    private String keyId;
+
+    /**
+     * The family of the cryptographic algorithm used with the key, e.g. {@code RSA} or {@code EC}.
+     */
+    @JsonProperty( value = "kty" )
+    private String keyType;
+
+    /**
+     * The algorithm intended for use with the key, e.g. {@code RS256} or {@code ES256}.
+     */
+    @JsonProperty( value = "alg" )
+    private String algorithm;
+
+    /**
+     * The intended use of the key, {@code sig} for the signature keys.
+     */
+    @JsonProperty( value = "use" )
+    private String use;
+
+    /**
+     * The modulus of the RSA key (Base64URL encoded).
+     */
+    @JsonProperty( value = "n" )
+    private String modulus;
+
+    /**
+     * The public exponent of the RSA key (Base64URL encoded).
+     */
+    @JsonProperty( value = "e" )
+    private String exponent;
+
+    /**
+     * The curve of the elliptic curve key, e.g. {@code P-256}.
+     */
+    @JsonProperty( value = "crv" )
+    private String curve;
+
+    /**
+     * The x coordinate of the elliptic curve key point (Base64URL encoded).
+     */
+    @JsonProperty( value = "x" )
+    private String xCoordinate;
+
+    /**
+     * The y coordinate of the elliptic curve key point (Base64URL encoded).
+     */
+    @JsonProperty( value = "y" )
+    private String yCoordinate;
+}
@@ -0,0 +1,25 @@
+package com.goaleaf.accounts.data.dto.keycloak.key;
+
+import com.github.pplociennik.commons.dto.BaseAbstractExtendableDto;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the JSON Web Key Set (JWKS) returned by the realm's
+ * {@code /protocol/openid-connect/certs} endpoint.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 10:14
+ */
+@EqualsAndHashCode( callSuper = true )
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JsonWebKeySetDto extends BaseAbstractExtendableDto {
+
+    /**
+     * The keys currently published by the realm.
+     */
+    private List< JsonWebKeyDto > keys;
+}
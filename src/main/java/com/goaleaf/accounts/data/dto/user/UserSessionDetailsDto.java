@@ -4,6 +4,8 @@ import com.github.pplociennik.commons.dto.BaseAbstractExtendableDto;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
+import java.time.Instant;
+
 /**
  * A data transfer object representing the details of a user's session.
  * This class encapsulates information related to the user's session, including
@@ -35,4 +37,6 @@ public class UserSessionDetailsDto extends BaseAbstractExtendableDto {
     private String location;
 
     private String device;
+
+    private Instant expiresAt;
 }
@@ -4,6 +4,7 @@ import com.goaleaf.accounts.data.dto.auth.RegistrationRequestDto;
 import com.goaleaf.accounts.data.dto.keycloak.AccountDto;
 import com.goaleaf.accounts.data.dto.user.UserDetailsDto;
 import com.goaleaf.accounts.persistence.entity.UserDetails;
+import com.goaleaf.accounts.persistence.projection.UserIdentity;
 
 /**
  * A mapper for the {@link UserDetails} entity object.
@@ -32,6 +33,24 @@ public class UserDetailsMapper {
                 .build();
     }
 
+    /**
+     * Returns an object mapped to the {@link UserDetailsDto} type, holding only the user's identifier and name.
+     *
+     * @param aUserIdentity
+     *         a projection to be mapped.
+     * @return an object of the type {@link UserDetailsDto} or null if th parameter is null.
+     */
+    public static UserDetailsDto mapToDto( UserIdentity aUserIdentity ) {
+        if ( aUserIdentity == null ) {
+            return null;
+        }
+
+        return UserDetailsDto.builder()
+                .userId( aUserIdentity.getUserId() )
+                .userName( aUserIdentity.getUserName() )
+                .build();
+    }
+
     /**
      * Returns an object mapped to the {@link UserDetails} type.
      *
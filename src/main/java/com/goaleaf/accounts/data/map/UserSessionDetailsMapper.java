@@ -37,6 +37,7 @@ public final class UserSessionDetailsMapper {
                 .refreshToken( aUserSessionDetails.getRefreshToken() )
                 .location( aUserSessionDetails.getLocation() )
                 .device( aUserSessionDetails.getDevice() )
+                .expiresAt( aUserSessionDetails.getExpiresAt() )
                 .build();
     }
 }
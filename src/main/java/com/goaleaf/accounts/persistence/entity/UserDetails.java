@@ -1,9 +1,12 @@
 package com.goaleaf.accounts.persistence.entity;
 
 import com.github.pplociennik.commons.persistence.ModifiableDataEntity;
+import com.goaleaf.accounts.system.util.EmailAddressUtils;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.*;
 import org.hibernate.annotations.UuidGenerator;
@@ -39,9 +42,26 @@ public class UserDetails extends ModifiableDataEntity {
     @Column( name = "email" )
     private String emailAddress;
 
+    /**
+     * The trimmed lower case form of the email address, unique and indexed for the lookups by the email address.
+     * It is derived from the email address whenever the entity is persisted or updated.
+     */
+    @Setter( AccessLevel.NONE )
+    @Column( name = "email_normalized", unique = true )
+    private String emailNormalized;
+
     @Column( name = "description" )
     private String description;
 
+    /**
+     * Derives the normalized email address from the email address before the entity is written to the database.
+     */
+    @PrePersist
+    @PreUpdate
+    void normalizeEmailAddress() {
+        emailNormalized = Objects.nonNull( emailAddress ) ? EmailAddressUtils.normalize( emailAddress ) : null;
+    }
+
     @Override
     public boolean equals( Object o ) {
         if ( o == null || getClass() != o.getClass() ) return false;
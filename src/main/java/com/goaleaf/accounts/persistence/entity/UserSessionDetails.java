@@ -53,6 +53,13 @@ public class UserSessionDetails extends BaseDataEntity {
     @Column( name = "device" )
     private String device;
 
+    /**
+     * The expiration time of the session's refresh token, after which the session cannot be refreshed anymore.
+     * Null if the refresh token does not expire or the details were created before the time has been stored.
+     */
+    @Column( name = "expires_at" )
+    private Instant expiresAt;
+
     private UserSessionDetails( Builder builder ) {
         super();
         this.id = builder.id;
@@ -61,6 +68,7 @@ public class UserSessionDetails extends BaseDataEntity {
         this.authenticatedUserId = builder.authenticatedUserId;
         this.location = builder.location;
         this.device = builder.device;
+        this.expiresAt = builder.expiresAt;
 
         setCreatedAt( builder.createdAt );
         setCreatedBy( builder.createdBy );
@@ -79,12 +87,12 @@ public class UserSessionDetails extends BaseDataEntity {
     public boolean equals( Object o ) {
         if ( o == null || getClass() != o.getClass() ) return false;
         UserSessionDetails that = ( UserSessionDetails ) o;
-        return Objects.equals( id, that.id ) && Objects.equals( sessionId, that.sessionId ) && Objects.equals( refreshToken, that.refreshToken ) && Objects.equals( authenticatedUserId, that.authenticatedUserId ) && Objects.equals( location, that.location ) && Objects.equals( device, that.device );
+        return Objects.equals( id, that.id ) && Objects.equals( sessionId, that.sessionId ) && Objects.equals( refreshToken, that.refreshToken ) && Objects.equals( authenticatedUserId, that.authenticatedUserId ) && Objects.equals( location, that.location ) && Objects.equals( device, that.device ) && Objects.equals( expiresAt, that.expiresAt );
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash( id, sessionId, refreshToken, authenticatedUserId, location, device );
+        return Objects.hash( id, sessionId, refreshToken, authenticatedUserId, location, device, expiresAt );
     }
 
     public static class Builder {
@@ -94,6 +102,7 @@ public class UserSessionDetails extends BaseDataEntity {
         private String authenticatedUserId;
         private String location;
         private String device;
+        private Instant expiresAt;
         private Instant createdAt;
         private String createdBy;
 
@@ -130,6 +139,11 @@ public class UserSessionDetails extends BaseDataEntity {
             return this;
         }
 
+        public Builder expiresAt( Instant aExpiresAt ) {
+            this.expiresAt = aExpiresAt;
+            return this;
+        }
+
         public Builder createdAt( Instant aCreatedAt ) {
             this.createdAt = aCreatedAt;
             return this;
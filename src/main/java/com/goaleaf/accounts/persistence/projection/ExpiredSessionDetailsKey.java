@@ -0,0 +1,27 @@
+package com.goaleaf.accounts.persistence.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A projection of the expired {@link com.goaleaf.accounts.persistence.entity.UserSessionDetails} holding only
+ * the columns needed for their removal: the identifier and the key of the keyset pagination.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:30
+ */
+public interface ExpiredSessionDetailsKey {
+
+    /**
+     * Returns the identifier of the session details.
+     *
+     * @return the identifier.
+     */
+    UUID getId();
+
+    /**
+     * Returns the expiration time of the session's refresh token.
+     *
+     * @return the expiration time.
+     */
+    Instant getExpiresAt();
+}
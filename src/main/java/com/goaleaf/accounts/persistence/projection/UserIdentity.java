@@ -0,0 +1,24 @@
+package com.goaleaf.accounts.persistence.projection;
+
+/**
+ * A projection of the {@link com.goaleaf.accounts.persistence.entity.UserDetails} holding only the identity
+ * of the user, read from the index on the normalized email address without reading the table's rows.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:50
+ */
+public interface UserIdentity {
+
+    /**
+     * Returns the identifier of the user.
+     *
+     * @return the identifier.
+     */
+    String getUserId();
+
+    /**
+     * Returns the name of the user.
+     *
+     * @return the name.
+     */
+    String getUserName();
+}
@@ -1,6 +1,7 @@
 package com.goaleaf.accounts.persistence.repository;
 
 import com.goaleaf.accounts.persistence.entity.UserDetails;
+import com.goaleaf.accounts.persistence.projection.UserIdentity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
@@ -17,13 +18,33 @@ import java.util.UUID;
 public interface UserDetailsRepository extends JpaRepository< UserDetails, UUID > {
 
     /**
-     * Returns the optional {@link UserDetails} with the specified email address.
+     * Returns the optional {@link UserDetails} with the specified normalized email address.
      *
-     * @param aEmailAddress
-     *         an email address of the user being searched.
+     * @param aEmailNormalized
+     *         a normalized email address of the user being searched.
      * @return the {@link Optional} containing the {@link UserDetails} typed object with the specified email address or the empty one otherwise.
+     * @see com.goaleaf.accounts.system.util.EmailAddressUtils#normalize(String)
      */
-    Optional< UserDetails > findByEmailAddress( String aEmailAddress );
+    Optional< UserDetails > findByEmailNormalized( String aEmailNormalized );
+
+    /**
+     * Returns the optional identity of the user with the specified normalized email address. Only the columns
+     * of the projection are selected, so the lookup is served by the covering index on the normalized email address.
+     *
+     * @param aEmailNormalized
+     *         a normalized email address of the user being searched.
+     * @return the {@link Optional} containing the {@link UserIdentity} of the user with the specified email address or the empty one otherwise.
+     */
+    Optional< UserIdentity > findIdentityByEmailNormalized( String aEmailNormalized );
+
+    /**
+     * Checks whether the user with the specified normalized email address exists, without loading the user.
+     *
+     * @param aEmailNormalized
+     *         a normalized email address of the user being searched.
+     * @return true if the user exists, false otherwise.
+     */
+    boolean existsByEmailNormalized( String aEmailNormalized );
 
     /**
      * Returns the optional {@link UserDetails} with the specified identifier.
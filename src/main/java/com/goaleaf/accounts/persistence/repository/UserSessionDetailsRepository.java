@@ -1,9 +1,17 @@
 package com.goaleaf.accounts.persistence.repository;
 
 import com.goaleaf.accounts.persistence.entity.UserSessionDetails;
+import com.goaleaf.accounts.persistence.projection.ExpiredSessionDetailsKey;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +37,19 @@ public interface UserSessionDetailsRepository extends JpaRepository< UserSession
      */
     List< UserSessionDetails > findByAuthenticatedUserId( @NonNull String authenticatedUserId );
 
+    /**
+     * Deletes all the session details of the authenticated user in a single statement, without loading them.
+     *
+     * @param aAuthenticatedUserId
+     *         the identifier of the authenticated user whose session details are to be deleted.
+     *         This parameter must not be null.
+     * @return the number of the deleted rows.
+     */
+    @Transactional
+    @Modifying( flushAutomatically = true, clearAutomatically = true )
+    @Query( "DELETE FROM UserSessionDetails d WHERE d.authenticatedUserId = :authenticatedUserId" )
+    int deleteAllByAuthenticatedUserId( @NonNull @Param( "authenticatedUserId" ) String aAuthenticatedUserId );
+
     /**
      * Retrieves the details of a user session based on the provided session ID.
      *
@@ -39,5 +60,60 @@ public interface UserSessionDetailsRepository extends JpaRepository< UserSession
      */
     Optional< UserSessionDetails > findBySessionId( @NonNull String aSessionId );
 
+    /**
+     * Replaces the refresh token of the session with a single conditional update. The row is updated only if it still
+     * holds the previous refresh token, so a concurrent rotation of the same session is detected by the returned count.
+     *
+     * @param aSessionId
+     *         the unique identifier of the session. This parameter must not be null.
+     * @param aPreviousRefreshToken
+     *         the refresh token expected to be currently stored. This parameter must not be null.
+     * @param aNewRefreshToken
+     *         the refresh token to be stored. This parameter must not be null.
+     * @param aNewExpiresAt
+     *         the expiration time of the new refresh token or null if it does not expire.
+     * @return the number of the updated rows: 1 if the token has been rotated, 0 if the session does not exist
+     * or its refresh token has already been replaced.
+     */
+    @Transactional
+    @Modifying( flushAutomatically = true, clearAutomatically = true )
+    @Query( "UPDATE UserSessionDetails d SET d.refreshToken = :newRefreshToken, d.expiresAt = :newExpiresAt "
+            + "WHERE d.sessionId = :sessionId AND d.refreshToken = :previousRefreshToken" )
+    int rotateRefreshToken( @NonNull @Param( "sessionId" ) String aSessionId,
+                            @NonNull @Param( "previousRefreshToken" ) String aPreviousRefreshToken,
+                            @NonNull @Param( "newRefreshToken" ) String aNewRefreshToken,
+                            @Param( "newExpiresAt" ) Instant aNewExpiresAt );
+
+    /**
+     * Retrieves the keys of the session details expired before the provided time, ordered by the expiration time.
+     * The next page starts at the expiration time of the last key of the previous one (keyset pagination), so the index
+     * on the expiration time is scanned from that point instead of from its beginning.
+     *
+     * @param aNow
+     *         the time before which the session details have expired. This parameter must not be null.
+     * @param aAfterExpiresAt
+     *         the expiration time of the last key of the previous page, or the minimal time for the first page.
+     *         This parameter must not be null.
+     * @param aPageable
+     *         the size of the page. This parameter must not be null.
+     * @return the keys of the expired session details.
+     */
+    @Query( "SELECT d.id AS id, d.expiresAt AS expiresAt FROM UserSessionDetails d "
+            + "WHERE d.expiresAt < :now AND d.expiresAt >= :afterExpiresAt ORDER BY d.expiresAt" )
+    List< ExpiredSessionDetailsKey > findExpiredKeys( @NonNull @Param( "now" ) Instant aNow,
+                                                      @NonNull @Param( "afterExpiresAt" ) Instant aAfterExpiresAt,
+                                                      @NonNull Pageable aPageable );
+
+    /**
+     * Deletes the session details with the provided identifiers in a single statement.
+     *
+     * @param aIds
+     *         the identifiers of the session details to be deleted. This parameter must not be null.
+     * @return the number of the deleted rows.
+     */
+    @Transactional
+    @Modifying( flushAutomatically = true, clearAutomatically = true )
+    @Query( "DELETE FROM UserSessionDetails d WHERE d.id IN :ids" )
+    int deleteByIds( @NonNull @Param( "ids" ) Collection< UUID > aIds );
 
 }
@@ -3,7 +3,9 @@ package com.goaleaf.accounts.service;
 import com.goaleaf.accounts.data.dto.account.PasswordChangingRequestDto;
 import com.goaleaf.accounts.data.dto.account.PasswordResetRequestDto;
 import com.goaleaf.accounts.data.dto.keycloak.AccountDto;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import lombok.NonNull;
+import reactor.core.publisher.Mono;
 
 /**
  * Service interface for managing accounts within the application.
@@ -88,12 +90,12 @@ public interface AccountService {
     /**
      * Changes the password of an account by sending a password change request to the authentication service.
      *
-     * @param aUserAccessToken
-     *         the access token of the user, used for authorization, must not be null or empty
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token of the user, used for authorization, must not be null
      * @param aPasswordChangingRequestDto
      *         the data transfer object containing the new password details; must not be null
      */
-    void changeAccountPassword( @NonNull String aUserAccessToken, @NonNull PasswordChangingRequestDto aPasswordChangingRequestDto );
+    void changeAccountPassword( @NonNull AccessTokenClaims aUserAccessTokenClaims, @NonNull PasswordChangingRequestDto aPasswordChangingRequestDto );
 
     /**
      * Checks if the email address associated with a user account has been verified.
@@ -103,18 +105,26 @@ public interface AccountService {
      */
     void checkIfEmailVerified( @NonNull String aEmailAddress );
 
+    /**
+     * Checks, without blocking, if the email address associated with a user account has been verified.
+     *
+     * @param aEmailAddress
+     *         the email address to check for verification status. Must not be null.
+     * @return a {@code Mono} completing if the email address has been verified, signalling the
+     * {@link com.goaleaf.accounts.system.exc.auth.AccountNotVerifiedException} otherwise.
+     */
+    Mono< Void > checkEmailVerification( @NonNull String aEmailAddress );
+
     /**
      * Deletes the account associated with the provided user access token.
      * This method handles the account deletion process by interacting with the external
      * authentication service. The access token must belong to an authorized user.
      *
-     * @param aUserAccessToken
-     *         the access token of the user whose account is to be deleted. Must not be null.
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token of the user whose account is to be deleted. Must not be null.
      * @throws NullPointerException
-     *         if the provided access token is null.
-     * @throws IllegalArgumentException
-     *         if the provided access token is invalid or empty.
+     *         if the provided claims are null.
      */
-    void deleteAccount( @NonNull String aUserAccessToken );
+    void deleteAccount( @NonNull AccessTokenClaims aUserAccessTokenClaims );
 
 }
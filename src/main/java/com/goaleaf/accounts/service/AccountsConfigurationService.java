@@ -0,0 +1,20 @@
+package com.goaleaf.accounts.service;
+
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+
+/**
+ * A service providing the current snapshot of the accounts service's configuration.
+ * Implementations are expected to replace the snapshot as a whole when the configuration is refreshed,
+ * so the callers always see a consistent set of values.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 18:05
+ */
+public interface AccountsConfigurationService {
+
+    /**
+     * Retrieves the current snapshot of the configuration.
+     *
+     * @return the current configuration; never null.
+     */
+    AccountsConfiguration getConfiguration();
+}
@@ -5,6 +5,7 @@ import com.goaleaf.accounts.data.dto.auth.RegistrationRequestDto;
 import com.goaleaf.accounts.data.dto.response.AuthenticationResponseDto;
 import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
 import com.goaleaf.accounts.data.dto.user.UserDetailsDto;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import org.springframework.lang.NonNull;
 
 /**
@@ -35,31 +36,31 @@ public interface AuthenticationService {
     /**
      * Terminates all active sessions associated with the user identified by the provided access token.
      *
-     * @param aUserAccessToken
-     *         a non-null {@code String} that represents the access token of the user whose sessions are to be terminated.
+     * @param aUserAccessTokenClaims
+     *         a non-null view of the claims of the access token of the user whose sessions are to be terminated.
      * @return {@code true} if the user sessions were successfully terminated; {@code false} otherwise.
      */
-    boolean terminateAllSessions( @NonNull String aUserAccessToken );
+    boolean terminateAllSessions( @NonNull AccessTokenClaims aUserAccessTokenClaims );
 
     /**
      * Terminates the current active session for the user identified by the provided access token.
      *
-     * @param aUserAccessToken
-     *         a non-null {@code String} representing the access token of the user whose current session is to be terminated.
+     * @param aUserAccessTokenClaims
+     *         a non-null view of the claims of the access token of the user whose current session is to be terminated.
      * @return {@code true} if the current user's session was successfully terminated; {@code false} otherwise.
      */
-    boolean terminateCurrentUserSession( @NonNull String aUserAccessToken );
+    boolean terminateCurrentUserSession( @NonNull AccessTokenClaims aUserAccessTokenClaims );
 
     /**
      * Terminates a specific user session based on the provided session ID.
      *
-     * @param aUserAccessToken
-     *         a non-null string representing the access token of the user whose session is to be terminated.
+     * @param aUserAccessTokenClaims
+     *         a non-null view of the claims of the access token of the user whose session is to be terminated.
      * @param aSessionId
      *         a non-null string representing the unique identifier of the session to be terminated.
      * @return {@code true} if the session was successfully terminated; {@code false} otherwise.
      */
-    boolean terminateSession( @NonNull String aUserAccessToken, @NonNull String aSessionId );
+    boolean terminateSession( @NonNull AccessTokenClaims aUserAccessTokenClaims, @NonNull String aSessionId );
 
     /**
      * Refreshes the user session by validating the provided authentication request details
@@ -0,0 +1,192 @@
+package com.goaleaf.accounts.service;
+
+import com.goaleaf.accounts.data.dto.auth.RegistrationRequestDto;
+import com.goaleaf.accounts.data.dto.keycloak.AccountDto;
+import com.goaleaf.accounts.data.dto.keycloak.key.JsonWebKeySetDto;
+import com.goaleaf.accounts.data.dto.keycloak.session.UserSessionRepresentationDto;
+import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A non-blocking connector to the keycloak server, providing an operation for every
+ * {@link com.goaleaf.accounts.system.util.KeycloakUrlTemplates} endpoint.
+ * <p>
+ * The requests are sent when the returned publishers are subscribed to and cancelled when the subscriptions are disposed,
+ * so the callers may compose the multi-request flows and apply their own timeouts without holding any thread while waiting
+ * for the responses. The error responses of the keycloak server are signalled as the same exceptions as thrown by
+ * the blocking services. The operations requiring the admin privileges are authorized with the client access token.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:00
+ */
+public interface KeycloakReactiveConnectionService {
+
+    /**
+     * Retrieves the client access token, prefixed with the access token prefix. The token held in memory is emitted
+     * immediately; a new one is fetched only if it is about to expire.
+     *
+     * @return a {@code Mono} emitting the client access token.
+     */
+    Mono< String > retrieveClientAccessToken();
+
+    /**
+     * Authenticates the client with the configured grant ({@code AUTHENTICATION_URL_TEMPLATE}).
+     *
+     * @return a {@code Mono} emitting the client's tokens.
+     */
+    Mono< AuthenticationTokenDto > authenticateClient();
+
+    /**
+     * Authenticates the user with the password grant ({@code AUTHENTICATION_URL_TEMPLATE}).
+     *
+     * @param aEmailAddress
+     *         a non-null email address of the user.
+     * @param aPassword
+     *         a non-null password of the user.
+     * @return a {@code Mono} emitting the tokens of the new session or signalling the
+     * {@link com.goaleaf.accounts.system.exc.auth.AuthenticationFailedException}.
+     */
+    Mono< AuthenticationTokenDto > authenticateUser( @NonNull String aEmailAddress, @NonNull String aPassword );
+
+    /**
+     * Refreshes the tokens of the session ({@code REFRESH_SESSION_URL_TEMPLATE}).
+     *
+     * @param aRefreshToken
+     *         a non-null refresh token of the session.
+     * @return a {@code Mono} emitting the refreshed tokens or signalling the
+     * {@link com.goaleaf.accounts.system.exc.request.TokenRefreshFailedException}.
+     */
+    Mono< AuthenticationTokenDto > refreshSession( @NonNull String aRefreshToken );
+
+    /**
+     * Introspects the token ({@code INTROSPECT_TOKEN_TEMPLATE}).
+     *
+     * @param aToken
+     *         a non-null token to be introspected.
+     * @return a {@code Mono} emitting {@code true} if the token is active, {@code false} if it is not or the introspection failed.
+     */
+    Mono< Boolean > introspectToken( @NonNull String aToken );
+
+    /**
+     * Retrieves the JSON Web Key Set published by the realm ({@code GET_REALM_CERTS_TEMPLATE}).
+     *
+     * @return a {@code Mono} emitting the public keys of the realm.
+     */
+    Mono< JsonWebKeySetDto > getRealmKeys();
+
+    /**
+     * Creates the user account ({@code REGISTRATION_URL_TEMPLATE}).
+     *
+     * @param aRegistrationRequestDto
+     *         non-null data of the account.
+     * @return a {@code Mono} completing when the account has been created or signalling the
+     * {@link com.goaleaf.accounts.system.exc.auth.RegistrationFailedException}.
+     */
+    Mono< Void > createAccount( @NonNull RegistrationRequestDto aRegistrationRequestDto );
+
+    /**
+     * Finds the accounts with the email address ({@code GET_LIST_OF_ACCOUNTS_TEMPLATE}), authorized with the client access token.
+     *
+     * @param aEmailAddress
+     *         a non-null email address.
+     * @return a {@code Flux} of the matching accounts.
+     */
+    Flux< AccountDto > findAccountsByEmailAddress( @NonNull String aEmailAddress );
+
+    /**
+     * Finds the accounts with the email address ({@code GET_LIST_OF_ACCOUNTS_TEMPLATE}), authorized with the provided access token.
+     *
+     * @param aAccessToken
+     *         a non-null access token with the prefix.
+     * @param aEmailAddress
+     *         a non-null email address.
+     * @return a {@code Flux} of the matching accounts.
+     */
+    Flux< AccountDto > findAccountsByEmailAddress( @NonNull String aAccessToken, @NonNull String aEmailAddress );
+
+    /**
+     * Deletes the user account ({@code DELETE_USER_TEMPLATE}).
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @return a {@code Mono} completing when the account has been deleted.
+     */
+    Mono< Void > deleteAccount( @NonNull String aUserId );
+
+    /**
+     * Sends the email address verification message to the user ({@code SEND_EMAIL_ADDRESS_VERIFICATION_MESSAGE_TEMPLATE}).
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @param aRedirectUri
+     *         a non-null URI the user is redirected to after the verification.
+     * @return a {@code Mono} completing when the message has been sent.
+     */
+    Mono< Void > sendEmailAddressVerificationMessage( @NonNull String aUserId, @NonNull String aRedirectUri );
+
+    /**
+     * Verifies the email address with the token sent to the user ({@code VERIFY_ACCOUNT_EMAIL_ADDRESS_TEMPLATE}).
+     *
+     * @param aEmailConfirmationToken
+     *         a non-null email confirmation token.
+     * @return a {@code Mono} completing when the email address has been verified.
+     */
+    Mono< Void > verifyEmailAddress( @NonNull String aEmailConfirmationToken );
+
+    /**
+     * Sends the credentials reset message to the user ({@code RESET_ACCOUNT_CREDENTIALS_TEMPLATE}).
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @return a {@code Mono} completing when the message has been sent.
+     */
+    Mono< Void > sendCredentialsResetMessage( @NonNull String aUserId );
+
+    /**
+     * Changes the password of the user ({@code CHANGE_ACCOUNT_CREDENTIALS_TEMPLATE}).
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @param aNewPassword
+     *         a non-null new password.
+     * @return a {@code Mono} completing when the password has been changed.
+     */
+    Mono< Void > changePassword( @NonNull String aUserId, @NonNull String aNewPassword );
+
+    /**
+     * Retrieves the active sessions of the user ({@code GET_ALL_SESSIONS_URL_TEMPLATE}).
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @return a {@code Flux} of the user's sessions.
+     */
+    Flux< UserSessionRepresentationDto > getUserSessions( @NonNull String aUserId );
+
+    /**
+     * Terminates all the sessions of the user ({@code TERMINATE_ALL_USER_SESSIONS_TEMPLATE}).
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @return a {@code Mono} completing when the sessions have been terminated.
+     */
+    Mono< Void > terminateAllUserSessions( @NonNull String aUserId );
+
+    /**
+     * Terminates the session ({@code TERMINATE_USER_SESSION_TEMPLATE}).
+     *
+     * @param aSessionId
+     *         a non-null identifier of the session.
+     * @return a {@code Mono} completing when the session has been terminated.
+     */
+    Mono< Void > terminateUserSession( @NonNull String aSessionId );
+
+    /**
+     * Deletes the session which is no longer valid and cannot be refreshed ({@code DELETE_SESSION_TEMPLATE}).
+     *
+     * @param aSessionId
+     *         a non-null identifier of the session.
+     * @return a {@code Mono} completing when the session has been deleted.
+     */
+    Mono< Void > deleteSession( @NonNull String aSessionId );
+}
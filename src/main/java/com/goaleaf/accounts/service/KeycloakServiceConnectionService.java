@@ -1,7 +1,9 @@
 package com.goaleaf.accounts.service;
 
+import com.goaleaf.accounts.data.dto.keycloak.key.JsonWebKeySetDto;
 import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
 import com.goaleaf.accounts.system.util.KeycloakUrlTemplates;
+import org.springframework.http.HttpMethod;
 import org.springframework.lang.NonNull;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -11,16 +13,18 @@ import org.springframework.web.reactive.function.client.WebClient;
 public interface KeycloakServiceConnectionService {
 
     /**
-     * Creates and retrieves a configured instance of a {@code WebClient} for interacting with
-     * an authentication service using the specified {@code KeycloakUrlTemplates} and parameters.
+     * Prepares a request to the endpoint of the authentication service specified by the {@code KeycloakUrlTemplates}
+     * and parameters. The request is sent with the client shared by all the requests to the authentication service.
      *
+     * @param aMethod
+     *         a non-null HTTP method of the request.
      * @param aUrlTemplate
      *         a non-null {@code KeycloakUrlTemplates} object representing the URL template for the authentication service endpoint.
      * @param aParameters
      *         a non-null varargs array of {@code Object} containing parameters to format the URL template.
-     * @return a configured {@code WebClient} instance for connecting to the authentication service.
+     * @return the request ready to be completed with the headers and the body.
      */
-    WebClient getAuthServiceConnectionWebClient( @NonNull KeycloakUrlTemplates aUrlTemplate, @NonNull Object... aParameters );
+    WebClient.RequestBodySpec prepareAuthServiceRequest( @NonNull HttpMethod aMethod, @NonNull KeycloakUrlTemplates aUrlTemplate, @NonNull Object... aParameters );
 
     /**
      * Sends a request to refresh the authentication tokens using the provided refresh token.
@@ -50,6 +54,14 @@ public interface KeycloakServiceConnectionService {
      */
     void sendSessionDeletionRequest( @NonNull String aSessionId );
 
+    /**
+     * Sends a request for the JSON Web Key Set currently published by the realm.
+     * The keys are used for the local verification of the access tokens' signatures.
+     *
+     * @return a {@code JsonWebKeySetDto} containing the public keys of the realm.
+     */
+    JsonWebKeySetDto sendRealmKeysRequest();
+
     /**
      * Retrieves the client access token by sending a client authentication request.
      * The token is returned with a predefined prefix.
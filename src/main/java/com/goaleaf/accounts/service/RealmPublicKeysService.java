@@ -0,0 +1,26 @@
+package com.goaleaf.accounts.service;
+
+import org.springframework.lang.NonNull;
+
+import java.security.PublicKey;
+import java.util.Optional;
+
+/**
+ * A service providing the public keys of the Keycloak realm used for the local verification of the access tokens' signatures.
+ * Implementations are expected to keep the keys in memory and to reach the realm only when an unknown key identifier
+ * is requested (e.g. after the keys rotation) or when the known keys are outdated.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 10:20
+ */
+public interface RealmPublicKeysService {
+
+    /**
+     * Retrieves the public key identified by the specified key identifier ({@code kid}).
+     * When the key is not known or the known keys are outdated, the key set is fetched from the realm once again.
+     *
+     * @param aKeyId
+     *         a non-null identifier of the key.
+     * @return an {@code Optional} containing the public key or an empty {@code Optional} if the realm does not publish such key.
+     */
+    Optional< PublicKey > getPublicKey( @NonNull String aKeyId );
+}
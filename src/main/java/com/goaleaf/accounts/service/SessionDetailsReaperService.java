@@ -0,0 +1,18 @@
+package com.goaleaf.accounts.service;
+
+/**
+ * A service removing the details of the sessions whose refresh tokens have expired. Such sessions cannot be refreshed
+ * anymore, so their details are never read again.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:35
+ */
+public interface SessionDetailsReaperService {
+
+    /**
+     * Removes the details of the sessions whose refresh tokens have expired before now, in batches of the configured
+     * size separated by the configured pause. The details stored without the expiration time are left in place.
+     *
+     * @return the number of the removed session details.
+     */
+    int reapExpiredSessionDetails();
+}
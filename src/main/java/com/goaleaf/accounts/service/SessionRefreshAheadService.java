@@ -0,0 +1,25 @@
+package com.goaleaf.accounts.service;
+
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import org.springframework.lang.NonNull;
+
+/**
+ * A service refreshing the user sessions in the background shortly before their access tokens expire (refresh-ahead),
+ * so the request crossing the expiration does not wait for the refresh round trip to the auth service.
+ * The refreshed tokens are remembered by the {@link SupersededTokensService}, which hands them out with the next requests
+ * carrying the previous tokens.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 19:05
+ */
+public interface SessionRefreshAheadService {
+
+    /**
+     * Schedules the background refresh of the session if the provided, already validated access token expires within
+     * the configured window. Does nothing if the refresh of the session is already pending or has already completed.
+     * Never blocks the caller.
+     *
+     * @param aClaims
+     *         the non-null claims of the validated access token.
+     */
+    void scheduleRefreshIfExpiring( @NonNull AccessTokenClaims aClaims );
+}
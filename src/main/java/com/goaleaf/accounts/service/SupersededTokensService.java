@@ -0,0 +1,37 @@
+package com.goaleaf.accounts.service;
+
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import org.springframework.lang.NonNull;
+
+import java.util.Optional;
+
+/**
+ * A service remembering which access token has replaced a refreshed one, until a short grace period after the refreshed one expires.
+ * The requests sent with the refreshed token before the client received the new one (e.g. the requests already
+ * in flight or sent from other browser tabs) receive the new token without refreshing the session again.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 19:50
+ */
+public interface SupersededTokensService {
+
+    /**
+     * Remembers the replacement of the specified refreshed access token, until the grace period passes after the refreshed
+     * token expires (or after the refresh, if it had already expired).
+     *
+     * @param aSupersededClaims
+     *         the non-null claims of the access token which has been refreshed.
+     * @param aReplacementClaims
+     *         the non-null claims of the new access token.
+     */
+    void registerReplacement( @NonNull AccessTokenClaims aSupersededClaims, @NonNull AccessTokenClaims aReplacementClaims );
+
+    /**
+     * Retrieves the access token which has replaced the provided one, if it is still remembered and has not been revoked
+     * by ending its session or all the sessions of its user.
+     *
+     * @param aClaims
+     *         the non-null claims of the access token carried by the request.
+     * @return the claims of the new access token or an empty {@link Optional} if there is none.
+     */
+    Optional< AccessTokenClaims > findReplacement( @NonNull AccessTokenClaims aClaims );
+}
@@ -0,0 +1,25 @@
+package com.goaleaf.accounts.service;
+
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import org.springframework.lang.NonNull;
+
+/**
+ * A service checking whether the user access tokens are still active in the Keycloak realm (token introspection).
+ * Implementations are expected to remember the positive introspection results for a bounded time, so the realm
+ * is not requested for each filtered request carrying the same token.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 13:20
+ */
+public interface TokenIntrospectionService {
+
+    /**
+     * Checks whether the access token represented by the provided claims is active.
+     * The remembered result is returned if present, otherwise the realm is requested for the token introspection.
+     * The tokens revoked locally are never reported active.
+     *
+     * @param aClaims
+     *         the non-null claims of the access token.
+     * @return true if the token is active, false otherwise.
+     */
+    boolean isTokenActive( @NonNull AccessTokenClaims aClaims );
+}
@@ -34,6 +34,19 @@ public interface UserDetailsService {
      */
     UserDetailsDto findUserDetailsByEmail( @NonNull String aEmail );
 
+    /**
+     * Retrieves the identity of the user, i.e. the user's identifier and name, by the provided email address.
+     * Unlike {@link #findUserDetailsByEmail(String)}, it does not read the remaining user details.
+     *
+     * @param aEmail
+     *         the email address of the user whose identity is to be retrieved. Must not be null.
+     * @return a {@link UserDetailsDto} object containing only the user's identifier and name.
+     *
+     * @throws ResourceNotFoundException
+     *         if no user is found for the given email address.
+     */
+    UserDetailsDto findUserIdentityByEmail( @NonNull String aEmail );
+
     /**
      * Deletes the user details associated with the specified user ID.
      *
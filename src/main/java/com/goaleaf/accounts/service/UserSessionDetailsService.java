@@ -5,6 +5,7 @@ import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
 import com.goaleaf.accounts.data.dto.response.UserSessionResponseDto;
 import com.goaleaf.accounts.data.dto.user.UserSessionDetailsDto;
 import com.goaleaf.accounts.persistence.entity.UserSessionDetails;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import org.springframework.lang.NonNull;
 
 import java.util.List;
@@ -49,12 +50,12 @@ public interface UserSessionDetailsService {
     /**
      * Retrieves a list of all user session details associated with the provided access token.
      *
-     * @param aAccessToken
-     *         a non-null string representing the access token used to authenticate and identify the user sessions.
+     * @param aAccessTokenClaims
+     *         a non-null view of the access token's claims used to authenticate and identify the user sessions.
      * @return a list of {@code UserSessionResponseDto} objects containing details about the user sessions,
      * such as session ID, IP address, session timing, location, and device information.
      */
-    List< UserSessionResponseDto > getAllUserSessionsInfo( @NonNull String aAccessToken );
+    List< UserSessionResponseDto > getAllUserSessionsInfo( @NonNull AccessTokenClaims aAccessTokenClaims );
 
     /**
      * Validates the provided access token to ensure it is active and authorized for use.
@@ -65,6 +66,33 @@ public interface UserSessionDetailsService {
      */
     boolean checkAccessToken( @NonNull String aAccessToken );
 
+    /**
+     * Validates the access token represented by the already parsed claims to ensure it is active and authorized for use.
+     *
+     * @param aAccessTokenClaims
+     *         a non-null view of the access token's claims.
+     * @return {@code true} if the access token is valid and active; {@code false} otherwise.
+     */
+    boolean checkAccessToken( @NonNull AccessTokenClaims aAccessTokenClaims );
+
+    /**
+     * Validates the provided refresh token stored in the user's session details.
+     *
+     * @param aRefreshToken
+     *         a non-null {@code String} representing the refresh token to be validated.
+     * @return {@code true} if the refresh token can still be used for refreshing the session; {@code false} otherwise.
+     */
+    boolean checkRefreshToken( @NonNull String aRefreshToken );
+
+    /**
+     * Validates the refresh token of the session by its expiration time stored in the session details.
+     *
+     * @param aSessionDetails
+     *         non-null details of the session.
+     * @return {@code true} if the refresh token can still be used for refreshing the session; {@code false} otherwise.
+     */
+    boolean checkRefreshToken( @NonNull UserSessionDetailsDto aSessionDetails );
+
     /**
      * Retrieves the session details of a user associated with the specified session ID.
      *
@@ -75,6 +103,15 @@ public interface UserSessionDetailsService {
      */
     Optional< UserSessionDetailsDto > getUserSessionDetails( @NonNull String aSessionId );
 
+    /**
+     * Forgets the in-memory copy of the session details, so the next lookup reads them from the database.
+     * Used when the stored details may have changed without this service's knowledge, e.g. after a failed refresh.
+     *
+     * @param aSessionId
+     *         the unique identifier of the session; must not be null.
+     */
+    void invalidateCachedSessionDetails( @NonNull String aSessionId );
+
     /**
      * Deletes the specified user session details from the system.
      *
@@ -93,14 +130,29 @@ public interface UserSessionDetailsService {
     void deleteSessionDetails( @NonNull String aSessionId );
 
     /**
-     * Updates the specified user session details in the system.
+     * Deletes the details of all the sessions of the user with a single statement and forgets every in-memory state
+     * kept for them: the cached session details and the replacements of the refreshed access tokens. The user's access
+     * tokens issued so far are revoked locally, which also rejects their remembered introspection results. It is the local part of ending
+     * all the user's sessions, after they have been ended in the authentication service.
+     *
+     * @param aUserId
+     *         the unique identifier of the user; must not be null.
+     * @return the number of the deleted session details.
+     */
+    int deleteAllUserSessionDetails( @NonNull String aUserId );
+
+    /**
+     * Updates the specified user session details in the system, rotating the stored refresh token in place.
+     * The update succeeds only if the stored refresh token is still the one held by the provided session details.
      *
      * @param aSessionDetails
-     *         the {@code UserSessionDetails} object containing the updated session information;
+     *         the {@code UserSessionDetailsDto} object holding the session's identifier and current refresh token;
      *         must not be null.
      * @param aAuthenticationToken
      *         the {@code AuthenticationTokenDto} containing the new authentication token details
      *         to update the session with; must not be null.
+     * @return {@code true} if the refresh token has been rotated, {@code false} if the session no longer exists
+     * or its refresh token has been rotated concurrently.
      */
-    void updateSessionDetails( @NonNull UserSessionDetails aSessionDetails, @NonNull AuthenticationTokenDto aAuthenticationToken );
+    boolean updateSessionDetails( @NonNull UserSessionDetailsDto aSessionDetails, @NonNull AuthenticationTokenDto aAuthenticationToken );
 }
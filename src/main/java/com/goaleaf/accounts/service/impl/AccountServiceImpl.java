@@ -1,15 +1,14 @@
 package com.goaleaf.accounts.service.impl;
 
-import com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey;
-import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
 import com.goaleaf.accounts.data.dto.account.PasswordChangingRequestDto;
 import com.goaleaf.accounts.data.dto.account.PasswordResetRequestDto;
 import com.goaleaf.accounts.data.dto.keycloak.AccountDto;
-import com.goaleaf.accounts.data.dto.response.KeycloakErrorResponseDto;
 import com.goaleaf.accounts.data.dto.user.UserDetailsDto;
 import com.goaleaf.accounts.service.AccountService;
-import com.goaleaf.accounts.service.KeycloakServiceConnectionService;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.KeycloakReactiveConnectionService;
 import com.goaleaf.accounts.service.UserDetailsService;
+import com.goaleaf.accounts.service.UserSessionDetailsService;
 import com.goaleaf.accounts.service.validation.AuthenticationValidationService;
 import com.goaleaf.accounts.system.exc.auth.AccountAlreadyVerifiedException;
 import com.goaleaf.accounts.system.exc.auth.AccountNotVerifiedException;
@@ -17,22 +16,14 @@ import com.goaleaf.accounts.system.exc.auth.AuthenticationFailedException;
 import com.goaleaf.accounts.system.exc.request.KeycloakActionRequestFailedException;
 import com.goaleaf.accounts.system.exc.request.KeycloakResourceRequestFailedException;
 import com.goaleaf.accounts.system.lang.AccountsExcTranslationKey;
-import com.goaleaf.accounts.system.util.AccessTokenUtils;
-import com.goaleaf.accounts.system.util.KeycloakUrlTemplates;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
-import static com.github.pplociennik.commons.utility.CustomObjects.requireNonEmpty;
-import static com.goaleaf.accounts.system.properties.AccountsSystemProperties.*;
-import static com.goaleaf.accounts.system.util.KeycloakUrlTemplates.*;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -52,21 +43,14 @@ class AccountServiceImpl implements AccountService {
     private static final String EMAIL_ADDRESS_CONFIRMATION_CLIENT_PATH = "/verify";
 
     /**
-     * Represents the lifespan of an email address confirmation link in seconds.
-     * This constant defines the time duration for which the confirmation link
-     * remains valid before it expires.
+     * A service providing the current snapshot of the configuration.
      */
-    private static final String EMAIL_ADDRESS_CONFIRMATION_LINK_LIFESPAN = "86400";
-
-    /**
-     * A service for reading system properties and configurations.
-     */
-    private final SystemPropertiesReaderService systemPropertiesReaderService;
+    private final AccountsConfigurationService accountsConfigurationService;
 
     /**
      * A service that facilitates communication with the authentication service.
      */
-    private final KeycloakServiceConnectionService keycloakConnectionService;
+    private final KeycloakReactiveConnectionService keycloakConnectionService;
 
     /**
      * A service providing validation functions for the authentication data.
@@ -78,6 +62,12 @@ class AccountServiceImpl implements AccountService {
      */
     private final UserDetailsService userDetailsService;
 
+    /**
+     * A service managing the details of the user sessions, ending the sessions of the deleted accounts locally,
+     * so their tokens are rejected immediately.
+     */
+    private final UserSessionDetailsService userSessionDetailsService;
+
     /**
      * Retrieves an account's details using the associated email address.
      *
@@ -92,26 +82,11 @@ class AccountServiceImpl implements AccountService {
      */
     public AccountDto getAccountByEmailAddress( @NonNull String aAccessToken, @NonNull String aEmailAddress ) {
         requireNonNull( aEmailAddress );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( GET_LIST_OF_ACCOUNTS_TEMPLATE, realmName );
+        List< AccountDto > resultList = keycloakConnectionService.findAccountsByEmailAddress( aAccessToken, aEmailAddress )
+                .collectList()
+                .block();
 
-        try {
-            List< AccountDto > resultList = client.get()
-                    .uri( uriBuilder -> uriBuilder
-                            .queryParam( "email", aEmailAddress )
-                            .build() )
-                    .header( "Authorization", aAccessToken )
-                    .retrieve()
-                    .bodyToFlux( AccountDto.class )
-                    .collectList()
-                    .block();
-
-            return resultList.get( 0 );
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakResourceRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+        return resultList.get( 0 );
     }
 
     /**
@@ -133,31 +108,15 @@ class AccountServiceImpl implements AccountService {
      */
     public AccountDto getAccountByEmailAddress( @NonNull String aEmailAddress ) {
         requireNonNull( aEmailAddress );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String clientAccessToken = keycloakConnectionService.getClientAccessToken();
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( GET_LIST_OF_ACCOUNTS_TEMPLATE, realmName );
+        List< AccountDto > resultList = keycloakConnectionService.findAccountsByEmailAddress( aEmailAddress )
+                .collectList()
+                .block();
 
-        try {
-            List< AccountDto > resultList = client.get()
-                    .uri( uriBuilder -> uriBuilder
-                            .queryParam( "email", aEmailAddress )
-                            .build() )
-                    .header( "Authorization", clientAccessToken )
-                    .retrieve()
-                    .bodyToFlux( AccountDto.class )
-                    .collectList()
-                    .block();
-
-            if ( resultList == null || resultList.isEmpty() ) {
-                throw new AuthenticationFailedException( AccountsExcTranslationKey.USER_DOES_NOT_EXIST );
-            }
-
-            return resultList.get( 0 );
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakResourceRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
+        if ( resultList == null || resultList.isEmpty() ) {
+            throw new AuthenticationFailedException( AccountsExcTranslationKey.USER_DOES_NOT_EXIST );
         }
+
+        return resultList.get( 0 );
     }
 
     /**
@@ -172,31 +131,12 @@ class AccountServiceImpl implements AccountService {
     public void requestEmailAddressVerificationMessage( @NonNull String aEmailAddress ) {
         requireNonNull( aEmailAddress );
         String userId = getUserId( aEmailAddress );
-        String clientAccessToken = keycloakConnectionService.getClientAccessToken();
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String clientRedirectionUri = systemPropertiesReaderService.readProperty( CLIENT_URI );
+        String clientRedirectionUri = accountsConfigurationService.getConfiguration().getClientUri();
         String redirectUri = clientRedirectionUri + EMAIL_ADDRESS_CONFIRMATION_CLIENT_PATH;
 
         validateIfEmailAlreadyConfirmed( aEmailAddress );
 
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( SEND_EMAIL_ADDRESS_VERIFICATION_MESSAGE_TEMPLATE, realmName, userId );
-        try {
-            client.put()
-                    .header( "Authorization", clientAccessToken )
-                    .contentType( MediaType.APPLICATION_JSON )
-                    .bodyValue( Map.of(
-                            "lifespan", EMAIL_ADDRESS_CONFIRMATION_LINK_LIFESPAN,
-                            "redirect_uri", redirectUri
-                    ) )
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+        keycloakConnectionService.sendEmailAddressVerificationMessage( userId, redirectUri ).block();
     }
 
     private void validateIfEmailAlreadyConfirmed( @NonNull String aEmailAddress ) {
@@ -221,24 +161,7 @@ class AccountServiceImpl implements AccountService {
     @Override
     public void verifyEmailAddress( @NonNull String aEmailConfirmationToken ) {
         requireNonNull( aEmailConfirmationToken );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String clientId = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_ID );
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( KeycloakUrlTemplates.VERIFY_ACCOUNT_EMAIL_ADDRESS_TEMPLATE, realmName );
-
-        try {
-            client.get()
-                    .uri( uriBuilder -> uriBuilder
-                            .queryParam( "key", aEmailConfirmationToken )
-                            .queryParam( "client_id", clientId )
-                            .build() )
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+        keycloakConnectionService.verifyEmailAddress( aEmailConfirmationToken ).block();
     }
 
     /**
@@ -258,31 +181,16 @@ class AccountServiceImpl implements AccountService {
         boolean userExists = authenticationValidationService.validatePasswordResetRequest( aDto.getEmail() );
 
         if ( userExists ) {
-            String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-            String clientAccessToken = keycloakConnectionService.getClientAccessToken();
-            UserDetailsDto details = userDetailsService.findUserDetailsByEmail( aDto.getEmail() );
-
-            WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( RESET_ACCOUNT_CREDENTIALS_TEMPLATE, realmName, details.getUserId() );
-            try {
-                client.put()
-                        .header( "Authorization", clientAccessToken )
-                        .bodyValue( List.of( "UPDATE_PASSWORD" ) )
-                        .retrieve()
-                        .toBodilessEntity()
-                        .block();
-            } catch ( WebClientResponseException aE ) {
-                KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-                requireNonNull( errorResponse );
-                throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-            }
+            UserDetailsDto details = userDetailsService.findUserIdentityByEmail( aDto.getEmail() );
+            keycloakConnectionService.sendCredentialsResetMessage( details.getUserId() ).block();
         }
     }
 
     /**
      * Changes the password of an account by sending a password change request to the authentication service.
      *
-     * @param aUserAccessToken
-     *         the access token of the user, used for authorization, must not be null or empty
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token of the user, used for authorization, must not be null
      * @param aPasswordChangingRequestDto
      *         the data transfer object containing the new password details; must not be null
      * @throws NullPointerException
@@ -291,33 +199,12 @@ class AccountServiceImpl implements AccountService {
      *         when the keycloak action request failed for any reason
      */
     @Override
-    public void changeAccountPassword( @NonNull String aUserAccessToken, @NonNull PasswordChangingRequestDto aPasswordChangingRequestDto ) {
-        requireNonEmpty( aUserAccessToken );
+    public void changeAccountPassword( @NonNull AccessTokenClaims aUserAccessTokenClaims, @NonNull PasswordChangingRequestDto aPasswordChangingRequestDto ) {
+        requireNonNull( aUserAccessTokenClaims );
         requireNonNull( aPasswordChangingRequestDto );
         authenticationValidationService.validatePasswordChangingRequest( aPasswordChangingRequestDto );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String userId = AccessTokenUtils.getUserId( aUserAccessToken );
-        String clientAccessToken = keycloakConnectionService.getClientAccessToken();
-
-        Map< String, Object > passwordData = new HashMap<>();
-        passwordData.put( "type", "password" );
-        passwordData.put( "value", aPasswordChangingRequestDto.getNewPassword() );
-        passwordData.put( "temporary", false );
-
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( CHANGE_ACCOUNT_CREDENTIALS_TEMPLATE, realmName, userId );
-        try {
-            client.put()
-                    .header( "Authorization", clientAccessToken )
-                    .contentType( MediaType.APPLICATION_JSON )
-                    .bodyValue( passwordData )
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+        String userId = aUserAccessTokenClaims.getUserId();
+        keycloakConnectionService.changePassword( userId, aPasswordChangingRequestDto.getNewPassword() ).block();
     }
 
     /**
@@ -329,46 +216,48 @@ class AccountServiceImpl implements AccountService {
      */
     @Override
     public void checkIfEmailVerified( @NonNull String aEmailAddress ) {
-        AccountDto accountDto = getAccountByEmailAddress( aEmailAddress );
+        checkEmailVerification( aEmailAddress ).block();
+    }
 
-        if ( !accountDto.getEmailVerified() ) {
-            throw new AccountNotVerifiedException( aEmailAddress, AccountsExcTranslationKey.ACCOUNT_NOT_VERIFIED );
-        }
+    /**
+     * Checks, without blocking, if the email associated with the provided email address is verified.
+     *
+     * @param aEmailAddress
+     *         the email address to check for verification status, must not be null
+     * @return a {@code Mono} completing if the email address is verified, signalling the AccountNotVerifiedException
+     * if it is not or the AuthenticationFailedException if there is no account with the email address
+     */
+    @Override
+    public Mono< Void > checkEmailVerification( @NonNull String aEmailAddress ) {
+        requireNonNull( aEmailAddress );
+        return keycloakConnectionService.findAccountsByEmailAddress( aEmailAddress )
+                .next()
+                .switchIfEmpty( Mono.error( () -> new AuthenticationFailedException( AccountsExcTranslationKey.USER_DOES_NOT_EXIST ) ) )
+                .flatMap( aAccount -> aAccount.getEmailVerified()
+                        ? Mono.< Void >empty()
+                        : Mono.error( new AccountNotVerifiedException( aEmailAddress, AccountsExcTranslationKey.ACCOUNT_NOT_VERIFIED ) ) );
     }
 
     /**
      * Deletes the account associated with the provided user access token.
      * This method handles the account deletion process by interacting with the external
-     * authentication service. The access token must belong to an authorized user.
+     * authentication service. The access token must belong to an authorized user. The account's sessions,
+     * ended together with the account, are cleaned up locally in bulk.
      *
-     * @param aUserAccessToken
-     *         the access token of the user whose account is to be deleted. Must not be null.
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token of the user whose account is to be deleted. Must not be null.
      * @throws NullPointerException
-     *         if the provided access token is null.
-     * @throws IllegalArgumentException
-     *         if the provided access token is invalid or empty.
+     *         if the provided claims are null.
      */
     @Override
-    public void deleteAccount( @NonNull String aUserAccessToken ) {
-        requireNonNull( aUserAccessToken );
-        String userId = AccessTokenUtils.getUserId( aUserAccessToken );
+    public void deleteAccount( @NonNull AccessTokenClaims aUserAccessTokenClaims ) {
+        requireNonNull( aUserAccessTokenClaims );
+        String userId = aUserAccessTokenClaims.getUserId();
         userDetailsService.deleteUserDetails( userId );
 
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
+        keycloakConnectionService.deleteAccount( userId ).block();
 
-        String clientAccessToken = keycloakConnectionService.getClientAccessToken();
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( DELETE_USER_TEMPLATE, realmName, userId );
-        try {
-            client.delete()
-                    .header( "Authorization", clientAccessToken )
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+        userSessionDetailsService.deleteAllUserSessionDetails( userId );
     }
 
     /**
@@ -379,7 +268,7 @@ class AccountServiceImpl implements AccountService {
      * @return the user ID associated with the provided email address
      */
     private String getUserId( String aEmailAddress ) {
-        UserDetailsDto details = userDetailsService.findUserDetailsByEmail( aEmailAddress );
+        UserDetailsDto details = userDetailsService.findUserIdentityByEmail( aEmailAddress );
         return details.getUserId();
     }
 }
@@ -0,0 +1,79 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link AccountsConfigurationService} keeping the configuration's snapshot in memory.
+ * <p>
+ * The snapshot is read when the service is created and atomically replaced when the environment changes
+ * (e.g. after a refresh of the configuration published by the config server). A refreshed configuration
+ * holding invalid values is rejected and the previous snapshot stays in use.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 18:10
+ */
+@Log4j2
+@Service
+class AccountsConfigurationServiceImpl implements AccountsConfigurationService {
+
+    /**
+     * The common prefix of the accounts service's properties.
+     */
+    private static final String ACCOUNTS_PROPERTIES_PREFIX = "com.goaleaf.accounts.";
+
+    /**
+     * A service used for reading the properties.
+     */
+    private final SystemPropertiesReaderService systemPropertiesReaderService;
+
+    /**
+     * The current snapshot of the configuration.
+     */
+    private volatile AccountsConfiguration configuration;
+
+    /**
+     * A constructor.
+     *
+     * @param aSystemPropertiesReaderService
+     *         a service used for reading the properties.
+     */
+    AccountsConfigurationServiceImpl( @NonNull SystemPropertiesReaderService aSystemPropertiesReaderService ) {
+        systemPropertiesReaderService = requireNonNull( aSystemPropertiesReaderService );
+        configuration = AccountsConfiguration.read( systemPropertiesReaderService );
+    }
+
+    @Override
+    public AccountsConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Replaces the snapshot of the configuration when any of the accounts service's properties has changed.
+     *
+     * @param aEvent
+     *         the event carrying the keys of the changed properties.
+     */
+    @EventListener
+    void onEnvironmentChange( EnvironmentChangeEvent aEvent ) {
+        boolean accountsPropertiesChanged = aEvent.getKeys().stream()
+                .anyMatch( aKey -> aKey.startsWith( ACCOUNTS_PROPERTIES_PREFIX ) );
+        if ( !accountsPropertiesChanged ) {
+            return;
+        }
+
+        try {
+            configuration = AccountsConfiguration.read( systemPropertiesReaderService );
+            log.info( "The accounts service configuration has been refreshed." );
+        } catch ( RuntimeException aE ) {
+            log.error( "The refreshed accounts service configuration is invalid, the previous one stays in use: {}", aE.getMessage() );
+        }
+    }
+}
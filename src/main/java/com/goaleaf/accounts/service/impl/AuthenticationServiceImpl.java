@@ -1,41 +1,36 @@
 package com.goaleaf.accounts.service.impl;
 
-import com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey;
-import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
 import com.goaleaf.accounts.data.dto.auth.AuthenticationRequestDto;
 import com.goaleaf.accounts.data.dto.auth.RegistrationRequestDto;
 import com.goaleaf.accounts.data.dto.keycloak.AccountDto;
 import com.goaleaf.accounts.data.dto.response.AuthenticationResponseDto;
 import com.goaleaf.accounts.data.dto.response.AuthenticationResponseUserDataDto;
 import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
-import com.goaleaf.accounts.data.dto.response.KeycloakErrorResponseDto;
 import com.goaleaf.accounts.data.dto.user.UserDetailsDto;
+import com.goaleaf.accounts.data.dto.user.UserSessionDetailsDto;
 import com.goaleaf.accounts.data.map.UserDetailsMapper;
-import com.goaleaf.accounts.persistence.entity.UserSessionDetails;
-import com.goaleaf.accounts.persistence.repository.UserSessionDetailsRepository;
 import com.goaleaf.accounts.service.*;
 import com.goaleaf.accounts.service.validation.AuthenticationValidationService;
+import com.goaleaf.accounts.system.concurrent.SingleFlight;
 import com.goaleaf.accounts.system.exc.auth.AccountNotVerifiedException;
 import com.goaleaf.accounts.system.exc.auth.AuthenticationFailedException;
 import com.goaleaf.accounts.system.exc.auth.RegistrationFailedException;
-import com.goaleaf.accounts.system.exc.request.KeycloakActionRequestFailedException;
 import com.goaleaf.accounts.system.lang.AccountsExcTranslationKey;
-import com.goaleaf.accounts.system.util.AccessTokenUtils;
-import com.goaleaf.accounts.system.util.KeycloakUrlTemplates;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.token.TokenRevocationRegistry;
 import lombok.AllArgsConstructor;
-import lombok.Synchronized;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import static com.github.pplociennik.commons.utility.OptionalUtils.getOptionalValue;
-import static com.goaleaf.accounts.system.properties.AccountsSystemProperties.*;
 import static com.goaleaf.accounts.system.util.AccessTokenUtils.getSessionId;
-import static com.goaleaf.accounts.system.util.KeycloakUrlTemplates.TERMINATE_ALL_USER_SESSIONS_TEMPLATE;
-import static com.goaleaf.accounts.system.util.KeycloakUrlTemplates.TERMINATE_USER_SESSION_TEMPLATE;
+import static com.goaleaf.accounts.system.util.AccessTokenUtils.parseClaims;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -51,15 +46,14 @@ import static java.util.Objects.requireNonNull;
 class AuthenticationServiceImpl implements AuthenticationService {
 
     /**
-     * A service for reading system properties configuration.
-     * This variable is used to retrieve system-specific properties required in the authentication-related operations.
+     * A service for handling validation logic in the authentication process.
      */
-    private final SystemPropertiesReaderService systemPropertiesReaderService;
+    private final AuthenticationValidationService authenticationValidationService;
 
     /**
-     * A service for handling validation logic in the authentication process.
+     * A service providing the current snapshot of the configuration.
      */
-    private final AuthenticationValidationService authenticationValidationService;
+    private final AccountsConfigurationService accountsConfigurationService;
 
     /**
      * A service used for managing user details related operations within the system.
@@ -75,7 +69,7 @@ class AuthenticationServiceImpl implements AuthenticationService {
     /**
      * A service responsible for connecting to the keycloak server.
      */
-    private KeycloakServiceConnectionService keycloakConnectionService;
+    private KeycloakReactiveConnectionService keycloakConnectionService;
 
     /**
      * Service responsible for managing user session-related operations.
@@ -83,9 +77,19 @@ class AuthenticationServiceImpl implements AuthenticationService {
     private UserSessionDetailsService userSessionDetailsService;
 
     /**
-     * Repository for managing user session details.
+     * Service remembering the replacements of the refreshed access tokens for the requests still carrying the refreshed ones.
+     */
+    private SupersededTokensService supersededTokensService;
+
+    /**
+     * Registry of the access tokens revoked locally, so the local validation strategies reject the tokens of the ended sessions.
+     */
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * Coalesces the concurrent refreshes of the same session, mapped by the session identifier.
      */
-    private UserSessionDetailsRepository userSessionDetailsRepository;
+    private final SingleFlight< String, AuthenticationTokenDto > sessionRefreshes = new SingleFlight<>();
 
 
     /**
@@ -103,31 +107,23 @@ class AuthenticationServiceImpl implements AuthenticationService {
     public UserDetailsDto registerUserAccount( @NonNull RegistrationRequestDto aDto ) {
         requireNonNull( aDto );
         authenticationValidationService.validateRegistrationRequest( aDto );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( KeycloakUrlTemplates.REGISTRATION_URL_TEMPLATE, realmName );
-        String clientAccessToken = keycloakConnectionService.getClientAccessToken();
-
-        try {
-            client.post()
-                    .header( "Authorization", clientAccessToken )
-                    .contentType( MediaType.APPLICATION_JSON )
-                    .bodyValue( aDto )
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-
-            return createInnerUserDetails( clientAccessToken, aDto );
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto responseBody = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( responseBody );
-            throw new RegistrationFailedException( AccountsExcTranslationKey.REGISTRATION_FAILED, responseBody.getError() );
-        }
+
+        AccountDto createdAccount = keycloakConnectionService.createAccount( aDto )
+                .then( keycloakConnectionService.findAccountsByEmailAddress( aDto.getEmail() ).next() )
+                .block();
+
+        return createInnerUserDetails( requireNonNull( createdAccount ), aDto );
     }
 
     /**
      * Authenticates a user account and returns an authentication response containing
      * user details and authentication tokens. This method communicates with a Keycloak
      * authentication server and performs required verifications.
+     * <p>
+     * Unless disabled in the configuration, the email address verification check, the password grant and the reading
+     * of the user's details run concurrently. The verification's failure takes precedence over the failures of the other
+     * steps: it cancels the steps still running and ends the session already granted, so a user with the unverified
+     * email address never gets a session. The session's details are saved once all the steps have succeeded.
      *
      * @param aDto
      *         the data transfer object containing the user's email and password for authentication
@@ -144,91 +140,149 @@ class AuthenticationServiceImpl implements AuthenticationService {
     public AuthenticationResponseDto authenticateUserAccount( @NonNull AuthenticationRequestDto aDto ) {
         requireNonNull( aDto );
 
-        accountService.checkIfEmailVerified( aDto.getEmail() );
-
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String clientID = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_ID );
-        String clientSecret = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_SECRET );
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( KeycloakUrlTemplates.AUTHENTICATION_URL_TEMPLATE, realmName );
-
-        AuthenticationTokenDto authenticationToken;
-        try {
-            authenticationToken = client.post()
-                    .contentType( MediaType.APPLICATION_FORM_URLENCODED )
-                    .bodyValue(
-                            "grant_type=password"
-                                    + "&client_id=" + clientID
-                                    + "&client_secret=" + clientSecret
-                                    + "&username=" + aDto.getEmail()
-                                    + "&password=" + aDto.getPassword()
-                    )
-                    .retrieve()
-                    .bodyToMono( AuthenticationTokenDto.class )
-                    .block();
-
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new AuthenticationFailedException( AccountsExcTranslationKey.AUTHENTICATION_FAILED, aDto.getEmail(), errorResponse.getErrorDescription() );
-        }
+        Tuple2< AuthenticationTokenDto, UserDetailsDto > authentication = accountsConfigurationService.getConfiguration().isLoginParallel()
+                ? authenticateConcurrently( aDto ).block()
+                : authenticateSequentially( aDto ).block();
+        requireNonNull( authentication );
 
-        userSessionDetailsService.createUserSessionDetails( aDto, requireNonNull( authenticationToken ) );
-        UserDetailsDto userDetails = userDetailsService.findUserDetailsByEmail( aDto.getEmail() );
+        AuthenticationTokenDto authenticationToken = authentication.getT1();
+        UserDetailsDto userDetails = authentication.getT2();
+        userSessionDetailsService.createUserSessionDetails( aDto, authenticationToken );
         AuthenticationResponseUserDataDto userDataDto = new AuthenticationResponseUserDataDto( userDetails.getUserName() );
         return new AuthenticationResponseDto( userDataDto, authenticationToken );
     }
 
+    /**
+     * Runs the email address verification check, the password grant and the reading of the user's details concurrently.
+     * All three steps are let settle before the login's outcome is decided, so a failure of one step never cancels
+     * a grant which may already have created the session. The verification's failure takes precedence over
+     * the failures of the grant and the reading. If any step fails, the granted session is ended. A step completing
+     * without a value fails, so the outcome is never decided on a missing token or missing details.
+     *
+     * @param aDto
+     *         the user's credentials.
+     * @return a {@code Mono} emitting the user's tokens and details.
+     */
+    private Mono< Tuple2< AuthenticationTokenDto, UserDetailsDto > > authenticateConcurrently( AuthenticationRequestDto aDto ) {
+        Mono< Signal< Boolean > > verification = accountService.checkEmailVerification( aDto.getEmail() )
+                .thenReturn( Boolean.TRUE )
+                .materialize();
+        Mono< Signal< AuthenticationTokenDto > > grant = grantToken( aDto )
+                .materialize();
+        Mono< Signal< UserDetailsDto > > userDetails = findUserDetails( aDto.getEmail() )
+                .materialize();
+
+        return Mono.zip( verification, grant, userDetails )
+                .flatMap( aSignals -> {
+                    AuthenticationTokenDto grantedToken = aSignals.getT2().get();
+                    Throwable failure = findFirstFailure( aSignals.getT1(), aSignals.getT2(), aSignals.getT3() );
+                    if ( failure != null ) {
+                        return endGrantedSession( grantedToken ).then( Mono.error( failure ) );
+                    }
+                    return Mono.just( Tuples.of( grantedToken, aSignals.getT3().get() ) );
+                } );
+    }
+
+    /**
+     * Finds the failure of the first failed step, in the order of precedence.
+     *
+     * @param aSignals
+     *         the settled signals of the steps.
+     * @return the failure or null if all the steps have succeeded.
+     */
+    private static Throwable findFirstFailure( Signal< ? >... aSignals ) {
+        for ( Signal< ? > signal : aSignals ) {
+            if ( signal.isOnError() ) {
+                return signal.getThrowable();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Runs the email address verification check, the password grant and the reading of the user's details one after another.
+     *
+     * @param aDto
+     *         the user's credentials.
+     * @return a {@code Mono} emitting the user's tokens and details.
+     */
+    private Mono< Tuple2< AuthenticationTokenDto, UserDetailsDto > > authenticateSequentially( AuthenticationRequestDto aDto ) {
+        return accountService.checkEmailVerification( aDto.getEmail() )
+                .then( grantToken( aDto ) )
+                .zipWhen( aToken -> findUserDetails( aDto.getEmail() ) );
+    }
+
+    /**
+     * Requests the password grant of the user. A grant completing without a token fails the login.
+     */
+    private Mono< AuthenticationTokenDto > grantToken( AuthenticationRequestDto aDto ) {
+        return keycloakConnectionService.authenticateUser( aDto.getEmail(), aDto.getPassword() )
+                .switchIfEmpty( Mono.error( () -> new AuthenticationFailedException( AccountsExcTranslationKey.AUTHENTICATION_FAILED,
+                                                                                     aDto.getEmail(), "No token has been granted" ) ) );
+    }
+
+    /**
+     * Reads the user's identity on a thread allowed to block. The login needs only the user's name, so the lookup
+     * is served by the index on the normalized email address. A lookup completing without the identity fails the login.
+     */
+    private Mono< UserDetailsDto > findUserDetails( String aEmailAddress ) {
+        return Mono.fromCallable( () -> userDetailsService.findUserIdentityByEmail( aEmailAddress ) )
+                .subscribeOn( Schedulers.boundedElastic() )
+                .switchIfEmpty( Mono.error( () -> new AuthenticationFailedException( AccountsExcTranslationKey.USER_DOES_NOT_EXIST ) ) );
+    }
+
+    /**
+     * Ends the session granted to the user whose login has failed. The failure of ending the session is only logged,
+     * so the login's failure is not replaced.
+     */
+    private Mono< Void > endGrantedSession( AuthenticationTokenDto aGrantedToken ) {
+        if ( aGrantedToken == null ) {
+            return Mono.empty();
+        }
+        return keycloakConnectionService.deleteSession( getSessionId( aGrantedToken.getAccessToken() ) )
+                .onErrorResume( aE -> {
+                    log.warn( "Failed to end the session granted to the user whose login has failed", aE );
+                    return Mono.empty();
+                } );
+    }
+
     /**
      * Terminates all active sessions associated with the user identified by the provided access token.
+     * The details of the sessions are then deleted in bulk and their in-memory state is forgotten.
      *
-     * @param aUserAccessToken
-     *         a non-null {@code String} that represents the access token of the user whose sessions are to be terminated.
+     * @param aUserAccessTokenClaims
+     *         a non-null view of the claims of the access token of the user whose sessions are to be terminated.
      * @return {@code true} if the user sessions were successfully terminated.
      */
     @Override
-    public boolean terminateAllSessions( @NonNull String aUserAccessToken ) {
-        requireNonNull( aUserAccessToken );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String userId = AccessTokenUtils.getUserId( aUserAccessToken );
-
-        WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( TERMINATE_ALL_USER_SESSIONS_TEMPLATE, realmName, userId );
-        String clientAccessToken = keycloakConnectionService.getClientAccessToken();
-
-        try {
-            client.post()
-                    .header( "Authorization", clientAccessToken )
-                    .contentType( MediaType.APPLICATION_FORM_URLENCODED )
-                    .bodyValue(
-                            "realm=" + realmName
-                                    + "&user-id=" + userId
-                    ).retrieve()
-                    .toBodilessEntity()
-                    .block();
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+    public boolean terminateAllSessions( @NonNull AccessTokenClaims aUserAccessTokenClaims ) {
+        requireNonNull( aUserAccessTokenClaims );
+        String userId = aUserAccessTokenClaims.getUserId();
+        keycloakConnectionService.terminateAllUserSessions( userId ).block();
 
+        userSessionDetailsService.deleteAllUserSessionDetails( userId );
         return true;
     }
 
     /**
      * Terminates the current user's session associated with the provided user access token.
      *
-     * @param aUserAccessToken
-     *         the access token of the user whose session needs to be terminated; must not be null
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token of the user whose session needs to be terminated; must not be null
      * @return true if the session is successfully terminated
      */
     @Override
-    public boolean terminateCurrentUserSession( @NonNull String aUserAccessToken ) {
-        requireNonNull( aUserAccessToken );
-        String sessionId = AccessTokenUtils.getSessionId( aUserAccessToken );
-        return terminateSession( aUserAccessToken, sessionId );
+    public boolean terminateCurrentUserSession( @NonNull AccessTokenClaims aUserAccessTokenClaims ) {
+        requireNonNull( aUserAccessTokenClaims );
+        return terminateSession( aUserAccessTokenClaims, aUserAccessTokenClaims.getSessionId() );
     }
 
     /**
      * Refreshes the user session by invalidating the current session and generating a new authentication token.
+     * Concurrent refreshes of the same session share a single request to the auth service and receive the same token,
+     * while the refreshes of different sessions run in parallel. No session lock is held while waiting for the auth service;
+     * the stored refresh token is rotated conditionally, so a concurrent rotation or removal of the session is not overwritten.
+     * The new token is remembered as the replacement of the refreshed one until the grace period passes after the refreshed one expires.
      *
      * @param aUserAccessToken
      *         the current access token associated with the session to be refreshed
@@ -238,15 +292,38 @@ class AuthenticationServiceImpl implements AuthenticationService {
      *         if {@code aAuthenticationRequestDto} or {@code aAccessToken} is null
      */
     @Override
-    @Synchronized
     public AuthenticationTokenDto refreshUserSession( @NonNull String aUserAccessToken ) {
-        log.info( "Refreshing user session details" );
         requireNonNull( aUserAccessToken );
         String sessionId = getSessionId( aUserAccessToken );
-        UserSessionDetails sessionDetails = getOptionalValue( userSessionDetailsRepository.findBySessionId( sessionId ) );
+        AuthenticationTokenDto refreshedToken = sessionRefreshes.execute( sessionId, () -> refreshSession( sessionId ) );
+        if ( refreshedToken != null ) {
+            supersededTokensService.registerReplacement( parseClaims( aUserAccessToken ), parseClaims( refreshedToken.getAccessToken() ) );
+        }
+        return refreshedToken;
+    }
+
+    /**
+     * Refreshes the session with the refresh token stored in the session details and saves the new tokens.
+     * Only the saving of the new tokens is serialized with the other mutations of the session.
+     * If the refresh fails, the cached session details are forgotten, as the stored refresh token may have been
+     * rotated or removed in the meantime.
+     *
+     * @param aSessionId
+     *         the identifier of the session to be refreshed.
+     * @return the refreshed token or null if there are no details of the session.
+     */
+    private AuthenticationTokenDto refreshSession( String aSessionId ) {
+        log.info( "Refreshing user session details" );
+        UserSessionDetailsDto sessionDetails = getOptionalValue( userSessionDetailsService.getUserSessionDetails( aSessionId ) );
 
         if ( sessionDetails != null ) {
-            AuthenticationTokenDto refreshedToken = keycloakConnectionService.sendRefreshTokenRequest( sessionDetails.getRefreshToken() );
+            AuthenticationTokenDto refreshedToken;
+            try {
+                refreshedToken = keycloakConnectionService.refreshSession( sessionDetails.getRefreshToken() ).block();
+            } catch ( RuntimeException aE ) {
+                userSessionDetailsService.invalidateCachedSessionDetails( aSessionId );
+                throw aE;
+            }
             userSessionDetailsService.updateSessionDetails( sessionDetails, refreshedToken );
             return refreshedToken;
         }
@@ -263,46 +340,33 @@ class AuthenticationServiceImpl implements AuthenticationService {
     @Override
     public void deleteUserSession( @NonNull String aSessionId ) {
         requireNonNull( aSessionId );
-        keycloakConnectionService.sendSessionDeletionRequest( aSessionId );
+        keycloakConnectionService.deleteSession( aSessionId ).block();
     }
 
     /**
      * Terminates an active user session with the given session ID.
      *
-     * @param aUserAccessToken
-     *         the access token used to authenticate the session termination request
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token used to authenticate the session termination request
      * @param aSessionId
      *         the unique identifier of the user session to be terminated
      * @return true if the session is successfully terminated
      */
     @Override
-    public boolean terminateSession( @NonNull String aUserAccessToken, @NonNull String aSessionId ) {
-        requireNonNull( aUserAccessToken );
+    public boolean terminateSession( @NonNull AccessTokenClaims aUserAccessTokenClaims, @NonNull String aSessionId ) {
+        requireNonNull( aUserAccessTokenClaims );
         requireNonNull( aSessionId );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String clientAccessToken = keycloakConnectionService.getClientAccessToken();
-
-        try {
-            WebClient client = keycloakConnectionService.getAuthServiceConnectionWebClient( TERMINATE_USER_SESSION_TEMPLATE, realmName, aSessionId );
-            client.delete()
-                    .header( "Authorization", clientAccessToken )
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+        keycloakConnectionService.terminateUserSession( aSessionId ).block();
 
+        tokenRevocationRegistry.revokeSession( aSessionId );
         userSessionDetailsService.deleteSessionDetails( aSessionId );
         return true;
     }
 
-    private UserDetailsDto createInnerUserDetails( @NonNull String aAccessToken, @NonNull RegistrationRequestDto aDto ) {
+    private UserDetailsDto createInnerUserDetails( @NonNull AccountDto aCreatedAccount, @NonNull RegistrationRequestDto aDto ) {
+        requireNonNull( aCreatedAccount );
         requireNonNull( aDto );
-        AccountDto retrievedAccount = accountService.getAccountByEmailAddress( aAccessToken, aDto.getEmail() );
-        UserDetailsDto userDetailsDto = UserDetailsMapper.mapToDto( retrievedAccount, aDto );
+        UserDetailsDto userDetailsDto = UserDetailsMapper.mapToDto( aCreatedAccount, aDto );
         return userDetailsService.createUserDetails( userDetailsDto );
     }
 
@@ -1,29 +1,63 @@
 package com.goaleaf.accounts.service.impl;
 
 import com.github.pplociennik.commons.lang.CommonsResExcMsgTranslationKey;
-import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.data.dto.auth.RegistrationRequestDto;
+import com.goaleaf.accounts.data.dto.keycloak.AccountDto;
+import com.goaleaf.accounts.data.dto.keycloak.key.JsonWebKeySetDto;
+import com.goaleaf.accounts.data.dto.keycloak.session.UserSessionRepresentationDto;
 import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
 import com.goaleaf.accounts.data.dto.response.KeycloakErrorResponseDto;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.KeycloakReactiveConnectionService;
 import com.goaleaf.accounts.service.KeycloakServiceConnectionService;
+import com.goaleaf.accounts.system.exc.auth.AuthenticationFailedException;
+import com.goaleaf.accounts.system.exc.auth.RegistrationFailedException;
 import com.goaleaf.accounts.system.exc.request.KeycloakActionRequestFailedException;
+import com.goaleaf.accounts.system.exc.request.KeycloakResourceRequestFailedException;
 import com.goaleaf.accounts.system.exc.request.TokenRefreshFailedException;
+import com.goaleaf.accounts.system.lang.AccountsExcTranslationKey;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
 import com.goaleaf.accounts.system.util.AccessTokenUtils;
 import com.goaleaf.accounts.system.util.KeycloakUrlTemplates;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClientRequest;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-import static com.goaleaf.accounts.system.properties.AccountsSystemProperties.*;
 import static com.goaleaf.accounts.system.util.KeycloakUrlTemplates.*;
-import static com.goaleaf.accounts.system.util.UrlTemplatesResolverUtil.resolveUrlTemplate;
+import static com.goaleaf.accounts.system.util.UrlTemplatesResolverUtil.resolveUriTemplate;
+import static com.goaleaf.accounts.system.util.UrlTemplatesResolverUtil.resolveUriVariables;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -32,43 +66,266 @@ import static java.util.Objects.requireNonNull;
  * <p>
  * This service provides methods to send authentication requests and to establish connections with
  * the authentication service using the WebClient API. The specific connection details are managed
- * using configuration properties.
+ * using configuration properties. A single client sharing the pooled connector is built once per auth service base URL
+ * and used for all the requests; the endpoint's path, the response timeout and the timer's template are set per request.
  * <p>
  * Constants:
  * - REGISTER_URL_TEMPLATE: Template for the Keycloak user registration endpoint URL.
  * - AUTHENTICATION_URL_TEMPLATE: Template for the Keycloak authentication endpoint URL.
  * <p>
  * Dependencies:
- * - {@link SystemPropertiesReaderService}: Service used to read system properties for constructing
+ * - {@link AccountsConfigurationService}: Service providing the configuration used for constructing
  * the necessary URLs and settings.
+ * <p>
+ * The client access token is kept in memory and refreshed in the background before it expires. Concurrent callers
+ * needing a new token share a single, non-blocking client authentication request. A request rejected with 401 while carrying
+ * the client access token triggers a forced refresh and is retried once with the new token.
+ * <p>
+ * Every request is implemented as the non-blocking operation of {@link KeycloakReactiveConnectionService};
+ * the blocking methods of {@link KeycloakServiceConnectionService} only wait for the results of those operations.
  */
 @Log4j2
 @Service
-@AllArgsConstructor
-class KeycloakConnectionServiceImpl implements KeycloakServiceConnectionService {
+class KeycloakConnectionServiceImpl implements KeycloakServiceConnectionService, KeycloakReactiveConnectionService {
+
+    /**
+     * The time before the client access token's expiration at which the token is refreshed.
+     */
+    private static final Duration CLIENT_ACCESS_TOKEN_REFRESH_MARGIN = Duration.ofSeconds( 30 );
+
+    /**
+     * The minimal delay of the background refresh of the client access token.
+     */
+    private static final Duration CLIENT_ACCESS_TOKEN_MIN_REFRESH_DELAY = Duration.ofSeconds( 5 );
+
+    /**
+     * The name of the timers measuring the requests to the auth service.
+     */
+    private static final String KEYCLOAK_REQUESTS_TIMER_NAME = "keycloak.client.requests";
+
+    /**
+     * The lifespan of the email address confirmation link in seconds.
+     */
+    private static final String EMAIL_ADDRESS_CONFIRMATION_LINK_LIFESPAN = "86400";
+
+    /**
+     * The name of the request attribute holding the template of the requested endpoint, read by the timing filter.
+     */
+    private static final String URL_TEMPLATE_ATTRIBUTE = KeycloakUrlTemplates.class.getName();
+
+    /**
+     * A service providing the current snapshot of the configuration.
+     */
+    private final AccountsConfigurationService accountsConfigurationService;
+
+    /**
+     * Provides the current system time for checking the client access token's expiration.
+     */
+    private final TimeService timeService;
+
+    /**
+     * The pooled connector shared by all the clients communicating with the auth service.
+     */
+    private final ClientHttpConnector keycloakClientHttpConnector;
+
+    /**
+     * A registry of the per-template request timers.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The long-lived clients mapped by the auth service base URL.
+     */
+    private final Map< String, WebClient > webClients = new ConcurrentHashMap<>();
 
     /**
-     * A service responsible for reading and accessing system properties.
+     * The currently held client access token, null until fetched for the first time.
      */
-    private final SystemPropertiesReaderService systemPropertiesReaderService;
+    private final AtomicReference< ClientAccessToken > clientAccessToken = new AtomicReference<>();
 
     /**
-     * Creates and retrieves a configured instance of a {@code WebClient} for interacting with
-     * an authentication service using the specified {@code KeycloakUrlTemplates} and parameters.
+     * The result of the pending client authentication request shared by the concurrent callers, null if there is none.
+     */
+    private final AtomicReference< Sinks.One< ClientAccessToken > > pendingClientAccessTokenFetch = new AtomicReference<>();
+
+    /**
+     * Runs the background refreshes of the client access token.
+     */
+    private final ScheduledExecutorService clientAccessTokenRefreshScheduler;
+
+    /**
+     * The currently scheduled background refresh of the client access token, null if there is none.
+     */
+    private final AtomicReference< ScheduledFuture< ? > > scheduledClientAccessTokenRefresh = new AtomicReference<>();
+
+    /**
+     * A constructor.
+     *
+     * @param aAccountsConfigurationService
+     *         a service providing the current snapshot of the configuration.
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aKeycloakClientHttpConnector
+     *         the pooled connector used for the communication with the auth service.
+     * @param aMeterRegistry
+     *         a registry of the request timers.
+     */
+    KeycloakConnectionServiceImpl( @NonNull AccountsConfigurationService aAccountsConfigurationService, @NonNull TimeService aTimeService,
+                                   @NonNull ClientHttpConnector aKeycloakClientHttpConnector, @NonNull MeterRegistry aMeterRegistry ) {
+        accountsConfigurationService = requireNonNull( aAccountsConfigurationService );
+        timeService = requireNonNull( aTimeService );
+        keycloakClientHttpConnector = requireNonNull( aKeycloakClientHttpConnector );
+        meterRegistry = requireNonNull( aMeterRegistry );
+        clientAccessTokenRefreshScheduler = Executors.newSingleThreadScheduledExecutor( aRunnable -> {
+            Thread thread = new Thread( aRunnable, "client-access-token-refresh" );
+            thread.setDaemon( true );
+            return thread;
+        } );
+    }
+
+    /**
+     * Stops the background refreshes of the client access token.
+     */
+    @PreDestroy
+    void shutdown() {
+        clientAccessTokenRefreshScheduler.shutdownNow();
+    }
+
+    /**
+     * Prepares a request to the endpoint of the authentication service specified by the {@code KeycloakUrlTemplates}
+     * and parameters.
+     * <p>
+     * The request is sent with the long-lived client of the auth service base URL, sharing its connection pool
+     * and filters. The endpoint's path is expressed as a URI template with the parameters as its variables,
+     * so the parameters are encoded and the requests are timed per template.
      *
+     * @param aMethod
+     *         a non-null HTTP method of the request.
      * @param aUrlTemplate
      *         a non-null {@code KeycloakUrlTemplates} object representing the URL template for the authentication service endpoint.
      * @param aParameters
      *         a non-null varargs array of {@code Object} containing parameters to format the URL template.
-     * @return a configured {@code WebClient} instance for connecting to the authentication service.
+     * @return the request ready to be completed with the headers and the body.
      */
     @Override
-    public WebClient getAuthServiceConnectionWebClient( @NonNull KeycloakUrlTemplates aUrlTemplate, @NonNull Object... aParameters ) {
+    public WebClient.RequestBodySpec prepareAuthServiceRequest( @NonNull HttpMethod aMethod, @NonNull KeycloakUrlTemplates aUrlTemplate, @NonNull Object... aParameters ) {
+        requireNonNull( aMethod );
         requireNonNull( aUrlTemplate );
         requireNonNull( aParameters );
-        String keycloakBaseUrl = systemPropertiesReaderService.readProperty( AUTH_SERVICE_URL );
-        String forwardingUrl = resolveUrlTemplate( aUrlTemplate, aParameters );
-        return WebClient.builder().baseUrl( keycloakBaseUrl + "/" + forwardingUrl ).build();
+        return prepareRequest( aMethod, aUrlTemplate, Map.of(), aParameters );
+    }
+
+    /**
+     * Prepares a request to the endpoint of the authentication service with the provided query parameters.
+     *
+     * @param aMethod
+     *         the HTTP method of the request.
+     * @param aUrlTemplate
+     *         the endpoint's template.
+     * @param aQueryParameters
+     *         the query parameters of the request.
+     * @param aParameters
+     *         the parameters of the template.
+     * @return the request ready to be completed with the headers and the body.
+     */
+    private WebClient.RequestBodySpec prepareRequest( HttpMethod aMethod, KeycloakUrlTemplates aUrlTemplate, Map< String, String > aQueryParameters,
+                                                      Object... aParameters ) {
+        String uriTemplate = resolveUriTemplate( aUrlTemplate );
+        Map< String, Object > uriVariables = resolveUriVariables( aUrlTemplate, aParameters );
+        Duration responseTimeout = getResponseTimeout( aUrlTemplate );
+        WebClient.RequestBodyUriSpec request = getWebClient().method( aMethod );
+        WebClient.RequestBodySpec requestWithUri = aQueryParameters.isEmpty()
+                                                   ? request.uri( uriTemplate, uriVariables )
+                                                   : request.uri( aUriBuilder -> {
+                                                       aUriBuilder.path( uriTemplate );
+                                                       aQueryParameters.forEach( aUriBuilder::queryParam );
+                                                       return aUriBuilder.build( uriVariables );
+                                                   } );
+        return requestWithUri
+                .attribute( URL_TEMPLATE_ATTRIBUTE, aUrlTemplate )
+                .httpRequest( aHttpRequest -> aHttpRequest.< HttpClientRequest >getNativeRequest().responseTimeout( responseTimeout ) );
+    }
+
+    /**
+     * Retrieves the long-lived client of the currently configured auth service base URL, creating it on the first use.
+     *
+     * @return the client.
+     */
+    private WebClient getWebClient() {
+        String keycloakBaseUrl = accountsConfigurationService.getConfiguration().getAuthServiceUrl();
+        WebClient client = webClients.get( keycloakBaseUrl );
+        return client != null ? client : webClients.computeIfAbsent( keycloakBaseUrl, this::createWebClient );
+    }
+
+    /**
+     * Creates the long-lived client of the specified auth service base URL. The requests rejected because of
+     * the client access token are retried by the outer filter, and each attempt is timed by the inner one.
+     *
+     * @param aKeycloakBaseUrl
+     *         the auth service base URL.
+     * @return the client.
+     */
+    private WebClient createWebClient( String aKeycloakBaseUrl ) {
+        log.info( "Creating the auth service client for: {}", aKeycloakBaseUrl );
+        return WebClient.builder()
+                .clientConnector( keycloakClientHttpConnector )
+                .baseUrl( aKeycloakBaseUrl )
+                .filter( renewRejectedClientAccessToken() )
+                .filter( recordRequestTime() )
+                .build();
+    }
+
+    /**
+     * Retrieves the response timeout of the requests sent to the endpoint of the specified template.
+     *
+     * @param aUrlTemplate
+     *         the endpoint's template.
+     * @return the response timeout.
+     */
+    private Duration getResponseTimeout( KeycloakUrlTemplates aUrlTemplate ) {
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        return aUrlTemplate.isSendingEmail()
+               ? configuration.getKeycloakClientEmailResponseTimeout()
+               : configuration.getKeycloakClientResponseTimeout();
+    }
+
+    /**
+     * Creates a filter recording the time of the requests sent to the auth service. The timers are tagged with
+     * the template of the requested endpoint, the HTTP method and the response status (or the error type).
+     * The requests sent without the template are not timed.
+     *
+     * @return the filter function.
+     */
+    private ExchangeFilterFunction recordRequestTime() {
+        return ( aRequest, aNext ) -> {
+            if ( !( aRequest.attribute( URL_TEMPLATE_ATTRIBUTE ).orElse( null ) instanceof KeycloakUrlTemplates aUrlTemplate ) ) {
+                return aNext.exchange( aRequest );
+            }
+            Timer.Sample sample = Timer.start( meterRegistry );
+            return aNext.exchange( aRequest )
+                    .doOnSuccess( aResponse -> sample.stop( getRequestTimer( aUrlTemplate, aRequest, aResponse != null ? String.valueOf( aResponse.statusCode().value() ) : "NONE" ) ) )
+                    .doOnError( aE -> sample.stop( getRequestTimer( aUrlTemplate, aRequest, aE.getClass().getSimpleName() ) ) );
+        };
+    }
+
+    /**
+     * Retrieves the timer of the requests sent to the endpoint of the specified template.
+     *
+     * @param aUrlTemplate
+     *         the endpoint's template.
+     * @param aRequest
+     *         the timed request.
+     * @param aStatus
+     *         the response status or the error type.
+     * @return the timer.
+     */
+    private Timer getRequestTimer( KeycloakUrlTemplates aUrlTemplate, ClientRequest aRequest, String aStatus ) {
+        return Timer.builder( KEYCLOAK_REQUESTS_TIMER_NAME )
+                .description( "Requests sent to the auth service" )
+                .tag( "template", aUrlTemplate.name() )
+                .tag( "method", aRequest.method().name() )
+                .tag( "status", aStatus )
+                .register( meterRegistry );
     }
 
     /**
@@ -81,31 +338,7 @@ class KeycloakConnectionServiceImpl implements KeycloakServiceConnectionService
      */
     @Override
     public AuthenticationTokenDto sendRefreshTokenRequest( @NonNull String aRefreshToken ) {
-        requireNonNull( aRefreshToken );
-        final String grantType = "refresh_token";
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String clientId = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_ID );
-        String clientSecret = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_SECRET );
-
-        WebClient client = getAuthServiceConnectionWebClient( REFRESH_SESSION_URL_TEMPLATE, realmName );
-
-        try {
-            return client.post()
-                    .contentType( MediaType.APPLICATION_FORM_URLENCODED )
-                    .bodyValue(
-                            "grant_type=" + grantType
-                                    + "&client_id=" + clientId
-                                    + "&client_secret=" + clientSecret
-                                    + "&refresh_token=" + aRefreshToken
-                    )
-                    .retrieve()
-                    .bodyToMono( AuthenticationTokenDto.class )
-                    .block();
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new TokenRefreshFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+        return refreshSession( aRefreshToken ).block();
     }
 
     /**
@@ -117,31 +350,7 @@ class KeycloakConnectionServiceImpl implements KeycloakServiceConnectionService
      */
     @Override
     public boolean sendTokenIntrospectionRequest( @NonNull String aToken ) {
-        requireNonNull( aToken );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        WebClient client = getAuthServiceConnectionWebClient( INTROSPECT_TOKEN_TEMPLATE, realmName );
-
-        String clientId = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_ID );
-        String clientSecret = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_SECRET );
-        String credentials = Base64.getEncoder().encodeToString( ( clientId + ":" + clientSecret ).getBytes() );
-
-        try {
-            return Boolean.TRUE.equals( client.post()
-                    .header( "Authorization", "Basic " + credentials )
-                    .contentType( MediaType.APPLICATION_FORM_URLENCODED )
-                    .bodyValue( "token=" + aToken )
-                    .retrieve()
-                    .bodyToMono( new ParameterizedTypeReference< Map< String, Object > >() {
-                    } )
-                    .map( responseMap -> ( boolean ) responseMap.getOrDefault( "active", false ) )
-                    .onErrorReturn( false )
-                    .block() );
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
-
+        return Boolean.TRUE.equals( introspectToken( aToken ).block() );
     }
 
     /**
@@ -153,64 +362,597 @@ class KeycloakConnectionServiceImpl implements KeycloakServiceConnectionService
      */
     @Override
     public void sendSessionDeletionRequest( @NonNull String aSessionId ) {
+        deleteSession( aSessionId ).block();
+    }
+
+    /**
+     * Sends a request for the JSON Web Key Set currently published by the realm.
+     * The keys are used for the local verification of the access tokens' signatures.
+     *
+     * @return a {@code JsonWebKeySetDto} containing the public keys of the realm.
+     */
+    @Override
+    public JsonWebKeySetDto sendRealmKeysRequest() {
+        return getRealmKeys().block();
+    }
+
+    /**
+     * Retrieves the client access token, prefixed with the access token prefix. The token held in memory is emitted
+     * immediately as long as it is not about to expire; otherwise the token is fetched without blocking,
+     * once for all the concurrent callers.
+     *
+     * @return a {@code Mono} emitting the client access token.
+     */
+    @Override
+    public Mono< String > retrieveClientAccessToken() {
+        return Mono.defer( () -> {
+            ClientAccessToken currentToken = clientAccessToken.get();
+            if ( currentToken != null && isUsable( currentToken ) ) {
+                return Mono.just( currentToken.getHeaderValue() );
+            }
+            log.info( "Getting Client Access Token" );
+            return fetchClientAccessToken().map( ClientAccessToken::getHeaderValue );
+        } );
+    }
+
+    /**
+     * Authenticates the client with the configured grant.
+     *
+     * @return a {@code Mono} emitting the client's tokens.
+     */
+    @Override
+    public Mono< AuthenticationTokenDto > authenticateClient() {
+        log.info( "Sending Client Authentication Request" );
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        return prepareAuthServiceRequest( HttpMethod.POST, AUTHENTICATION_URL_TEMPLATE, configuration.getRealmName() )
+                .contentType( MediaType.APPLICATION_FORM_URLENCODED )
+                .bodyValue(
+                        "grant_type=" + configuration.getGrantType()
+                                + "&client_id=" + configuration.getClientId()
+                                + "&client_secret=" + configuration.getClientSecret()
+                                + "&scope=" + configuration.getScope()
+                )
+                .retrieve()
+                .bodyToMono( AuthenticationTokenDto.class )
+                .onErrorMap( WebClientResponseException.class, KeycloakConnectionServiceImpl::toActionRequestFailedException );
+    }
+
+    /**
+     * Authenticates the user with the password grant.
+     *
+     * @param aEmailAddress
+     *         a non-null email address of the user.
+     * @param aPassword
+     *         a non-null password of the user.
+     * @return a {@code Mono} emitting the tokens of the new session or signalling the {@link AuthenticationFailedException}.
+     */
+    @Override
+    public Mono< AuthenticationTokenDto > authenticateUser( @NonNull String aEmailAddress, @NonNull String aPassword ) {
+        requireNonNull( aEmailAddress );
+        requireNonNull( aPassword );
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        return prepareAuthServiceRequest( HttpMethod.POST, AUTHENTICATION_URL_TEMPLATE, configuration.getRealmName() )
+                .contentType( MediaType.APPLICATION_FORM_URLENCODED )
+                .bodyValue(
+                        "grant_type=password"
+                                + "&client_id=" + configuration.getClientId()
+                                + "&client_secret=" + configuration.getClientSecret()
+                                + "&username=" + aEmailAddress
+                                + "&password=" + aPassword
+                )
+                .retrieve()
+                .bodyToMono( AuthenticationTokenDto.class )
+                .onErrorMap( WebClientResponseException.class, aE -> mapErrorResponse( aE, aErrorResponse ->
+                        new AuthenticationFailedException( AccountsExcTranslationKey.AUTHENTICATION_FAILED, aEmailAddress, aErrorResponse.getErrorDescription() ) ) );
+    }
+
+    /**
+     * Refreshes the tokens of the session.
+     *
+     * @param aRefreshToken
+     *         a non-null refresh token of the session.
+     * @return a {@code Mono} emitting the refreshed tokens or signalling the {@link TokenRefreshFailedException}.
+     */
+    @Override
+    public Mono< AuthenticationTokenDto > refreshSession( @NonNull String aRefreshToken ) {
+        requireNonNull( aRefreshToken );
+        final String grantType = "refresh_token";
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        return prepareAuthServiceRequest( HttpMethod.POST, REFRESH_SESSION_URL_TEMPLATE, configuration.getRealmName() )
+                .contentType( MediaType.APPLICATION_FORM_URLENCODED )
+                .bodyValue(
+                        "grant_type=" + grantType
+                                + "&client_id=" + configuration.getClientId()
+                                + "&client_secret=" + configuration.getClientSecret()
+                                + "&refresh_token=" + aRefreshToken
+                )
+                .retrieve()
+                .bodyToMono( AuthenticationTokenDto.class )
+                .onErrorMap( WebClientResponseException.class, aE -> mapErrorResponse( aE, aErrorResponse ->
+                        new TokenRefreshFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, aErrorResponse.getErrorDescription() ) ) );
+    }
+
+    /**
+     * Introspects the token.
+     *
+     * @param aToken
+     *         a non-null token to be introspected.
+     * @return a {@code Mono} emitting {@code true} if the token is active, {@code false} if it is not or the introspection failed.
+     */
+    @Override
+    public Mono< Boolean > introspectToken( @NonNull String aToken ) {
+        requireNonNull( aToken );
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        String credentials = Base64.getEncoder().encodeToString( ( configuration.getClientId() + ":" + configuration.getClientSecret() ).getBytes() );
+
+        return prepareAuthServiceRequest( HttpMethod.POST, INTROSPECT_TOKEN_TEMPLATE, configuration.getRealmName() )
+                .header( "Authorization", "Basic " + credentials )
+                .contentType( MediaType.APPLICATION_FORM_URLENCODED )
+                .bodyValue( "token=" + aToken )
+                .retrieve()
+                .bodyToMono( new ParameterizedTypeReference< Map< String, Object > >() {
+                } )
+                .map( responseMap -> ( boolean ) responseMap.getOrDefault( "active", false ) )
+                .onErrorReturn( false );
+    }
+
+    /**
+     * Retrieves the JSON Web Key Set published by the realm.
+     *
+     * @return a {@code Mono} emitting the public keys of the realm.
+     */
+    @Override
+    public Mono< JsonWebKeySetDto > getRealmKeys() {
+        log.info( "Sending Realm Keys Request" );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return prepareAuthServiceRequest( HttpMethod.GET, GET_REALM_CERTS_TEMPLATE, realmName )
+                .retrieve()
+                .bodyToMono( JsonWebKeySetDto.class )
+                .onErrorMap( WebClientResponseException.class, KeycloakConnectionServiceImpl::toActionRequestFailedException );
+    }
+
+    /**
+     * Creates the user account.
+     *
+     * @param aRegistrationRequestDto
+     *         non-null data of the account.
+     * @return a {@code Mono} completing when the account has been created or signalling the {@link RegistrationFailedException}.
+     */
+    @Override
+    public Mono< Void > createAccount( @NonNull RegistrationRequestDto aRegistrationRequestDto ) {
+        requireNonNull( aRegistrationRequestDto );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return retrieveClientAccessToken()
+                .flatMap( aClientAccessToken -> prepareAuthServiceRequest( HttpMethod.POST, REGISTRATION_URL_TEMPLATE, realmName )
+                        .header( "Authorization", aClientAccessToken )
+                        .contentType( MediaType.APPLICATION_JSON )
+                        .bodyValue( aRegistrationRequestDto )
+                        .retrieve()
+                        .toBodilessEntity() )
+                .then()
+                .onErrorMap( WebClientResponseException.class, aE -> mapErrorResponse( aE, aErrorResponse ->
+                        new RegistrationFailedException( AccountsExcTranslationKey.REGISTRATION_FAILED, aErrorResponse.getError() ) ) );
+    }
+
+    /**
+     * Finds the accounts with the email address, authorized with the client access token.
+     *
+     * @param aEmailAddress
+     *         a non-null email address.
+     * @return a {@code Flux} of the matching accounts.
+     */
+    @Override
+    public Flux< AccountDto > findAccountsByEmailAddress( @NonNull String aEmailAddress ) {
+        requireNonNull( aEmailAddress );
+        return retrieveClientAccessToken()
+                .flatMapMany( aClientAccessToken -> findAccountsByEmailAddress( aClientAccessToken, aEmailAddress ) );
+    }
+
+    /**
+     * Finds the accounts with the email address, authorized with the provided access token.
+     *
+     * @param aAccessToken
+     *         a non-null access token with the prefix.
+     * @param aEmailAddress
+     *         a non-null email address.
+     * @return a {@code Flux} of the matching accounts.
+     */
+    @Override
+    public Flux< AccountDto > findAccountsByEmailAddress( @NonNull String aAccessToken, @NonNull String aEmailAddress ) {
+        requireNonNull( aAccessToken );
+        requireNonNull( aEmailAddress );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return prepareRequest( HttpMethod.GET, GET_LIST_OF_ACCOUNTS_TEMPLATE, Map.of( "email", aEmailAddress ), realmName )
+                .header( "Authorization", aAccessToken )
+                .retrieve()
+                .bodyToFlux( AccountDto.class )
+                .onErrorMap( WebClientResponseException.class, KeycloakConnectionServiceImpl::toResourceRequestFailedException );
+    }
+
+    /**
+     * Deletes the user account.
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @return a {@code Mono} completing when the account has been deleted.
+     */
+    @Override
+    public Mono< Void > deleteAccount( @NonNull String aUserId ) {
+        requireNonNull( aUserId );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return sendAdminAction( () -> prepareAuthServiceRequest( HttpMethod.DELETE, DELETE_USER_TEMPLATE, realmName, aUserId ) );
+    }
+
+    /**
+     * Sends the email address verification message to the user.
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @param aRedirectUri
+     *         a non-null URI the user is redirected to after the verification.
+     * @return a {@code Mono} completing when the message has been sent.
+     */
+    @Override
+    public Mono< Void > sendEmailAddressVerificationMessage( @NonNull String aUserId, @NonNull String aRedirectUri ) {
+        requireNonNull( aUserId );
+        requireNonNull( aRedirectUri );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return sendAdminAction( () -> prepareAuthServiceRequest( HttpMethod.PUT, SEND_EMAIL_ADDRESS_VERIFICATION_MESSAGE_TEMPLATE, realmName, aUserId )
+                .contentType( MediaType.APPLICATION_JSON )
+                .bodyValue( Map.of(
+                        "lifespan", EMAIL_ADDRESS_CONFIRMATION_LINK_LIFESPAN,
+                        "redirect_uri", aRedirectUri
+                ) ) );
+    }
+
+    /**
+     * Verifies the email address with the token sent to the user.
+     *
+     * @param aEmailConfirmationToken
+     *         a non-null email confirmation token.
+     * @return a {@code Mono} completing when the email address has been verified.
+     */
+    @Override
+    public Mono< Void > verifyEmailAddress( @NonNull String aEmailConfirmationToken ) {
+        requireNonNull( aEmailConfirmationToken );
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        String clientId = configuration.getClientId();
+        return prepareRequest( HttpMethod.GET, VERIFY_ACCOUNT_EMAIL_ADDRESS_TEMPLATE, Map.of( "key", aEmailConfirmationToken, "client_id", clientId ),
+                               configuration.getRealmName() )
+                .retrieve()
+                .toBodilessEntity()
+                .then()
+                .onErrorMap( WebClientResponseException.class, KeycloakConnectionServiceImpl::toActionRequestFailedException );
+    }
+
+    /**
+     * Sends the credentials reset message to the user.
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @return a {@code Mono} completing when the message has been sent.
+     */
+    @Override
+    public Mono< Void > sendCredentialsResetMessage( @NonNull String aUserId ) {
+        requireNonNull( aUserId );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return sendAdminAction( () -> prepareAuthServiceRequest( HttpMethod.PUT, RESET_ACCOUNT_CREDENTIALS_TEMPLATE, realmName, aUserId )
+                .bodyValue( List.of( "UPDATE_PASSWORD" ) ) );
+    }
+
+    /**
+     * Changes the password of the user.
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @param aNewPassword
+     *         a non-null new password.
+     * @return a {@code Mono} completing when the password has been changed.
+     */
+    @Override
+    public Mono< Void > changePassword( @NonNull String aUserId, @NonNull String aNewPassword ) {
+        requireNonNull( aUserId );
+        requireNonNull( aNewPassword );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+
+        Map< String, Object > passwordData = new HashMap<>();
+        passwordData.put( "type", "password" );
+        passwordData.put( "value", aNewPassword );
+        passwordData.put( "temporary", false );
+
+        return sendAdminAction( () -> prepareAuthServiceRequest( HttpMethod.PUT, CHANGE_ACCOUNT_CREDENTIALS_TEMPLATE, realmName, aUserId )
+                .contentType( MediaType.APPLICATION_JSON )
+                .bodyValue( passwordData ) );
+    }
+
+    /**
+     * Retrieves the active sessions of the user.
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @return a {@code Flux} of the user's sessions.
+     */
+    @Override
+    public Flux< UserSessionRepresentationDto > getUserSessions( @NonNull String aUserId ) {
+        requireNonNull( aUserId );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return retrieveClientAccessToken()
+                .flatMapMany( aClientAccessToken -> prepareAuthServiceRequest( HttpMethod.GET, GET_ALL_SESSIONS_URL_TEMPLATE, realmName, aUserId )
+                        .header( "Authorization", aClientAccessToken )
+                        .retrieve()
+                        .bodyToFlux( UserSessionRepresentationDto.class ) )
+                .onErrorMap( WebClientResponseException.class, KeycloakConnectionServiceImpl::toResourceRequestFailedException );
+    }
+
+    /**
+     * Terminates all the sessions of the user.
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     * @return a {@code Mono} completing when the sessions have been terminated.
+     */
+    @Override
+    public Mono< Void > terminateAllUserSessions( @NonNull String aUserId ) {
+        requireNonNull( aUserId );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return sendAdminAction( () -> prepareAuthServiceRequest( HttpMethod.POST, TERMINATE_ALL_USER_SESSIONS_TEMPLATE, realmName, aUserId )
+                .contentType( MediaType.APPLICATION_FORM_URLENCODED )
+                .bodyValue(
+                        "realm=" + realmName
+                                + "&user-id=" + aUserId
+                ) );
+    }
+
+    /**
+     * Terminates the session.
+     *
+     * @param aSessionId
+     *         a non-null identifier of the session.
+     * @return a {@code Mono} completing when the session has been terminated.
+     */
+    @Override
+    public Mono< Void > terminateUserSession( @NonNull String aSessionId ) {
         requireNonNull( aSessionId );
-        String clientAccessToken = getClientAccessToken();
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return sendAdminAction( () -> prepareAuthServiceRequest( HttpMethod.DELETE, TERMINATE_USER_SESSION_TEMPLATE, realmName, aSessionId ) );
+    }
 
-        WebClient client = getAuthServiceConnectionWebClient( DELETE_SESSION_TEMPLATE, realmName, aSessionId );
-        try {
-            client.delete()
-                    .header( "Authorization", clientAccessToken )
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            log.debug( errorResponse.getErrorDescription() );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
-        }
+    /**
+     * Deletes the session which is no longer valid and cannot be refreshed.
+     *
+     * @param aSessionId
+     *         a non-null identifier of the session.
+     * @return a {@code Mono} completing when the session has been deleted.
+     */
+    @Override
+    public Mono< Void > deleteSession( @NonNull String aSessionId ) {
+        requireNonNull( aSessionId );
+        String realmName = accountsConfigurationService.getConfiguration().getRealmName();
+        return sendAdminAction( () -> prepareAuthServiceRequest( HttpMethod.DELETE, DELETE_SESSION_TEMPLATE, realmName, aSessionId ) );
+    }
+
+    /**
+     * Sends the bodiless admin action authorized with the client access token. The error responses are signalled
+     * as the {@link KeycloakActionRequestFailedException}.
+     *
+     * @param aRequest
+     *         the supplier of the prepared request, called once per subscription.
+     * @return a {@code Mono} completing when the action has been performed.
+     */
+    private Mono< Void > sendAdminAction( Supplier< WebClient.RequestHeadersSpec< ? > > aRequest ) {
+        return retrieveClientAccessToken()
+                .flatMap( aClientAccessToken -> aRequest.get()
+                        .header( "Authorization", aClientAccessToken )
+                        .retrieve()
+                        .toBodilessEntity() )
+                .then()
+                .onErrorMap( WebClientResponseException.class, KeycloakConnectionServiceImpl::toActionRequestFailedException );
+    }
+
+    /**
+     * Creates the exception of the error response of the auth service.
+     *
+     * @param aE
+     *         the exception of the error response.
+     * @param aExceptionFactory
+     *         the factory of the exception from the response's body.
+     * @return the created exception.
+     */
+    private static RuntimeException mapErrorResponse( WebClientResponseException aE, Function< KeycloakErrorResponseDto, RuntimeException > aExceptionFactory ) {
+        KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
+        requireNonNull( errorResponse );
+        return aExceptionFactory.apply( errorResponse );
+    }
+
+    private static RuntimeException toActionRequestFailedException( WebClientResponseException aE ) {
+        return mapErrorResponse( aE, aErrorResponse ->
+                new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, aErrorResponse.getErrorDescription() ) );
+    }
+
+    private static RuntimeException toResourceRequestFailedException( WebClientResponseException aE ) {
+        return mapErrorResponse( aE, aErrorResponse ->
+                new KeycloakResourceRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, aErrorResponse.getErrorDescription() ) );
     }
 
     /**
-     * Retrieves the client access token by sending a client authentication request.
+     * Retrieves the client access token, waiting for the result of {@link #retrieveClientAccessToken()}.
      * The token is returned with a predefined prefix.
      *
      * @return the client access token prefixed with the defined access token prefix
      */
     @Override
     public String getClientAccessToken() {
-        log.info( "Getting Client Access Token" );
-        AuthenticationTokenDto authenticationTokenDto = sendClientAuthenticationRequest();
-        return AccessTokenUtils.ACCESS_TOKEN_PREFIX + " " + authenticationTokenDto.getAccessToken();
+        return retrieveClientAccessToken().block();
     }
 
-    private AuthenticationTokenDto sendClientAuthenticationRequest() {
-        log.info( "Sending Client Authentication Request" );
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String clientId = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_ID );
-        String clientSecret = systemPropertiesReaderService.readProperty( KEYCLOAK_CLIENT_SECRET );
-        String grantType = systemPropertiesReaderService.readProperty( KEYCLOAK_GRANT_TYPE );
-        String scope = systemPropertiesReaderService.readProperty( KEYCLOAK_SCOPE );
+    /**
+     * Checks whether the client access token may still be handed out, i.e. it does not expire within the refresh margin.
+     *
+     * @param aToken
+     *         the client access token.
+     * @return true if the token may be used, false otherwise.
+     */
+    private boolean isUsable( ClientAccessToken aToken ) {
+        Instant now = timeService.getCurrentSystemDateTime().toInstant();
+        return now.plus( CLIENT_ACCESS_TOKEN_REFRESH_MARGIN ).isBefore( aToken.getExpirationTime() );
+    }
+
+    /**
+     * Fetches a new client access token. When a fetch is already in progress, its result is emitted instead of
+     * sending another request. The request is not cancelled by the subscribers, so the concurrent callers waiting
+     * for its result are not affected when the one which started it gives up.
+     *
+     * @return a {@code Mono} emitting the new client access token.
+     */
+    private Mono< ClientAccessToken > fetchClientAccessToken() {
+        return Mono.defer( () -> {
+            Sinks.One< ClientAccessToken > fetch = Sinks.one();
+            Sinks.One< ClientAccessToken > pendingFetch = pendingClientAccessTokenFetch.compareAndExchange( null, fetch );
+            if ( pendingFetch != null ) {
+                return pendingFetch.asMono();
+            }
+
+            authenticateClient()
+                    .switchIfEmpty( Mono.error( () -> new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION,
+                            "The client authentication response is empty." ) ) )
+                    .map( this::storeClientAccessToken )
+                    .subscribe( aToken -> {
+                        // The fetch is no longer pending before its result is emitted, so the woken callers start a new one if needed.
+                        pendingClientAccessTokenFetch.compareAndSet( fetch, null );
+                        fetch.tryEmitValue( aToken );
+                    }, aE -> {
+                        pendingClientAccessTokenFetch.compareAndSet( fetch, null );
+                        fetch.tryEmitError( aE );
+                    } );
+            return fetch.asMono();
+        } );
+    }
 
-        WebClient client = getAuthServiceConnectionWebClient( AUTHENTICATION_URL_TEMPLATE, realmName );
+    /**
+     * Stores the fetched client access token in memory and schedules its background refresh.
+     *
+     * @param aAuthenticationTokenDto
+     *         the client's tokens.
+     * @return the stored client access token.
+     */
+    private ClientAccessToken storeClientAccessToken( AuthenticationTokenDto aAuthenticationTokenDto ) {
+        Instant expirationTime = timeService.getCurrentSystemDateTime().toInstant().plusSeconds( aAuthenticationTokenDto.getExpiresIn() );
+        ClientAccessToken previousToken = clientAccessToken.get();
+        ClientAccessToken newToken = new ClientAccessToken(
+                AccessTokenUtils.ACCESS_TOKEN_PREFIX + " " + aAuthenticationTokenDto.getAccessToken(),
+                expirationTime,
+                previousToken != null ? previousToken.getHeaderValue() : null
+        );
+        clientAccessToken.set( newToken );
+        scheduleClientAccessTokenRefresh( Duration.ofSeconds( aAuthenticationTokenDto.getExpiresIn() ) );
+        return newToken;
+    }
+
+    /**
+     * Schedules the background refresh of the client access token shortly before it expires.
+     *
+     * @param aTokenLifetime
+     *         the lifetime of the newly fetched token.
+     */
+    private void scheduleClientAccessTokenRefresh( Duration aTokenLifetime ) {
+        Duration delay = aTokenLifetime.minus( CLIENT_ACCESS_TOKEN_REFRESH_MARGIN.multipliedBy( 2 ) );
+        if ( delay.compareTo( CLIENT_ACCESS_TOKEN_MIN_REFRESH_DELAY ) < 0 ) {
+            delay = CLIENT_ACCESS_TOKEN_MIN_REFRESH_DELAY;
+        }
         try {
-            return client.post()
-                    .contentType( MediaType.APPLICATION_FORM_URLENCODED )
-                    .bodyValue(
-                            "grant_type=" + grantType
-                                    + "&client_id=" + clientId
-                                    + "&client_secret=" + clientSecret
-                                    + "&scope=" + scope
-                    )
-                    .retrieve()
-                    .bodyToMono( AuthenticationTokenDto.class )
-                    .block();
-        } catch ( WebClientResponseException aE ) {
-            KeycloakErrorResponseDto errorResponse = aE.getResponseBodyAs( KeycloakErrorResponseDto.class );
-            requireNonNull( errorResponse );
-            throw new KeycloakActionRequestFailedException( CommonsResExcMsgTranslationKey.UNEXPECTED_EXCEPTION, errorResponse.getErrorDescription() );
+            ScheduledFuture< ? > refresh = clientAccessTokenRefreshScheduler.schedule( this::refreshClientAccessTokenInBackground, delay.toMillis(), TimeUnit.MILLISECONDS );
+            ScheduledFuture< ? > previousRefresh = scheduledClientAccessTokenRefresh.getAndSet( refresh );
+            if ( previousRefresh != null ) {
+                previousRefresh.cancel( false );
+            }
+        } catch ( RejectedExecutionException aE ) {
+            log.debug( "The client access token refresh has not been scheduled, the scheduler is shut down." );
         }
     }
 
+    /**
+     * Refreshes the client access token in the background. A failure is only logged, the token is then fetched
+     * on demand by the next caller.
+     */
+    private void refreshClientAccessTokenInBackground() {
+        fetchClientAccessToken().subscribe(
+                aToken -> log.debug( "Client access token refreshed in the background." ),
+                aE -> log.warn( "The background refresh of the client access token failed: {}", aE.getMessage() ) );
+    }
+
+    /**
+     * Creates a filter retrying once the requests rejected with 401 while carrying the client access token.
+     * The token is refreshed before the retry, unless another caller has refreshed it in the meantime.
+     *
+     * @return the filter function.
+     */
+    private ExchangeFilterFunction renewRejectedClientAccessToken() {
+        return ( aRequest, aNext ) -> aNext.exchange( aRequest ).flatMap( aResponse -> {
+            String authorization = aRequest.headers().getFirst( HttpHeaders.AUTHORIZATION );
+            if ( aResponse.statusCode() != HttpStatus.UNAUTHORIZED || !isIssuedClientAccessToken( authorization ) ) {
+                return Mono.just( aResponse );
+            }
+            log.info( "Client access token rejected, refreshing the token and retrying the request." );
+            return aResponse.releaseBody()
+                    .then( renewClientAccessToken( authorization ) )
+                    .flatMap( aRenewedToken -> aNext.exchange( ClientRequest.from( aRequest )
+                            .headers( aHeaders -> aHeaders.set( HttpHeaders.AUTHORIZATION, aRenewedToken ) )
+                            .build() ) );
+        } );
+    }
+
+    /**
+     * Checks whether the provided authorization header value carries the current or the previous client access token.
+     *
+     * @param aAuthorization
+     *         the value of the authorization header, may be null.
+     * @return true if the value is a client access token issued for this service, false otherwise.
+     */
+    private boolean isIssuedClientAccessToken( String aAuthorization ) {
+        ClientAccessToken currentToken = clientAccessToken.get();
+        return aAuthorization != null && currentToken != null
+                && ( aAuthorization.equals( currentToken.getHeaderValue() ) || aAuthorization.equals( currentToken.getPreviousHeaderValue() ) );
+    }
+
+    /**
+     * Renews the client access token rejected by the auth service.
+     *
+     * @param aRejectedToken
+     *         the rejected token (with the prefix).
+     * @return a {@code Mono} emitting the renewed token prefixed with the defined access token prefix.
+     */
+    private Mono< String > renewClientAccessToken( String aRejectedToken ) {
+        return Mono.defer( () -> {
+            ClientAccessToken currentToken = clientAccessToken.get();
+            if ( currentToken != null && !Objects.equals( currentToken.getHeaderValue(), aRejectedToken ) ) {
+                return Mono.just( currentToken.getHeaderValue() );
+            }
+            return fetchClientAccessToken().map( ClientAccessToken::getHeaderValue );
+        } );
+    }
+
+    /**
+     * The client access token held in memory.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class ClientAccessToken {
+
+        /**
+         * The token prefixed with the defined access token prefix, ready to be used as the authorization header value.
+         */
+        private final String headerValue;
+
+        /**
+         * The expiration time of the token.
+         */
+        private final Instant expirationTime;
+
+        /**
+         * The header value of the token replaced by this one, null if there was none.
+         * Requests sent with the previous token just before the refresh are still recognized as the client's ones.
+         */
+        private final String previousHeaderValue;
+    }
+
 }
@@ -0,0 +1,231 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.data.dto.keycloak.key.JsonWebKeyDto;
+import com.goaleaf.accounts.data.dto.keycloak.key.JsonWebKeySetDto;
+import com.goaleaf.accounts.service.KeycloakServiceConnectionService;
+import com.goaleaf.accounts.service.RealmPublicKeysService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link RealmPublicKeysService} keeping the realm's public keys in memory.
+ * <p>
+ * The keys are fetched lazily from the realm's JWKS endpoint. A lookup of an unknown key identifier triggers
+ * a single refetch of the key set shared by all the concurrent callers. Refetches are throttled, so tokens
+ * carrying random key identifiers cannot be used to flood the realm with requests. The key set is also refetched once it
+ * is older than {@link #MAX_KEY_SET_AGE}, and each refetch replaces the whole set, so a key withdrawn from the realm
+ * stops being trusted even if no new key is published. When such a refetch fails, the known keys are kept.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 10:24
+ */
+@Log4j2
+@Service
+class RealmPublicKeysServiceImpl implements RealmPublicKeysService {
+
+    /**
+     * The minimal interval between two consecutive refetches of the key set.
+     */
+    private static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds( 10 );
+
+    /**
+     * The age of the key set after which it is refetched on the next lookup.
+     */
+    private static final Duration MAX_KEY_SET_AGE = Duration.ofMinutes( 5 );
+
+    /**
+     * The value of the {@code use} member of the keys meant for the signature verification.
+     */
+    private static final String SIGNATURE_KEY_USE = "sig";
+
+    /**
+     * A service used for fetching the key set from the realm.
+     */
+    private final KeycloakServiceConnectionService keycloakServiceConnectionService;
+
+    /**
+     * Provides the current system time for the refetch throttling.
+     */
+    private final TimeService timeService;
+
+    /**
+     * A lock guarding the refetch of the key set, so concurrent misses result in a single request.
+     */
+    private final ReentrantLock refetchLock = new ReentrantLock();
+
+    /**
+     * The currently known keys mapped by their identifiers. Replaced as a whole after each refetch.
+     */
+    private volatile Map< String, PublicKey > keys = Map.of();
+
+    /**
+     * The moment of the last refetch of the key set.
+     */
+    private volatile Instant lastRefetchTime = Instant.EPOCH;
+
+    /**
+     * A constructor.
+     *
+     * @param aKeycloakServiceConnectionService
+     *         a service used for fetching the key set from the realm.
+     * @param aTimeService
+     *         a service providing the current system time.
+     */
+    RealmPublicKeysServiceImpl( @NonNull KeycloakServiceConnectionService aKeycloakServiceConnectionService, @NonNull TimeService aTimeService ) {
+        keycloakServiceConnectionService = requireNonNull( aKeycloakServiceConnectionService );
+        timeService = requireNonNull( aTimeService );
+    }
+
+    /**
+     * Retrieves the public key identified by the specified key identifier ({@code kid}).
+     * When the key is not known or the key set is outdated, the key set is fetched from the realm once again.
+     *
+     * @param aKeyId
+     *         a non-null identifier of the key.
+     * @return an {@code Optional} containing the public key or an empty {@code Optional} if the realm does not publish such key.
+     */
+    @Override
+    public Optional< PublicKey > getPublicKey( @NonNull String aKeyId ) {
+        requireNonNull( aKeyId );
+        PublicKey key = keys.get( aKeyId );
+        if ( key != null && !isOutdated( timeService.getCurrentSystemDateTime().toInstant() ) ) {
+            return Optional.of( key );
+        }
+        return Optional.ofNullable( refetchAndGet( aKeyId ) );
+    }
+
+    /**
+     * Refetches the key set unless another thread has already done it in the meantime or the last refetch
+     * happened less than {@link #MIN_REFETCH_INTERVAL} ago and returns the key with the specified identifier.
+     * A failed refetch of an outdated key set keeps the known keys; a failed refetch for an unknown key is rethrown.
+     *
+     * @param aKeyId
+     *         an identifier of the key.
+     * @return the key or null if the realm does not publish such key.
+     */
+    private PublicKey refetchAndGet( String aKeyId ) {
+        refetchLock.lock();
+        try {
+            Instant now = timeService.getCurrentSystemDateTime().toInstant();
+            PublicKey key = keys.get( aKeyId );
+            if ( key != null && !isOutdated( now ) ) {
+                return key;
+            }
+
+            if ( now.isBefore( lastRefetchTime.plus( MIN_REFETCH_INTERVAL ) ) ) {
+                log.debug( "Skipping the realm keys refetch for the key: {}", aKeyId );
+                return key;
+            }
+
+            lastRefetchTime = now;
+            try {
+                keys = mapKeys( keycloakServiceConnectionService.sendRealmKeysRequest() );
+            } catch ( RuntimeException aE ) {
+                if ( key == null ) {
+                    throw aE;
+                }
+                log.warn( "Failed to refetch the realm keys, keeping the known ones", aE );
+                return key;
+            }
+            return keys.get( aKeyId );
+        } finally {
+            refetchLock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the key set has been fetched more than {@link #MAX_KEY_SET_AGE} ago.
+     *
+     * @param aNow
+     *         the current system time.
+     * @return true if the key set should be refetched, false otherwise.
+     */
+    private boolean isOutdated( Instant aNow ) {
+        return !aNow.isBefore( lastRefetchTime.plus( MAX_KEY_SET_AGE ) );
+    }
+
+    /**
+     * Maps the JSON Web Key Set to the public keys suitable for the signature verification.
+     * The keys of an unsupported type are skipped.
+     *
+     * @param aKeySet
+     *         the key set returned by the realm.
+     * @return an immutable map of the keys by their identifiers.
+     */
+    private Map< String, PublicKey > mapKeys( JsonWebKeySetDto aKeySet ) {
+        if ( aKeySet == null || aKeySet.getKeys() == null ) {
+            return Map.of();
+        }
+
+        Map< String, PublicKey > result = new HashMap<>();
+        for ( JsonWebKeyDto jwk : aKeySet.getKeys() ) {
+            if ( jwk.getKeyId() == null || ( jwk.getUse() != null && !SIGNATURE_KEY_USE.equals( jwk.getUse() ) ) ) {
+                continue;
+            }
+            try {
+                PublicKey publicKey = mapKey( jwk );
+                if ( publicKey != null ) {
+                    result.put( jwk.getKeyId(), publicKey );
+                }
+            } catch ( GeneralSecurityException | RuntimeException aE ) {
+                log.warn( "Skipping the malformed realm key: {}", jwk.getKeyId(), aE );
+            }
+        }
+        log.info( "Loaded {} realm signature key(s)", result.size() );
+        return Map.copyOf( result );
+    }
+
+    /**
+     * Maps a single JSON Web Key to the public key.
+     *
+     * @param aJwk
+     *         the key to be mapped.
+     * @return the public key or null if the key type is not supported.
+     *
+     * @throws GeneralSecurityException
+     *         if the key cannot be reconstructed.
+     */
+    private PublicKey mapKey( JsonWebKeyDto aJwk ) throws GeneralSecurityException {
+        return switch ( String.valueOf( aJwk.getKeyType() ) ) {
+            case "RSA" -> mapRsaKey( aJwk );
+            case "EC" -> mapEcKey( aJwk );
+            default -> null;
+        };
+    }
+
+    private PublicKey mapRsaKey( JsonWebKeyDto aJwk ) throws GeneralSecurityException {
+        BigInteger modulus = decodeUnsigned( aJwk.getModulus() );
+        BigInteger exponent = decodeUnsigned( aJwk.getExponent() );
+        return KeyFactory.getInstance( "RSA" ).generatePublic( new RSAPublicKeySpec( modulus, exponent ) );
+    }
+
+    private PublicKey mapEcKey( JsonWebKeyDto aJwk ) throws GeneralSecurityException {
+        if ( !"P-256".equals( aJwk.getCurve() ) ) {
+            return null;
+        }
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance( "EC" );
+        parameters.init( new ECGenParameterSpec( "secp256r1" ) );
+        ECParameterSpec parameterSpec = parameters.getParameterSpec( ECParameterSpec.class );
+
+        ECPoint point = new ECPoint( decodeUnsigned( aJwk.getXCoordinate() ), decodeUnsigned( aJwk.getYCoordinate() ) );
+        return KeyFactory.getInstance( "EC" ).generatePublic( new ECPublicKeySpec( point, parameterSpec ) );
+    }
+
+    private BigInteger decodeUnsigned( String aBase64UrlValue ) {
+        return new BigInteger( 1, Base64.getUrlDecoder().decode( requireNonNull( aBase64UrlValue ) ) );
+    }
+}
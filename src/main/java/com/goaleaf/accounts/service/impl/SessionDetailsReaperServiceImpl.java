@@ -0,0 +1,158 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.persistence.projection.ExpiredSessionDetailsKey;
+import com.goaleaf.accounts.persistence.repository.UserSessionDetailsRepository;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.SessionDetailsReaperService;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link SessionDetailsReaperService} paginating the expired session details by their expiration
+ * time (keyset pagination), so every batch is read from the index on the expiration time, starting where the previous
+ * one ended. The lower bound is inclusive, so the details expiring at the same time as the last ones of a batch are
+ * read again with the next one; the previous batch is already removed at that point, so nothing is read twice.
+ * Each batch is removed with a single statement in its own transaction, and the pause between the batches
+ * leaves the database to the requests. The removed details need no eviction from the session details cache, as their
+ * cached entries expire together with their refresh tokens.
+ * <p>
+ * The number of the removed details is exported as the {@code session.details.reaped} counter and the duration
+ * of the runs as the {@code session.details.reaper} timer.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:35
+ */
+@Log4j2
+@Service
+class SessionDetailsReaperServiceImpl implements SessionDetailsReaperService {
+
+    /**
+     * The name of the counter of the removed session details.
+     */
+    private static final String REAPED_COUNTER_NAME = "session.details.reaped";
+
+    /**
+     * The name of the timer of the removal runs.
+     */
+    private static final String REAPER_TIMER_NAME = "session.details.reaper";
+
+    /**
+     * The lower bound of the expiration time of the first batch.
+     */
+    private static final Instant MIN_EXPIRATION_TIME = Instant.EPOCH;
+
+    /**
+     * A repository of the session details.
+     */
+    private final UserSessionDetailsRepository userSessionDetailsRepository;
+
+    /**
+     * A service providing the current snapshot of the configuration.
+     */
+    private final AccountsConfigurationService accountsConfigurationService;
+
+    /**
+     * Provides the current system time the expiration times are compared with.
+     */
+    private final TimeService timeService;
+
+    /**
+     * The counter of the removed session details.
+     */
+    private final Counter reapedCounter;
+
+    /**
+     * The timer of the removal runs.
+     */
+    private final Timer reaperTimer;
+
+    /**
+     * A constructor.
+     *
+     * @param aUserSessionDetailsRepository
+     *         a repository of the session details.
+     * @param aAccountsConfigurationService
+     *         a service providing the batches' size and pause.
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aMeterRegistry
+     *         a registry of the removal's meters.
+     */
+    SessionDetailsReaperServiceImpl( @NonNull UserSessionDetailsRepository aUserSessionDetailsRepository,
+                                     @NonNull AccountsConfigurationService aAccountsConfigurationService,
+                                     @NonNull TimeService aTimeService, @NonNull MeterRegistry aMeterRegistry ) {
+        userSessionDetailsRepository = requireNonNull( aUserSessionDetailsRepository );
+        accountsConfigurationService = requireNonNull( aAccountsConfigurationService );
+        timeService = requireNonNull( aTimeService );
+        reapedCounter = requireNonNull( aMeterRegistry ).counter( REAPED_COUNTER_NAME );
+        reaperTimer = aMeterRegistry.timer( REAPER_TIMER_NAME );
+    }
+
+    @Override
+    public int reapExpiredSessionDetails() {
+        Integer reaped = reaperTimer.record( this::reapInBatches );
+        return reaped != null ? reaped : 0;
+    }
+
+    /**
+     * Removes the expired session details batch after batch, until a batch is not full, nothing of a batch has been
+     * removed or the thread is interrupted.
+     *
+     * @return the number of the removed session details.
+     */
+    private int reapInBatches() {
+        AccountsConfiguration configuration = accountsConfigurationService.getConfiguration();
+        PageRequest batch = PageRequest.ofSize( configuration.getSessionDetailsReaperBatchSize() );
+        Instant now = timeService.getCurrentSystemDateTime().toInstant();
+
+        int reaped = 0;
+        Instant afterExpiresAt = MIN_EXPIRATION_TIME;
+        while ( true ) {
+            List< ExpiredSessionDetailsKey > keys = userSessionDetailsRepository.findExpiredKeys( now, afterExpiresAt, batch );
+            if ( keys.isEmpty() ) {
+                break;
+            }
+            int deleted = userSessionDetailsRepository.deleteByIds( keys.stream().map( ExpiredSessionDetailsKey::getId ).toList() );
+            reapedCounter.increment( deleted );
+            reaped += deleted;
+
+            // A batch of which nothing has been removed would be read again with the same lower bound.
+            if ( keys.size() < batch.getPageSize() || deleted == 0 || !pause( configuration ) ) {
+                break;
+            }
+            afterExpiresAt = keys.getLast().getExpiresAt();
+        }
+
+        log.info( "Removed {} expired session details", reaped );
+        return reaped;
+    }
+
+    /**
+     * Pauses the removal between the batches.
+     *
+     * @param aConfiguration
+     *         the configuration holding the pause's length.
+     * @return {@code true} if the removal may continue, {@code false} if the thread has been interrupted.
+     */
+    private boolean pause( AccountsConfiguration aConfiguration ) {
+        try {
+            Thread.sleep( aConfiguration.getSessionDetailsReaperBatchPause() );
+            return true;
+        } catch ( InterruptedException aE ) {
+            log.warn( "The removal of the expired session details has been interrupted" );
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
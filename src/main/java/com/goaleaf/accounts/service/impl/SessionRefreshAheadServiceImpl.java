@@ -0,0 +1,170 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.AuthenticationService;
+import com.goaleaf.accounts.service.SessionRefreshAheadService;
+import com.goaleaf.accounts.service.SupersededTokensService;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link SessionRefreshAheadService} executing the refreshes on a bounded executor.
+ * <p>
+ * The refreshes go through {@link AuthenticationService#refreshUserSession(String)}, so a background refresh
+ * and a refresh triggered by a request for the same session are coalesced into one round trip, and the new token
+ * is remembered by the {@link SupersededTokensService} in place of the replaced one. Every request carrying the replaced
+ * token (e.g. from several browser tabs) thus receives the same new token, and the replacement is forgotten when
+ * the session ends. A failed
+ * background refresh is only logged; the session is then refreshed during the request, once its token expires.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 19:15
+ */
+@Log4j2
+@Service
+class SessionRefreshAheadServiceImpl implements SessionRefreshAheadService {
+
+    /**
+     * The name of the counter of the background refreshes, tagged with their outcome.
+     */
+    private static final String REFRESH_AHEAD_COUNTER_NAME = "session.refresh.ahead";
+
+    /**
+     * A service refreshing the sessions.
+     */
+    private final AuthenticationService authenticationService;
+
+    /**
+     * A service remembering the replacements of the refreshed tokens.
+     */
+    private final SupersededTokensService supersededTokensService;
+
+    /**
+     * A service providing the current snapshot of the configuration.
+     */
+    private final AccountsConfigurationService accountsConfigurationService;
+
+    /**
+     * Provides the current system time for checking the tokens' remaining lifetime.
+     */
+    private final TimeService timeService;
+
+    /**
+     * The bounded executor of the background refreshes.
+     */
+    private final ExecutorService sessionRefreshAheadExecutor;
+
+    /**
+     * A registry of the background refreshes' counters.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The identifiers of the sessions being refreshed in the background.
+     */
+    private final Set< String > pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A constructor.
+     *
+     * @param aAuthenticationService
+     *         a service refreshing the sessions.
+     * @param aSupersededTokensService
+     *         a service remembering the replacements of the refreshed tokens.
+     * @param aAccountsConfigurationService
+     *         a service providing the refresh-ahead window.
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aSessionRefreshAheadExecutor
+     *         the bounded executor of the background refreshes.
+     * @param aMeterRegistry
+     *         a registry of the background refreshes' counters.
+     */
+    SessionRefreshAheadServiceImpl( @NonNull AuthenticationService aAuthenticationService, @NonNull SupersededTokensService aSupersededTokensService,
+                                    @NonNull AccountsConfigurationService aAccountsConfigurationService,
+                                    @NonNull TimeService aTimeService, @NonNull @Qualifier( "sessionRefreshAheadExecutor" ) ExecutorService aSessionRefreshAheadExecutor,
+                                    @NonNull MeterRegistry aMeterRegistry ) {
+        authenticationService = requireNonNull( aAuthenticationService );
+        supersededTokensService = requireNonNull( aSupersededTokensService );
+        accountsConfigurationService = requireNonNull( aAccountsConfigurationService );
+        timeService = requireNonNull( aTimeService );
+        sessionRefreshAheadExecutor = requireNonNull( aSessionRefreshAheadExecutor );
+        meterRegistry = requireNonNull( aMeterRegistry );
+    }
+
+    @Override
+    public void scheduleRefreshIfExpiring( @NonNull AccessTokenClaims aClaims ) {
+        requireNonNull( aClaims );
+        Duration window = accountsConfigurationService.getConfiguration().getAccessTokenRefreshAheadWindow();
+        if ( window.isZero() || window.isNegative() || Objects.isNull( aClaims.getExpirationTime() ) ) {
+            return;
+        }
+
+        Instant now = timeService.getCurrentSystemDateTime().toInstant();
+        if ( now.plus( window ).isBefore( aClaims.getExpirationTime() ) ) {
+            return;
+        }
+
+        String sessionId = aClaims.getSessionId();
+        if ( supersededTokensService.findReplacement( aClaims ).isPresent() || !pendingRefreshes.add( sessionId ) ) {
+            return;
+        }
+
+        try {
+            sessionRefreshAheadExecutor.execute( () -> refreshSession( aClaims ) );
+            countRefresh( "scheduled" );
+        } catch ( RejectedExecutionException aE ) {
+            pendingRefreshes.remove( sessionId );
+            countRefresh( "rejected" );
+            log.debug( "The background refresh of the session {} has been rejected.", sessionId );
+        }
+    }
+
+    /**
+     * Refreshes the session; the new token is remembered in place of the replaced one by the refresh itself.
+     *
+     * @param aClaims
+     *         the claims of the token being replaced.
+     */
+    private void refreshSession( AccessTokenClaims aClaims ) {
+        String sessionId = aClaims.getSessionId();
+        try {
+            if ( Objects.isNull( authenticationService.refreshUserSession( aClaims.getToken() ) ) ) {
+                countRefresh( "failed" );
+                log.debug( "The session {} has not been refreshed in the background, its details no longer exist.", sessionId );
+                return;
+            }
+            countRefresh( "refreshed" );
+            log.debug( "The session {} has been refreshed in the background.", sessionId );
+        } catch ( RuntimeException aE ) {
+            countRefresh( "failed" );
+            log.warn( "The background refresh of the session {} failed: {}", sessionId, aE.getMessage() );
+        } finally {
+            pendingRefreshes.remove( sessionId );
+        }
+    }
+
+    /**
+     * Increments the counter of the background refreshes with the specified outcome.
+     *
+     * @param aOutcome
+     *         the outcome of the refresh.
+     */
+    private void countRefresh( String aOutcome ) {
+        meterRegistry.counter( REFRESH_AHEAD_COUNTER_NAME, "outcome", aOutcome ).increment();
+    }
+}
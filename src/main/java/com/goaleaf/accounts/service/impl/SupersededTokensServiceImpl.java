@@ -0,0 +1,138 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.SupersededTokensService;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.token.TokenRevocationRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.goaleaf.accounts.system.util.TokenDigestUtils.digest;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link SupersededTokensService} keeping the replacements in a bounded, concurrent in-memory cache.
+ * <p>
+ * The entries are keyed by the SHA-256 digest of the refreshed token, so only the requests carrying exactly that token
+ * receive its replacement. An entry is evicted the grace period after the refreshed token expires, or after the refresh
+ * if the token had already expired, so a token refreshed ahead of its expiration is replaced for as long as it could be sent.
+ * The replacements of the ended sessions are not removed from the cache, which would need a scan of all its entries;
+ * the replacements revoked in the {@link TokenRevocationRegistry} are not returned and expire with the others.
+ * The grace period and the size of the cache are read when the service is created.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 20:00
+ */
+@Service
+class SupersededTokensServiceImpl implements SupersededTokensService {
+
+    /**
+     * Provides the current system time for computing the entries' lifetime.
+     */
+    private final TimeService timeService;
+
+    /**
+     * Registry of the access tokens revoked locally, so the replacements issued for the ended sessions are not returned.
+     */
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * The replacements mapped by the digests of the tokens they replace.
+     */
+    private final Cache< String, Replacement > replacements;
+
+    /**
+     * A constructor.
+     *
+     * @param aAccountsConfigurationService
+     *         a service providing the grace period and the size of the cache.
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aTokenRevocationRegistry
+     *         the registry of the access tokens revoked locally.
+     */
+    SupersededTokensServiceImpl( @NonNull AccountsConfigurationService aAccountsConfigurationService, @NonNull TimeService aTimeService,
+                                 @NonNull TokenRevocationRegistry aTokenRevocationRegistry ) {
+        AccountsConfiguration configuration = requireNonNull( aAccountsConfigurationService ).getConfiguration();
+        timeService = requireNonNull( aTimeService );
+        tokenRevocationRegistry = requireNonNull( aTokenRevocationRegistry );
+        replacements = Caffeine.newBuilder()
+                .maximumSize( configuration.getAccessTokenGraceMaxSize() )
+                .expireAfter( new ReplacementExpiry( configuration.getAccessTokenGracePeriod() ) )
+                .build();
+    }
+
+    @Override
+    public void registerReplacement( @NonNull AccessTokenClaims aSupersededClaims, @NonNull AccessTokenClaims aReplacementClaims ) {
+        requireNonNull( aSupersededClaims );
+        requireNonNull( aReplacementClaims );
+        replacements.put( digest( aSupersededClaims.getToken() ), new Replacement( aReplacementClaims, aSupersededClaims.getExpirationTime() ) );
+    }
+
+    @Override
+    public Optional< AccessTokenClaims > findReplacement( @NonNull AccessTokenClaims aClaims ) {
+        requireNonNull( aClaims );
+        return Optional.ofNullable( replacements.getIfPresent( digest( aClaims.getToken() ) ) )
+                .map( Replacement::getClaims )
+                .filter( aReplacementClaims -> !tokenRevocationRegistry.isRevoked( aReplacementClaims ) );
+    }
+
+    /**
+     * The new token remembered in place of the refreshed one.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class Replacement {
+
+        /**
+         * The claims of the new token.
+         */
+        private final AccessTokenClaims claims;
+
+        /**
+         * The expiration time of the refreshed token, null if unknown.
+         */
+        private final Instant supersededExpirationTime;
+    }
+
+    /**
+     * Keeps the replacements for the grace period after the refreshed token expires or is refreshed, whichever is later.
+     */
+    @AllArgsConstructor
+    private final class ReplacementExpiry implements Expiry< String, Replacement > {
+
+        /**
+         * The grace period of the refreshed tokens.
+         */
+        private final Duration gracePeriod;
+
+        @Override
+        public long expireAfterCreate( String aKey, Replacement aValue, long aCurrentTime ) {
+            Instant now = timeService.getCurrentSystemDateTime().toInstant();
+            Instant supersededExpirationTime = aValue.getSupersededExpirationTime();
+            Instant validUntil = Objects.nonNull( supersededExpirationTime ) && supersededExpirationTime.isAfter( now ) ? supersededExpirationTime : now;
+            return Duration.between( now, validUntil ).plus( gracePeriod ).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate( String aKey, Replacement aValue, long aCurrentTime, long aCurrentDuration ) {
+            return expireAfterCreate( aKey, aValue, aCurrentTime );
+        }
+
+        @Override
+        public long expireAfterRead( String aKey, Replacement aValue, long aCurrentTime, long aCurrentDuration ) {
+            return aCurrentDuration;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.KeycloakServiceConnectionService;
+import com.goaleaf.accounts.service.TokenIntrospectionService;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.token.TokenRevocationRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import static com.goaleaf.accounts.system.util.TokenDigestUtils.digest;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Implementation of the {@link TokenIntrospectionService} remembering the positive introspection results in a bounded,
+ * concurrent in-memory cache.
+ * <p>
+ * The entries are keyed by the SHA-256 digest of the token. Each entry lives no longer than the token itself
+ * and no longer than the configured maximal staleness, so a token revoked in the realm directly is accepted
+ * at most for that period. The negative results are never cached. The tokens of the sessions ended through this
+ * service are rejected by the {@link TokenRevocationRegistry}, checked before any positive result is returned,
+ * whether remembered or just received. A session ended while its token is being introspected is therefore never
+ * reported active, and the entries of the ended sessions need no scan of the cache; they are dropped on their next lookup.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 13:28
+ */
+@Log4j2
+@Service
+class TokenIntrospectionServiceImpl implements TokenIntrospectionService {
+
+    /**
+     * A service used for sending the introspection requests to the realm.
+     */
+    private final KeycloakServiceConnectionService keycloakServiceConnectionService;
+
+    /**
+     * Provides the current system time for computing the entries' lifetime.
+     */
+    private final TimeService timeService;
+
+    /**
+     * The registry of the tokens revoked locally.
+     */
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * The expiration times of the tokens found active, mapped by the tokens' digests.
+     */
+    private final Cache< String, Instant > introspectionResults;
+
+    /**
+     * A constructor.
+     *
+     * @param aKeycloakServiceConnectionService
+     *         a service used for sending the introspection requests.
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aAccountsConfigurationService
+     *         a service providing the cache's configuration.
+     * @param aTokenRevocationRegistry
+     *         the registry of the tokens revoked locally.
+     */
+    @Autowired
+    TokenIntrospectionServiceImpl( @NonNull KeycloakServiceConnectionService aKeycloakServiceConnectionService, @NonNull TimeService aTimeService,
+                                   @NonNull AccountsConfigurationService aAccountsConfigurationService, @NonNull TokenRevocationRegistry aTokenRevocationRegistry ) {
+        this( aKeycloakServiceConnectionService, aTimeService, aAccountsConfigurationService, aTokenRevocationRegistry, Ticker.systemTicker() );
+    }
+
+    /**
+     * A constructor measuring the entries' lifetime with the provided ticker.
+     *
+     * @param aKeycloakServiceConnectionService
+     *         a service used for sending the introspection requests.
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aAccountsConfigurationService
+     *         a service providing the cache's configuration.
+     * @param aTokenRevocationRegistry
+     *         the registry of the tokens revoked locally.
+     * @param aTicker
+     *         the time source of the cache.
+     */
+    TokenIntrospectionServiceImpl( @NonNull KeycloakServiceConnectionService aKeycloakServiceConnectionService, @NonNull TimeService aTimeService,
+                                   @NonNull AccountsConfigurationService aAccountsConfigurationService, @NonNull TokenRevocationRegistry aTokenRevocationRegistry,
+                                   @NonNull Ticker aTicker ) {
+        keycloakServiceConnectionService = requireNonNull( aKeycloakServiceConnectionService );
+        timeService = requireNonNull( aTimeService );
+        tokenRevocationRegistry = requireNonNull( aTokenRevocationRegistry );
+        AccountsConfiguration configuration = aAccountsConfigurationService.getConfiguration();
+        introspectionResults = Caffeine.newBuilder()
+                .maximumSize( configuration.getIntrospectionCacheMaxSize() )
+                .expireAfter( new IntrospectionResultExpiry( configuration.getIntrospectionCacheMaxStaleness() ) )
+                .ticker( requireNonNull( aTicker ) )
+                .build();
+    }
+
+    @Override
+    public boolean isTokenActive( @NonNull AccessTokenClaims aClaims ) {
+        requireNonNull( aClaims );
+        String key = digest( aClaims.getToken() );
+        if ( introspectionResults.getIfPresent( key ) != null ) {
+            if ( !tokenRevocationRegistry.isRevoked( aClaims ) ) {
+                return true;
+            }
+            introspectionResults.invalidate( key );
+            log.debug( "Introspection result of a revoked token dropped for the session: {}", aClaims.getSessionId() );
+            return false;
+        }
+
+        boolean active = keycloakServiceConnectionService.sendTokenIntrospectionRequest( aClaims.getToken() );
+        if ( !active || tokenRevocationRegistry.isRevoked( aClaims ) ) {
+            return false;
+        }
+        introspectionResults.put( key, aClaims.getExpirationTime() );
+        return true;
+    }
+
+    /**
+     * Computes the lifetime of the entries as the lesser of the token's remaining lifetime and the maximal staleness.
+     */
+    @AllArgsConstructor
+    private final class IntrospectionResultExpiry implements Expiry< String, Instant > {
+
+        /**
+         * The maximal time for which a positive result may be trusted without asking the realm again.
+         */
+        private final Duration maxStaleness;
+
+        @Override
+        public long expireAfterCreate( String aKey, Instant aExpirationTime, long aCurrentTime ) {
+            Instant now = timeService.getCurrentSystemDateTime().toInstant();
+            Duration tokenLifetime = Objects.isNull( aExpirationTime ) ? Duration.ZERO : Duration.between( now, aExpirationTime );
+            if ( tokenLifetime.isNegative() ) {
+                return 0L;
+            }
+            return tokenLifetime.compareTo( maxStaleness ) < 0 ? tokenLifetime.toNanos() : maxStaleness.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate( String aKey, Instant aExpirationTime, long aCurrentTime, long aCurrentDuration ) {
+            return expireAfterCreate( aKey, aExpirationTime, aCurrentTime );
+        }
+
+        @Override
+        public long expireAfterRead( String aKey, Instant aExpirationTime, long aCurrentTime, long aCurrentDuration ) {
+            return aCurrentDuration;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.goaleaf.accounts.data.map.UserDetailsMapper;
 import com.goaleaf.accounts.persistence.entity.UserDetails;
 import com.goaleaf.accounts.persistence.repository.UserDetailsRepository;
 import com.goaleaf.accounts.service.UserDetailsService;
+import com.goaleaf.accounts.system.util.EmailAddressUtils;
 import lombok.AllArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
@@ -62,7 +63,7 @@ class UserDetailsServiceImpl implements UserDetailsService {
     @Override
     public UserDetailsDto findUserDetailsByEmail( @NonNull String aEmail ) {
         requireNonNull( aEmail );
-        Optional< UserDetails > optionalUserDetails = userDetailsRepository.findByEmailAddress( aEmail );
+        Optional< UserDetails > optionalUserDetails = userDetailsRepository.findByEmailNormalized( EmailAddressUtils.normalize( aEmail ) );
 
         if ( optionalUserDetails.isEmpty() ) {
             throw new ResourceNotFoundException( UserDetails.class.getSimpleName(), "email", aEmail );
@@ -73,6 +74,24 @@ class UserDetailsServiceImpl implements UserDetailsService {
                 .orElseThrow( () -> new IllegalStateException( "Could not convert to " + UserDetailsDto.class.getSimpleName() ) );
     }
 
+    /**
+     * Retrieves the identity of the user by the provided email address, reading only the user's identifier and name.
+     *
+     * @param aEmail
+     *         the email address of the user whose identity is to be retrieved. Must not be null.
+     * @return a {@link UserDetailsDto} object containing only the user's identifier and name.
+     *
+     * @throws ResourceNotFoundException
+     *         if no user is found for the given email address.
+     */
+    @Override
+    public UserDetailsDto findUserIdentityByEmail( @NonNull String aEmail ) {
+        requireNonNull( aEmail );
+        return userDetailsRepository.findIdentityByEmailNormalized( EmailAddressUtils.normalize( aEmail ) )
+                .map( UserDetailsMapper::mapToDto )
+                .orElseThrow( () -> new ResourceNotFoundException( UserDetails.class.getSimpleName(), "email", aEmail ) );
+    }
+
     /**
      * Deletes the user details associated with the specified user ID.
      *
@@ -1,6 +1,8 @@
 package com.goaleaf.accounts.service.impl;
 
-import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.pplociennik.commons.service.TimeService;
 import com.goaleaf.accounts.data.dto.auth.AuthenticationDetailsDto;
 import com.goaleaf.accounts.data.dto.auth.AuthenticationRequestDto;
@@ -11,34 +13,42 @@ import com.goaleaf.accounts.data.dto.user.UserSessionDetailsDto;
 import com.goaleaf.accounts.data.map.UserSessionDetailsMapper;
 import com.goaleaf.accounts.persistence.entity.UserSessionDetails;
 import com.goaleaf.accounts.persistence.repository.UserSessionDetailsRepository;
-import com.goaleaf.accounts.service.KeycloakServiceConnectionService;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import com.goaleaf.accounts.service.KeycloakReactiveConnectionService;
 import com.goaleaf.accounts.service.UserDetailsService;
 import com.goaleaf.accounts.service.UserSessionDetailsService;
-import com.goaleaf.accounts.system.util.KeycloakUrlTemplates;
+import com.goaleaf.accounts.system.concurrent.StripedSessionLocks;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.token.AccessTokenValidationStrategies;
 import com.goaleaf.accounts.system.util.token.AccessTokenValidationStrategy;
-import com.goaleaf.accounts.system.util.token.OfflineValidationStrategy;
-import com.goaleaf.accounts.system.util.token.OnlineValidationStrategy;
+import com.goaleaf.accounts.system.util.token.TokenRevocationRegistry;
 import com.goaleaf.accounts.system.util.token.TokenValidationStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.AllArgsConstructor;
-import lombok.Synchronized;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.github.pplociennik.commons.utility.OptionalUtils.getMandatoryValue;
 import static com.github.pplociennik.commons.utility.OptionalUtils.getOptionalValue;
-import static com.goaleaf.accounts.system.properties.AccountsSystemProperties.ACCESS_TOKEN_VALIDATION_STRATEGY;
-import static com.goaleaf.accounts.system.properties.AccountsSystemProperties.KEYCLOAK_REALM_NAME;
+import static com.goaleaf.accounts.system.util.AccessTokenUtils.getExpirationTime;
 import static com.goaleaf.accounts.system.util.AccessTokenUtils.getSessionId;
 import static com.goaleaf.accounts.system.util.AccessTokenUtils.getUserId;
-import static com.goaleaf.accounts.system.util.token.TokenValidationStrategy.OFFLINE;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -47,6 +57,16 @@ import static java.util.Objects.requireNonNull;
  * <p>Provides functionality for creating, retrieving, updating, and deleting user sessions,
  * including integration with Keycloak for session validation and token management.</p>
  *
+ * <p>The session details read by the session identifiers are kept in a bounded in-memory cache, loaded on the first
+ * lookup. Each entry lives no longer than the session's refresh token and the configured maximal staleness; the rotations
+ * of the refresh tokens update the entries, the deletions of the sessions and the failed refreshes remove them. The cached
+ * details are never handed out, the callers receive their copies. The cache's statistics are exported as the
+ * {@code cache.*} meters tagged with {@code cache=sessionDetails}.</p>
+ *
+ * <p>The identifiers of the cached sessions are also indexed by their users, so the deletion of all the sessions
+ * of a user removes their entries without scanning the whole cache. An index entry outlives the session entries it has
+ * been written with; it may still hold the identifiers of the sessions already evicted, which are removed with it.</p>
+ *
  * @author Created by: Pplociennik at 01.04.2025 20:37
  * @since 1.0
  * @see UserSessionDetailsService
@@ -54,9 +74,18 @@ import static java.util.Objects.requireNonNull;
  */
 @Log4j2
 @Service
-@AllArgsConstructor
 class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
 
+    /**
+     * The name of the session details cache in the exported meters.
+     */
+    private static final String SESSION_DETAILS_CACHE_NAME = "sessionDetails";
+
+    /**
+     * The time for which the index of the cached sessions outlives the maximal staleness of the cached details.
+     */
+    private static final Duration SESSION_INDEX_EXPIRY_MARGIN = Duration.ofSeconds( 1 );
+
     /**
      * A repository interface for managing user session entities in the database.
      * Provides various methods for performing CRUD operations on user session details.
@@ -65,19 +94,9 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
     private final UserSessionDetailsRepository userSessionDetailsRepository;
 
     /**
-     * Provides access to time-related services, enabling functionalities such as retrieving
-     * the current time, calculating durations, and time-specific operations required within
-     * the user session management context.
+     * A service providing the current snapshot of the configuration.
      */
-    private final TimeService timeService;
-
-    /**
-     * A service responsible for reading and managing system properties.
-     * It provides mechanisms to access system-level configuration details,
-     * ensuring a centralized and consistent approach to handle these properties
-     * across the application.
-     */
-    private final SystemPropertiesReaderService systemPropertiesReaderService;
+    private final AccountsConfigurationService accountsConfigurationService;
 
     /**
      * A final instance of AuthServiceRequestingService that represents the service responsible
@@ -86,7 +105,7 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
      * processing within the system. Being final ensures its reference cannot be changed after
      * initialization.
      */
-    private final KeycloakServiceConnectionService keycloakServiceConnectionService;
+    private final KeycloakReactiveConnectionService keycloakConnectionService;
 
     /**
      * A service responsible for handling user details retrieval and management operations.
@@ -95,6 +114,87 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
      */
     private final UserDetailsService userDetailsService;
 
+    /**
+     * The single instances of the access token validation strategies.
+     */
+    private final AccessTokenValidationStrategies accessTokenValidationStrategies;
+
+    /**
+     * Locks serializing the mutations of the same session, without contention between different sessions.
+     */
+    private final StripedSessionLocks sessionLocks;
+
+    /**
+     * Registry of the access tokens revoked locally, so the tokens of the users whose sessions have all been ended are rejected.
+     */
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * Provides the current system time for computing the cached entries' lifetime.
+     */
+    private final TimeService timeService;
+
+    /**
+     * The session details mapped by the session identifiers.
+     */
+    private final Cache< String, UserSessionDetailsDto > sessionDetailsCache;
+
+    /**
+     * The identifiers of the cached sessions mapped by the identifiers of their users.
+     */
+    private final Cache< String, Set< String > > cachedSessionIdsByUser;
+
+    /**
+     * A constructor.
+     *
+     * @param aUserSessionDetailsRepository
+     *         a repository of the session details.
+     * @param aAccountsConfigurationService
+     *         a service providing the configuration.
+     * @param aKeycloakConnectionService
+     *         a service used for requesting the sessions from keycloak.
+     * @param aUserDetailsService
+     *         a service providing the user details.
+     * @param aAccessTokenValidationStrategies
+     *         the access token validation strategies.
+     * @param aSessionLocks
+     *         the locks of the sessions.
+     * @param aTokenRevocationRegistry
+     *         the registry of the access tokens revoked locally.
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aMeterRegistry
+     *         a registry the cache's statistics are exported to.
+     */
+    UserSessionDetailsServiceImpl( @NonNull UserSessionDetailsRepository aUserSessionDetailsRepository,
+                                   @NonNull AccountsConfigurationService aAccountsConfigurationService,
+                                   @NonNull KeycloakReactiveConnectionService aKeycloakConnectionService,
+                                   @NonNull UserDetailsService aUserDetailsService,
+                                   @NonNull AccessTokenValidationStrategies aAccessTokenValidationStrategies,
+                                   @NonNull StripedSessionLocks aSessionLocks,
+                                   @NonNull TokenRevocationRegistry aTokenRevocationRegistry,
+                                   @NonNull TimeService aTimeService,
+                                   @NonNull MeterRegistry aMeterRegistry ) {
+        userSessionDetailsRepository = requireNonNull( aUserSessionDetailsRepository );
+        accountsConfigurationService = requireNonNull( aAccountsConfigurationService );
+        keycloakConnectionService = requireNonNull( aKeycloakConnectionService );
+        userDetailsService = requireNonNull( aUserDetailsService );
+        accessTokenValidationStrategies = requireNonNull( aAccessTokenValidationStrategies );
+        sessionLocks = requireNonNull( aSessionLocks );
+        tokenRevocationRegistry = requireNonNull( aTokenRevocationRegistry );
+        timeService = requireNonNull( aTimeService );
+        AccountsConfiguration configuration = aAccountsConfigurationService.getConfiguration();
+        sessionDetailsCache = Caffeine.newBuilder()
+                .maximumSize( configuration.getSessionDetailsCacheMaxSize() )
+                .expireAfter( new SessionDetailsExpiry( configuration.getSessionDetailsCacheMaxStaleness() ) )
+                .recordStats()
+                .build();
+        cachedSessionIdsByUser = Caffeine.newBuilder()
+                .expireAfterWrite( configuration.getSessionDetailsCacheMaxStaleness().plus( SESSION_INDEX_EXPIRY_MARGIN ) )
+                .build();
+        CaffeineCacheMetrics.monitor( requireNonNull( aMeterRegistry ), sessionDetailsCache, SESSION_DETAILS_CACHE_NAME );
+    }
+
     /**
      * Creates and persists details of a user session based on the provided authentication request and token.
      * The method extracts necessary information from the input parameters, creates a new session entity,
@@ -148,31 +248,28 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
 
     /**
      * Retrieves a list of all user session details associated with the provided access token.
+     * The sessions are requested from Keycloak and read from the database concurrently, then joined by the session identifiers.
      *
-     * @param aAccessToken
-     *         a non-null string representing the access token used to authenticate and identify the user sessions.
+     * @param aAccessTokenClaims
+     *         a non-null view of the access token's claims used to authenticate and identify the user sessions.
      * @return a list of {@code UserSessionResponseDto} objects containing details about the user sessions,
      * such as session ID, IP address, session timing, location, and device information.
      */
     @Override
-    public List< UserSessionResponseDto > getAllUserSessionsInfo( @NonNull String aAccessToken ) {
+    public List< UserSessionResponseDto > getAllUserSessionsInfo( @NonNull AccessTokenClaims aAccessTokenClaims ) {
         log.debug( "getAllUserSessionDetails called" );
-        requireNonNull( aAccessToken );
+        requireNonNull( aAccessTokenClaims );
 
-        String realmName = systemPropertiesReaderService.readProperty( KEYCLOAK_REALM_NAME );
-        String userId = getUserId( aAccessToken );
-        String clientAccessToken = keycloakServiceConnectionService.getClientAccessToken();
-
-        WebClient client = keycloakServiceConnectionService.getAuthServiceConnectionWebClient( KeycloakUrlTemplates.GET_ALL_SESSIONS_URL_TEMPLATE, realmName, userId );
+        String userId = aAccessTokenClaims.getUserId();
         try {
-            List< UserSessionRepresentationDto > keycloakSessionsRep = client.get()
-                    .header( "Authorization", clientAccessToken )
-                    .retrieve()
-                    .bodyToMono( new ParameterizedTypeReference< List< UserSessionRepresentationDto > >() {
-                    } )
-                    .block();
-
-            return createDetailsResponses( userId, requireNonNull( keycloakSessionsRep ) );
+            Tuple2< List< UserSessionRepresentationDto >, Map< String, UserSessionDetails > > sessions = Mono.zip(
+                    keycloakConnectionService.getUserSessions( userId ).collectList(),
+                    Mono.fromCallable( () -> mapBySessionId( userSessionDetailsRepository.findByAuthenticatedUserId( userId ) ) )
+                            .subscribeOn( Schedulers.boundedElastic() )
+            ).block();
+
+            requireNonNull( sessions );
+            return createDetailsResponses( sessions.getT1(), sessions.getT2() );
         } catch ( Exception aE ) {
             throw new IllegalStateException( "Failed to get user session details: ", aE );
         }
@@ -188,16 +285,62 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
     @Override
     public boolean checkAccessToken( @NonNull String aAccessToken ) {
         requireNonNull( aAccessToken );
-        String tokenValidationStrategyName = systemPropertiesReaderService.readProperty( ACCESS_TOKEN_VALIDATION_STRATEGY );
-        TokenValidationStrategy strategy = TokenValidationStrategy.valueOf( tokenValidationStrategyName );
-        AccessTokenValidationStrategy strategyForExecution = strategy == OFFLINE
-                ? new OfflineValidationStrategy( timeService )
-                : new OnlineValidationStrategy( keycloakServiceConnectionService );
-        return validateToken( strategyForExecution, aAccessToken );
+        return validateToken( resolveValidationStrategy(), aAccessToken );
     }
 
     /**
-     * Retrieves the session details of a user associated with the specified session ID.
+     * Validates the access token represented by the already parsed claims to ensure it is active and authorized for use.
+     *
+     * @param aAccessTokenClaims
+     *         a non-null view of the access token's claims.
+     * @return {@code true} if the access token is valid and active; {@code false} otherwise.
+     */
+    @Override
+    public boolean checkAccessToken( @NonNull AccessTokenClaims aAccessTokenClaims ) {
+        requireNonNull( aAccessTokenClaims );
+        return resolveValidationStrategy().validateAccessToken( aAccessTokenClaims );
+    }
+
+    /**
+     * Validates the provided refresh token by checking its expiration time only. The refresh token is read from the
+     * session details stored by the service, and its authenticity is verified by the authentication service during
+     * the refresh itself.
+     *
+     * @param aRefreshToken
+     *         a non-null {@code String} representing the refresh token to be validated.
+     * @return {@code true} if the refresh token has not expired yet; {@code false} otherwise.
+     */
+    @Override
+    public boolean checkRefreshToken( @NonNull String aRefreshToken ) {
+        requireNonNull( aRefreshToken );
+        return validateToken(
+                accessTokenValidationStrategies.getStrategy( TokenValidationStrategy.OFFLINE, accountsConfigurationService.getConfiguration() ),
+                aRefreshToken
+        );
+    }
+
+    /**
+     * Validates the refresh token of the session by comparing its stored expiration time with the current time, without
+     * decoding the token. The tokens of the sessions created before the expiration time has been stored are validated
+     * by {@link #checkRefreshToken(String)}.
+     *
+     * @param aSessionDetails
+     *         non-null details of the session.
+     * @return {@code true} if the refresh token has not expired yet; {@code false} otherwise.
+     */
+    @Override
+    public boolean checkRefreshToken( @NonNull UserSessionDetailsDto aSessionDetails ) {
+        requireNonNull( aSessionDetails );
+        Instant expiresAt = aSessionDetails.getExpiresAt();
+        if ( expiresAt == null ) {
+            return checkRefreshToken( aSessionDetails.getRefreshToken() );
+        }
+        return getCurrentTime().isBefore( expiresAt );
+    }
+
+    /**
+     * Retrieves the session details of a user associated with the specified session ID. The returned details are
+     * a copy, which may be modified by the caller without affecting the cached ones.
      *
      * @param aSessionId
      *         a non-null {@code String} representing the unique identifier of the user session.
@@ -207,10 +350,20 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
     @Override
     public Optional< UserSessionDetailsDto > getUserSessionDetails( @NonNull String aSessionId ) {
         requireNonNull( aSessionId );
-        Optional< UserSessionDetails > optionalSessionDetails = userSessionDetailsRepository.findBySessionId( aSessionId );
-        UserSessionDetails sessionDetails = getOptionalValue( optionalSessionDetails );
-        UserSessionDetailsDto resultDto = UserSessionDetailsMapper.mapToDto( sessionDetails );
-        return Optional.ofNullable( resultDto );
+        return Optional.ofNullable( sessionDetailsCache.get( aSessionId, this::loadSessionDetails ) )
+                .map( this::copyOf );
+    }
+
+    /**
+     * Forgets the cached details of the session, so the next lookup reads them from the database.
+     *
+     * @param aSessionId
+     *         a non-null identifier of the session.
+     */
+    @Override
+    public void invalidateCachedSessionDetails( @NonNull String aSessionId ) {
+        requireNonNull( aSessionId );
+        sessionDetailsCache.invalidate( aSessionId );
     }
 
     /**
@@ -220,11 +373,14 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
      *         the {@code UserSessionDetails} object representing the session details
      *         to be removed; must not be null.
      */
-    @Synchronized
     @Override
     public void deleteSessionDetails( @NonNull UserSessionDetails aSessionDetails ) {
         requireNonNull( aSessionDetails );
-        userSessionDetailsRepository.delete( aSessionDetails );
+        String sessionId = aSessionDetails.getSessionId();
+        sessionLocks.executeLocked( sessionId, () -> {
+            userSessionDetailsRepository.delete( aSessionDetails );
+            sessionDetailsCache.invalidate( sessionId );
+        } );
     }
 
     /**
@@ -238,13 +394,39 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
     @Override
     public void deleteSessionDetails( @NonNull String aSessionId ) {
         requireNonNull( aSessionId );
-        Optional< UserSessionDetails > optionalUserSessionDetails = userSessionDetailsRepository.findBySessionId( aSessionId );
-        UserSessionDetails sessionDetails = getMandatoryValue( optionalUserSessionDetails );
-        userSessionDetailsRepository.delete( sessionDetails );
+        sessionLocks.executeLocked( aSessionId, () -> {
+            Optional< UserSessionDetails > optionalUserSessionDetails = userSessionDetailsRepository.findBySessionId( aSessionId );
+            UserSessionDetails sessionDetails = getMandatoryValue( optionalUserSessionDetails );
+            userSessionDetailsRepository.delete( sessionDetails );
+            sessionDetailsCache.invalidate( aSessionId );
+        } );
+    }
+
+    /**
+     * Deletes the details of all the sessions of the user with a single bulk statement, instead of loading and deleting
+     * them one by one, then revokes the user's access tokens locally and forgets the cached state of the user's sessions.
+     *
+     * @param aUserId
+     *         the unique identifier of the user; must not be null
+     * @return the number of the deleted session details
+     */
+    @Override
+    public int deleteAllUserSessionDetails( @NonNull String aUserId ) {
+        requireNonNull( aUserId );
+        int deletedRows = userSessionDetailsRepository.deleteAllByAuthenticatedUserId( aUserId );
+        log.info( "Deleted {} session details of the user", deletedRows );
+
+        Set< String > cachedSessionIds = cachedSessionIdsByUser.asMap().remove( aUserId );
+        if ( cachedSessionIds != null ) {
+            sessionDetailsCache.invalidateAll( cachedSessionIds );
+        }
+        tokenRevocationRegistry.revokeUser( aUserId );
+        return deletedRows;
     }
 
     /**
-     * Updates the specified user session details in the system.
+     * Updates the specified user session details in the system, rotating the stored refresh token with a single
+     * conditional update keyed on the session ID and the previous refresh token.
      *
      * @param aSessionDetails
      *         the {@code UserSessionDetails} object containing the updated session information;
@@ -252,11 +434,37 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
      * @param aAuthenticationToken
      *         the {@code AuthenticationTokenDto} containing the new authentication token details
      *         to update the session with; must not be null.
+     * @return {@code true} if the refresh token has been rotated, {@code false} if the session no longer exists
+     * or its refresh token has been rotated concurrently.
      */
     @Override
-    public void updateSessionDetails( @NonNull UserSessionDetails aSessionDetails, @NonNull AuthenticationTokenDto aAuthenticationToken ) {
-        aSessionDetails.setRefreshToken( aAuthenticationToken.getRefreshToken() );
-        userSessionDetailsRepository.save( aSessionDetails );
+    public boolean updateSessionDetails( @NonNull UserSessionDetailsDto aSessionDetails, @NonNull AuthenticationTokenDto aAuthenticationToken ) {
+        requireNonNull( aSessionDetails );
+        requireNonNull( aAuthenticationToken );
+        String sessionId = aSessionDetails.getSessionId();
+        return sessionLocks.executeLocked( sessionId, () -> {
+            Instant expiresAt = computeExpirationTime( aAuthenticationToken );
+            int updatedRows = userSessionDetailsRepository.rotateRefreshToken( sessionId, aSessionDetails.getRefreshToken(),
+                    aAuthenticationToken.getRefreshToken(), expiresAt );
+            if ( updatedRows == 0 ) {
+                log.warn( "The refresh token of the session {} has not been rotated, the session has been removed or rotated concurrently.", sessionId );
+                sessionDetailsCache.invalidate( sessionId );
+                return false;
+            }
+            UserSessionDetailsDto updatedSessionDetails = withRefreshToken( aSessionDetails, aAuthenticationToken.getRefreshToken(), expiresAt );
+            indexCachedSession( updatedSessionDetails );
+            sessionDetailsCache.put( sessionId, updatedSessionDetails );
+            return true;
+        } );
+    }
+
+    /**
+     * Resolves the access token validation strategy configured for the application.
+     *
+     * @return the validation strategy to be used.
+     */
+    private AccessTokenValidationStrategy resolveValidationStrategy() {
+        return accessTokenValidationStrategies.getStrategy( accountsConfigurationService.getConfiguration() );
     }
 
     /**
@@ -276,64 +484,129 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
      * Creates a list of user session response DTOs by combining Keycloak session representations
      * with locally stored session details.
      *
-     * @param aUserId
-     *         the unique identifier of the user; must not be null.
      * @param aKeycloakSessionRepresentations
      *         the list of session representations retrieved from Keycloak; must not be null.
+     * @param aDetailsBySessionId
+     *         the locally stored session details of the user mapped by the session identifiers; must not be null.
      * @return a list of {@code UserSessionResponseDto} objects containing combined session information.
      */
-    private List< UserSessionResponseDto > createDetailsResponses( @NonNull String aUserId, @NonNull List< UserSessionRepresentationDto > aKeycloakSessionRepresentations ) {
-        requireNonNull( aUserId );
+    private List< UserSessionResponseDto > createDetailsResponses( @NonNull List< UserSessionRepresentationDto > aKeycloakSessionRepresentations,
+                                                                   @NonNull Map< String, UserSessionDetails > aDetailsBySessionId ) {
         requireNonNull( aKeycloakSessionRepresentations );
-        List< UserSessionDetails > detailsList = userSessionDetailsRepository.findByAuthenticatedUserId( aUserId );
+        requireNonNull( aDetailsBySessionId );
 
         return aKeycloakSessionRepresentations.stream()
-                .map( rep -> mapToResponseDto( rep, detailsList ) )
+                .map( rep -> mapToResponseDto( rep, aDetailsBySessionId.get( rep.getId() ) ) )
                 .collect( Collectors.toList() );
     }
 
+    /**
+     * Maps the session details by their session identifiers.
+     *
+     * @param aDetailsList
+     *         the list of session details.
+     * @return the session details mapped by the session identifiers.
+     */
+    private Map< String, UserSessionDetails > mapBySessionId( List< UserSessionDetails > aDetailsList ) {
+        return aDetailsList.stream()
+                .collect( Collectors.toMap( UserSessionDetails::getSessionId, Function.identity(), ( aFirst, aSecond ) -> aFirst ) );
+    }
+
     /**
      * Maps a Keycloak session representation to a user session response DTO by combining
-     * Keycloak data with local session details.
+     * Keycloak data with local session details. The device and the location are left empty if the session
+     * has no local details, e.g. when it has been created outside the service.
      *
      * @param aKeycloakRepresentation
      *         the Keycloak session representation containing session metadata.
-     * @param aDetailsList
-     *         the list of local session details to search for matching session information.
+     * @param aDetails
+     *         the local details of the session or null if there are none.
      * @return a {@code UserSessionResponseDto} containing combined session information.
-     * @throws IllegalStateException
-     *         if no matching local session details are found for the Keycloak session.
      */
-    private UserSessionResponseDto mapToResponseDto( UserSessionRepresentationDto aKeycloakRepresentation, List< UserSessionDetails > aDetailsList ) {
+    private UserSessionResponseDto mapToResponseDto( UserSessionRepresentationDto aKeycloakRepresentation, UserSessionDetails aDetails ) {
         String sessionId = aKeycloakRepresentation.getId();
-        UserSessionDetails details = findDetails( aDetailsList, sessionId );
+        if ( aDetails == null ) {
+            log.debug( "No local details of the session {}", sessionId );
+        }
 
         return UserSessionResponseDto.builder()
                 .id( sessionId )
                 .start( aKeycloakRepresentation.getStart() )
                 .lastAccess( aKeycloakRepresentation.getLastAccess() )
                 .ipAddress( aKeycloakRepresentation.getIpAddress() )
-                .location( details.getLocation() )
-                .device( details.getDevice() )
+                .location( aDetails != null ? aDetails.getLocation() : null )
+                .device( aDetails != null ? aDetails.getDevice() : null )
                 .build();
     }
 
     /**
-     * Finds the session details matching the specified session ID from the provided list.
+     * Loads the details of the session from the database.
      *
-     * @param aDetailsList
-     *         the list of session details to search through.
      * @param aSessionId
-     *         the unique identifier of the session to find.
-     * @return the {@code UserSessionDetails} matching the given session ID.
-     * @throws IllegalStateException
-     *         if no session details are found for the given session ID.
+     *         the identifier of the session.
+     * @return the details of the session or null if there are none.
      */
-    private UserSessionDetails findDetails( List< UserSessionDetails > aDetailsList, String aSessionId ) {
-        return aDetailsList.stream()
-                .filter( details -> details.getSessionId().equals( aSessionId ) )
-                .findFirst()
-                .orElseThrow( () -> new IllegalStateException( "No such details found" ) );
+    private UserSessionDetailsDto loadSessionDetails( String aSessionId ) {
+        UserSessionDetails sessionDetails = getOptionalValue( userSessionDetailsRepository.findBySessionId( aSessionId ) );
+        UserSessionDetailsDto sessionDetailsDto = UserSessionDetailsMapper.mapToDto( sessionDetails );
+        if ( sessionDetailsDto != null ) {
+            indexCachedSession( sessionDetailsDto );
+        }
+        return sessionDetailsDto;
+    }
+
+    /**
+     * Indexes the identifier of the session about to be cached by its user. The index is written before the cache,
+     * so a concurrent deletion of the user's sessions never misses a cached entry.
+     *
+     * @param aSessionDetails
+     *         the details of the session.
+     */
+    private void indexCachedSession( UserSessionDetailsDto aSessionDetails ) {
+        String userId = aSessionDetails.getAuthenticatedUserId();
+        if ( userId == null ) {
+            return;
+        }
+        cachedSessionIdsByUser.asMap().compute( userId, ( aUserId, aSessionIds ) -> {
+            Set< String > sessionIds = aSessionIds != null ? aSessionIds : ConcurrentHashMap.newKeySet();
+            sessionIds.add( aSessionDetails.getSessionId() );
+            return sessionIds;
+        } );
+    }
+
+    /**
+     * Creates a copy of the session details.
+     *
+     * @param aSessionDetails
+     *         the details of the session.
+     * @return the copy of the session details.
+     */
+    private UserSessionDetailsDto copyOf( UserSessionDetailsDto aSessionDetails ) {
+        return withRefreshToken( aSessionDetails, aSessionDetails.getRefreshToken(), aSessionDetails.getExpiresAt() );
+    }
+
+    /**
+     * Creates a copy of the session details holding the rotated refresh token. The cached details are never modified,
+     * as they are shared by the concurrent requests.
+     *
+     * @param aSessionDetails
+     *         the details of the session.
+     * @param aRefreshToken
+     *         the rotated refresh token.
+     * @param aExpiresAt
+     *         the expiration time of the rotated refresh token.
+     * @return the copy of the session details.
+     */
+    private UserSessionDetailsDto withRefreshToken( UserSessionDetailsDto aSessionDetails, String aRefreshToken, Instant aExpiresAt ) {
+        return UserSessionDetailsDto.builder()
+                .id( aSessionDetails.getId() )
+                .sessionId( aSessionDetails.getSessionId() )
+                .authenticatedUserId( aSessionDetails.getAuthenticatedUserId() )
+                .refreshToken( aRefreshToken )
+                .location( aSessionDetails.getLocation() )
+                .device( aSessionDetails.getDevice() )
+                .expiresAt( aExpiresAt )
+                .build();
     }
 
     /**
@@ -356,8 +629,79 @@ class UserSessionDetailsServiceImpl implements UserSessionDetailsService {
                 .device( aDetails.getDeviceName() )
                 .sessionId( aSessionID )
                 .refreshToken( aAuthenticationToken.getRefreshToken() )
+                .expiresAt( computeExpirationTime( aAuthenticationToken ) )
                 .createdAt( Instant.now() )
                 .createdBy( "SYSTEM" )
                 .build();
     }
+
+    /**
+     * Computes the expiration time of the refresh token from its lifetime returned with the tokens.
+     *
+     * @param aAuthenticationToken
+     *         the tokens of the session.
+     * @return the expiration time of the refresh token or null if the refresh token does not expire.
+     */
+    private Instant computeExpirationTime( AuthenticationTokenDto aAuthenticationToken ) {
+        int refreshExpiresIn = aAuthenticationToken.getRefreshExpiresIn();
+        return refreshExpiresIn > 0 ? getCurrentTime().plusSeconds( refreshExpiresIn ) : null;
+    }
+
+    /**
+     * Returns the current system time.
+     *
+     * @return the current system time.
+     */
+    private Instant getCurrentTime() {
+        return timeService.getCurrentSystemDateTime().toInstant();
+    }
+
+    /**
+     * Computes the lifetime of the cached session details as the lesser of the remaining lifetime of the session's
+     * refresh token and the maximal staleness. The stored expiration time is preferred; the refresh token is decoded
+     * only for the details stored without it. The details whose refresh token has no readable expiration time are not kept.
+     */
+    @AllArgsConstructor
+    private final class SessionDetailsExpiry implements Expiry< String, UserSessionDetailsDto > {
+
+        /**
+         * The maximal time for which the details are kept.
+         */
+        private final Duration maxStaleness;
+
+        @Override
+        public long expireAfterCreate( String aKey, UserSessionDetailsDto aValue, long aCurrentTime ) {
+            Instant expirationTime = aValue.getExpiresAt() != null ? aValue.getExpiresAt() : readExpirationTime( aValue.getRefreshToken() );
+            if ( expirationTime == null ) {
+                return 0L;
+            }
+            Duration refreshTokenLifetime = Duration.between( getCurrentTime(), expirationTime );
+            if ( refreshTokenLifetime.isNegative() ) {
+                return 0L;
+            }
+            return ( refreshTokenLifetime.compareTo( maxStaleness ) < 0 ? refreshTokenLifetime : maxStaleness ).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate( String aKey, UserSessionDetailsDto aValue, long aCurrentTime, long aCurrentDuration ) {
+            return expireAfterCreate( aKey, aValue, aCurrentTime );
+        }
+
+        @Override
+        public long expireAfterRead( String aKey, UserSessionDetailsDto aValue, long aCurrentTime, long aCurrentDuration ) {
+            return aCurrentDuration;
+        }
+
+        private Instant readExpirationTime( String aRefreshToken ) {
+            if ( aRefreshToken == null ) {
+                return null;
+            }
+            try {
+                return getExpirationTime( aRefreshToken );
+            } catch ( RuntimeException aE ) {
+                log.debug( "The expiration time of the refresh token cannot be read", aE );
+                return null;
+            }
+        }
+    }
 }
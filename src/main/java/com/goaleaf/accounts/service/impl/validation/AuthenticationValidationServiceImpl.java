@@ -10,6 +10,7 @@ import com.goaleaf.accounts.persistence.repository.UserDetailsRepository;
 import com.goaleaf.accounts.service.AccountService;
 import com.goaleaf.accounts.service.validation.AuthenticationValidationService;
 import com.goaleaf.accounts.system.exc.auth.AccountNotVerifiedException;
+import com.goaleaf.accounts.system.util.EmailAddressUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
@@ -156,7 +157,7 @@ class AuthenticationValidationServiceImpl implements AuthenticationValidationSer
     @Override
     public boolean validatePasswordResetRequest( @NonNull String aEmail ) {
         requireNonEmpty( aEmail );
-        return userDetailsRepository.findByEmailAddress( aEmail ).isPresent();
+        return userDetailsRepository.existsByEmailNormalized( EmailAddressUtils.normalize( aEmail ) );
     }
 
     private boolean validatePasswordsEqual( PasswordChangingRequestDto aDto ) {
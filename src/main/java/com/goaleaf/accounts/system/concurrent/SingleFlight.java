@@ -0,0 +1,96 @@
+package com.goaleaf.accounts.system.concurrent;
+
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Coalesces the concurrent executions of an action for the same key. The first caller executes the action,
+ * the callers arriving while it is in flight wait for it and receive the same result (or the same exception).
+ * Executions for different keys do not block each other.
+ * <p>
+ * The key is released as soon as the execution completes, so a caller arriving afterwards executes the action again.
+ *
+ * @param <K>
+ *         the type of the keys.
+ * @param <V>
+ *         the type of the results.
+ * @author Created by: Pplociennik at 16.10.2026 15:30
+ */
+public final class SingleFlight< K, V > {
+
+    /**
+     * The executions currently in flight mapped by their keys.
+     */
+    private final ConcurrentMap< K, CompletableFuture< V > > inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the action for the specified key, or joins the execution already in flight for that key.
+     *
+     * @param aKey
+     *         a non-null key of the execution.
+     * @param aAction
+     *         a non-null action to execute; may return null.
+     * @return the result of the (shared) execution.
+     *
+     * @throws RuntimeException
+     *         the exception thrown by the (shared) execution.
+     */
+    public V execute( @NonNull K aKey, @NonNull Supplier< V > aAction ) {
+        requireNonNull( aKey );
+        requireNonNull( aAction );
+
+        CompletableFuture< V > execution = new CompletableFuture<>();
+        CompletableFuture< V > pendingExecution = inFlight.putIfAbsent( aKey, execution );
+        if ( pendingExecution != null ) {
+            return await( pendingExecution );
+        }
+
+        try {
+            V result = aAction.get();
+            execution.complete( result );
+            return result;
+        } catch ( RuntimeException | Error aE ) {
+            execution.completeExceptionally( aE );
+            throw aE;
+        } finally {
+            inFlight.remove( aKey, execution );
+        }
+    }
+
+    /**
+     * Retrieves the number of the executions currently in flight.
+     *
+     * @return the number of the executions in flight.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Waits for the execution started by another caller.
+     *
+     * @param aExecution
+     *         the pending execution.
+     * @return the result of the execution.
+     */
+    private V await( CompletableFuture< V > aExecution ) {
+        try {
+            return aExecution.join();
+        } catch ( CompletionException aE ) {
+            if ( aE.getCause() instanceof RuntimeException cause ) {
+                throw cause;
+            }
+            if ( aE.getCause() instanceof Error cause ) {
+                throw cause;
+            }
+            throw aE;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.goaleaf.accounts.system.concurrent;
+
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed set of locks guarding the mutations of the user sessions. Each session identifier is mapped to one of
+ * the stripes, so the mutations of the same session are serialized while the mutations of different sessions
+ * contend only when their identifiers fall into the same stripe.
+ * <p>
+ * The locks are reentrant, so a guarded mutation may call other guarded mutations of the same session.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 16:10
+ */
+public final class StripedSessionLocks {
+
+    /**
+     * The locks; the length is a power of two.
+     */
+    private final ReentrantLock[] stripes;
+
+    /**
+     * The mask selecting the stripe index from the spread hash of the session identifier.
+     */
+    private final int stripeMask;
+
+    /**
+     * Creates the locks.
+     *
+     * @param aMinStripesCount
+     *         the minimal number of the stripes; rounded up to the nearest power of two.
+     * @throws IllegalArgumentException
+     *         if the provided count is not positive
+     */
+    public StripedSessionLocks( int aMinStripesCount ) {
+        if ( aMinStripesCount <= 0 ) {
+            throw new IllegalArgumentException( "The number of the stripes must be positive, got: " + aMinStripesCount );
+        }
+        int stripesCount = aMinStripesCount == 1 ? 1 : Integer.highestOneBit( aMinStripesCount - 1 ) << 1;
+        stripes = new ReentrantLock[ stripesCount ];
+        for ( int i = 0; i < stripesCount; i++ ) {
+            stripes[ i ] = new ReentrantLock();
+        }
+        stripeMask = stripesCount - 1;
+    }
+
+    /**
+     * Executes the mutation of the specified session holding the session's lock.
+     *
+     * @param aSessionId
+     *         a non-null identifier of the mutated session.
+     * @param aMutation
+     *         a non-null mutation.
+     * @param <T>
+     *         the type of the mutation's result.
+     * @return the result of the mutation.
+     */
+    public < T > T executeLocked( @NonNull String aSessionId, @NonNull Supplier< T > aMutation ) {
+        requireNonNull( aMutation );
+        ReentrantLock lock = getLock( aSessionId );
+        lock.lock();
+        try {
+            return aMutation.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Executes the mutation of the specified session holding the session's lock.
+     *
+     * @param aSessionId
+     *         a non-null identifier of the mutated session.
+     * @param aMutation
+     *         a non-null mutation.
+     */
+    public void executeLocked( @NonNull String aSessionId, @NonNull Runnable aMutation ) {
+        requireNonNull( aMutation );
+        ReentrantLock lock = getLock( aSessionId );
+        lock.lock();
+        try {
+            aMutation.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of the stripes.
+     *
+     * @return the number of the stripes.
+     */
+    public int getStripesCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Retrieves the lock of the stripe the specified session falls into.
+     *
+     * @param aSessionId
+     *         a non-null identifier of the session.
+     * @return the lock.
+     */
+    ReentrantLock getLock( @NonNull String aSessionId ) {
+        requireNonNull( aSessionId );
+        int hash = aSessionId.hashCode();
+        return stripes[ ( hash ^ ( hash >>> 16 ) ) & stripeMask ];
+    }
+}
@@ -4,9 +4,14 @@ import com.github.pplociennik.commons.system.registry.CollectingSystemRegistry;
 import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
 import com.goaleaf.accounts.data.dto.user.UserSessionDetailsDto;
 import com.goaleaf.accounts.service.AuthenticationService;
+import com.goaleaf.accounts.service.SessionRefreshAheadService;
+import com.goaleaf.accounts.service.SupersededTokensService;
 import com.goaleaf.accounts.service.UserSessionDetailsService;
+import com.goaleaf.accounts.system.concurrent.SingleFlight;
 import com.goaleaf.accounts.system.exc.auth.SessionExpiredException;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import com.goaleaf.accounts.system.util.AccessTokenUtils;
+import com.goaleaf.accounts.system.util.PathPrefixMatcher;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +33,9 @@ import static com.github.pplociennik.commons.utility.OptionalUtils.getMandatoryV
  *     <li>Validates the user token using the {@link UserSessionDetailsService} to determine if the token is active and valid.</li>
  *     <li>Handles invalid tokens by attempting to refresh them via {@code AuthenticationService} and updating session details
  *         upon successful token refresh.</li>
+ *     <li>Schedules the background refresh of the valid tokens nearing their expiration via {@link SessionRefreshAheadService}
+ *         and hands out the new token with the next request carrying the replaced one.</li>
+ *     <li>Hands out the token which has replaced the carried one within the grace period, without refreshing the session again.</li>
  *     <li>Throws a {@link SessionExpiredException} or {@link IllegalStateException} if the token cannot be validated or refreshed.</li>
  *     <li>Allows the request to proceed if the token is valid and no session issues are encountered.</li>
  * </ul>
@@ -38,6 +46,8 @@ import static com.github.pplociennik.commons.utility.OptionalUtils.getMandatoryV
  * <ul>
  *     <li>{@link UserSessionDetailsService}: Responsible for user session validation and management.</li>
  *     <li>{@link AuthenticationService}: Handles user authentication and session refreshing.</li>
+ *     <li>{@link SessionRefreshAheadService}: Refreshes the sessions nearing the access token expiration in the background.</li>
+ *     <li>{@link SupersededTokensService}: Maps the just refreshed tokens to their replacements for a grace period.</li>
  * </ul>
  * <p>
  * Usage of this filter requires incoming requests to include a valid "User-Token" header. If validation or refreshing fails,
@@ -69,6 +79,19 @@ public class UserTokenValidationFilter extends OncePerRequestFilter {
      */
     private static final String TOKEN_REFRESHED_ATTRIBUTE_NAME = "USER_ACCESS_TOKEN_REFRESHED";
 
+    /**
+     * Represents the name of the request attribute holding the {@link AccessTokenClaims} of the final (possibly refreshed)
+     * user access token. The token is parsed only once per request, and the services and controllers use the claims
+     * instead of decoding the token again.
+     */
+    private static final String TOKEN_CLAIMS_ATTRIBUTE_NAME = AccessTokenClaims.REQUEST_ATTRIBUTE_NAME;
+
+    /**
+     * Coalesces the concurrent resolutions of the invalid tokens of the same session (e.g. parallel requests from
+     * several browser tabs), mapped by the session identifier. All the callers receive the claims of the same new token.
+     */
+    private final SingleFlight< String, AccessTokenClaims > invalidTokenResolutions = new SingleFlight<>();
+
     /**
      * A service dependency responsible for managing user session details within the system.
      * This field is an instance of {@link UserSessionDetailsService}, which provides
@@ -90,6 +113,18 @@ public class UserTokenValidationFilter extends OncePerRequestFilter {
      */
     private final AuthenticationService authenticationService;
 
+    /**
+     * A service refreshing the sessions in the background shortly before their access tokens expire. The token
+     * it has refreshed a session with is handed out only to the requests carrying exactly the replaced token.
+     */
+    private final SessionRefreshAheadService sessionRefreshAheadService;
+
+    /**
+     * A service remembering for a grace period the tokens which have replaced the just refreshed ones, so the requests
+     * sent with a refreshed token before the client received the new one do not refresh the session again.
+     */
+    private final SupersededTokensService supersededTokensService;
+
     /**
      * A registry for managing token validation filters in the {@code UserTokenValidationFilter} class.
      * This registry is used to collect and store functionalities or filters for validating user tokens,
@@ -101,6 +136,12 @@ public class UserTokenValidationFilter extends OncePerRequestFilter {
      */
     private final CollectingSystemRegistry< String > registry;
 
+    /**
+     * The paths of the {@link #registry} compiled into an immutable prefix trie. Compiled on the first filtered request,
+     * when the security configuration has already registered all the paths; later registrations are not taken into account.
+     */
+    private volatile PathPrefixMatcher filteredPathsMatcher;
+
     /**
      * Can be overridden in subclasses for custom filtering control,
      * returning {@code true} to avoid filtering of the given request.
@@ -114,10 +155,21 @@ public class UserTokenValidationFilter extends OncePerRequestFilter {
     protected boolean shouldNotFilter( HttpServletRequest aRequest ) {
         String path = aRequest.getRequestURI();
         // Execute filter only if the path is on the list
-        return registry.stream()
-                .filter( path::startsWith )
-                .findAny()
-                .isEmpty();
+        return !getFilteredPathsMatcher().matches( path );
+    }
+
+    /**
+     * Retrieves the matcher of the filtered paths, compiling it from the registry on the first call.
+     *
+     * @return the matcher of the filtered paths.
+     */
+    private PathPrefixMatcher getFilteredPathsMatcher() {
+        PathPrefixMatcher matcher = filteredPathsMatcher;
+        if ( matcher == null ) {
+            matcher = PathPrefixMatcher.compile( registry.stream().toList() );
+            filteredPathsMatcher = matcher;
+        }
+        return matcher;
     }
 
     /**
@@ -137,73 +189,88 @@ public class UserTokenValidationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal( HttpServletRequest aRequest, HttpServletResponse aResponse, FilterChain aFilterChain ) throws ServletException, IOException {
         String userAccessToken = aRequest.getHeader( USER_TOKEN_HEADER_NAME );
+        AccessTokenClaims userAccessTokenClaims = AccessTokenUtils.parseClaims( userAccessToken );
 
-        boolean isTokenValid = userSessionDetailsService.checkAccessToken( userAccessToken );
         boolean isTokenRefreshed = false;
-        String newUserAccessToken = null;
 
-        if ( !isTokenValid ) {
-            newUserAccessToken = resolveInvalidToken( userAccessToken );
+        Optional< AccessTokenClaims > replacementTokenClaims = findReplacementToken( userAccessTokenClaims );
+
+        if ( replacementTokenClaims.isPresent() ) {
+            userAccessTokenClaims = replacementTokenClaims.get();
+            isTokenRefreshed = true;
+        } else if ( userSessionDetailsService.checkAccessToken( userAccessTokenClaims ) ) {
+            sessionRefreshAheadService.scheduleRefreshIfExpiring( userAccessTokenClaims );
+        } else {
+            AccessTokenClaims invalidTokenClaims = userAccessTokenClaims;
+            userAccessTokenClaims = invalidTokenResolutions.execute( invalidTokenClaims.getSessionId(), () -> resolveInvalidToken( invalidTokenClaims ) );
             isTokenRefreshed = true;
         }
 
-        String finalUserAccessToken = newUserAccessToken == null ? userAccessToken : newUserAccessToken;
-        ModifiedHeaderRequestWrapper modifiedHeaderRequestWrapper = new ModifiedHeaderRequestWrapper( aRequest, finalUserAccessToken );
+        ModifiedHeaderRequestWrapper modifiedHeaderRequestWrapper = new ModifiedHeaderRequestWrapper( aRequest, userAccessTokenClaims.getToken() );
         modifiedHeaderRequestWrapper.setAttribute( TOKEN_REFRESHED_ATTRIBUTE_NAME, isTokenRefreshed );
+        modifiedHeaderRequestWrapper.setAttribute( TOKEN_CLAIMS_ATTRIBUTE_NAME, userAccessTokenClaims );
         aFilterChain.doFilter( modifiedHeaderRequestWrapper, aResponse );
     }
 
+    /**
+     * Finds the valid token which has already replaced the provided one, either in a refresh of another request
+     * or in a background refresh.
+     *
+     * @param aUserAccessTokenClaims
+     *         the claims of the access token carried by the request; must not be null
+     * @return the claims of the replacement token or an empty {@link Optional} if there is no valid one
+     */
+    private Optional< AccessTokenClaims > findReplacementToken( AccessTokenClaims aUserAccessTokenClaims ) {
+        return supersededTokensService.findReplacement( aUserAccessTokenClaims )
+                .filter( userSessionDetailsService::checkAccessToken );
+    }
+
     /**
      * Resolves an invalid user access token by refreshing it using the associated refresh token.
-     * Validates the new token and updates the user's session details.
+     * Validates the new token; the session details are updated in place by the refresh itself.
      *
-     * @param aUserAccessToken
-     *         the user's current access token that needs to be resolved; must not be null
-     * @return the refreshed and validated access token
+     * @param aUserAccessTokenClaims
+     *         the claims of the user's current access token that needs to be resolved; must not be null
+     * @return the claims of the refreshed and validated access token
      *
      * @throws IllegalStateException
      *         if the token refresh process fails or the new access token is invalid
      */
-    private String resolveInvalidToken( String aUserAccessToken ) {
-        String sessionId = AccessTokenUtils.getSessionId( aUserAccessToken );
+    private AccessTokenClaims resolveInvalidToken( AccessTokenClaims aUserAccessTokenClaims ) {
+        String sessionId = aUserAccessTokenClaims.getSessionId();
         Optional< UserSessionDetailsDto > optionalDetails = userSessionDetailsService.getUserSessionDetails( sessionId );
         UserSessionDetailsDto details = getMandatoryValue( optionalDetails );
 
-        String refreshToken = details.getRefreshToken();
-        validateRefreshToken( aUserAccessToken, refreshToken );
+        validateRefreshToken( sessionId, details );
 
-        AuthenticationTokenDto refreshedToken = authenticationService.refreshUserSession( aUserAccessToken );
-        String newUserAccessToken = refreshedToken.getAccessToken();
+        AuthenticationTokenDto refreshedToken = authenticationService.refreshUserSession( aUserAccessTokenClaims.getToken() );
+        AccessTokenClaims newUserAccessTokenClaims = AccessTokenUtils.parseClaims( refreshedToken.getAccessToken() );
 
-        boolean isNewUserAccessTokenValid = userSessionDetailsService.checkAccessToken( newUserAccessToken );
+        boolean isNewUserAccessTokenValid = userSessionDetailsService.checkAccessToken( newUserAccessTokenClaims );
         if ( !isNewUserAccessTokenValid ) {
             throw new IllegalStateException( "Token refresh failed." );
         }
 
-        userSessionDetailsService.deleteSessionDetails( sessionId );
-        userSessionDetailsService.createUserSessionDetails( details, refreshedToken );
-
-        return newUserAccessToken;
+        return newUserAccessTokenClaims;
     }
 
     /**
-     * Validates the provided refresh token to ensure its validity and deletes the corresponding
+     * Validates the refresh token of the session by its stored expiration time and deletes the corresponding
      * user session if the token is invalid. If the refresh token is invalid, a
      * {@code SessionExpiredException} is thrown.
      *
-     * @param aUserAccessToken
-     *         the user's current access token used to retrieve the session ID; must not be null
-     * @param aRefreshToken
-     *         the refresh token to validate; must not be null
+     * @param aSessionId
+     *         the identifier of the session the refresh token belongs to; must not be null
+     * @param aSessionDetails
+     *         the details of the session holding the refresh token to validate; must not be null
      * @throws SessionExpiredException
      *         if the refresh token is invalid, indicating an expired session
      */
-    private void validateRefreshToken( String aUserAccessToken, String aRefreshToken ) {
-        boolean isTokenValid = userSessionDetailsService.checkAccessToken( aRefreshToken );
+    private void validateRefreshToken( String aSessionId, UserSessionDetailsDto aSessionDetails ) {
+        boolean isTokenValid = userSessionDetailsService.checkRefreshToken( aSessionDetails );
 
         if ( !isTokenValid ) {
-            String sessionId = AccessTokenUtils.getSessionId( aUserAccessToken );
-            authenticationService.deleteUserSession( sessionId );
+            authenticationService.deleteUserSession( aSessionId );
             throw new SessionExpiredException();
         }
     }
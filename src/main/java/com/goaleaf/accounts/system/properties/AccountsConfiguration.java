@@ -0,0 +1,219 @@
+package com.goaleaf.accounts.system.properties;
+
+import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
+import com.goaleaf.accounts.system.util.token.TokenValidationStrategy;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+
+import static com.goaleaf.accounts.system.properties.AccountsSystemProperties.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, typed snapshot of the {@link AccountsSystemProperties}. The properties are read and parsed once,
+ * when the snapshot is created, so the hot paths only read the snapshot's fields.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 17:55
+ */
+@Getter
+public final class AccountsConfiguration {
+
+    /**
+     * The URL of the auth service (keycloak).
+     */
+    private final String authServiceUrl;
+
+    /**
+     * A name of the realm.
+     */
+    private final String realmName;
+
+    /**
+     * An identifier of the keycloak's client.
+     */
+    private final String clientId;
+
+    /**
+     * The secret key associated with the keycloak's client.
+     */
+    private final String clientSecret;
+
+    /**
+     * The grant type used in the client authentication process.
+     */
+    private final String grantType;
+
+    /**
+     * The scope requested in the client authentication process.
+     */
+    private final String scope;
+
+    /**
+     * The access token validation strategy.
+     */
+    private final TokenValidationStrategy accessTokenValidationStrategy;
+
+    /**
+     * The expected issuer of the access tokens.
+     */
+    private final String accessTokenIssuer;
+
+    /**
+     * The expected audience of the access tokens.
+     */
+    private final String accessTokenAudience;
+
+    /**
+     * The maximal lifetime of the access tokens issued by the realm.
+     */
+    private final Duration accessTokenMaxLifetime;
+
+    /**
+     * The maximal time for which a positive introspection result is trusted.
+     */
+    private final Duration introspectionCacheMaxStaleness;
+
+    /**
+     * The maximal number of the remembered introspection results.
+     */
+    private final long introspectionCacheMaxSize;
+
+    /**
+     * The time before the access token's expiration within which the session is refreshed in the background.
+     */
+    private final Duration accessTokenRefreshAheadWindow;
+
+    /**
+     * The number of the threads executing the background refreshes of the sessions.
+     */
+    private final int accessTokenRefreshAheadThreads;
+
+    /**
+     * The maximal number of the background refreshes waiting for execution.
+     */
+    private final int accessTokenRefreshAheadQueueCapacity;
+
+    /**
+     * The time for which a refreshed access token is still mapped to its replacement.
+     */
+    private final Duration accessTokenGracePeriod;
+
+    /**
+     * The maximal number of the refreshed access tokens mapped to their replacements.
+     */
+    private final long accessTokenGraceMaxSize;
+
+    /**
+     * Whether the independent steps of the login run concurrently.
+     */
+    private final boolean loginParallel;
+
+    /**
+     * The maximal number of the session details kept in memory.
+     */
+    private final long sessionDetailsCacheMaxSize;
+
+    /**
+     * The maximal time for which the session details are kept in memory.
+     */
+    private final Duration sessionDetailsCacheMaxStaleness;
+
+    /**
+     * The interval between the runs of the expired session details removal.
+     */
+    private final Duration sessionDetailsReaperInterval;
+
+    /**
+     * The maximal number of the expired session details removed with a single statement.
+     */
+    private final int sessionDetailsReaperBatchSize;
+
+    /**
+     * The pause between the subsequent batches of the expired session details removal.
+     */
+    private final Duration sessionDetailsReaperBatchPause;
+
+    /**
+     * The maximal number of the pooled connections to the auth service.
+     */
+    private final int keycloakClientMaxConnections;
+
+    /**
+     * The maximal time a request waits for a free pooled connection to the auth service.
+     */
+    private final Duration keycloakClientPendingAcquireTimeout;
+
+    /**
+     * The time after which an idle pooled connection to the auth service is closed.
+     */
+    private final Duration keycloakClientMaxIdleTime;
+
+    /**
+     * The maximal time of establishing a connection to the auth service.
+     */
+    private final Duration keycloakClientConnectTimeout;
+
+    /**
+     * The maximal time of waiting for the auth service's response.
+     */
+    private final Duration keycloakClientResponseTimeout;
+
+    /**
+     * The maximal time of waiting for the auth service's response to the requests making it send an email.
+     */
+    private final Duration keycloakClientEmailResponseTimeout;
+
+    /**
+     * The URI of the client application.
+     */
+    private final String clientUri;
+
+    private AccountsConfiguration( SystemPropertiesReaderService aReader ) {
+        authServiceUrl = aReader.readProperty( AUTH_SERVICE_URL );
+        realmName = aReader.readProperty( KEYCLOAK_REALM_NAME );
+        clientId = aReader.readProperty( KEYCLOAK_CLIENT_ID );
+        clientSecret = aReader.readProperty( KEYCLOAK_CLIENT_SECRET );
+        grantType = aReader.readProperty( KEYCLOAK_GRANT_TYPE );
+        scope = aReader.readProperty( KEYCLOAK_SCOPE );
+        accessTokenValidationStrategy = TokenValidationStrategy.valueOf( aReader.readProperty( ACCESS_TOKEN_VALIDATION_STRATEGY ) );
+        accessTokenIssuer = aReader.readProperty( ACCESS_TOKEN_ISSUER );
+        accessTokenAudience = aReader.readProperty( ACCESS_TOKEN_AUDIENCE );
+        accessTokenMaxLifetime = Duration.ofSeconds( Long.parseLong( aReader.readProperty( ACCESS_TOKEN_MAX_LIFETIME ) ) );
+        introspectionCacheMaxStaleness = Duration.ofSeconds( Long.parseLong( aReader.readProperty( INTROSPECTION_CACHE_MAX_STALENESS ) ) );
+        introspectionCacheMaxSize = Long.parseLong( aReader.readProperty( INTROSPECTION_CACHE_MAX_SIZE ) );
+        accessTokenRefreshAheadWindow = Duration.ofSeconds( Long.parseLong( aReader.readProperty( ACCESS_TOKEN_REFRESH_AHEAD_WINDOW ) ) );
+        accessTokenRefreshAheadThreads = Integer.parseInt( aReader.readProperty( ACCESS_TOKEN_REFRESH_AHEAD_THREADS ) );
+        accessTokenRefreshAheadQueueCapacity = Integer.parseInt( aReader.readProperty( ACCESS_TOKEN_REFRESH_AHEAD_QUEUE_CAPACITY ) );
+        accessTokenGracePeriod = Duration.ofSeconds( Long.parseLong( aReader.readProperty( ACCESS_TOKEN_GRACE_PERIOD ) ) );
+        accessTokenGraceMaxSize = Long.parseLong( aReader.readProperty( ACCESS_TOKEN_GRACE_MAX_SIZE ) );
+        loginParallel = Boolean.parseBoolean( aReader.readProperty( LOGIN_PARALLEL ) );
+        sessionDetailsCacheMaxSize = Long.parseLong( aReader.readProperty( SESSION_DETAILS_CACHE_MAX_SIZE ) );
+        sessionDetailsCacheMaxStaleness = Duration.ofSeconds( Long.parseLong( aReader.readProperty( SESSION_DETAILS_CACHE_MAX_STALENESS ) ) );
+        sessionDetailsReaperInterval = Duration.ofSeconds( Long.parseLong( aReader.readProperty( SESSION_DETAILS_REAPER_INTERVAL ) ) );
+        sessionDetailsReaperBatchSize = Integer.parseInt( aReader.readProperty( SESSION_DETAILS_REAPER_BATCH_SIZE ) );
+        sessionDetailsReaperBatchPause = Duration.ofMillis( Long.parseLong( aReader.readProperty( SESSION_DETAILS_REAPER_BATCH_PAUSE ) ) );
+        keycloakClientMaxConnections = Integer.parseInt( aReader.readProperty( KEYCLOAK_CLIENT_MAX_CONNECTIONS ) );
+        keycloakClientPendingAcquireTimeout = Duration.ofMillis( Long.parseLong( aReader.readProperty( KEYCLOAK_CLIENT_PENDING_ACQUIRE_TIMEOUT ) ) );
+        keycloakClientMaxIdleTime = Duration.ofSeconds( Long.parseLong( aReader.readProperty( KEYCLOAK_CLIENT_MAX_IDLE_TIME ) ) );
+        keycloakClientConnectTimeout = Duration.ofMillis( Long.parseLong( aReader.readProperty( KEYCLOAK_CLIENT_CONNECT_TIMEOUT ) ) );
+        keycloakClientResponseTimeout = Duration.ofMillis( Long.parseLong( aReader.readProperty( KEYCLOAK_CLIENT_RESPONSE_TIMEOUT ) ) );
+        keycloakClientEmailResponseTimeout = Duration.ofMillis( Long.parseLong( aReader.readProperty( KEYCLOAK_CLIENT_EMAIL_RESPONSE_TIMEOUT ) ) );
+        clientUri = aReader.readProperty( CLIENT_URI );
+    }
+
+    /**
+     * Reads the current values of the properties and creates their snapshot.
+     *
+     * @param aSystemPropertiesReaderService
+     *         a non-null service used for reading the properties.
+     * @return the snapshot of the properties.
+     *
+     * @throws IllegalArgumentException
+     *         if any of the properties holds a value which cannot be parsed
+     */
+    public static AccountsConfiguration read( @NonNull SystemPropertiesReaderService aSystemPropertiesReaderService ) {
+        requireNonNull( aSystemPropertiesReaderService );
+        return new AccountsConfiguration( aSystemPropertiesReaderService );
+    }
+}
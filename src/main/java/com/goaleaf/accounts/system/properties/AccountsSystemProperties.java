@@ -6,6 +6,7 @@ import java.util.Set;
 
 import static com.goaleaf.accounts.system.util.token.TokenValidationStrategy.OFFLINE;
 import static com.goaleaf.accounts.system.util.token.TokenValidationStrategy.ONLINE;
+import static com.goaleaf.accounts.system.util.token.TokenValidationStrategy.SIGNATURE;
 
 /**
  * System properties related to the accounts service.
@@ -48,12 +49,136 @@ public enum AccountsSystemProperties implements SystemProperty {
      */
     KEYCLOAK_SCOPE( "com.goaleaf.accounts.keycloak.scope" ),
 
+    /**
+     * The maximal number of the pooled connections to the auth service.
+     */
+    KEYCLOAK_CLIENT_MAX_CONNECTIONS( "com.goaleaf.accounts.keycloak.client.maxConnections" ),
+
+    /**
+     * The maximal time (in milliseconds) a request waits for a free pooled connection to the auth service.
+     */
+    KEYCLOAK_CLIENT_PENDING_ACQUIRE_TIMEOUT( "com.goaleaf.accounts.keycloak.client.pendingAcquireTimeout" ),
+
+    /**
+     * The time (in seconds) after which an idle pooled connection to the auth service is closed.
+     */
+    KEYCLOAK_CLIENT_MAX_IDLE_TIME( "com.goaleaf.accounts.keycloak.client.maxIdleTime" ),
+
+    /**
+     * The maximal time (in milliseconds) of establishing a connection to the auth service.
+     */
+    KEYCLOAK_CLIENT_CONNECT_TIMEOUT( "com.goaleaf.accounts.keycloak.client.connectTimeout" ),
+
+    /**
+     * The maximal time (in milliseconds) of waiting for the auth service's response.
+     */
+    KEYCLOAK_CLIENT_RESPONSE_TIMEOUT( "com.goaleaf.accounts.keycloak.client.responseTimeout" ),
+
+    /**
+     * The maximal time (in milliseconds) of waiting for the auth service's response to the requests making it send an email.
+     */
+    KEYCLOAK_CLIENT_EMAIL_RESPONSE_TIMEOUT( "com.goaleaf.accounts.keycloak.client.emailResponseTimeout" ),
+
     /**
      * Defines the access token validation strategy which should be used during the application work. The possible values are:<br>
      * - ONLINE - sends a validation request to keycloak service each time the access token needs to be validated,<br>
-     * - OFFLINE - uses date comparison (compares the expiration date time decoded from the access token with the system date time) locally for the access token validation
+     * - OFFLINE - uses date comparison (compares the expiration date time decoded from the access token with the system date time) locally for the access token validation,<br>
+     * - SIGNATURE - verifies the access token's signature locally with the realm's public keys and checks the issuer, audience, "not before" and expiration claims
+     */
+    ACCESS_TOKEN_VALIDATION_STRATEGY( "com.goaleaf.accounts.auth.access.token.validationStrategy", OFFLINE.name(), ONLINE.name(), SIGNATURE.name() ),
+
+    /**
+     * The expected issuer ({@code iss} claim) of the access tokens, e.g. {@code http://localhost:7080/realms/goaleaf}.
+     * Used by the SIGNATURE access token validation strategy.
+     */
+    ACCESS_TOKEN_ISSUER( "com.goaleaf.accounts.auth.access.token.issuer" ),
+
+    /**
+     * The expected audience ({@code aud} claim) of the access tokens. The audience is not checked if empty.
+     * Used by the SIGNATURE access token validation strategy.
+     */
+    ACCESS_TOKEN_AUDIENCE( "com.goaleaf.accounts.auth.access.token.audience" ),
+
+    /**
+     * The maximal time (in seconds) for which a positive introspection result of an access token is trusted without
+     * asking the auth service again. Used by the ONLINE access token validation strategy.
+     */
+    INTROSPECTION_CACHE_MAX_STALENESS( "com.goaleaf.accounts.auth.access.token.introspection.cache.maxStaleness" ),
+
+    /**
+     * The maximal number of the remembered introspection results. Used by the ONLINE access token validation strategy.
+     */
+    INTROSPECTION_CACHE_MAX_SIZE( "com.goaleaf.accounts.auth.access.token.introspection.cache.maxSize" ),
+
+    /**
+     * The time (in seconds) before the access token's expiration within which the session is refreshed in the background,
+     * so the request crossing the expiration does not wait for the refresh. The background refreshes are disabled if zero.
+     */
+    ACCESS_TOKEN_REFRESH_AHEAD_WINDOW( "com.goaleaf.accounts.auth.access.token.refreshAhead.window" ),
+
+    /**
+     * The number of the threads executing the background refreshes of the sessions.
+     */
+    ACCESS_TOKEN_REFRESH_AHEAD_THREADS( "com.goaleaf.accounts.auth.access.token.refreshAhead.threads" ),
+
+    /**
+     * The maximal number of the background refreshes waiting for execution. The refreshes exceeding the limit are skipped
+     * and the sessions are refreshed during the requests, once their access tokens expire.
+     */
+    ACCESS_TOKEN_REFRESH_AHEAD_QUEUE_CAPACITY( "com.goaleaf.accounts.auth.access.token.refreshAhead.queueCapacity" ),
+
+    /**
+     * The time (in seconds) after its expiration (or its refresh, if later) for which a refreshed access token is still
+     * mapped to its replacement, so the requests sent
+     * with the refreshed token before the client received the new one get the new token without refreshing the session again.
+     */
+    ACCESS_TOKEN_GRACE_PERIOD( "com.goaleaf.accounts.auth.access.token.grace.period" ),
+
+    /**
+     * The maximal number of the refreshed access tokens mapped to their replacements.
+     */
+    ACCESS_TOKEN_GRACE_MAX_SIZE( "com.goaleaf.accounts.auth.access.token.grace.maxSize" ),
+
+    /**
+     * Defines whether the independent steps of the login (the email address verification check, the password grant and
+     * the reading of the user's details) run concurrently. If false, the steps run one after another.
+     */
+    LOGIN_PARALLEL( "com.goaleaf.accounts.auth.login.parallel", "true", "false" ),
+
+    /**
+     * The maximal number of the session details kept in memory, mapped by the session identifiers. Each entry lives
+     * no longer than the session's refresh token.
+     */
+    SESSION_DETAILS_CACHE_MAX_SIZE( "com.goaleaf.accounts.auth.session.cache.maxSize" ),
+
+    /**
+     * The maximal time (in seconds) for which the session details are kept in memory, so the changes made by other
+     * instances of the service are picked up within that time.
+     */
+    SESSION_DETAILS_CACHE_MAX_STALENESS( "com.goaleaf.accounts.auth.session.cache.maxStaleness" ),
+
+    /**
+     * The interval (in seconds) between the end of a run of the expired session details removal and the start of the next one.
+     */
+    SESSION_DETAILS_REAPER_INTERVAL( "com.goaleaf.accounts.auth.session.reaper.interval" ),
+
+    /**
+     * The maximal number of the expired session details removed with a single statement.
+     */
+    SESSION_DETAILS_REAPER_BATCH_SIZE( "com.goaleaf.accounts.auth.session.reaper.batchSize" ),
+
+    /**
+     * The pause (in milliseconds) between the subsequent batches of the expired session details removal, limiting
+     * the load the removal puts on the database.
+     */
+    SESSION_DETAILS_REAPER_BATCH_PAUSE( "com.goaleaf.accounts.auth.session.reaper.batchPause" ),
+
+    /**
+     * The maximal lifetime (in seconds) of the access tokens issued by the realm. The local revocations of the sessions
+     * and the users are remembered for that time, after which all the revoked tokens have expired anyway.
+     * Must not be shorter than the realm's access token lifespan.
      */
-    ACCESS_TOKEN_VALIDATION_STRATEGY( "com.goaleaf.accounts.auth.access.token.validationStrategy", OFFLINE.name(), ONLINE.name() ),
+    ACCESS_TOKEN_MAX_LIFETIME( "com.goaleaf.accounts.auth.access.token.maxLifetime" ),
 
     /**
      * Represents the configuration key for the client URI in the application.
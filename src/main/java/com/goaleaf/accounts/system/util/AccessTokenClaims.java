@@ -0,0 +1,73 @@
+package com.goaleaf.accounts.system.util;
+
+import com.github.pplociennik.commons.service.TimeService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.lang.NonNull;
+
+import java.time.Instant;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable view of the user access token's claims used during the request processing.
+ * <p>
+ * The token is parsed once by the {@code UserTokenValidationFilter} and the view is carried with the request
+ * as the {@link #REQUEST_ATTRIBUTE_NAME} attribute, so the services and controllers do not need to decode
+ * the same token again.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 12:05
+ * @see AccessTokenUtils#parseClaims(String)
+ */
+@Getter
+@AllArgsConstructor
+public final class AccessTokenClaims {
+
+    /**
+     * The name of the request attribute holding the claims of the (possibly refreshed) user access token.
+     */
+    public static final String REQUEST_ATTRIBUTE_NAME = "USER_ACCESS_TOKEN_CLAIMS";
+
+    /**
+     * The raw (encoded) access token.
+     */
+    private final String token;
+
+    /**
+     * The identifier of the session the token has been issued for ({@code sid} claim).
+     */
+    private final String sessionId;
+
+    /**
+     * The identifier of the user the token has been issued for ({@code sub} claim).
+     */
+    private final String userId;
+
+    /**
+     * The email address of the user ({@code email} claim).
+     */
+    private final String emailAddress;
+
+    /**
+     * The issuance time of the token ({@code iat} claim).
+     */
+    private final Instant issuedAt;
+
+    /**
+     * The expiration time of the token ({@code exp} claim).
+     */
+    private final Instant expirationTime;
+
+    /**
+     * Retrieves the number of seconds in which the token expires from now.
+     *
+     * @param aTimeService
+     *         a non-null service providing the current system time.
+     * @return an {@link Integer} representing the number of seconds being the live length of the token
+     */
+    public Integer getExpiresIn( @NonNull TimeService aTimeService ) {
+        requireNonNull( aTimeService );
+        Instant now = aTimeService.getCurrentSystemDateTime().toInstant();
+        return ( int ) ( expirationTime.getEpochSecond() - now.getEpochSecond() );
+    }
+}
@@ -1,7 +1,5 @@
 package com.goaleaf.accounts.system.util;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.interfaces.DecodedJWT;
 import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
 import org.springframework.lang.NonNull;
 
@@ -65,8 +63,7 @@ public final class AccessTokenUtils {
      */
     public static String getSessionId( @NonNull String aAccessToken ) {
         requireNonNull( aAccessToken );
-        DecodedJWT decodedJWT = JWT.decode( aAccessToken );
-        return decodedJWT.getClaim( "sid" ).asString();
+        return JwtClaimsExtractor.extract( aAccessToken ).getSessionId();
     }
 
     /**
@@ -97,9 +94,7 @@ public final class AccessTokenUtils {
      */
     public static String getUserId( @NonNull String aAccessToken ) {
         requireNonNull( aAccessToken );
-        String withoutPrefix = aAccessToken.contains( ACCESS_TOKEN_PREFIX ) ? getTokenWithoutPrefix( aAccessToken ) : aAccessToken;
-        DecodedJWT decodedJWT = JWT.decode( withoutPrefix );
-        return decodedJWT.getSubject();
+        return JwtClaimsExtractor.extract( getTokenWithoutPrefix( aAccessToken ) ).getUserId();
     }
 
     /**
@@ -114,8 +109,7 @@ public final class AccessTokenUtils {
      */
     public static Instant getExpirationTime( @NonNull String aAccessToken ) {
         requireNonNull( aAccessToken );
-        DecodedJWT decodedJWT = JWT.decode( aAccessToken );
-        return decodedJWT.getExpiresAtAsInstant();
+        return JwtClaimsExtractor.extract( aAccessToken ).getExpirationTime();
     }
 
     /**
@@ -152,11 +146,27 @@ public final class AccessTokenUtils {
      */
     public static String getUserEmail( @NonNull String aAuthenticationToken ) {
         requireNonNull( aAuthenticationToken );
-        DecodedJWT decodedJWT = JWT.decode( aAuthenticationToken );
-        return decodedJWT.getClaim( "email" ).asString();
+        return JwtClaimsExtractor.extract( aAuthenticationToken ).getEmailAddress();
+    }
+
+    /**
+     * Parses the provided access token once and returns an immutable view of the claims used during the request processing.
+     *
+     * @param aAccessToken
+     *         a non-null string representing the JWT access token; must not be null
+     * @return an {@link AccessTokenClaims} containing the session ID, user ID, email address, issuance and expiration time of the token
+     *
+     * @throws NullPointerException
+     *         if the provided access token is null
+     * @see JwtClaimsExtractor
+     */
+    public static AccessTokenClaims parseClaims( @NonNull String aAccessToken ) {
+        requireNonNull( aAccessToken );
+        return JwtClaimsExtractor.extract( aAccessToken );
     }
 
     private static String getTokenWithoutPrefix( String aAccessToken ) {
-        return aAccessToken.split( " " )[ 1 ];
+        String prefix = ACCESS_TOKEN_PREFIX + " ";
+        return aAccessToken.startsWith( prefix ) ? aAccessToken.substring( prefix.length() ) : aAccessToken;
     }
 }
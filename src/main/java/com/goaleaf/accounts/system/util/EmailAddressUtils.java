@@ -0,0 +1,35 @@
+package com.goaleaf.accounts.system.util;
+
+import org.springframework.lang.NonNull;
+
+import java.util.Locale;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utility class for normalizing the email addresses.
+ * The users are looked up by the normalized form, so the lookups do not depend on the letter case used by the user.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:45
+ */
+public final class EmailAddressUtils {
+
+    private EmailAddressUtils() {
+    }
+
+    /**
+     * Normalizes the provided email address by trimming it and converting it to lower case.
+     * The same normalization is applied to the stored email addresses by the database migration.
+     *
+     * @param aEmailAddress
+     *         a non-null email address.
+     * @return the normalized email address.
+     *
+     * @throws NullPointerException
+     *         if the provided email address is null
+     */
+    public static String normalize( @NonNull String aEmailAddress ) {
+        requireNonNull( aEmailAddress );
+        return aEmailAddress.trim().toLowerCase( Locale.ROOT );
+    }
+}
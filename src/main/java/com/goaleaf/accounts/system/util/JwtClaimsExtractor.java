@@ -0,0 +1,462 @@
+package com.goaleaf.accounts.system.util;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An allocation-light extractor of the claims of the JWT access tokens used during the request processing.
+ * <p>
+ * Unlike {@code JWT.decode}, the extractor does not decode the header and the signature, and does not build a JSON tree.
+ * The token's shape, length and alphabet are checked before any other work, then the payload segment is Base64URL-decoded
+ * into a per-thread reusable buffer (an exact-sized one on the virtual threads) and stream-parsed for the {@code sid}, {@code sub}, {@code email}, {@code iat}
+ * and {@code exp} claims only; the values of the other claims are skipped without being materialized.
+ * <p>
+ * The extractor does not verify the signature. Malformed tokens are rejected with the {@link JWTDecodeException},
+ * the same exception thrown by {@code JWT.decode}.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 20:55
+ */
+public final class JwtClaimsExtractor {
+
+    /**
+     * The maximal accepted length of the token.
+     */
+    public static final int MAX_TOKEN_LENGTH = 16 * 1024;
+
+    /**
+     * The initial capacity of the per-thread payload buffer, enough for the typical access tokens.
+     */
+    private static final int INITIAL_PAYLOAD_BUFFER_CAPACITY = 2 * 1024;
+
+    /**
+     * The values of the Base64URL alphabet's characters, -1 for the characters out of the alphabet.
+     */
+    private static final byte[] BASE64_URL_VALUES = new byte[ 128 ];
+
+    /**
+     * The per-thread buffer the payload is decoded into on the platform threads.
+     */
+    private static final ThreadLocal< byte[] > PAYLOAD_BUFFER = ThreadLocal.withInitial( () -> new byte[ INITIAL_PAYLOAD_BUFFER_CAPACITY ] );
+
+    private static final byte[] SID_CLAIM = ascii( "sid" );
+    private static final byte[] SUB_CLAIM = ascii( "sub" );
+    private static final byte[] EMAIL_CLAIM = ascii( "email" );
+    private static final byte[] IAT_CLAIM = ascii( "iat" );
+    private static final byte[] EXP_CLAIM = ascii( "exp" );
+
+    static {
+        Arrays.fill( BASE64_URL_VALUES, ( byte ) -1 );
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for ( int i = 0; i < alphabet.length(); i++ ) {
+            BASE64_URL_VALUES[ alphabet.charAt( i ) ] = ( byte ) i;
+        }
+    }
+
+    private JwtClaimsExtractor() {
+    }
+
+    /**
+     * Extracts the claims of the provided access token.
+     *
+     * @param aAccessToken
+     *         a non-null JWT access token (without the "Bearer" prefix).
+     * @return the claims of the token.
+     *
+     * @throws JWTDecodeException
+     *         if the token is oversized or malformed
+     * @throws NullPointerException
+     *         if the provided access token is null
+     */
+    public static AccessTokenClaims extract( @NonNull String aAccessToken ) {
+        requireNonNull( aAccessToken );
+        int length = aAccessToken.length();
+        if ( length > MAX_TOKEN_LENGTH ) {
+            throw new JWTDecodeException( "The token is longer than " + MAX_TOKEN_LENGTH + " characters." );
+        }
+
+        int firstDot = aAccessToken.indexOf( '.' );
+        int secondDot = firstDot < 0 ? -1 : aAccessToken.indexOf( '.', firstDot + 1 );
+        if ( firstDot <= 0 || secondDot < 0 || aAccessToken.indexOf( '.', secondDot + 1 ) >= 0 ) {
+            throw new JWTDecodeException( "The token was expected to have 3 parts." );
+        }
+        checkAlphabet( aAccessToken, 0, firstDot );
+        checkAlphabet( aAccessToken, secondDot + 1, length );
+
+        int decodedLength = decodedLength( aAccessToken, firstDot + 1, secondDot );
+        byte[] buffer = acquirePayloadBuffer( decodedLength );
+        decode( aAccessToken, firstDot + 1, secondDot, buffer );
+
+        return new PayloadParser( buffer, decodedLength ).parse( aAccessToken );
+    }
+
+    /**
+     * Checks whether the specified segment of the token consists of the Base64URL alphabet's characters only.
+     */
+    private static void checkAlphabet( String aToken, int aFrom, int aTo ) {
+        for ( int i = aFrom; i < aTo; i++ ) {
+            char c = aToken.charAt( i );
+            if ( c >= 128 || BASE64_URL_VALUES[ c ] < 0 ) {
+                throw new JWTDecodeException( "The token contains a character out of the Base64URL alphabet." );
+            }
+        }
+    }
+
+    /**
+     * Computes the length of the decoded segment, ignoring the optional padding.
+     */
+    private static int decodedLength( String aToken, int aFrom, int aTo ) {
+        int end = trimPadding( aToken, aFrom, aTo );
+        int characters = end - aFrom;
+        if ( characters == 0 || characters % 4 == 1 ) {
+            throw new JWTDecodeException( "The token's payload has an invalid length." );
+        }
+        return characters / 4 * 3 + Math.max( 0, characters % 4 - 1 );
+    }
+
+    /**
+     * Retrieves a buffer for the payload of the specified length. The virtual threads, created for every request,
+     * get a new exact-sized buffer instead of the per-thread one, which would never be reused and would only
+     * grow the threads' footprint.
+     *
+     * @param aLength
+     *         the length of the decoded payload.
+     * @return the buffer not shorter than the payload.
+     */
+    private static byte[] acquirePayloadBuffer( int aLength ) {
+        if ( Thread.currentThread().isVirtual() ) {
+            return new byte[ aLength ];
+        }
+        byte[] buffer = PAYLOAD_BUFFER.get();
+        if ( buffer.length < aLength ) {
+            buffer = new byte[ aLength ];
+            PAYLOAD_BUFFER.set( buffer );
+        }
+        return buffer;
+    }
+
+    /**
+     * Decodes the specified Base64URL segment of the token into the buffer.
+     */
+    private static void decode( String aToken, int aFrom, int aTo, byte[] aBuffer ) {
+        int end = trimPadding( aToken, aFrom, aTo );
+        int accumulator = 0;
+        int bits = 0;
+        int position = 0;
+        for ( int i = aFrom; i < end; i++ ) {
+            char c = aToken.charAt( i );
+            int value = c < 128 ? BASE64_URL_VALUES[ c ] : -1;
+            if ( value < 0 ) {
+                throw new JWTDecodeException( "The token contains a character out of the Base64URL alphabet." );
+            }
+            accumulator = ( accumulator << 6 ) | value;
+            bits += 6;
+            if ( bits >= 8 ) {
+                bits -= 8;
+                aBuffer[ position++ ] = ( byte ) ( accumulator >> bits );
+                accumulator &= ( 1 << bits ) - 1;
+            }
+        }
+    }
+
+    /**
+     * Finds the end of the segment without the trailing padding characters.
+     */
+    private static int trimPadding( String aToken, int aFrom, int aTo ) {
+        int end = aTo;
+        while ( end > aFrom && aTo - end < 2 && aToken.charAt( end - 1 ) == '=' ) {
+            end--;
+        }
+        return end;
+    }
+
+    private static byte[] ascii( String aValue ) {
+        return aValue.getBytes( StandardCharsets.US_ASCII );
+    }
+
+    /**
+     * A single-use streaming parser of the decoded payload, reading the top-level members of the JSON object.
+     */
+    private static final class PayloadParser {
+
+        private final byte[] buffer;
+
+        private final int limit;
+
+        private int position;
+
+        private PayloadParser( byte[] aBuffer, int aLimit ) {
+            buffer = aBuffer;
+            limit = aLimit;
+        }
+
+        /**
+         * Parses the payload and creates the claims of the token.
+         */
+        private AccessTokenClaims parse( String aAccessToken ) {
+            String sessionId = null;
+            String userId = null;
+            String emailAddress = null;
+            Instant issuedAt = null;
+            Instant expirationTime = null;
+
+            skipWhitespace();
+            expect( '{' );
+            skipWhitespace();
+            if ( peek() == '}' ) {
+                position++;
+            } else {
+                do {
+                    skipWhitespace();
+                    expect( '"' );
+                    int keyStart = position;
+                    boolean escaped = skipStringContent();
+                    int keyEnd = position - 1;
+                    skipWhitespace();
+                    expect( ':' );
+                    skipWhitespace();
+
+                    if ( isKey( SID_CLAIM, keyStart, keyEnd, escaped ) ) {
+                        sessionId = readTextOrNull();
+                    } else if ( isKey( SUB_CLAIM, keyStart, keyEnd, escaped ) ) {
+                        userId = readTextOrNull();
+                    } else if ( isKey( EMAIL_CLAIM, keyStart, keyEnd, escaped ) ) {
+                        emailAddress = readTextOrNull();
+                    } else if ( isKey( IAT_CLAIM, keyStart, keyEnd, escaped ) ) {
+                        issuedAt = readNumericDateOrNull( "iat" );
+                    } else if ( isKey( EXP_CLAIM, keyStart, keyEnd, escaped ) ) {
+                        expirationTime = readNumericDateOrNull( "exp" );
+                    } else {
+                        skipValue();
+                    }
+                    skipWhitespace();
+                } while ( tryConsume( ',' ) );
+                expect( '}' );
+            }
+
+            skipWhitespace();
+            if ( position != limit ) {
+                throw malformed();
+            }
+            return new AccessTokenClaims( aAccessToken, sessionId, userId, emailAddress, issuedAt, expirationTime );
+        }
+
+        /**
+         * Compares the key between the specified positions with the expected claim name.
+         */
+        private boolean isKey( byte[] aClaim, int aKeyStart, int aKeyEnd, boolean aEscaped ) {
+            if ( aEscaped ) {
+                return new String( aClaim, StandardCharsets.US_ASCII ).equals( unescape( aKeyStart, aKeyEnd ) );
+            }
+            return Arrays.equals( buffer, aKeyStart, aKeyEnd, aClaim, 0, aClaim.length );
+        }
+
+        /**
+         * Reads the string value; other value types are skipped and read as null, like {@code Claim#asString()} does.
+         */
+        private String readTextOrNull() {
+            if ( peek() != '"' ) {
+                skipValue();
+                return null;
+            }
+            position++;
+            int start = position;
+            boolean escaped = skipStringContent();
+            int end = position - 1;
+            return escaped ? unescape( start, end ) : new String( buffer, start, end - start, StandardCharsets.UTF_8 );
+        }
+
+        /**
+         * Reads the numeric date (seconds since the epoch), null if the value is the JSON null.
+         */
+        private Instant readNumericDateOrNull( String aClaimName ) {
+            byte first = peek();
+            if ( first == 'n' ) {
+                expectLiteral( "null" );
+                return null;
+            }
+            if ( first != '-' && ( first < '0' || first > '9' ) ) {
+                throw new JWTDecodeException( "The claim '" + aClaimName + "' contained a non-numeric date value." );
+            }
+
+            int start = position;
+            boolean integral = true;
+            long value = 0;
+            boolean negative = tryConsume( '-' );
+            try {
+                while ( position < limit ) {
+                    byte b = buffer[ position ];
+                    if ( b >= '0' && b <= '9' ) {
+                        if ( integral ) {
+                            value = Math.addExact( Math.multiplyExact( value, 10 ), b - '0' );
+                        }
+                    } else if ( b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-' ) {
+                        integral = false;
+                    } else {
+                        break;
+                    }
+                    position++;
+                }
+
+                long seconds = integral
+                               ? ( negative ? -value : value )
+                               : ( long ) Double.parseDouble( new String( buffer, start, position - start, StandardCharsets.US_ASCII ) );
+                return Instant.ofEpochSecond( seconds );
+            } catch ( ArithmeticException | NumberFormatException | DateTimeException aE ) {
+                throw new JWTDecodeException( "The claim '" + aClaimName + "' contained an invalid date value." );
+            }
+        }
+
+        /**
+         * Skips a value of any type, including the nested objects and arrays.
+         */
+        private void skipValue() {
+            int depth = 0;
+            do {
+                skipWhitespace();
+                byte b = next();
+                switch ( b ) {
+                    case '"' -> skipStringContent();
+                    case '{', '[' -> depth++;
+                    case '}', ']' -> {
+                        if ( --depth < 0 ) {
+                            throw malformed();
+                        }
+                    }
+                    case ',', ':' -> {
+                        if ( depth == 0 ) {
+                            throw malformed();
+                        }
+                    }
+                    default -> skipScalar();
+                }
+            } while ( depth > 0 );
+        }
+
+        /**
+         * Skips the rest of a number or a literal.
+         */
+        private void skipScalar() {
+            while ( position < limit ) {
+                byte b = buffer[ position ];
+                if ( b == ',' || b == '}' || b == ']' || b == ':' || isWhitespace( b ) ) {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        /**
+         * Skips the content of a string whose opening quote has been consumed, up to and including the closing quote.
+         *
+         * @return true if the string contains the escape sequences.
+         */
+        private boolean skipStringContent() {
+            boolean escaped = false;
+            while ( true ) {
+                byte b = next();
+                if ( b == '"' ) {
+                    return escaped;
+                }
+                if ( b == '\\' ) {
+                    next();
+                    escaped = true;
+                }
+            }
+        }
+
+        /**
+         * Decodes the string content between the specified positions, resolving the escape sequences.
+         */
+        private String unescape( int aStart, int aEnd ) {
+            StringBuilder builder = new StringBuilder( aEnd - aStart );
+            int segmentStart = aStart;
+            int i = aStart;
+            while ( i < aEnd ) {
+                if ( buffer[ i ] != '\\' ) {
+                    i++;
+                    continue;
+                }
+                builder.append( new String( buffer, segmentStart, i - segmentStart, StandardCharsets.UTF_8 ) );
+                byte escape = buffer[ i + 1 ];
+                switch ( escape ) {
+                    case '"', '\\', '/' -> builder.append( ( char ) escape );
+                    case 'b' -> builder.append( '\b' );
+                    case 'f' -> builder.append( '\f' );
+                    case 'n' -> builder.append( '\n' );
+                    case 'r' -> builder.append( '\r' );
+                    case 't' -> builder.append( '\t' );
+                    case 'u' -> {
+                        if ( i + 6 > aEnd ) {
+                            throw malformed();
+                        }
+                        try {
+                            builder.append( ( char ) Integer.parseInt( new String( buffer, i + 2, 4, StandardCharsets.US_ASCII ), 16 ) );
+                        } catch ( NumberFormatException aE ) {
+                            throw malformed();
+                        }
+                        i += 4;
+                    }
+                    default -> throw malformed();
+                }
+                i += 2;
+                segmentStart = i;
+            }
+            builder.append( new String( buffer, segmentStart, aEnd - segmentStart, StandardCharsets.UTF_8 ) );
+            return builder.toString();
+        }
+
+        private void expectLiteral( String aLiteral ) {
+            for ( int i = 0; i < aLiteral.length(); i++ ) {
+                expect( aLiteral.charAt( i ) );
+            }
+        }
+
+        private void expect( char aExpected ) {
+            if ( next() != aExpected ) {
+                throw malformed();
+            }
+        }
+
+        private boolean tryConsume( char aExpected ) {
+            if ( position < limit && buffer[ position ] == aExpected ) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private byte peek() {
+            if ( position >= limit ) {
+                throw malformed();
+            }
+            return buffer[ position ];
+        }
+
+        private byte next() {
+            byte b = peek();
+            position++;
+            return b;
+        }
+
+        private void skipWhitespace() {
+            while ( position < limit && isWhitespace( buffer[ position ] ) ) {
+                position++;
+            }
+        }
+
+        private static boolean isWhitespace( byte aByte ) {
+            return aByte == ' ' || aByte == '\t' || aByte == '\n' || aByte == '\r';
+        }
+
+        private static JWTDecodeException malformed() {
+            return new JWTDecodeException( "The token's payload is not a valid JSON object." );
+        }
+    }
+}
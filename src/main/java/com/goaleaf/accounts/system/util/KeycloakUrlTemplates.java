@@ -190,6 +190,11 @@ public enum KeycloakUrlTemplates {
         public Set< String > getRequiredParametersNames() {
             return Set.of( "Realm name", "User ID" );
         }
+
+        @Override
+        public boolean isSendingEmail() {
+            return true;
+        }
     },
 
     /**
@@ -216,6 +221,11 @@ public enum KeycloakUrlTemplates {
         public Set< String > getRequiredParametersNames() {
             return Set.of( "Realm name", "User ID" );
         }
+
+        @Override
+        public boolean isSendingEmail() {
+            return true;
+        }
     },
 
     /**
@@ -279,13 +289,29 @@ public enum KeycloakUrlTemplates {
      * - Realm name: The name of the Keycloak realm.<br>
      * - User email: The email address of the user to look up.</p>
      *
-     * <p>Example format: {@code /admin/realms/my-realm/users/?email=user@example.com&exact=true}</p>
+     * <p>Example format: {@code /admin/realms/my-realm/users?email=user@example.com&exact=true}</p>
      */
-    GET_USER_BY_EMAIL_TEMPLATE( "/admin/realms/%s/users/?email={%s}&exact=true" ) {
+    GET_USER_BY_EMAIL_TEMPLATE( "/admin/realms/%s/users?email=%s&exact=true" ) {
         @Override
         public Set< String > getRequiredParametersNames() {
             return Set.of( "Realm name", "User email" );
         }
+    },
+
+    /**
+     * Defines a URL template for retrieving the JSON Web Key Set (JWKS) of a specific Keycloak realm.
+     * The returned keys are used for the local verification of the access tokens' signatures.
+     *
+     * <p>Required parameters:<br>
+     * - Realm name: The name of the Keycloak realm.</p>
+     *
+     * <p>Example format: {@code /realms/my-realm/protocol/openid-connect/certs}</p>
+     */
+    GET_REALM_CERTS_TEMPLATE( "/realms/%s/protocol/openid-connect/certs" ) {
+        @Override
+        public Set< String > getRequiredParametersNames() {
+            return Set.of( "Realm name" );
+        }
     };
 
     /**
@@ -306,4 +332,14 @@ public enum KeycloakUrlTemplates {
      * for the URL template.
      */
     public abstract Set< String > getRequiredParametersNames();
+
+    /**
+     * Tells whether the endpoint makes Keycloak deliver an email synchronously. Such endpoints respond noticeably
+     * slower than the others and are given a longer response timeout.
+     *
+     * @return true if the endpoint sends an email, false otherwise.
+     */
+    public boolean isSendingEmail() {
+        return false;
+    }
 }
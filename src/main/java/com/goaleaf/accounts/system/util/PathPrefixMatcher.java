@@ -0,0 +1,117 @@
+package com.goaleaf.accounts.system.util;
+
+import org.springframework.lang.NonNull;
+
+import java.util.*;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable prefix trie of the request paths. Checks whether a path starts with any of the compiled prefixes
+ * walking the path's characters once, without locking and without allocating.
+ * <p>
+ * The instances are safe for the concurrent use once created.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 17:20
+ */
+public final class PathPrefixMatcher {
+
+    /**
+     * The root of the trie, representing the empty prefix.
+     */
+    private final Node root;
+
+    private PathPrefixMatcher( Node aRoot ) {
+        root = aRoot;
+    }
+
+    /**
+     * Compiles the provided prefixes into a matcher.
+     *
+     * @param aPrefixes
+     *         a non-null collection of the non-null prefixes.
+     * @return the matcher.
+     */
+    public static PathPrefixMatcher compile( @NonNull Collection< String > aPrefixes ) {
+        requireNonNull( aPrefixes );
+        MutableNode root = new MutableNode();
+        for ( String prefix : aPrefixes ) {
+            requireNonNull( prefix );
+            MutableNode node = root;
+            for ( int i = 0; i < prefix.length(); i++ ) {
+                node = node.children.computeIfAbsent( prefix.charAt( i ), aCharacter -> new MutableNode() );
+            }
+            node.terminal = true;
+        }
+        return new PathPrefixMatcher( root.freeze() );
+    }
+
+    /**
+     * Checks whether the provided path starts with any of the compiled prefixes.
+     *
+     * @param aPath
+     *         the path to be checked; null never matches.
+     * @return true if the path starts with any of the prefixes, false otherwise.
+     */
+    public boolean matches( String aPath ) {
+        if ( aPath == null ) {
+            return false;
+        }
+        Node node = root;
+        for ( int i = 0; !node.terminal; i++ ) {
+            if ( i == aPath.length() ) {
+                return false;
+            }
+            node = node.getChild( aPath.charAt( i ) );
+            if ( node == null ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * An immutable node of the trie. The children are kept in arrays sorted by their characters.
+     */
+    private static final class Node {
+
+        private final boolean terminal;
+
+        private final char[] characters;
+
+        private final Node[] children;
+
+        private Node( boolean aTerminal, char[] aCharacters, Node[] aChildren ) {
+            terminal = aTerminal;
+            characters = aCharacters;
+            children = aChildren;
+        }
+
+        private Node getChild( char aCharacter ) {
+            int index = Arrays.binarySearch( characters, aCharacter );
+            return index >= 0 ? children[ index ] : null;
+        }
+    }
+
+    /**
+     * A node of the trie used only while compiling.
+     */
+    private static final class MutableNode {
+
+        private final SortedMap< Character, MutableNode > children = new TreeMap<>();
+
+        private boolean terminal;
+
+        private Node freeze() {
+            char[] characters = new char[ children.size() ];
+            Node[] frozenChildren = new Node[ children.size() ];
+            int i = 0;
+            for ( Map.Entry< Character, MutableNode > child : children.entrySet() ) {
+                characters[ i ] = child.getKey();
+                frozenChildren[ i ] = child.getValue().freeze();
+                i++;
+            }
+            return new Node( terminal, characters, frozenChildren );
+        }
+    }
+}
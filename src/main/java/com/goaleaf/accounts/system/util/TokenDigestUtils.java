@@ -0,0 +1,47 @@
+package com.goaleaf.accounts.system.util;
+
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utility class for computing the digests of the tokens.
+ * The digests are used as the keys of the in-memory token caches, so the raw tokens are not held as map keys.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 13:10
+ */
+public final class TokenDigestUtils {
+
+    /**
+     * The algorithm used for computing the digests.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private TokenDigestUtils() {
+    }
+
+    /**
+     * Computes the SHA-256 digest of the provided token.
+     *
+     * @param aToken
+     *         a non-null token.
+     * @return the Base64URL encoded (without padding) digest of the token.
+     *
+     * @throws NullPointerException
+     *         if the provided token is null
+     */
+    public static String digest( @NonNull String aToken ) {
+        requireNonNull( aToken );
+        try {
+            byte[] digest = MessageDigest.getInstance( DIGEST_ALGORITHM ).digest( aToken.getBytes( StandardCharsets.US_ASCII ) );
+            return Base64.getUrlEncoder().withoutPadding().encodeToString( digest );
+        } catch ( NoSuchAlgorithmException aE ) {
+            throw new IllegalStateException( "The " + DIGEST_ALGORITHM + " algorithm is not available.", aE );
+        }
+    }
+}
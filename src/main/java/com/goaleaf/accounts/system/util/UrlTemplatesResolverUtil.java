@@ -3,6 +3,8 @@ package com.goaleaf.accounts.system.util;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.lang.NonNull;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
@@ -20,6 +22,16 @@ import static java.util.Objects.requireNonNull;
 @Log4j2
 public final class UrlTemplatesResolverUtil {
 
+    /**
+     * The placeholder used in the {@link KeycloakUrlTemplates} entries.
+     */
+    private static final String TEMPLATE_PLACEHOLDER = "%s";
+
+    /**
+     * The prefix of the URI variables' names generated for the placeholders.
+     */
+    private static final String URI_VARIABLE_NAME_PREFIX = "p";
+
     /**
      * Resolves a URL template using the provided parameters.
      * Validates the parameters against the template's requirements and substitutes the placeholders in
@@ -43,6 +55,55 @@ public final class UrlTemplatesResolverUtil {
         return String.format( aKeycloakUrlTemplate.getKeycloakUrlTemplate(), aParameters );
     }
 
+    /**
+     * Converts the URL template into a URI template, replacing the consecutive placeholders with
+     * the {@code {p0}}, {@code {p1}}, ... variables. The variables' values are expanded (and encoded)
+     * by the {@code WebClient} when the request is sent.
+     *
+     * @param aKeycloakUrlTemplate
+     *         The URL template enum containing the template string.
+     * @return The URI template as a string.
+     */
+    public static String resolveUriTemplate( @NonNull KeycloakUrlTemplates aKeycloakUrlTemplate ) {
+        requireNonNull( aKeycloakUrlTemplate );
+        String template = aKeycloakUrlTemplate.getKeycloakUrlTemplate();
+        StringBuilder uriTemplate = new StringBuilder( template.length() + 8 );
+        int variableIndex = 0;
+        int position = 0;
+        int placeholderPosition;
+        while ( ( placeholderPosition = template.indexOf( TEMPLATE_PLACEHOLDER, position ) ) >= 0 ) {
+            uriTemplate.append( template, position, placeholderPosition )
+                    .append( '{' ).append( URI_VARIABLE_NAME_PREFIX ).append( variableIndex++ ).append( '}' );
+            position = placeholderPosition + TEMPLATE_PLACEHOLDER.length();
+        }
+        return uriTemplate.append( template, position, template.length() ).toString();
+    }
+
+    /**
+     * Maps the provided parameters to the URI variables of the template resolved by {@link #resolveUriTemplate(KeycloakUrlTemplates)}.
+     * Validates the parameters against the template's requirements.
+     *
+     * @param aKeycloakUrlTemplate
+     *         The URL template enum containing the template string and parameter details.
+     * @param aParameters
+     *         The parameters in the order of the template's placeholders.
+     * @return The URI variables mapped by their names.
+     *
+     * @throws IllegalArgumentException
+     *         if the number of provided parameters does not match the number required.
+     */
+    public static Map< String, Object > resolveUriVariables( @NonNull KeycloakUrlTemplates aKeycloakUrlTemplate, @NonNull Object... aParameters ) {
+        requireNonNull( aKeycloakUrlTemplate );
+        requireNonNull( aParameters );
+
+        verifyParameters( aKeycloakUrlTemplate, aParameters );
+        Map< String, Object > uriVariables = new HashMap<>( aParameters.length * 2 );
+        for ( int i = 0; i < aParameters.length; i++ ) {
+            uriVariables.put( URI_VARIABLE_NAME_PREFIX + i, aParameters[ i ] );
+        }
+        return uriVariables;
+    }
+
     /**
      * Verifies if the provided parameters match the required parameters of the specified URL template.
      *
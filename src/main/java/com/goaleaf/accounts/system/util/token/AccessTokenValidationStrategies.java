@@ -0,0 +1,124 @@
+package com.goaleaf.accounts.system.util.token;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.service.RealmPublicKeysService;
+import com.goaleaf.accounts.service.TokenIntrospectionService;
+import com.goaleaf.accounts.system.properties.AccountsConfiguration;
+import lombok.AllArgsConstructor;
+import org.springframework.lang.NonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Holds the single instances of the access token validation strategies, so no strategy is created per validation.
+ * <p>
+ * The {@link TokenValidationStrategy#OFFLINE} and {@link TokenValidationStrategy#ONLINE} strategies do not depend
+ * on the configuration and are created once. The {@link TokenValidationStrategy#SIGNATURE} strategy is recreated
+ * only when the expected issuer or audience changes in the configuration.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 18:20
+ */
+public final class AccessTokenValidationStrategies {
+
+    /**
+     * The strategies independent of the configuration.
+     */
+    private final Map< TokenValidationStrategy, AccessTokenValidationStrategy > strategies = new EnumMap<>( TokenValidationStrategy.class );
+
+    /**
+     * Provides the realm's public keys for the signature strategy.
+     */
+    private final RealmPublicKeysService realmPublicKeysService;
+
+    /**
+     * The registry of the tokens revoked locally, consulted by the local strategies.
+     */
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * The signature strategy along with the issuer and audience it has been created for.
+     */
+    private volatile ConfiguredSignatureStrategy signatureStrategy;
+
+    /**
+     * A constructor.
+     *
+     * @param aTimeService
+     *         a service providing the current system time, used by the offline strategy.
+     * @param aTokenIntrospectionService
+     *         a service checking the tokens against the realm, used by the online strategy.
+     * @param aRealmPublicKeysService
+     *         a service providing the realm's public keys, used by the signature strategy.
+     * @param aTokenRevocationRegistry
+     *         the registry of the tokens revoked locally, used by the offline and the signature strategies.
+     */
+    public AccessTokenValidationStrategies( @NonNull TimeService aTimeService, @NonNull TokenIntrospectionService aTokenIntrospectionService,
+                                            @NonNull RealmPublicKeysService aRealmPublicKeysService, @NonNull TokenRevocationRegistry aTokenRevocationRegistry ) {
+        realmPublicKeysService = requireNonNull( aRealmPublicKeysService );
+        tokenRevocationRegistry = requireNonNull( aTokenRevocationRegistry );
+        strategies.put( TokenValidationStrategy.OFFLINE, new OfflineValidationStrategy( requireNonNull( aTimeService ), tokenRevocationRegistry ) );
+        strategies.put( TokenValidationStrategy.ONLINE, new OnlineValidationStrategy( requireNonNull( aTokenIntrospectionService ) ) );
+    }
+
+    /**
+     * Retrieves the strategy selected by the provided configuration.
+     *
+     * @param aConfiguration
+     *         a non-null snapshot of the configuration.
+     * @return the access token validation strategy.
+     */
+    public AccessTokenValidationStrategy getStrategy( @NonNull AccountsConfiguration aConfiguration ) {
+        requireNonNull( aConfiguration );
+        return getStrategy( aConfiguration.getAccessTokenValidationStrategy(), aConfiguration );
+    }
+
+    /**
+     * Retrieves the specified strategy configured with the provided configuration.
+     *
+     * @param aStrategy
+     *         a non-null type of the strategy.
+     * @param aConfiguration
+     *         a non-null snapshot of the configuration.
+     * @return the access token validation strategy.
+     */
+    public AccessTokenValidationStrategy getStrategy( @NonNull TokenValidationStrategy aStrategy, @NonNull AccountsConfiguration aConfiguration ) {
+        requireNonNull( aStrategy );
+        requireNonNull( aConfiguration );
+        if ( aStrategy != TokenValidationStrategy.SIGNATURE ) {
+            return strategies.get( aStrategy );
+        }
+
+        ConfiguredSignatureStrategy current = signatureStrategy;
+        if ( current == null || !current.isConfiguredWith( aConfiguration ) ) {
+            current = new ConfiguredSignatureStrategy(
+                    aConfiguration.getAccessTokenIssuer(),
+                    aConfiguration.getAccessTokenAudience(),
+                    new SignatureValidationStrategy( realmPublicKeysService, aConfiguration.getAccessTokenIssuer(), aConfiguration.getAccessTokenAudience(),
+                            tokenRevocationRegistry )
+            );
+            signatureStrategy = current;
+        }
+        return current.strategy;
+    }
+
+    /**
+     * The signature strategy along with the issuer and audience it has been created for.
+     */
+    @AllArgsConstructor
+    private static final class ConfiguredSignatureStrategy {
+
+        private final String issuer;
+
+        private final String audience;
+
+        private final SignatureValidationStrategy strategy;
+
+        private boolean isConfiguredWith( AccountsConfiguration aConfiguration ) {
+            return Objects.equals( issuer, aConfiguration.getAccessTokenIssuer() ) && Objects.equals( audience, aConfiguration.getAccessTokenAudience() );
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.goaleaf.accounts.system.util.token;
 
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import org.springframework.lang.NonNull;
 
 /**
@@ -20,4 +21,16 @@ public interface AccessTokenValidationStrategy {
      * @return true if the access token is valid, false otherwise
      */
     boolean validateAccessToken( @NonNull String aToken );
+
+    /**
+     * Validates the access token represented by the already parsed claims. Strategies which need the claims only
+     * should override this method to avoid decoding the token again.
+     *
+     * @param aClaims
+     *         the claims of the access token to be validated; must not be null
+     * @return true if the access token is valid, false otherwise
+     */
+    default boolean validateAccessToken( @NonNull AccessTokenClaims aClaims ) {
+        return validateAccessToken( aClaims.getToken() );
+    }
 }
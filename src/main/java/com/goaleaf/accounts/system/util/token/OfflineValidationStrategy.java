@@ -1,6 +1,7 @@
 package com.goaleaf.accounts.system.util.token;
 
 import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import com.goaleaf.accounts.system.util.AccessTokenUtils;
 import lombok.AllArgsConstructor;
 import org.springframework.lang.NonNull;
@@ -14,7 +15,8 @@ import static java.util.Objects.requireNonNull;
  * <p>
  * This class uses the {@link TimeService} to determine the current time and compares it
  * with the expiration time extracted from the provided access token using the {@link AccessTokenUtils}.
- * It ensures that the token is still valid and has not expired.
+ * It ensures that the token is still valid and has not expired. The tokens revoked locally, when their sessions
+ * have been ended through this service, are rejected with the {@link TokenRevocationRegistry}.
  * </p>
  *
  * @author Created by: Pplociennik
@@ -29,7 +31,12 @@ public final class OfflineValidationStrategy implements AccessTokenValidationStr
     private final TimeService timeService;
 
     /**
-     * Validates the given access token to ensure it is not expired.
+     * The registry of the tokens revoked locally.
+     */
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * Validates the given access token to ensure it is neither expired nor revoked.
      *
      * @param aToken
      *         the access token to be validated; must not be null
@@ -38,9 +45,24 @@ public final class OfflineValidationStrategy implements AccessTokenValidationStr
     @Override
     public boolean validateAccessToken( @NonNull String aToken ) {
         requireNonNull( aToken );
-        Instant currentSystemTime = timeService.getCurrentSystemDateTime().toInstant();
-        Instant tokenExpirationTime = AccessTokenUtils.getExpirationTime( aToken );
+        return validateAccessToken( AccessTokenUtils.parseClaims( aToken ) );
+    }
 
-        return tokenExpirationTime.isAfter( currentSystemTime );
+    /**
+     * Validates the access token represented by the already parsed claims to ensure it is neither expired nor revoked.
+     *
+     * @param aClaims
+     *         the claims of the access token to be validated; must not be null
+     * @return true if the access token is valid, false otherwise
+     */
+    @Override
+    public boolean validateAccessToken( @NonNull AccessTokenClaims aClaims ) {
+        requireNonNull( aClaims );
+        return isNotExpired( aClaims.getExpirationTime() ) && !tokenRevocationRegistry.isRevoked( aClaims );
+    }
+
+    private boolean isNotExpired( Instant aTokenExpirationTime ) {
+        Instant currentSystemTime = timeService.getCurrentSystemDateTime().toInstant();
+        return aTokenExpirationTime.isAfter( currentSystemTime );
     }
 }
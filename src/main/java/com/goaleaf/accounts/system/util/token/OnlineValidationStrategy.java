@@ -1,6 +1,8 @@
 package com.goaleaf.accounts.system.util.token;
 
-import com.goaleaf.accounts.service.KeycloakServiceConnectionService;
+import com.goaleaf.accounts.service.TokenIntrospectionService;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.AccessTokenUtils;
 import lombok.AllArgsConstructor;
 import org.springframework.lang.NonNull;
 
@@ -8,21 +10,22 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * This class provides a strategy for validating access tokens through an online service.
- * An implementation of {@link AccessTokenValidationStrategy}, it uses the {@link KeycloakServiceConnectionService}
+ * An implementation of {@link AccessTokenValidationStrategy}, it uses the {@link TokenIntrospectionService}
  * to interact with an external authentication system to validate whether a given token is active or expired.
  *
  * @author Created by: Pplociennik at 16.04.2025 17:58
- * @implNote The {@link OnlineValidationStrategy} relies on {@link KeycloakServiceConnectionService} for communication
- * with the authentication service.
+ * @implNote The {@link OnlineValidationStrategy} relies on {@link TokenIntrospectionService} for communication
+ * with the authentication service. The positive results are remembered by the service for a bounded time
+ * and the tokens revoked locally in the {@link TokenRevocationRegistry} are rejected by the service.
  */
 @AllArgsConstructor
 public final class OnlineValidationStrategy implements AccessTokenValidationStrategy {
 
     /**
-     * An instance of {@link  KeycloakServiceConnectionService} used for interacting with
+     * An instance of {@link TokenIntrospectionService} used for checking the tokens against
      * the authentication service.
      */
-    private final KeycloakServiceConnectionService keycloakServiceConnectionService;
+    private final TokenIntrospectionService tokenIntrospectionService;
 
     /**
      * Validates the given access token to ensure it is not expired.
@@ -34,6 +37,19 @@ public final class OnlineValidationStrategy implements AccessTokenValidationStra
     @Override
     public boolean validateAccessToken( @NonNull String aToken ) {
         requireNonNull( aToken );
-        return keycloakServiceConnectionService.sendTokenIntrospectionRequest( aToken );
+        return validateAccessToken( AccessTokenUtils.parseClaims( aToken ) );
+    }
+
+    /**
+     * Validates the access token represented by the already parsed claims.
+     *
+     * @param aClaims
+     *         the claims of the access token to be validated; must not be null
+     * @return true if the access token is valid, false otherwise
+     */
+    @Override
+    public boolean validateAccessToken( @NonNull AccessTokenClaims aClaims ) {
+        requireNonNull( aClaims );
+        return tokenIntrospectionService.isTokenActive( aClaims );
     }
 }
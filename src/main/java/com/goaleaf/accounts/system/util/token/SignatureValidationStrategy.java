@@ -0,0 +1,231 @@
+package com.goaleaf.accounts.system.util.token;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Verification;
+import com.goaleaf.accounts.service.RealmPublicKeysService;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.AccessTokenUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.lang.NonNull;
+
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A strategy implementation for validating access tokens locally by verifying their signatures.
+ * <p>
+ * The token's signature is verified with the realm's public key identified by the {@code kid} header and obtained
+ * from the {@link RealmPublicKeysService}. Apart from the signature, the issuer, the audience (if configured),
+ * the "not before" and the expiration claims are checked. Only the RS256 and ES256 algorithms are accepted.
+ * Unlike the {@link OfflineValidationStrategy}, forged tokens are rejected, and unlike the {@link OnlineValidationStrategy},
+ * no request to the authentication service is sent per validation. The tokens revoked locally
+ * in the {@link TokenRevocationRegistry} are rejected before the signature is verified, using the already parsed claims.
+ * </p>
+ * <p>
+ * One verifier is kept per key identifier and algorithm. It is rebuilt when the realm publishes another key under
+ * the same identifier and dropped when the key is no longer published. A failure of the key lookup (e.g. the realm
+ * being unreachable) rejects the token.
+ * </p>
+ *
+ * @author Created by: Pplociennik at 16.10.2026 10:41
+ */
+@Log4j2
+public final class SignatureValidationStrategy implements AccessTokenValidationStrategy {
+
+    /**
+     * Provides the realm's public keys.
+     */
+    private final RealmPublicKeysService realmPublicKeysService;
+
+    /**
+     * The expected issuer ({@code iss}) of the token.
+     */
+    private final String issuer;
+
+    /**
+     * The expected audience ({@code aud}) of the token. The audience is not checked if blank.
+     */
+    private final String audience;
+
+    /**
+     * The registry of the tokens revoked locally.
+     */
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * The verifiers mapped by the key identifier and the algorithm's name, together with the keys they were built with.
+     */
+    private final Map< String, KeyVerifier > verifiers = new ConcurrentHashMap<>();
+
+    /**
+     * A constructor.
+     *
+     * @param aRealmPublicKeysService
+     *         a service providing the realm's public keys.
+     * @param aIssuer
+     *         the expected issuer of the tokens; must not be blank, otherwise no token could be accepted.
+     * @param aAudience
+     *         the expected audience of the tokens or a blank value if the audience is not checked.
+     * @param aTokenRevocationRegistry
+     *         the registry of the tokens revoked locally.
+     * @throws IllegalArgumentException
+     *         if the issuer is null or blank.
+     */
+    public SignatureValidationStrategy( @NonNull RealmPublicKeysService aRealmPublicKeysService, @NonNull String aIssuer, String aAudience,
+                                        @NonNull TokenRevocationRegistry aTokenRevocationRegistry ) {
+        if ( aIssuer == null || aIssuer.isBlank() ) {
+            throw new IllegalArgumentException( "The access token issuer must be configured for the SIGNATURE validation strategy." );
+        }
+        realmPublicKeysService = requireNonNull( aRealmPublicKeysService );
+        issuer = aIssuer;
+        audience = aAudience;
+        tokenRevocationRegistry = requireNonNull( aTokenRevocationRegistry );
+    }
+
+    /**
+     * Validates the given access token by verifying its signature and the standard claims.
+     *
+     * @param aToken
+     *         the access token to be validated; must not be null
+     * @return true if the access token is valid, false otherwise
+     */
+    @Override
+    public boolean validateAccessToken( @NonNull String aToken ) {
+        requireNonNull( aToken );
+        try {
+            return validateAccessToken( AccessTokenUtils.parseClaims( aToken ) );
+        } catch ( JWTVerificationException aE ) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates the access token represented by the already parsed claims. The revocation is checked with the claims,
+     * the token is decoded only for the verification of its signature and of the claims not carried by the view.
+     *
+     * @param aClaims
+     *         the claims of the access token to be validated; must not be null
+     * @return true if the access token is valid, false otherwise
+     */
+    @Override
+    public boolean validateAccessToken( @NonNull AccessTokenClaims aClaims ) {
+        requireNonNull( aClaims );
+        if ( tokenRevocationRegistry.isRevoked( aClaims ) ) {
+            return false;
+        }
+        try {
+            DecodedJWT decodedToken = JWT.decode( aClaims.getToken() );
+            JWTVerifier verifier = resolveVerifier( decodedToken.getKeyId(), decodedToken.getAlgorithm() );
+            if ( verifier == null ) {
+                return false;
+            }
+            verifier.verify( decodedToken );
+            return true;
+        } catch ( JWTVerificationException aE ) {
+            return false;
+        } catch ( RuntimeException aE ) {
+            log.warn( "Rejecting the access token, as its signature could not be verified", aE );
+            return false;
+        }
+    }
+
+    /**
+     * Resolves the verifier basing on the token's {@code kid} and {@code alg} headers. The verifier is reused
+     * as long as the realm publishes the same key under the identifier.
+     *
+     * @param aKeyId
+     *         the identifier of the key, may be null.
+     * @param aAlgorithmName
+     *         the name of the algorithm, may be null.
+     * @return the verifier or null if the algorithm is not supported or the key is unknown or of a wrong type.
+     */
+    private JWTVerifier resolveVerifier( String aKeyId, String aAlgorithmName ) {
+        if ( aKeyId == null || aAlgorithmName == null ) {
+            return null;
+        }
+
+        String verifierKey = aKeyId + ':' + aAlgorithmName;
+        PublicKey publicKey = realmPublicKeysService.getPublicKey( aKeyId ).orElse( null );
+        if ( publicKey == null ) {
+            verifiers.remove( verifierKey );
+            return null;
+        }
+
+        KeyVerifier cached = verifiers.get( verifierKey );
+        if ( cached != null && cached.getPublicKey() == publicKey ) {
+            return cached.getVerifier();
+        }
+
+        Algorithm algorithm = resolveAlgorithm( aAlgorithmName, publicKey );
+        if ( algorithm == null ) {
+            return null;
+        }
+        JWTVerifier verifier = createVerifier( algorithm );
+        verifiers.put( verifierKey, new KeyVerifier( publicKey, verifier ) );
+        return verifier;
+    }
+
+    /**
+     * Resolves the verification algorithm basing on the token's {@code alg} header and the type of the key.
+     *
+     * @param aAlgorithmName
+     *         the name of the algorithm.
+     * @param aPublicKey
+     *         the realm's key identified by the token's {@code kid} header.
+     * @return the algorithm or null if the algorithm is not supported or the key is of a wrong type.
+     */
+    private Algorithm resolveAlgorithm( String aAlgorithmName, PublicKey aPublicKey ) {
+        if ( "RS256".equals( aAlgorithmName ) && aPublicKey instanceof RSAPublicKey rsaPublicKey ) {
+            return Algorithm.RSA256( rsaPublicKey, null );
+        }
+        if ( "ES256".equals( aAlgorithmName ) && aPublicKey instanceof ECPublicKey ecPublicKey ) {
+            return Algorithm.ECDSA256( ecPublicKey, null );
+        }
+        return null;
+    }
+
+    /**
+     * Creates the verifier checking the signature, the issuer and the audience. The "not before" and the expiration
+     * claims are checked by the verifier by default.
+     *
+     * @param aAlgorithm
+     *         the algorithm used for the signature verification.
+     * @return the verifier.
+     */
+    private JWTVerifier createVerifier( Algorithm aAlgorithm ) {
+        Verification verification = JWT.require( aAlgorithm ).withIssuer( issuer );
+        if ( audience != null && !audience.isBlank() ) {
+            verification.withAudience( audience );
+        }
+        return verification.build();
+    }
+
+    /**
+     * A verifier together with the key it has been built with.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class KeyVerifier {
+
+        /**
+         * The realm's key the verifier has been built with.
+         */
+        private final PublicKey publicKey;
+
+        /**
+         * The verifier using the key.
+         */
+        private final JWTVerifier verifier;
+    }
+}
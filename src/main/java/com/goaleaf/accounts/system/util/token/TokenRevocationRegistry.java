@@ -0,0 +1,125 @@
+package com.goaleaf.accounts.system.util.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An in-memory registry of the access tokens revoked locally, before their expiration, by ending the sessions
+ * through this service. Allows the local validation strategies to reject the tokens of the ended sessions
+ * immediately, without asking the realm.
+ * <p>
+ * The revocations are kept in two maps checked in constant time:
+ * <ul>
+ *     <li>the revoked sessions, rejecting all the tokens issued for the session ({@code sid} claim),</li>
+ *     <li>the "not before" times of the users, rejecting the tokens of the user ({@code sub} claim) issued
+ *         ({@code iat} claim) before the time.</li>
+ * </ul>
+ * The entries are forgotten after the maximal lifetime of the access tokens, when all the revoked tokens have expired anyway.
+ * The "not before" time is truncated to whole seconds, like the {@code iat} claim, and the tokens issued within that second
+ * are rejected too, as their {@code iat} claim cannot tell whether they have been issued before or after the revocation.
+ * The registry is local to the application instance.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 20:30
+ */
+public final class TokenRevocationRegistry {
+
+    /**
+     * Provides the current system time for the users' "not before" times.
+     */
+    private final TimeService timeService;
+
+    /**
+     * The identifiers of the revoked sessions.
+     */
+    private final Cache< String, Boolean > revokedSessions;
+
+    /**
+     * The "not before" times mapped by the identifiers of the users.
+     */
+    private final Cache< String, Instant > usersNotBefore;
+
+    /**
+     * A constructor.
+     *
+     * @param aTimeService
+     *         a service providing the current system time.
+     * @param aMaxTokenLifetime
+     *         the maximal lifetime of the access tokens, for which the revocations are remembered.
+     */
+    public TokenRevocationRegistry( @NonNull TimeService aTimeService, @NonNull Duration aMaxTokenLifetime ) {
+        timeService = requireNonNull( aTimeService );
+        requireNonNull( aMaxTokenLifetime );
+        revokedSessions = Caffeine.newBuilder()
+                .expireAfterWrite( aMaxTokenLifetime )
+                .build();
+        usersNotBefore = Caffeine.newBuilder()
+                .expireAfterWrite( aMaxTokenLifetime )
+                .build();
+    }
+
+    /**
+     * Revokes all the tokens issued for the specified session.
+     *
+     * @param aSessionId
+     *         a non-null identifier of the session.
+     */
+    public void revokeSession( @NonNull String aSessionId ) {
+        requireNonNull( aSessionId );
+        revokedSessions.put( aSessionId, Boolean.TRUE );
+    }
+
+    /**
+     * Revokes all the tokens of the specified user issued before now or within the current second.
+     *
+     * @param aUserId
+     *         a non-null identifier of the user.
+     */
+    public void revokeUser( @NonNull String aUserId ) {
+        requireNonNull( aUserId );
+        Instant notBefore = timeService.getCurrentSystemDateTime().toInstant().truncatedTo( ChronoUnit.SECONDS );
+        usersNotBefore.put( aUserId, notBefore );
+    }
+
+    /**
+     * Checks whether the access token represented by the provided claims has been revoked.
+     *
+     * @param aClaims
+     *         the non-null claims of the access token.
+     * @return true if the token has been revoked, false otherwise.
+     */
+    public boolean isRevoked( @NonNull AccessTokenClaims aClaims ) {
+        requireNonNull( aClaims );
+        return isRevoked( aClaims.getSessionId(), aClaims.getUserId(), aClaims.getIssuedAt() );
+    }
+
+    /**
+     * Checks whether the access token of the specified claims has been revoked. A token of a revoked user issued
+     * not after the user's "not before" time or without the issuance time is considered revoked.
+     *
+     * @param aSessionId
+     *         the identifier of the session the token has been issued for, may be null.
+     * @param aUserId
+     *         the identifier of the user the token has been issued for, may be null.
+     * @param aIssuedAt
+     *         the issuance time of the token, may be null.
+     * @return true if the token has been revoked, false otherwise.
+     */
+    public boolean isRevoked( String aSessionId, String aUserId, Instant aIssuedAt ) {
+        if ( Objects.nonNull( aSessionId ) && Objects.nonNull( revokedSessions.getIfPresent( aSessionId ) ) ) {
+            return true;
+        }
+
+        Instant notBefore = Objects.isNull( aUserId ) ? null : usersNotBefore.getIfPresent( aUserId );
+        return Objects.nonNull( notBefore ) && ( Objects.isNull( aIssuedAt ) || !aIssuedAt.isAfter( notBefore ) );
+    }
+}
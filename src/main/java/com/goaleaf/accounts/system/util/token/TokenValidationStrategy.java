@@ -7,6 +7,7 @@ package com.goaleaf.accounts.system.util.token;
  * <p>
  * - {@link #OFFLINE}: Validates tokens using local resources without external service dependencies.
  * - {@link #ONLINE}: Validates tokens by engaging with an external authentication service.
+ * - {@link #SIGNATURE}: Validates tokens locally by verifying their signatures with the realm's public keys.
  * <p>
  * These strategies help balance performance and security based on system requirements.
  *
@@ -27,5 +28,12 @@ public enum TokenValidationStrategy {
      * It relies on active communication with the authentication system to verify the token's validity
      * and ensure it is active rather than expired.
      */
-    ONLINE
+    ONLINE,
+
+    /**
+     * Represents the signature token validation strategy.
+     * This strategy validates access tokens locally by verifying their signatures with the realm's public keys
+     * (cached in memory) and checking the issuer, audience, "not before" and expiration claims.
+     */
+    SIGNATURE
 }
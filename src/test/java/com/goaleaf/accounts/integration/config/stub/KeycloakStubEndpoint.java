@@ -0,0 +1,50 @@
+package com.goaleaf.accounts.integration.config.stub;
+
+/**
+ * The groups of the Keycloak endpoints served by the {@link KeycloakStubServer}, for which the latency and the error rate
+ * can be configured separately.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:45
+ */
+public enum KeycloakStubEndpoint {
+
+    /**
+     * The token endpoint: the password, client credentials and refresh token grants.
+     */
+    TOKEN,
+
+    /**
+     * The token introspection endpoint.
+     */
+    INTROSPECT,
+
+    /**
+     * The realm's public keys endpoint.
+     */
+    CERTS,
+
+    /**
+     * The users' registration, listing and deletion.
+     */
+    USERS,
+
+    /**
+     * The listing and the deletion of the users' sessions.
+     */
+    SESSIONS,
+
+    /**
+     * The logout of all the user's sessions.
+     */
+    LOGOUT,
+
+    /**
+     * The sending of the email address verification message.
+     */
+    SEND_VERIFY_EMAIL,
+
+    /**
+     * The other actions: the email verification action token, the credentials reset and change.
+     */
+    OTHER
+}
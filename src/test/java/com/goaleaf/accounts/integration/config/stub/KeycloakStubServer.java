@@ -0,0 +1,638 @@
+package com.goaleaf.accounts.integration.config.stub;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An in-process stub of the Keycloak server, standing in for the {@code KeycloakTestContainer} when the service is
+ * load-tested or profiled on a single machine without Docker and network access.
+ * <p>
+ * The stub serves the endpoints of the {@code KeycloakUrlTemplates} for a single realm and client:
+ * <ul>
+ *     <li>the token endpoint with the password, client credentials and refresh token grants, issuing RS256 signed JWTs
+ *         with the lifetimes of the {@link KeycloakStubSettings},</li>
+ *     <li>the token introspection and the realm's public keys (JWKS),</li>
+ *     <li>the users' registration, lookup by email and deletion, the users' sessions and their logout,</li>
+ *     <li>the email verification and the credentials actions, accepted without any effect.</li>
+ * </ul>
+ * Every request is delayed by a latency sampled from the endpoint's {@link LatencyDistribution} and answered with
+ * a 503 error in the Keycloak's format with the endpoint's error rate. The state (users and sessions) is kept in memory.
+ * <p>
+ * Usage: start the stub before the application context and point the service to it with
+ * {@link #registerProperties(DynamicPropertyRegistry)} in a {@code @DynamicPropertySource} method.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:50
+ */
+@Log4j2
+public final class KeycloakStubServer implements AutoCloseable {
+
+    private static final String KEY_ID = "keycloak-stub-key";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String REFRESH_TOKEN_TYPE = "Refresh";
+
+    private final KeycloakStubSettings settings;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Random random;
+
+    private final KeyPair keyPair;
+
+    private final Algorithm algorithm;
+
+    private final Map< String, StubUser > users = new ConcurrentHashMap<>();
+
+    private final Map< String, StubSession > sessions = new ConcurrentHashMap<>();
+
+    private final Map< KeycloakStubEndpoint, LongAdder > requestCounts = new EnumMap<>( KeycloakStubEndpoint.class );
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    private String baseUrl;
+
+    private JWTVerifier verifier;
+
+    /**
+     * A constructor.
+     *
+     * @param aSettings
+     *         the settings of the stub.
+     */
+    public KeycloakStubServer( KeycloakStubSettings aSettings ) {
+        settings = requireNonNull( aSettings );
+        random = new Random( aSettings.getSeed() );
+        keyPair = generateKeyPair();
+        algorithm = Algorithm.RSA256( ( RSAPublicKey ) keyPair.getPublic(), ( RSAPrivateKey ) keyPair.getPrivate() );
+        for ( KeycloakStubEndpoint endpoint : KeycloakStubEndpoint.values() ) {
+            requestCounts.put( endpoint, new LongAdder() );
+        }
+    }
+
+    /**
+     * Starts the stub on a random free port of the loopback interface. Each request is handled on its own virtual thread,
+     * so the injected latencies do not limit the throughput.
+     *
+     * @return the started stub.
+     */
+    public KeycloakStubServer start() {
+        try {
+            server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+        } catch ( IOException aE ) {
+            throw new IllegalStateException( "Could not start the Keycloak stub.", aE );
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor( executor );
+        server.createContext( "/", this::handle );
+        server.start();
+
+        baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        verifier = JWT.require( algorithm ).withIssuer( getIssuer() ).build();
+        log.info( "Keycloak stub started at {}", baseUrl );
+        return this;
+    }
+
+    /**
+     * Stops the stub.
+     */
+    @Override
+    public void close() {
+        if ( server != null ) {
+            server.stop( 0 );
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    /**
+     * Retrieves the base URL of the running stub.
+     *
+     * @return the base URL.
+     */
+    public String getBaseUrl() {
+        return requireNonNull( baseUrl, "The stub has not been started." );
+    }
+
+    /**
+     * Retrieves the issuer ({@code iss} claim) of the tokens issued by the stub.
+     *
+     * @return the issuer.
+     */
+    public String getIssuer() {
+        return getBaseUrl() + "/realms/" + settings.getRealmName();
+    }
+
+    /**
+     * Points the service to the stub.
+     *
+     * @param aRegistry
+     *         the registry of the dynamic properties of the test's application context.
+     */
+    public void registerProperties( DynamicPropertyRegistry aRegistry ) {
+        aRegistry.add( "com.goaleaf.accounts.auth.service.url", this::getBaseUrl );
+        aRegistry.add( "com.goaleaf.accounts.auth.access.token.issuer", this::getIssuer );
+        aRegistry.add( "com.goaleaf.accounts.auth.access.token.audience", settings::getAudience );
+        aRegistry.add( "com.goaleaf.accounts.auth.access.token.maxLifetime", () -> settings.getAccessTokenLifetime().toSeconds() );
+        aRegistry.add( "com.goaleaf.accounts.keycloak.realm.name", settings::getRealmName );
+        aRegistry.add( "com.goaleaf.accounts.keycloak.clientId", settings::getClientId );
+        aRegistry.add( "com.goaleaf.accounts.keycloak.clientSecret", settings::getClientSecret );
+        aRegistry.add( "com.goaleaf.accounts.keycloak.grantType", () -> "client_credentials" );
+        aRegistry.add( "com.goaleaf.accounts.keycloak.scope", () -> "openid email profile roles" );
+    }
+
+    /**
+     * Adds a user, as if registered before the test.
+     *
+     * @param aUsername
+     *         the username.
+     * @param aEmail
+     *         the email address.
+     * @param aPassword
+     *         the password.
+     * @return the identifier of the user.
+     *
+     * @throws IllegalArgumentException
+     *         if a user with the same username or email address already exists
+     */
+    public synchronized String addUser( String aUsername, String aEmail, String aPassword ) {
+        StubUser user = new StubUser( UUID.randomUUID().toString(), aUsername, aEmail, aPassword, System.currentTimeMillis() );
+        if ( findUser( aUsername ).isPresent() || findUser( aEmail ).isPresent() ) {
+            throw new IllegalArgumentException( "The user already exists: " + aUsername );
+        }
+        users.put( user.id(), user );
+        return user.id();
+    }
+
+    /**
+     * Retrieves the number of the requests received by the endpoint, including the ones answered with an injected error.
+     *
+     * @param aEndpoint
+     *         the endpoint.
+     * @return the number of the requests.
+     */
+    public long getRequestCount( KeycloakStubEndpoint aEndpoint ) {
+        return requestCounts.get( aEndpoint ).sum();
+    }
+
+    /**
+     * Retrieves the number of the active sessions of all the users.
+     *
+     * @return the number of the sessions.
+     */
+    public int getActiveSessionsCount() {
+        return sessions.size();
+    }
+
+    private void handle( HttpExchange aExchange ) throws IOException {
+        try {
+            List< String > path = Arrays.stream( aExchange.getRequestURI().getPath().split( "/" ) )
+                    .filter( aSegment -> !aSegment.isEmpty() )
+                    .toList();
+            KeycloakStubEndpoint endpoint = resolveEndpoint( path );
+            if ( endpoint == null ) {
+                sendError( aExchange, 404, "not_found", "Unknown resource: " + aExchange.getRequestURI() );
+                return;
+            }
+
+            requestCounts.get( endpoint ).increment();
+            delay( endpoint );
+            if ( random.nextDouble() < settings.getErrorRate( endpoint ) ) {
+                sendError( aExchange, 503, "unknown_error", "Injected failure of the Keycloak stub." );
+                return;
+            }
+
+            route( aExchange, aExchange.getRequestMethod(), path );
+        } catch ( RuntimeException aE ) {
+            log.warn( "Keycloak stub failed to handle {}", aExchange.getRequestURI(), aE );
+            sendError( aExchange, 500, "unknown_error", aE.getMessage() );
+        } finally {
+            aExchange.close();
+        }
+    }
+
+    /**
+     * Resolves the endpoint of the path, {@code null} if the path does not belong to the stubbed realm.
+     */
+    private KeycloakStubEndpoint resolveEndpoint( List< String > aPath ) {
+        boolean admin = !aPath.isEmpty() && "admin".equals( aPath.get( 0 ) );
+        List< String > path = admin ? aPath.subList( 1, aPath.size() ) : aPath;
+        if ( path.size() < 3 || !"realms".equals( path.get( 0 ) ) || !settings.getRealmName().equals( path.get( 1 ) ) ) {
+            return null;
+        }
+
+        String resource = String.join( "/", path.subList( 2, path.size() ) );
+        if ( !admin ) {
+            return switch ( resource ) {
+                case "protocol/openid-connect/token" -> KeycloakStubEndpoint.TOKEN;
+                case "protocol/openid-connect/token/introspect" -> KeycloakStubEndpoint.INTROSPECT;
+                case "protocol/openid-connect/certs" -> KeycloakStubEndpoint.CERTS;
+                case "login-actions/action-token" -> KeycloakStubEndpoint.OTHER;
+                default -> null;
+            };
+        }
+
+        String action = path.size() == 5 ? path.get( 4 ) : "";
+        if ( "sessions".equals( path.get( 2 ) ) ) {
+            return path.size() == 4 ? KeycloakStubEndpoint.SESSIONS : null;
+        }
+        if ( !"users".equals( path.get( 2 ) ) || path.size() > 5 ) {
+            return null;
+        }
+        return switch ( action ) {
+            case "" -> KeycloakStubEndpoint.USERS;
+            case "sessions" -> KeycloakStubEndpoint.SESSIONS;
+            case "logout" -> KeycloakStubEndpoint.LOGOUT;
+            case "send-verify-email" -> KeycloakStubEndpoint.SEND_VERIFY_EMAIL;
+            case "execute-actions-email", "reset-password" -> KeycloakStubEndpoint.OTHER;
+            default -> null;
+        };
+    }
+
+    private void route( HttpExchange aExchange, String aMethod, List< String > aPath ) throws IOException {
+        boolean admin = "admin".equals( aPath.get( 0 ) );
+        if ( !admin ) {
+            String resource = aPath.get( aPath.size() - 1 );
+            switch ( resource ) {
+                case "token" -> handleToken( aExchange );
+                case "introspect" -> handleIntrospection( aExchange );
+                case "certs" -> sendJson( aExchange, 200, Map.of( "keys", List.of( createJsonWebKey() ) ) );
+                default -> sendEmpty( aExchange, 200 );
+            }
+            return;
+        }
+
+        if ( !isAuthorized( aExchange ) ) {
+            sendError( aExchange, 401, "unauthorized", "HTTP 401 Unauthorized" );
+            return;
+        }
+
+        if ( "sessions".equals( aPath.get( 3 ) ) ) {
+            sessions.remove( aPath.get( 4 ) );
+            sendEmpty( aExchange, 204 );
+            return;
+        }
+
+        if ( aPath.size() == 4 ) {
+            switch ( aMethod ) {
+                case "POST" -> handleRegistration( aExchange );
+                case "GET" -> handleUsersLookup( aExchange );
+                default -> sendError( aExchange, 405, "method_not_allowed", aMethod );
+            }
+            return;
+        }
+
+        String userId = aPath.get( 4 );
+        String action = aPath.size() == 6 ? aPath.get( 5 ) : "";
+        if ( !users.containsKey( userId ) ) {
+            sendError( aExchange, 404, "not_found", "User not found" );
+            return;
+        }
+        switch ( action ) {
+            case "" -> {
+                users.remove( userId );
+                sessions.values().removeIf( aSession -> aSession.userId().equals( userId ) );
+                sendEmpty( aExchange, 204 );
+            }
+            case "sessions" -> sendJson( aExchange, 200, sessions.values().stream()
+                    .filter( aSession -> aSession.userId().equals( userId ) )
+                    .map( this::createSessionRepresentation )
+                    .toList() );
+            case "logout" -> {
+                sessions.values().removeIf( aSession -> aSession.userId().equals( userId ) );
+                sendEmpty( aExchange, 204 );
+            }
+            default -> sendEmpty( aExchange, 204 );
+        }
+    }
+
+    private void handleToken( HttpExchange aExchange ) throws IOException {
+        Map< String, String > form = readForm( aExchange );
+        if ( !settings.getClientId().equals( form.get( "client_id" ) ) || !settings.getClientSecret().equals( form.get( "client_secret" ) ) ) {
+            sendError( aExchange, 401, "unauthorized_client", "Invalid client or Invalid client credentials" );
+            return;
+        }
+
+        String grantType = String.valueOf( form.get( "grant_type" ) );
+        switch ( grantType ) {
+            case "client_credentials" -> sendJson( aExchange, 200, createTokenResponse( null, null ) );
+            case "password" -> {
+                Optional< StubUser > user = findUser( form.get( "username" ) )
+                        .filter( aUser -> aUser.password().equals( form.get( "password" ) ) );
+                if ( user.isEmpty() ) {
+                    sendError( aExchange, 401, "invalid_grant", "Invalid user credentials" );
+                    return;
+                }
+                long now = System.currentTimeMillis();
+                StubSession session = new StubSession( UUID.randomUUID().toString(), user.get().id(), now, now );
+                sessions.put( session.id(), session );
+                sendJson( aExchange, 200, createTokenResponse( user.get(), session ) );
+            }
+            case "refresh_token" -> {
+                Optional< StubSession > session = verify( form.get( "refresh_token" ) )
+                        .filter( aToken -> REFRESH_TOKEN_TYPE.equals( aToken.getClaim( "typ" ).asString() ) )
+                        .map( aToken -> sessions.get( aToken.getClaim( "sid" ).asString() ) );
+                StubUser user = session.map( aSession -> users.get( aSession.userId() ) ).orElse( null );
+                if ( user == null ) {
+                    sendError( aExchange, 400, "invalid_grant", "Session not active" );
+                    return;
+                }
+                StubSession refreshedSession = session.get().accessed( System.currentTimeMillis() );
+                sessions.replace( refreshedSession.id(), refreshedSession );
+                sendJson( aExchange, 200, createTokenResponse( user, refreshedSession ) );
+            }
+            default -> sendError( aExchange, 400, "unsupported_grant_type", "Unsupported grant_type: " + grantType );
+        }
+    }
+
+    private void handleIntrospection( HttpExchange aExchange ) throws IOException {
+        Map< String, String > form = readForm( aExchange );
+        Optional< DecodedJWT > token = verify( form.get( "token" ) )
+                .filter( aToken -> {
+                    String sessionId = aToken.getClaim( "sid" ).asString();
+                    return sessionId == null || sessions.containsKey( sessionId );
+                } );
+
+        Map< String, Object > response = new HashMap<>();
+        response.put( "active", token.isPresent() );
+        token.ifPresent( aToken -> {
+            response.put( "sub", aToken.getSubject() );
+            response.put( "sid", aToken.getClaim( "sid" ).asString() );
+            response.put( "exp", aToken.getExpiresAtAsInstant().getEpochSecond() );
+            response.put( "client_id", settings.getClientId() );
+        } );
+        sendJson( aExchange, 200, response );
+    }
+
+    private void handleRegistration( HttpExchange aExchange ) throws IOException {
+        JsonNode body;
+        try ( InputStream input = aExchange.getRequestBody() ) {
+            body = objectMapper.readTree( input );
+        }
+        String username = body.path( "username" ).asText( null );
+        String email = body.path( "email" ).asText( null );
+        String password = null;
+        for ( JsonNode credential : body.path( "credentials" ) ) {
+            // the service sends the credentials without the type, Keycloak's default is the password
+            if ( "password".equals( credential.path( "type" ).asText( "password" ) ) ) {
+                password = credential.path( "value" ).asText();
+            }
+        }
+        if ( username == null || email == null ) {
+            sendError( aExchange, 400, "invalid_request", "The username and the email address are required" );
+            return;
+        }
+        String userId;
+        try {
+            userId = addUser( username, email, String.valueOf( password ) );
+        } catch ( IllegalArgumentException aE ) {
+            sendError( aExchange, 409, "conflict", "User exists with same username or email" );
+            return;
+        }
+        aExchange.getResponseHeaders().add( "Location", aExchange.getRequestURI().getPath() + "/" + userId );
+        sendEmpty( aExchange, 201 );
+    }
+
+    private void handleUsersLookup( HttpExchange aExchange ) throws IOException {
+        String email = readQuery( aExchange ).get( "email" );
+        sendJson( aExchange, 200, users.values().stream()
+                .filter( aUser -> email == null || aUser.email().equalsIgnoreCase( email ) )
+                .map( this::createUserRepresentation )
+                .toList() );
+    }
+
+    private Map< String, Object > createTokenResponse( StubUser aUser, StubSession aSession ) {
+        Instant now = Instant.now();
+        Instant accessTokenExpiration = now.plus( settings.getAccessTokenLifetime() );
+        Instant refreshTokenExpiration = now.plus( settings.getRefreshTokenLifetime() );
+
+        JWTCreator.Builder accessToken = JWT.create()
+                .withKeyId( KEY_ID )
+                .withIssuer( getIssuer() )
+                .withAudience( settings.getAudience() )
+                .withJWTId( UUID.randomUUID().toString() )
+                .withIssuedAt( now )
+                .withExpiresAt( accessTokenExpiration )
+                .withClaim( "typ", "Bearer" )
+                .withClaim( "azp", settings.getClientId() );
+        if ( aUser == null ) {
+            accessToken.withSubject( "service-account-" + settings.getClientId() );
+        } else {
+            accessToken.withSubject( aUser.id() )
+                    .withClaim( "sid", aSession.id() )
+                    .withClaim( "email", aUser.email() )
+                    .withClaim( "preferred_username", aUser.username() );
+        }
+
+        Map< String, Object > response = new HashMap<>();
+        response.put( "access_token", accessToken.sign( algorithm ) );
+        response.put( "expires_in", settings.getAccessTokenLifetime().toSeconds() );
+        response.put( "token_type", "Bearer" );
+        response.put( "not-before-policy", 0 );
+        response.put( "scope", "openid email profile" );
+        if ( aSession != null ) {
+            String refreshToken = JWT.create()
+                    .withKeyId( KEY_ID )
+                    .withIssuer( getIssuer() )
+                    .withAudience( getIssuer() )
+                    .withJWTId( UUID.randomUUID().toString() )
+                    .withSubject( aUser.id() )
+                    .withIssuedAt( now )
+                    .withExpiresAt( refreshTokenExpiration )
+                    .withClaim( "typ", REFRESH_TOKEN_TYPE )
+                    .withClaim( "sid", aSession.id() )
+                    .sign( algorithm );
+            response.put( "refresh_token", refreshToken );
+            response.put( "refresh_expires_in", settings.getRefreshTokenLifetime().toSeconds() );
+            response.put( "session_state", aSession.id() );
+        }
+        return response;
+    }
+
+    private Map< String, Object > createUserRepresentation( StubUser aUser ) {
+        Map< String, Object > representation = new HashMap<>();
+        representation.put( "id", aUser.id() );
+        representation.put( "username", aUser.username() );
+        representation.put( "email", aUser.email() );
+        representation.put( "emailVerified", true );
+        representation.put( "enabled", true );
+        representation.put( "createdTimestamp", aUser.createdTimestamp() );
+        return representation;
+    }
+
+    private Map< String, Object > createSessionRepresentation( StubSession aSession ) {
+        StubUser user = users.get( aSession.userId() );
+        Map< String, Object > representation = new HashMap<>();
+        representation.put( "id", aSession.id() );
+        representation.put( "username", user == null ? null : user.username() );
+        representation.put( "userId", aSession.userId() );
+        representation.put( "ipAddress", "127.0.0.1" );
+        representation.put( "start", aSession.start() );
+        representation.put( "lastAccess", aSession.lastAccess() );
+        representation.put( "rememberMe", false );
+        representation.put( "clients", Map.of( UUID.nameUUIDFromBytes( settings.getClientId().getBytes( StandardCharsets.UTF_8 ) ).toString(), settings.getClientId() ) );
+        representation.put( "transientUser", false );
+        return representation;
+    }
+
+    private Map< String, Object > createJsonWebKey() {
+        RSAPublicKey publicKey = ( RSAPublicKey ) keyPair.getPublic();
+        return Map.of(
+                "kid", KEY_ID,
+                "kty", "RSA",
+                "alg", "RS256",
+                "use", "sig",
+                "n", encodeUnsigned( publicKey.getModulus() ),
+                "e", encodeUnsigned( publicKey.getPublicExponent() )
+        );
+    }
+
+    private boolean isAuthorized( HttpExchange aExchange ) {
+        String authorization = aExchange.getRequestHeaders().getFirst( "Authorization" );
+        return authorization != null
+                && authorization.startsWith( BEARER_PREFIX )
+                && verify( authorization.substring( BEARER_PREFIX.length() ) ).isPresent();
+    }
+
+    private Optional< DecodedJWT > verify( String aToken ) {
+        if ( aToken == null ) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of( verifier.verify( aToken ) );
+        } catch ( JWTVerificationException aE ) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional< StubUser > findUser( String aUsernameOrEmail ) {
+        if ( aUsernameOrEmail == null ) {
+            return Optional.empty();
+        }
+        return users.values().stream()
+                .filter( aUser -> aUser.username().equals( aUsernameOrEmail ) || aUser.email().equalsIgnoreCase( aUsernameOrEmail ) )
+                .findFirst();
+    }
+
+    private void delay( KeycloakStubEndpoint aEndpoint ) {
+        long nanos = settings.getLatency( aEndpoint ).sample( random ).toNanos();
+        if ( nanos <= 0 ) {
+            return;
+        }
+        try {
+            Thread.sleep( nanos / 1_000_000, ( int ) ( nanos % 1_000_000 ) );
+        } catch ( InterruptedException aE ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map< String, String > readForm( HttpExchange aExchange ) throws IOException {
+        try ( InputStream input = aExchange.getRequestBody() ) {
+            return parseParameters( new String( input.readAllBytes(), StandardCharsets.UTF_8 ) );
+        }
+    }
+
+    private Map< String, String > readQuery( HttpExchange aExchange ) {
+        String query = aExchange.getRequestURI().getRawQuery();
+        return query == null ? Map.of() : parseParameters( query );
+    }
+
+    private static Map< String, String > parseParameters( String aEncoded ) {
+        Map< String, String > parameters = new HashMap<>();
+        for ( String pair : aEncoded.split( "&" ) ) {
+            int separator = pair.indexOf( '=' );
+            if ( separator > 0 ) {
+                parameters.put( URLDecoder.decode( pair.substring( 0, separator ), StandardCharsets.UTF_8 ),
+                        URLDecoder.decode( pair.substring( separator + 1 ), StandardCharsets.UTF_8 ) );
+            }
+        }
+        return parameters;
+    }
+
+    private void sendJson( HttpExchange aExchange, int aStatus, Object aBody ) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes( aBody );
+        aExchange.getResponseHeaders().set( "Content-Type", JSON_CONTENT_TYPE );
+        aExchange.sendResponseHeaders( aStatus, body.length );
+        try ( OutputStream output = aExchange.getResponseBody() ) {
+            output.write( body );
+        }
+    }
+
+    private void sendError( HttpExchange aExchange, int aStatus, String aError, String aErrorDescription ) throws IOException {
+        Map< String, String > body = new HashMap<>();
+        body.put( "error", aError );
+        body.put( "error_description", aErrorDescription );
+        sendJson( aExchange, aStatus, body );
+    }
+
+    private static void sendEmpty( HttpExchange aExchange, int aStatus ) throws IOException {
+        aExchange.sendResponseHeaders( aStatus, -1 );
+    }
+
+    private static String encodeUnsigned( BigInteger aValue ) {
+        byte[] bytes = aValue.toByteArray();
+        if ( bytes.length > 1 && bytes[ 0 ] == 0 ) {
+            bytes = Arrays.copyOfRange( bytes, 1, bytes.length );
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString( bytes );
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance( "RSA" );
+            generator.initialize( 2048 );
+            return generator.generateKeyPair();
+        } catch ( NoSuchAlgorithmException aE ) {
+            throw new IllegalStateException( aE );
+        }
+    }
+
+    /**
+     * A user registered in the stub.
+     */
+    private record StubUser( String id, String username, String email, String password, long createdTimestamp ) {
+    }
+
+    /**
+     * An active session of a user; the times are in milliseconds since the epoch, as in Keycloak.
+     */
+    private record StubSession( String id, String userId, long start, long lastAccess ) {
+
+        StubSession accessed( long aTime ) {
+            return new StubSession( id, userId, start, aTime );
+        }
+    }
+}
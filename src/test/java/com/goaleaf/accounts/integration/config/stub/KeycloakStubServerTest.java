@@ -0,0 +1,181 @@
+package com.goaleaf.accounts.integration.config.stub;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link KeycloakStubServer} class.
+ * Tests the stubbed token, introspection, users and sessions endpoints and the error injection.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 22:00
+ */
+class KeycloakStubServerTest {
+
+    private static final String TEST_USERNAME = "testUser";
+    private static final String TEST_EMAIL = "test@goaleaf.com";
+    private static final String TEST_PASSWORD = "testPassword";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private KeycloakStubServer underTest;
+
+    @AfterEach
+    void tearDown() {
+        underTest.close();
+    }
+
+    /**
+     * Tests the scenario where the user logs in, refreshes the session and logs out.
+     * <p>
+     * Test Steps:
+     * 1. Log in with the password grant and assert that the access token carries the user's claims.
+     * 2. Refresh the session and assert that the new access token belongs to the same session.
+     * 3. Log out all the user's sessions and assert that the token is not active anymore.
+     */
+    @Test
+    void shouldIssueRefreshAndRevokeTokens_whenUserLogsInAndOut() throws Exception {
+
+        // GIVEN
+        underTest = new KeycloakStubServer( KeycloakStubSettings.builder().accessTokenLifetime( Duration.ofSeconds( 60 ) ).build() ).start();
+        String userId = underTest.addUser( TEST_USERNAME, TEST_EMAIL, TEST_PASSWORD );
+
+        // WHEN
+        HttpResponse< String > login = postForm( "/realms/goaleaf/protocol/openid-connect/token", passwordGrant( TEST_PASSWORD ), null );
+
+        // THEN
+        assertEquals( 200, login.statusCode() );
+        JsonNode tokens = objectMapper.readTree( login.body() );
+        DecodedJWT accessToken = JWT.decode( tokens.get( "access_token" ).asText() );
+        assertEquals( userId, accessToken.getSubject() );
+        assertEquals( TEST_EMAIL, accessToken.getClaim( "email" ).asString() );
+        assertEquals( underTest.getIssuer(), accessToken.getIssuer() );
+        assertEquals( 60, accessToken.getExpiresAtAsInstant().getEpochSecond() - accessToken.getIssuedAtAsInstant().getEpochSecond() );
+        assertEquals( 1, underTest.getActiveSessionsCount() );
+
+        // WHEN
+        HttpResponse< String > refresh = postForm( "/realms/goaleaf/protocol/openid-connect/token",
+                clientCredentials() + "&grant_type=refresh_token&refresh_token=" + tokens.get( "refresh_token" ).asText(), null );
+
+        // THEN
+        assertEquals( 200, refresh.statusCode() );
+        String refreshedAccessToken = objectMapper.readTree( refresh.body() ).get( "access_token" ).asText();
+        assertEquals( accessToken.getClaim( "sid" ).asString(), JWT.decode( refreshedAccessToken ).getClaim( "sid" ).asString() );
+        assertTrue( isActive( refreshedAccessToken ) );
+
+        // WHEN
+        String clientAccessToken = objectMapper.readTree( postForm( "/realms/goaleaf/protocol/openid-connect/token",
+                clientCredentials() + "&grant_type=client_credentials", null ).body() ).get( "access_token" ).asText();
+        HttpResponse< String > logout = postForm( "//admin/realms/goaleaf/users/" + userId + "/logout", "", clientAccessToken );
+
+        // THEN
+        assertEquals( 204, logout.statusCode() );
+        assertFalse( isActive( refreshedAccessToken ) );
+        assertEquals( 0, underTest.getActiveSessionsCount() );
+    }
+
+    /**
+     * Tests the scenario where the user provides a wrong password.
+     */
+    @Test
+    void shouldRespondWithKeycloakError_whenPasswordIsWrong() throws Exception {
+
+        // GIVEN
+        underTest = new KeycloakStubServer( KeycloakStubSettings.builder().build() ).start();
+        underTest.addUser( TEST_USERNAME, TEST_EMAIL, TEST_PASSWORD );
+
+        // WHEN
+        HttpResponse< String > response = postForm( "/realms/goaleaf/protocol/openid-connect/token", passwordGrant( "wrongPassword" ), null );
+
+        // THEN
+        assertEquals( 401, response.statusCode() );
+        assertEquals( "invalid_grant", objectMapper.readTree( response.body() ).get( "error" ).asText() );
+    }
+
+    /**
+     * Tests the scenario where the admin endpoints are called without the client's access token.
+     */
+    @Test
+    void shouldRespondWithUnauthorized_whenAdminEndpointIsCalledWithoutToken() throws Exception {
+
+        // GIVEN
+        underTest = new KeycloakStubServer( KeycloakStubSettings.builder().build() ).start();
+
+        // WHEN
+        HttpResponse< String > response = httpClient.send( HttpRequest.newBuilder( URI.create( underTest.getBaseUrl() + "/admin/realms/goaleaf/users?email=" + TEST_EMAIL ) ).GET().build(),
+                HttpResponse.BodyHandlers.ofString() );
+
+        // THEN
+        assertEquals( 401, response.statusCode() );
+    }
+
+    /**
+     * Tests the scenario where the endpoint is configured to always fail after a fixed latency.
+     * <p>
+     * Test Steps:
+     * 1. Configure the token endpoint with the error rate 1.0 and the fixed latency of 50 ms.
+     * 2. Request the realm's public keys and assert that the other endpoints are not affected.
+     * 3. Request a token and assert that the response is the injected error received not earlier than after the latency.
+     */
+    @Test
+    void shouldInjectLatencyAndErrors_whenConfiguredForEndpoint() throws Exception {
+
+        // GIVEN
+        underTest = new KeycloakStubServer( KeycloakStubSettings.builder()
+                .endpointErrorRate( KeycloakStubEndpoint.TOKEN, 1.0 )
+                .endpointLatency( KeycloakStubEndpoint.TOKEN, LatencyDistribution.fixed( Duration.ofMillis( 50 ) ) )
+                .build() ).start();
+
+        // WHEN
+        HttpResponse< String > certs = httpClient.send( HttpRequest.newBuilder( URI.create( underTest.getBaseUrl() + "/realms/goaleaf/protocol/openid-connect/certs" ) ).GET().build(),
+                HttpResponse.BodyHandlers.ofString() );
+        long start = System.nanoTime();
+        HttpResponse< String > token = postForm( "/realms/goaleaf/protocol/openid-connect/token", clientCredentials() + "&grant_type=client_credentials", null );
+        long elapsedMillis = ( System.nanoTime() - start ) / 1_000_000;
+
+        // THEN
+        assertEquals( 200, certs.statusCode() );
+        assertEquals( "RS256", objectMapper.readTree( certs.body() ).get( "keys" ).get( 0 ).get( "alg" ).asText() );
+        assertEquals( 503, token.statusCode() );
+        assertTrue( elapsedMillis >= 50 );
+        assertEquals( 1, underTest.getRequestCount( KeycloakStubEndpoint.TOKEN ) );
+    }
+
+    private boolean isActive( String aToken ) throws IOException, InterruptedException {
+        HttpResponse< String > response = postForm( "/realms/goaleaf/protocol/openid-connect/token/introspect", "token=" + aToken, null );
+        return objectMapper.readTree( response.body() ).get( "active" ).asBoolean();
+    }
+
+    private HttpResponse< String > postForm( String aPath, String aBody, String aAccessToken ) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder( URI.create( underTest.getBaseUrl() + aPath ) )
+                .header( "Content-Type", "application/x-www-form-urlencoded" )
+                .POST( HttpRequest.BodyPublishers.ofString( aBody ) );
+        if ( aAccessToken != null ) {
+            request.header( "Authorization", "Bearer " + aAccessToken );
+        }
+        return httpClient.send( request.build(), HttpResponse.BodyHandlers.ofString() );
+    }
+
+    private String passwordGrant( String aPassword ) {
+        return clientCredentials() + "&grant_type=password&username=" + TEST_EMAIL + "&password=" + aPassword;
+    }
+
+    private static String clientCredentials() {
+        KeycloakStubSettings settings = KeycloakStubSettings.builder().build();
+        return "client_id=" + settings.getClientId() + "&client_secret=" + settings.getClientSecret();
+    }
+}
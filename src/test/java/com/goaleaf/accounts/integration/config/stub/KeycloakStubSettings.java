@@ -0,0 +1,87 @@
+package com.goaleaf.accounts.integration.config.stub;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The settings of the {@link KeycloakStubServer}: the realm and the client it emulates, the lifetimes of the issued tokens,
+ * and the latency and the error rate injected into the responses, by default and per {@link KeycloakStubEndpoint}.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:45
+ */
+@Getter
+@Builder
+public final class KeycloakStubSettings {
+
+    @Builder.Default
+    private final String realmName = "goaleaf";
+
+    @Builder.Default
+    private final String clientId = "goaleaf-stub-client";
+
+    @Builder.Default
+    private final String clientSecret = "goaleaf-stub-client-secret";
+
+    /**
+     * The audience ({@code aud} claim) of the issued access tokens.
+     */
+    @Builder.Default
+    private final String audience = "account";
+
+    @Builder.Default
+    private final Duration accessTokenLifetime = Duration.ofMinutes( 5 );
+
+    @Builder.Default
+    private final Duration refreshTokenLifetime = Duration.ofMinutes( 30 );
+
+    /**
+     * The latency of the endpoints without their own distribution in {@link #endpointLatencies}.
+     */
+    @Builder.Default
+    private final LatencyDistribution latency = LatencyDistribution.none();
+
+    @Singular
+    private final Map< KeycloakStubEndpoint, LatencyDistribution > endpointLatencies;
+
+    /**
+     * The probability (0.0 - 1.0) of answering a request with an error, for the endpoints without their own rate
+     * in {@link #endpointErrorRates}.
+     */
+    @Builder.Default
+    private final double errorRate = 0.0;
+
+    @Singular
+    private final Map< KeycloakStubEndpoint, Double > endpointErrorRates;
+
+    /**
+     * A random seed making the sampled latencies and the injected errors reproducible.
+     */
+    @Builder.Default
+    private final long seed = 42L;
+
+    /**
+     * Retrieves the latency distribution of the provided endpoint.
+     *
+     * @param aEndpoint
+     *         the endpoint.
+     * @return the latency distribution.
+     */
+    public LatencyDistribution getLatency( KeycloakStubEndpoint aEndpoint ) {
+        return endpointLatencies.getOrDefault( aEndpoint, latency );
+    }
+
+    /**
+     * Retrieves the error rate of the provided endpoint.
+     *
+     * @param aEndpoint
+     *         the endpoint.
+     * @return the probability of answering a request with an error.
+     */
+    public double getErrorRate( KeycloakStubEndpoint aEndpoint ) {
+        return endpointErrorRates.getOrDefault( aEndpoint, errorRate );
+    }
+}
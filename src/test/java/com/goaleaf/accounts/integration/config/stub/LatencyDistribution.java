@@ -0,0 +1,85 @@
+package com.goaleaf.accounts.integration.config.stub;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A distribution of the artificial latency added by the {@link KeycloakStubServer} before answering a request.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:45
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Samples the latency of a single request.
+     *
+     * @param aRandom
+     *         the source of randomness.
+     * @return the non-negative latency.
+     */
+    Duration sample( RandomGenerator aRandom );
+
+    /**
+     * Creates a distribution without any latency.
+     *
+     * @return the distribution.
+     */
+    static LatencyDistribution none() {
+        return aRandom -> Duration.ZERO;
+    }
+
+    /**
+     * Creates a distribution of the constant latency.
+     *
+     * @param aLatency
+     *         the latency of every request.
+     * @return the distribution.
+     */
+    static LatencyDistribution fixed( Duration aLatency ) {
+        requireNonNull( aLatency );
+        return aRandom -> aLatency;
+    }
+
+    /**
+     * Creates a distribution of the latency uniformly spread between the provided bounds.
+     *
+     * @param aMin
+     *         the minimal latency.
+     * @param aMax
+     *         the maximal latency.
+     * @return the distribution.
+     */
+    static LatencyDistribution uniform( Duration aMin, Duration aMax ) {
+        long minNanos = aMin.toNanos();
+        long maxNanos = aMax.toNanos();
+        if ( minNanos < 0 || maxNanos < minNanos ) {
+            throw new IllegalArgumentException( "Invalid latency bounds: " + aMin + ", " + aMax );
+        }
+        return aRandom -> Duration.ofNanos( minNanos == maxNanos ? minNanos : aRandom.nextLong( minNanos, maxNanos + 1 ) );
+    }
+
+    /**
+     * Creates a log-normal distribution of the latency, the long-tailed shape of the real services' response times,
+     * defined by its median and 99th percentile.
+     *
+     * @param aMedian
+     *         the median latency.
+     * @param aP99
+     *         the 99th percentile of the latency, not lower than the median.
+     * @return the distribution.
+     */
+    static LatencyDistribution logNormal( Duration aMedian, Duration aP99 ) {
+        double medianNanos = aMedian.toNanos();
+        double p99Nanos = aP99.toNanos();
+        if ( medianNanos <= 0 || p99Nanos < medianNanos ) {
+            throw new IllegalArgumentException( "Invalid latency percentiles: " + aMedian + ", " + aP99 );
+        }
+        // 2.326 is the 99th percentile of the standard normal distribution
+        double mu = Math.log( medianNanos );
+        double sigma = Math.log( p99Nanos / medianNanos ) / 2.326;
+        return aRandom -> Duration.ofNanos( ( long ) Math.exp( mu + sigma * aRandom.nextGaussian() ) );
+    }
+}
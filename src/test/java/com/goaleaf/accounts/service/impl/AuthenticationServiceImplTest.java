@@ -0,0 +1,208 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.data.dto.auth.AuthenticationRequestDto;
+import com.goaleaf.accounts.data.dto.response.AuthenticationResponseDto;
+import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
+import com.goaleaf.accounts.data.dto.user.UserDetailsDto;
+import com.goaleaf.accounts.service.*;
+import com.goaleaf.accounts.service.validation.AuthenticationValidationService;
+import com.goaleaf.accounts.system.exc.auth.AccountNotVerifiedException;
+import com.goaleaf.accounts.system.exc.auth.AuthenticationFailedException;
+import com.goaleaf.accounts.system.lang.AccountsExcTranslationKey;
+import com.goaleaf.accounts.system.properties.AccountsSystemProperties;
+import com.goaleaf.accounts.system.util.token.TokenRevocationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.goaleaf.accounts.system.properties.AccountsConfigurationTestUtils.createConfigurationService;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link AuthenticationServiceImpl} class.
+ * Tests the concurrent login: the precedence of the failures and the ending of the sessions granted to the failed logins.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 10:00
+ */
+class AuthenticationServiceImplTest {
+
+    private static final String TEST_EMAIL_ADDRESS = "user@goaleaf.com";
+    private static final String TEST_PASSWORD = "testPassword";
+    private static final String TEST_SESSION_ID = "8656ceb4-6aa0-4e57-97ef-919859358b18";
+    private static final Duration TEST_GRANT_DELAY = Duration.ofMillis( 200 );
+
+    /**
+     * A mocked instance of the {@link AccountService}.
+     */
+    private AccountService accountService;
+
+    /**
+     * A mocked instance of the {@link KeycloakReactiveConnectionService}.
+     */
+    private KeycloakReactiveConnectionService keycloakConnectionService;
+
+    /**
+     * A mocked instance of the {@link UserSessionDetailsService}.
+     */
+    private UserSessionDetailsService userSessionDetailsService;
+
+    /**
+     * The token granted to the user by the mocked auth service.
+     */
+    private AuthenticationTokenDto grantedToken;
+
+    /**
+     * An instance of the object being tested.
+     */
+    private AuthenticationServiceImpl underTest;
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     */
+    @BeforeEach
+    void setUp() {
+        accountService = Mockito.mock( AccountService.class );
+        keycloakConnectionService = Mockito.mock( KeycloakReactiveConnectionService.class );
+        userSessionDetailsService = Mockito.mock( UserSessionDetailsService.class );
+        UserDetailsService userDetailsService = Mockito.mock( UserDetailsService.class );
+
+        grantedToken = new AuthenticationTokenDto();
+        grantedToken.setAccessToken( JWT.create().withClaim( "sid", TEST_SESSION_ID ).sign( Algorithm.HMAC256( "testSecret" ) ) );
+        Mockito.when( userDetailsService.findUserIdentityByEmail( TEST_EMAIL_ADDRESS ) ).thenReturn( UserDetailsDto.builder().userName( "testUser" ).build() );
+        Mockito.when( keycloakConnectionService.deleteSession( anyString() ) ).thenReturn( Mono.empty() );
+
+        underTest = new AuthenticationServiceImpl( Mockito.mock( AuthenticationValidationService.class ),
+                createConfigurationService( Map.of( AccountsSystemProperties.LOGIN_PARALLEL, "true" ) ),
+                userDetailsService, accountService, keycloakConnectionService, userSessionDetailsService,
+                Mockito.mock( SupersededTokensService.class ), new TokenRevocationRegistry( Mockito.mock( TimeService.class ), Duration.ofMinutes( 5 ) ) );
+    }
+
+    /**
+     * Tests the scenario where the email address verification fails while the password grant is still in progress.
+     * <p>
+     * Test Steps:
+     * 1. Let the verification fail immediately and the grant succeed shortly after.
+     * 2. Authenticate the user.
+     * 3. Assert that the verification's failure is thrown, the granted session is ended and no session details are created.
+     */
+    @Test
+    void shouldEndGrantedSession_whenVerificationFailsBeforeGrantCompletes() {
+
+        // GIVEN
+        Mockito.when( accountService.checkEmailVerification( TEST_EMAIL_ADDRESS ) )
+                .thenReturn( Mono.error( new AccountNotVerifiedException( TEST_EMAIL_ADDRESS, AccountsExcTranslationKey.ACCOUNT_NOT_VERIFIED ) ) );
+        Mockito.when( keycloakConnectionService.authenticateUser( TEST_EMAIL_ADDRESS, TEST_PASSWORD ) )
+                .thenReturn( Mono.delay( TEST_GRANT_DELAY ).thenReturn( grantedToken ) );
+
+        // WHEN
+        // THEN
+        assertThrows( AccountNotVerifiedException.class, () -> underTest.authenticateUserAccount( new AuthenticationRequestDto( TEST_EMAIL_ADDRESS, TEST_PASSWORD, null ) ) );
+        verify( keycloakConnectionService ).deleteSession( TEST_SESSION_ID );
+        verify( userSessionDetailsService, never() ).createUserSessionDetails( any( AuthenticationRequestDto.class ), any() );
+    }
+
+    /**
+     * Tests the scenario where both the email address verification and the password grant fail.
+     * <p>
+     * Test Steps:
+     * 1. Let the grant fail immediately and the verification fail shortly after.
+     * 2. Authenticate the user.
+     * 3. Assert that the verification's failure takes precedence and no session is ended, as none has been granted.
+     */
+    @Test
+    void shouldThrowVerificationFailure_whenVerificationAndGrantFail() {
+
+        // GIVEN
+        Mockito.when( accountService.checkEmailVerification( TEST_EMAIL_ADDRESS ) )
+                .thenReturn( Mono.delay( TEST_GRANT_DELAY ).then( Mono.error( new AccountNotVerifiedException( TEST_EMAIL_ADDRESS, AccountsExcTranslationKey.ACCOUNT_NOT_VERIFIED ) ) ) );
+        Mockito.when( keycloakConnectionService.authenticateUser( TEST_EMAIL_ADDRESS, TEST_PASSWORD ) )
+                .thenReturn( Mono.error( new AuthenticationFailedException( AccountsExcTranslationKey.AUTHENTICATION_FAILED ) ) );
+
+        // WHEN
+        // THEN
+        assertThrows( AccountNotVerifiedException.class, () -> underTest.authenticateUserAccount( new AuthenticationRequestDto( TEST_EMAIL_ADDRESS, TEST_PASSWORD, null ) ) );
+        verify( keycloakConnectionService, never() ).deleteSession( anyString() );
+    }
+
+    /**
+     * Tests the scenario where the email address verification fails after the password grant has completed.
+     * <p>
+     * Test Steps:
+     * 1. Let the grant succeed immediately and the verification fail shortly after.
+     * 2. Authenticate the user.
+     * 3. Assert that the verification's failure is thrown, the granted session is ended and no session details are created.
+     */
+    @Test
+    void shouldEndGrantedSession_whenVerificationFailsAfterGrantCompletes() {
+
+        // GIVEN
+        Mockito.when( accountService.checkEmailVerification( TEST_EMAIL_ADDRESS ) )
+                .thenReturn( Mono.delay( TEST_GRANT_DELAY ).then( Mono.error( new AccountNotVerifiedException( TEST_EMAIL_ADDRESS, AccountsExcTranslationKey.ACCOUNT_NOT_VERIFIED ) ) ) );
+        Mockito.when( keycloakConnectionService.authenticateUser( TEST_EMAIL_ADDRESS, TEST_PASSWORD ) ).thenReturn( Mono.just( grantedToken ) );
+
+        // WHEN
+        // THEN
+        assertThrows( AccountNotVerifiedException.class, () -> underTest.authenticateUserAccount( new AuthenticationRequestDto( TEST_EMAIL_ADDRESS, TEST_PASSWORD, null ) ) );
+        verify( keycloakConnectionService ).deleteSession( TEST_SESSION_ID );
+        verify( userSessionDetailsService, never() ).createUserSessionDetails( any( AuthenticationRequestDto.class ), any() );
+    }
+
+    /**
+     * Tests the scenario where the password grant completes without a token.
+     * <p>
+     * Test Steps:
+     * 1. Let the verification succeed and the grant complete empty.
+     * 2. Authenticate the user.
+     * 3. Assert that the authentication fails, no session is ended and no session details are created.
+     */
+    @Test
+    void shouldThrowAuthenticationFailure_whenGrantCompletesEmpty() {
+
+        // GIVEN
+        Mockito.when( accountService.checkEmailVerification( TEST_EMAIL_ADDRESS ) ).thenReturn( Mono.empty() );
+        Mockito.when( keycloakConnectionService.authenticateUser( TEST_EMAIL_ADDRESS, TEST_PASSWORD ) ).thenReturn( Mono.empty() );
+
+        // WHEN
+        // THEN
+        assertThrows( AuthenticationFailedException.class, () -> underTest.authenticateUserAccount( new AuthenticationRequestDto( TEST_EMAIL_ADDRESS, TEST_PASSWORD, null ) ) );
+        verify( keycloakConnectionService, never() ).deleteSession( anyString() );
+        verify( userSessionDetailsService, never() ).createUserSessionDetails( any( AuthenticationRequestDto.class ), any() );
+    }
+
+    /**
+     * Tests the scenario where all the steps of the login succeed.
+     * <p>
+     * Test Steps:
+     * 1. Let the verification and the grant succeed.
+     * 2. Authenticate the user.
+     * 3. Assert that the granted token is returned, the session details are created and the session is not ended.
+     */
+    @Test
+    void shouldReturnGrantedToken_whenAllStepsSucceed() {
+
+        // GIVEN
+        Mockito.when( accountService.checkEmailVerification( TEST_EMAIL_ADDRESS ) ).thenReturn( Mono.empty() );
+        Mockito.when( keycloakConnectionService.authenticateUser( TEST_EMAIL_ADDRESS, TEST_PASSWORD ) ).thenReturn( Mono.just( grantedToken ) );
+        AuthenticationRequestDto request = new AuthenticationRequestDto( TEST_EMAIL_ADDRESS, TEST_PASSWORD, null );
+
+        // WHEN
+        AuthenticationResponseDto result = underTest.authenticateUserAccount( request );
+
+        // THEN
+        assertSame( grantedToken, result.getToken() );
+        assertEquals( "testUser", result.getUserData().getUsername() );
+        verify( userSessionDetailsService ).createUserSessionDetails( request, grantedToken );
+        verify( keycloakConnectionService, never() ).deleteSession( anyString() );
+    }
+}
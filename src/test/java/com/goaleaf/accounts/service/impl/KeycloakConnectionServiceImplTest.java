@@ -0,0 +1,387 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.system.exc.request.KeycloakActionRequestFailedException;
+import com.goaleaf.accounts.system.exc.request.KeycloakResourceRequestFailedException;
+import com.goaleaf.accounts.system.properties.AccountsSystemProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.goaleaf.accounts.system.properties.AccountsConfigurationTestUtils.createConfigurationService;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link KeycloakConnectionServiceImpl} class.
+ * Tests the sharing of the client access token fetch by the concurrent callers, the renewal of the rejected client access token
+ * and the per-request paths and timers of the client shared by all the requests.
+ * The auth service is replaced by an in-process HTTP server answering the token endpoint and the admin endpoints.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 09:45
+ */
+class KeycloakConnectionServiceImplTest {
+
+    private static final String TOKEN_ENDPOINT_PATH = "/protocol/openid-connect/token";
+    private static final String CLIENT_TOKEN_PREFIX = "client-token-";
+    private static final String TEST_USER_ACCESS_TOKEN = "Bearer testUserAccessToken";
+    private static final String TEST_SESSION_ID = "8656ceb4-6aa0-4e57-97ef-919859358b18";
+    private static final String TEST_EMAIL_ADDRESS = "user@goaleaf.com";
+    private static final ZonedDateTime TEST_TIME = ZonedDateTime.parse( "2026-10-17T09:00:00Z" );
+    private static final int CONCURRENT_CALLERS = 8;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    /**
+     * The number of the client authentication requests received.
+     */
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+
+    /**
+     * Signalled when the first client authentication request has been received.
+     */
+    private final CountDownLatch tokenRequestReceived = new CountDownLatch( 1 );
+
+    /**
+     * Holds the responses of the token endpoint until released.
+     */
+    private final CountDownLatch tokenResponsesReleased = new CountDownLatch( 1 );
+
+    /**
+     * Whether the token endpoint answers with an error.
+     */
+    private final AtomicBoolean tokenEndpointFailing = new AtomicBoolean();
+
+    /**
+     * The authorization header values rejected by the admin endpoints with 401.
+     */
+    private final Set< String > rejectedAuthorizations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The authorization header values of the received admin requests, in the order of their arrival.
+     */
+    private final List< String > adminRequestAuthorizations = new CopyOnWriteArrayList<>();
+
+    /**
+     * The URIs of the received admin requests, in the order of their arrival.
+     */
+    private final List< String > adminRequestUris = new CopyOnWriteArrayList<>();
+
+    /**
+     * The registry of the request timers.
+     */
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * The server standing in for the auth service.
+     */
+    private HttpServer server;
+
+    /**
+     * An instance of the object being tested.
+     */
+    private KeycloakConnectionServiceImpl underTest;
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), 0 ), 0 );
+        server.setExecutor( Executors.newCachedThreadPool() );
+        server.createContext( "/", this::handle );
+        server.start();
+
+        TimeService timeService = Mockito.mock( TimeService.class );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME );
+        String baseUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        underTest = new KeycloakConnectionServiceImpl(
+                createConfigurationService( Map.of(
+                        AccountsSystemProperties.AUTH_SERVICE_URL, baseUrl,
+                        AccountsSystemProperties.KEYCLOAK_REALM_NAME, "testRealm",
+                        AccountsSystemProperties.KEYCLOAK_CLIENT_RESPONSE_TIMEOUT, String.valueOf( TimeUnit.SECONDS.toMillis( TIMEOUT_SECONDS ) ),
+                        AccountsSystemProperties.KEYCLOAK_CLIENT_EMAIL_RESPONSE_TIMEOUT, String.valueOf( TimeUnit.SECONDS.toMillis( TIMEOUT_SECONDS ) ) ) ),
+                timeService, new ReactorClientHttpConnector(), meterRegistry );
+    }
+
+    /**
+     * Stops the server and the background refreshes after each test method is executed.
+     */
+    @AfterEach
+    void tearDown() {
+        tokenResponsesReleased.countDown();
+        underTest.shutdown();
+        server.stop( 0 );
+    }
+
+    /**
+     * Tests the scenario where many callers need the client access token at the same time.
+     * <p>
+     * Test Steps:
+     * 1. Hold the response of the token endpoint and let the callers request the token concurrently.
+     * 2. Release the response.
+     * 3. Assert that all the callers received the same token and the token endpoint has been requested only once.
+     */
+    @Test
+    void shouldSendSingleClientAuthenticationRequest_whenCallersRequestTokenConcurrently() throws Exception {
+
+        // GIVEN
+        ExecutorService callers = Executors.newFixedThreadPool( CONCURRENT_CALLERS );
+        List< Future< String > > tokens = new ArrayList<>();
+
+        // WHEN
+        for ( int i = 0; i < CONCURRENT_CALLERS; i++ ) {
+            tokens.add( callers.submit( underTest::getClientAccessToken ) );
+        }
+        assertTrue( tokenRequestReceived.await( TIMEOUT_SECONDS, TimeUnit.SECONDS ) );
+        Thread.sleep( 100 );
+        tokenResponsesReleased.countDown();
+
+        // THEN
+        for ( Future< String > token : tokens ) {
+            assertEquals( "Bearer " + CLIENT_TOKEN_PREFIX + 1, token.get( TIMEOUT_SECONDS, TimeUnit.SECONDS ) );
+        }
+        assertEquals( 1, tokenRequests.get() );
+        callers.shutdownNow();
+    }
+
+    /**
+     * Tests the scenario where the client access token is retrieved reactively before it has been fetched.
+     * <p>
+     * Test Steps:
+     * 1. Retrieve the client access token reactively and record the thread it is emitted on.
+     * 2. Assert that the token has been fetched and emitted by the HTTP client instead of a worker blocked on the request.
+     */
+    @Test
+    void shouldFetchWithoutBlockingWorker_whenClientAccessTokenIsRetrievedReactively() {
+
+        // GIVEN
+        tokenResponsesReleased.countDown();
+
+        // WHEN
+        String emittingThread = underTest.retrieveClientAccessToken()
+                .map( aToken -> Thread.currentThread().getName() )
+                .block();
+
+        // THEN
+        assertNotNull( emittingThread );
+        assertFalse( emittingThread.startsWith( "boundedElastic" ) );
+        assertEquals( 1, tokenRequests.get() );
+    }
+
+    /**
+     * Tests the scenario where the shared client authentication request fails.
+     * <p>
+     * Test Steps:
+     * 1. Hold the error response of the token endpoint and let the callers request the token concurrently.
+     * 2. Release the response.
+     * 3. Assert that every caller received the failure.
+     * 4. Let the token endpoint recover and assert that the next caller fetches a new token instead of waiting for the failed fetch.
+     */
+    @Test
+    void shouldPropagateFailureToAllCallersAndFetchAgain_whenClientAuthenticationFails() throws Exception {
+
+        // GIVEN
+        tokenEndpointFailing.set( true );
+        ExecutorService callers = Executors.newFixedThreadPool( CONCURRENT_CALLERS );
+        List< Future< String > > tokens = new ArrayList<>();
+
+        // WHEN
+        for ( int i = 0; i < CONCURRENT_CALLERS; i++ ) {
+            tokens.add( callers.submit( underTest::getClientAccessToken ) );
+        }
+        assertTrue( tokenRequestReceived.await( TIMEOUT_SECONDS, TimeUnit.SECONDS ) );
+        Thread.sleep( 100 );
+        tokenResponsesReleased.countDown();
+
+        // THEN
+        for ( Future< String > token : tokens ) {
+            ExecutionException exception = assertThrows( ExecutionException.class, () -> token.get( TIMEOUT_SECONDS, TimeUnit.SECONDS ) );
+            assertInstanceOf( KeycloakActionRequestFailedException.class, exception.getCause() );
+        }
+        callers.shutdownNow();
+
+        tokenEndpointFailing.set( false );
+        int failedRequests = tokenRequests.get();
+        assertEquals( "Bearer " + CLIENT_TOKEN_PREFIX + ( failedRequests + 1 ), underTest.getClientAccessToken() );
+        assertEquals( failedRequests + 1, tokenRequests.get() );
+    }
+
+    /**
+     * Tests the scenario where the auth service rejects the client access token held in memory.
+     * <p>
+     * Test Steps:
+     * 1. Fetch the client access token and let the admin endpoints reject it.
+     * 2. Send an admin action.
+     * 3. Assert that the token has been renewed once and the action has been retried once with the renewed token.
+     */
+    @Test
+    void shouldRenewTokenAndRetryOnce_whenClientAccessTokenIsRejected() {
+
+        // GIVEN
+        tokenResponsesReleased.countDown();
+        String rejectedToken = underTest.getClientAccessToken();
+        rejectedAuthorizations.add( rejectedToken );
+
+        // WHEN
+        underTest.terminateUserSession( TEST_SESSION_ID ).block();
+
+        // THEN
+        assertEquals( 2, tokenRequests.get() );
+        assertEquals( List.of( rejectedToken, "Bearer " + CLIENT_TOKEN_PREFIX + 2 ), adminRequestAuthorizations );
+    }
+
+    /**
+     * Tests the scenario where the auth service rejects the renewed client access token as well.
+     * <p>
+     * Test Steps:
+     * 1. Fetch the client access token and let the admin endpoints reject it and its successor.
+     * 2. Send an admin action.
+     * 3. Assert that the action fails after a single retry and the token has been renewed only once.
+     */
+    @Test
+    void shouldFailAfterSingleRetry_whenRenewedClientAccessTokenIsRejected() {
+
+        // GIVEN
+        tokenResponsesReleased.countDown();
+        String rejectedToken = underTest.getClientAccessToken();
+        rejectedAuthorizations.add( rejectedToken );
+        rejectedAuthorizations.add( "Bearer " + CLIENT_TOKEN_PREFIX + 2 );
+
+        // WHEN
+        // THEN
+        assertThrows( KeycloakActionRequestFailedException.class, () -> underTest.terminateUserSession( TEST_SESSION_ID ).block() );
+        assertEquals( 2, tokenRequests.get() );
+        assertEquals( 2, adminRequestAuthorizations.size() );
+    }
+
+    /**
+     * Tests the scenario where the auth service rejects the user's access token.
+     * <p>
+     * Test Steps:
+     * 1. Fetch the client access token and let the admin endpoints reject the user's access token.
+     * 2. Send a request authorized with the user's access token.
+     * 3. Assert that the request fails without renewing the client access token or retrying the request.
+     */
+    @Test
+    void shouldNotRenewClientAccessToken_whenUserAccessTokenIsRejected() {
+
+        // GIVEN
+        tokenResponsesReleased.countDown();
+        underTest.getClientAccessToken();
+        rejectedAuthorizations.add( TEST_USER_ACCESS_TOKEN );
+
+        // WHEN
+        // THEN
+        assertThrows( KeycloakResourceRequestFailedException.class,
+                () -> underTest.findAccountsByEmailAddress( TEST_USER_ACCESS_TOKEN, TEST_EMAIL_ADDRESS ).collectList().block() );
+        assertEquals( 1, tokenRequests.get() );
+        assertEquals( List.of( TEST_USER_ACCESS_TOKEN ), adminRequestAuthorizations );
+    }
+
+    /**
+     * Tests the scenario where the requests to different endpoints are sent with the shared client.
+     * <p>
+     * Test Steps:
+     * 1. Fetch the client access token and let the admin endpoints reject it.
+     * 2. Send an admin action and a request with the query parameters.
+     * 3. Assert that each request has been sent to its own path and each attempt has been timed with its template and status.
+     */
+    @Test
+    void shouldResolvePathAndTimeEachAttempt_whenRequestsAreSentWithSharedClient() {
+
+        // GIVEN
+        tokenResponsesReleased.countDown();
+        rejectedAuthorizations.add( underTest.getClientAccessToken() );
+
+        // WHEN
+        underTest.terminateUserSession( TEST_SESSION_ID ).block();
+        underTest.findAccountsByEmailAddress( TEST_USER_ACCESS_TOKEN, TEST_EMAIL_ADDRESS ).collectList().block();
+
+        // THEN
+        String sessionUri = "/admin/realms/testRealm/sessions/" + TEST_SESSION_ID;
+        assertEquals( List.of( sessionUri, sessionUri, "/admin/realms/testRealm/users?email=" + TEST_EMAIL_ADDRESS ), adminRequestUris );
+        assertEquals( 1, requestTimerCount( "TERMINATE_USER_SESSION_TEMPLATE", "401" ) );
+        assertEquals( 1, requestTimerCount( "TERMINATE_USER_SESSION_TEMPLATE", "204" ) );
+        assertEquals( 1, requestTimerCount( "GET_LIST_OF_ACCOUNTS_TEMPLATE", "200" ) );
+        assertEquals( 2, requestTimerCount( "AUTHENTICATION_URL_TEMPLATE", "200" ) );
+    }
+
+    private long requestTimerCount( String aTemplate, String aStatus ) {
+        Timer timer = meterRegistry.find( "keycloak.client.requests" ).tags( "template", aTemplate, "status", aStatus ).timer();
+        return timer != null ? timer.count() : 0;
+    }
+
+    /**
+     * Answers the requests sent to the auth service.
+     *
+     * @param aExchange
+     *         the request and its response.
+     */
+    private void handle( HttpExchange aExchange ) throws IOException {
+        try ( aExchange ) {
+            aExchange.getRequestBody().readAllBytes();
+            if ( aExchange.getRequestURI().getPath().endsWith( TOKEN_ENDPOINT_PATH ) ) {
+                handleTokenRequest( aExchange );
+            } else {
+                handleAdminRequest( aExchange );
+            }
+        }
+    }
+
+    private void handleTokenRequest( HttpExchange aExchange ) throws IOException {
+        int requestNumber = tokenRequests.incrementAndGet();
+        tokenRequestReceived.countDown();
+        try {
+            tokenResponsesReleased.await( TIMEOUT_SECONDS, TimeUnit.SECONDS );
+        } catch ( InterruptedException aE ) {
+            Thread.currentThread().interrupt();
+        }
+
+        if ( tokenEndpointFailing.get() ) {
+            sendJson( aExchange, 503, "{\"error\":\"temporarily_unavailable\",\"error_description\":\"Service unavailable\"}" );
+        } else {
+            sendJson( aExchange, 200, "{\"access_token\":\"" + CLIENT_TOKEN_PREFIX + requestNumber + "\",\"expires_in\":300,\"token_type\":\"Bearer\"}" );
+        }
+    }
+
+    private void handleAdminRequest( HttpExchange aExchange ) throws IOException {
+        String authorization = aExchange.getRequestHeaders().getFirst( "Authorization" );
+        adminRequestAuthorizations.add( authorization );
+        adminRequestUris.add( aExchange.getRequestURI().toString() );
+        if ( rejectedAuthorizations.contains( authorization ) ) {
+            sendJson( aExchange, 401, "{\"error\":\"unauthorized\",\"error_description\":\"Token rejected\"}" );
+        } else if ( "GET".equals( aExchange.getRequestMethod() ) ) {
+            sendJson( aExchange, 200, "[]" );
+        } else {
+            aExchange.sendResponseHeaders( 204, -1 );
+        }
+    }
+
+    private static void sendJson( HttpExchange aExchange, int aStatus, String aBody ) throws IOException {
+        byte[] body = aBody.getBytes( StandardCharsets.UTF_8 );
+        aExchange.getResponseHeaders().set( "Content-Type", "application/json" );
+        aExchange.sendResponseHeaders( aStatus, body.length );
+        try ( OutputStream output = aExchange.getResponseBody() ) {
+            output.write( body );
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.data.dto.keycloak.key.JsonWebKeyDto;
+import com.goaleaf.accounts.data.dto.keycloak.key.JsonWebKeySetDto;
+import com.goaleaf.accounts.service.KeycloakServiceConnectionService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link RealmPublicKeysServiceImpl} class.
+ * Tests the lazy fetching of the realm's keys, the key rotation and the throttling of the refetches for unknown keys.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 09:00
+ */
+class RealmPublicKeysServiceImplTest {
+
+    private static final String TEST_OLD_KEY_ID = "testOldKeyId";
+    private static final String TEST_NEW_KEY_ID = "testNewKeyId";
+    private static final String TEST_UNKNOWN_KEY_ID = "testUnknownKeyId";
+    private static final ZonedDateTime TEST_TIME = ZonedDateTime.parse( "2026-10-17T09:00:00Z" );
+
+    private static KeyPair oldKeyPair;
+    private static KeyPair newKeyPair;
+
+    /**
+     * A mocked instance of the {@link KeycloakServiceConnectionService}.
+     */
+    private KeycloakServiceConnectionService keycloakServiceConnectionService;
+
+    /**
+     * A mocked instance of the {@link TimeService}.
+     */
+    private TimeService timeService;
+
+    /**
+     * An instance of the object being tested.
+     */
+    private RealmPublicKeysServiceImpl underTest;
+
+    /**
+     * Generates the RSA key pairs published by the mocked realm.
+     */
+    @BeforeAll
+    static void prepareKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance( "RSA" );
+        generator.initialize( 2048 );
+        oldKeyPair = generator.generateKeyPair();
+        newKeyPair = generator.generateKeyPair();
+    }
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     */
+    @BeforeEach
+    void setUp() {
+        keycloakServiceConnectionService = Mockito.mock( KeycloakServiceConnectionService.class );
+        timeService = Mockito.mock( TimeService.class );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME );
+        underTest = new RealmPublicKeysServiceImpl( keycloakServiceConnectionService, timeService );
+    }
+
+    /**
+     * Tests the scenario where the realm rotates its keys.
+     * <p>
+     * Test Steps:
+     * 1. Publish the old key and look it up, assert that it is fetched once.
+     * 2. Publish only the new key and look the new key up after the refetch interval, assert that the key set is refetched.
+     * 3. Look the old key up again and assert that it is not known anymore and no further refetch happens within the interval.
+     */
+    @Test
+    void shouldReplaceKeys_whenRealmRotatesKeys() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendRealmKeysRequest() )
+                .thenReturn( keySet( jwk( TEST_OLD_KEY_ID, oldKeyPair ) ) )
+                .thenReturn( keySet( jwk( TEST_NEW_KEY_ID, newKeyPair ) ) );
+
+        // WHEN
+        Optional< PublicKey > oldKey = underTest.getPublicKey( TEST_OLD_KEY_ID );
+        Optional< PublicKey > cachedOldKey = underTest.getPublicKey( TEST_OLD_KEY_ID );
+
+        // THEN
+        assertEquals( Optional.of( oldKeyPair.getPublic() ), oldKey );
+        assertEquals( oldKey, cachedOldKey );
+        verify( keycloakServiceConnectionService, times( 1 ) ).sendRealmKeysRequest();
+
+        // WHEN
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME.plusSeconds( 11 ) );
+        Optional< PublicKey > newKey = underTest.getPublicKey( TEST_NEW_KEY_ID );
+        Optional< PublicKey > rotatedOutKey = underTest.getPublicKey( TEST_OLD_KEY_ID );
+
+        // THEN
+        assertEquals( Optional.of( newKeyPair.getPublic() ), newKey );
+        assertTrue( rotatedOutKey.isEmpty() );
+        verify( keycloakServiceConnectionService, times( 2 ) ).sendRealmKeysRequest();
+    }
+
+    /**
+     * Tests the scenario where the tokens carry a key identifier the realm does not publish.
+     * <p>
+     * Test Steps:
+     * 1. Look the unknown key up twice within the refetch interval and assert that the key set is fetched only once.
+     * 2. Look the unknown key up after the refetch interval and assert that the key set is fetched once again.
+     */
+    @Test
+    void shouldThrottleRefetches_whenKeyIdIsUnknown() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendRealmKeysRequest() ).thenReturn( keySet( jwk( TEST_OLD_KEY_ID, oldKeyPair ) ) );
+
+        // WHEN
+        Optional< PublicKey > firstResult = underTest.getPublicKey( TEST_UNKNOWN_KEY_ID );
+        Optional< PublicKey > secondResult = underTest.getPublicKey( TEST_UNKNOWN_KEY_ID );
+
+        // THEN
+        assertTrue( firstResult.isEmpty() );
+        assertTrue( secondResult.isEmpty() );
+        verify( keycloakServiceConnectionService, times( 1 ) ).sendRealmKeysRequest();
+
+        // WHEN
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME.plusSeconds( 11 ) );
+        Optional< PublicKey > laterResult = underTest.getPublicKey( TEST_UNKNOWN_KEY_ID );
+
+        // THEN
+        assertTrue( laterResult.isEmpty() );
+        verify( keycloakServiceConnectionService, times( 2 ) ).sendRealmKeysRequest();
+    }
+
+    /**
+     * Tests the scenario where the realm withdraws a key without publishing a new one.
+     * <p>
+     * Test Steps:
+     * 1. Publish the old and the new key and look the old key up.
+     * 2. Publish only the new key and look the old key up after the key set has become outdated.
+     * 3. Assert that the key set is refetched and the withdrawn key is not known anymore.
+     */
+    @Test
+    void shouldForgetWithdrawnKey_whenKeySetIsOutdated() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendRealmKeysRequest() )
+                .thenReturn( keySet( jwk( TEST_OLD_KEY_ID, oldKeyPair ), jwk( TEST_NEW_KEY_ID, newKeyPair ) ) )
+                .thenReturn( keySet( jwk( TEST_NEW_KEY_ID, newKeyPair ) ) );
+        Optional< PublicKey > oldKey = underTest.getPublicKey( TEST_OLD_KEY_ID );
+
+        // WHEN
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME.plusMinutes( 5 ) );
+        Optional< PublicKey > withdrawnKey = underTest.getPublicKey( TEST_OLD_KEY_ID );
+        Optional< PublicKey > newKey = underTest.getPublicKey( TEST_NEW_KEY_ID );
+
+        // THEN
+        assertEquals( Optional.of( oldKeyPair.getPublic() ), oldKey );
+        assertTrue( withdrawnKey.isEmpty() );
+        assertEquals( Optional.of( newKeyPair.getPublic() ), newKey );
+        verify( keycloakServiceConnectionService, times( 2 ) ).sendRealmKeysRequest();
+    }
+
+    /**
+     * Tests the scenario where the refetch of the outdated key set fails.
+     * <p>
+     * Test Steps:
+     * 1. Publish the old key and look it up.
+     * 2. Make the realm unreachable and look the old key up after the key set has become outdated.
+     * 3. Assert that the known key is still returned.
+     * 4. Look an unknown key up after the refetch interval and assert that the failure is propagated.
+     */
+    @Test
+    void shouldKeepKnownKeys_whenRefetchOfOutdatedKeySetFails() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendRealmKeysRequest() )
+                .thenReturn( keySet( jwk( TEST_OLD_KEY_ID, oldKeyPair ) ) )
+                .thenThrow( new IllegalStateException( "The realm is unreachable" ) );
+        underTest.getPublicKey( TEST_OLD_KEY_ID );
+
+        // WHEN
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME.plusMinutes( 5 ) );
+        Optional< PublicKey > knownKey = underTest.getPublicKey( TEST_OLD_KEY_ID );
+
+        // THEN
+        assertEquals( Optional.of( oldKeyPair.getPublic() ), knownKey );
+        verify( keycloakServiceConnectionService, times( 2 ) ).sendRealmKeysRequest();
+
+        // WHEN
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME.plusMinutes( 6 ) );
+
+        // THEN
+        assertThrows( IllegalStateException.class, () -> underTest.getPublicKey( TEST_UNKNOWN_KEY_ID ) );
+    }
+
+    private static JsonWebKeySetDto keySet( JsonWebKeyDto... aKeys ) {
+        return JsonWebKeySetDto.builder().keys( List.of( aKeys ) ).build();
+    }
+
+    private static JsonWebKeyDto jwk( String aKeyId, KeyPair aKeyPair ) {
+        RSAPublicKey publicKey = ( RSAPublicKey ) aKeyPair.getPublic();
+        return JsonWebKeyDto.builder()
+                .keyId( aKeyId )
+                .keyType( "RSA" )
+                .algorithm( "RS256" )
+                .use( "sig" )
+                .modulus( encodeUnsigned( publicKey.getModulus() ) )
+                .exponent( encodeUnsigned( publicKey.getPublicExponent() ) )
+                .build();
+    }
+
+    private static String encodeUnsigned( BigInteger aValue ) {
+        byte[] bytes = aValue.toByteArray();
+        if ( bytes.length > 1 && bytes[ 0 ] == 0 ) {
+            bytes = Arrays.copyOfRange( bytes, 1, bytes.length );
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString( bytes );
+    }
+}
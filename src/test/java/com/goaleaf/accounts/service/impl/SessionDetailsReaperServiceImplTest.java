@@ -0,0 +1,197 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.persistence.projection.ExpiredSessionDetailsKey;
+import com.goaleaf.accounts.persistence.repository.UserSessionDetailsRepository;
+import com.goaleaf.accounts.system.properties.AccountsSystemProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import static com.goaleaf.accounts.system.properties.AccountsConfigurationTestUtils.createConfigurationService;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link SessionDetailsReaperServiceImpl} class.
+ * Tests the keyset pagination of the expired session details against an in-memory repository, including the details
+ * expiring at the same time on both sides of a batch's boundary.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 10:30
+ */
+class SessionDetailsReaperServiceImplTest {
+
+    private static final int TEST_BATCH_SIZE = 2;
+    private static final ZonedDateTime TEST_TIME = ZonedDateTime.parse( "2026-10-17T10:30:00Z" );
+    private static final Instant TEST_EXPIRED_TIME = TEST_TIME.toInstant().minusSeconds( 60 );
+    private static final Instant TEST_EARLIER_EXPIRED_TIME = TEST_TIME.toInstant().minusSeconds( 120 );
+
+    /**
+     * The session details stored in the mocked repository.
+     */
+    private List< TestSessionDetailsKey > storedDetails;
+
+    /**
+     * A mocked instance of the {@link UserSessionDetailsRepository}.
+     */
+    private UserSessionDetailsRepository userSessionDetailsRepository;
+
+    /**
+     * A registry of the meters of the tested object.
+     */
+    private SimpleMeterRegistry meterRegistry;
+
+    /**
+     * An instance of the object being tested.
+     */
+    private SessionDetailsReaperServiceImpl underTest;
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     */
+    @BeforeEach
+    void setUp() {
+        storedDetails = new ArrayList<>();
+        userSessionDetailsRepository = Mockito.mock( UserSessionDetailsRepository.class );
+        Mockito.when( userSessionDetailsRepository.findExpiredKeys( any(), any(), any() ) ).thenAnswer( aInvocation -> {
+            Instant now = aInvocation.getArgument( 0 );
+            Instant afterExpiresAt = aInvocation.getArgument( 1 );
+            Pageable pageable = aInvocation.getArgument( 2 );
+            return storedDetails.stream()
+                    .filter( aKey -> aKey.getExpiresAt().isBefore( now ) && !aKey.getExpiresAt().isBefore( afterExpiresAt ) )
+                    .sorted( Comparator.comparing( TestSessionDetailsKey::getExpiresAt ) )
+                    .limit( pageable.getPageSize() )
+                    .map( ExpiredSessionDetailsKey.class::cast )
+                    .toList();
+        } );
+        Mockito.when( userSessionDetailsRepository.deleteByIds( anyCollection() ) ).thenAnswer( aInvocation -> {
+            Collection< UUID > ids = aInvocation.getArgument( 0 );
+            int sizeBefore = storedDetails.size();
+            storedDetails.removeIf( aKey -> ids.contains( aKey.getId() ) );
+            return sizeBefore - storedDetails.size();
+        } );
+
+        TimeService timeService = Mockito.mock( TimeService.class );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME );
+
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new SessionDetailsReaperServiceImpl( userSessionDetailsRepository, createConfigurationService(
+                Map.of( AccountsSystemProperties.SESSION_DETAILS_REAPER_BATCH_SIZE, String.valueOf( TEST_BATCH_SIZE ),
+                        AccountsSystemProperties.SESSION_DETAILS_REAPER_BATCH_PAUSE, "0" ) ), timeService,
+                meterRegistry );
+    }
+
+    /**
+     * Test scenario: Removing the details expiring at the same time on both sides of a batch's boundary.
+     * <p>
+     * Test Steps:
+     * <ul>
+     *     <li>Store five expired details, four of them expiring at the same time, and one not expired yet.</li>
+     *     <li>Remove the expired details in the batches of two.</li>
+     *     <li>Verify that every expired detail has been removed and the not expired one has been kept.</li>
+     *     <li>Verify that the next batches have been read from the expiration time of the previous batch's last detail.</li>
+     * </ul>
+     */
+    @Test
+    void shouldRemoveAllExpiredDetails_whenExpirationTimesTieAcrossBatches() {
+        // GIVEN
+        storeDetails( TEST_EARLIER_EXPIRED_TIME, TEST_EXPIRED_TIME, TEST_EXPIRED_TIME, TEST_EXPIRED_TIME,
+                      TEST_EXPIRED_TIME );
+        TestSessionDetailsKey notExpired = storeDetails( TEST_TIME.toInstant().plusSeconds( 60 ) ).getFirst();
+
+        // WHEN
+        int reaped = underTest.reapExpiredSessionDetails();
+
+        // THEN
+        assertEquals( 5, reaped );
+        assertEquals( List.of( notExpired ), storedDetails );
+        assertEquals( 5.0, meterRegistry.counter( "session.details.reaped" ).count() );
+        verify( userSessionDetailsRepository ).findExpiredKeys( eq( TEST_TIME.toInstant() ), eq( Instant.EPOCH ), any() );
+        verify( userSessionDetailsRepository, times( 2 ) ).findExpiredKeys( eq( TEST_TIME.toInstant() ),
+                                                                            eq( TEST_EXPIRED_TIME ), any() );
+        verify( userSessionDetailsRepository, times( 3 ) ).deleteByIds( anyCollection() );
+    }
+
+    /**
+     * Test scenario: Stopping the removal after a batch which is not full.
+     * <p>
+     * Test Steps:
+     * <ul>
+     *     <li>Store three expired details.</li>
+     *     <li>Remove the expired details in the batches of two.</li>
+     *     <li>Verify that every detail has been removed with two batches and no further read.</li>
+     * </ul>
+     */
+    @Test
+    void shouldStopAfterPartialBatch_whenLastBatchIsNotFull() {
+        // GIVEN
+        storeDetails( TEST_EARLIER_EXPIRED_TIME, TEST_EARLIER_EXPIRED_TIME.plusSeconds( 1 ), TEST_EXPIRED_TIME );
+
+        // WHEN
+        int reaped = underTest.reapExpiredSessionDetails();
+
+        // THEN
+        assertEquals( 3, reaped );
+        assertTrue( storedDetails.isEmpty() );
+        verify( userSessionDetailsRepository, times( 2 ) ).findExpiredKeys( any(), any(), any() );
+        verify( userSessionDetailsRepository, times( 2 ) ).deleteByIds( anyCollection() );
+    }
+
+    /**
+     * Test scenario: Stopping the removal when nothing of a full batch has been removed.
+     * <p>
+     * Test Steps:
+     * <ul>
+     *     <li>Store two expired details and make their removal remove nothing.</li>
+     *     <li>Remove the expired details in the batches of two.</li>
+     *     <li>Verify that the removal has stopped after the first batch instead of reading it again.</li>
+     * </ul>
+     */
+    @Test
+    void shouldStop_whenNothingOfBatchHasBeenRemoved() {
+        // GIVEN
+        storeDetails( TEST_EXPIRED_TIME, TEST_EXPIRED_TIME );
+        Mockito.when( userSessionDetailsRepository.deleteByIds( anyCollection() ) ).thenReturn( 0 );
+
+        // WHEN
+        int reaped = underTest.reapExpiredSessionDetails();
+
+        // THEN
+        assertEquals( 0, reaped );
+        verify( userSessionDetailsRepository, times( 1 ) ).findExpiredKeys( any(), any(), any() );
+    }
+
+    private List< TestSessionDetailsKey > storeDetails( Instant... aExpirationTimes ) {
+        List< TestSessionDetailsKey > stored = Arrays.stream( aExpirationTimes )
+                .map( aExpiresAt -> new TestSessionDetailsKey( UUID.randomUUID(), aExpiresAt ) )
+                .toList();
+        storedDetails.addAll( stored );
+        return stored;
+    }
+
+    /**
+     * The key of the session details stored in the mocked repository.
+     */
+    private record TestSessionDetailsKey( UUID id, Instant expiresAt ) implements ExpiredSessionDetailsKey {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.service.KeycloakServiceConnectionService;
+import com.goaleaf.accounts.system.properties.AccountsSystemProperties;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
+import com.goaleaf.accounts.system.util.token.TokenRevocationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.goaleaf.accounts.system.properties.AccountsConfigurationTestUtils.createConfigurationService;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link TokenIntrospectionServiceImpl} class.
+ * Tests the remembering of the positive introspection results, their staleness and the rejection of the revoked tokens.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 09:35
+ */
+class TokenIntrospectionServiceImplTest {
+
+    private static final String TEST_ACCESS_TOKEN = "testAccessToken";
+    private static final String TEST_SESSION_ID = "8656ceb4-6aa0-4e57-97ef-919859358b18";
+    private static final String TEST_USER_ID = "4568651b-15d5-44c2-948d-12a03483ac1a";
+    private static final ZonedDateTime TEST_TIME = ZonedDateTime.parse( "2026-10-17T09:00:00Z" );
+    private static final long TEST_MAX_STALENESS_SECONDS = 30;
+
+    /**
+     * A mocked instance of the {@link KeycloakServiceConnectionService}.
+     */
+    private KeycloakServiceConnectionService keycloakServiceConnectionService;
+
+    /**
+     * The registry of the tokens revoked locally.
+     */
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * The time source of the cache, in nanoseconds.
+     */
+    private AtomicLong ticker;
+
+    /**
+     * The claims of the introspected token, expiring in 5 minutes.
+     */
+    private AccessTokenClaims claims;
+
+    /**
+     * An instance of the object being tested.
+     */
+    private TokenIntrospectionServiceImpl underTest;
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     */
+    @BeforeEach
+    void setUp() {
+        keycloakServiceConnectionService = Mockito.mock( KeycloakServiceConnectionService.class );
+        TimeService timeService = Mockito.mock( TimeService.class );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME );
+        tokenRevocationRegistry = new TokenRevocationRegistry( timeService, Duration.ofMinutes( 5 ) );
+        ticker = new AtomicLong();
+
+        Instant now = TEST_TIME.toInstant();
+        claims = new AccessTokenClaims( TEST_ACCESS_TOKEN, TEST_SESSION_ID, TEST_USER_ID, "user@goaleaf.com", now.minusSeconds( 1 ), now.plusSeconds( 300 ) );
+        underTest = new TokenIntrospectionServiceImpl( keycloakServiceConnectionService, timeService,
+                createConfigurationService( Map.of(
+                        AccountsSystemProperties.INTROSPECTION_CACHE_MAX_STALENESS, String.valueOf( TEST_MAX_STALENESS_SECONDS ),
+                        AccountsSystemProperties.INTROSPECTION_CACHE_MAX_SIZE, "100" ) ),
+                tokenRevocationRegistry, ticker::get );
+    }
+
+    /**
+     * Tests the scenario where the active token is checked twice within the maximal staleness.
+     * <p>
+     * Test Steps:
+     * 1. Check the token twice; the realm reports it active.
+     * 2. Assert that both checks return {@code true} and the realm has been requested only once.
+     */
+    @Test
+    void shouldReturnRememberedResult_whenTokenIsCheckedAgain() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN ) ).thenReturn( true );
+
+        // WHEN
+        boolean firstResult = underTest.isTokenActive( claims );
+        boolean secondResult = underTest.isTokenActive( claims );
+
+        // THEN
+        assertTrue( firstResult );
+        assertTrue( secondResult );
+        verify( keycloakServiceConnectionService, times( 1 ) ).sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN );
+    }
+
+    /**
+     * Tests the scenario where the realm reports the token inactive.
+     * <p>
+     * Test Steps:
+     * 1. Check the token twice; the realm reports it inactive.
+     * 2. Assert that both checks return {@code false} and the realm has been requested each time, as the negative results are not remembered.
+     */
+    @Test
+    void shouldNotRememberResult_whenTokenIsInactive() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN ) ).thenReturn( false );
+
+        // WHEN
+        boolean firstResult = underTest.isTokenActive( claims );
+        boolean secondResult = underTest.isTokenActive( claims );
+
+        // THEN
+        assertFalse( firstResult );
+        assertFalse( secondResult );
+        verify( keycloakServiceConnectionService, times( 2 ) ).sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN );
+    }
+
+    /**
+     * Tests the scenario where the remembered result becomes older than the maximal staleness.
+     * <p>
+     * Test Steps:
+     * 1. Check the token; the realm reports it active.
+     * 2. Advance the cache's time beyond the maximal staleness; the realm now reports the token inactive.
+     * 3. Assert that the token is introspected again and reported inactive.
+     */
+    @Test
+    void shouldIntrospectAgain_whenRememberedResultIsStale() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN ) ).thenReturn( true, false );
+        underTest.isTokenActive( claims );
+
+        // WHEN
+        ticker.addAndGet( Duration.ofSeconds( TEST_MAX_STALENESS_SECONDS + 1 ).toNanos() );
+        boolean result = underTest.isTokenActive( claims );
+
+        // THEN
+        assertFalse( result );
+        verify( keycloakServiceConnectionService, times( 2 ) ).sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN );
+    }
+
+    /**
+     * Tests the scenario where the session is ended after the token's active result has been remembered.
+     * <p>
+     * Test Steps:
+     * 1. Check the token; the realm reports it active.
+     * 2. Revoke the session locally.
+     * 3. Assert that the token is reported inactive without requesting the realm.
+     */
+    @Test
+    void shouldReturnFalse_whenRememberedTokenHasBeenRevoked() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN ) ).thenReturn( true );
+        underTest.isTokenActive( claims );
+
+        // WHEN
+        tokenRevocationRegistry.revokeSession( TEST_SESSION_ID );
+        boolean result = underTest.isTokenActive( claims );
+
+        // THEN
+        assertFalse( result );
+        verify( keycloakServiceConnectionService, times( 1 ) ).sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN );
+    }
+
+    /**
+     * Tests the scenario where the user's sessions are ended while the token is being introspected.
+     * <p>
+     * Test Steps:
+     * 1. Revoke the user locally during the introspection request, which still reports the token active.
+     * 2. Assert that the token is reported inactive.
+     * 3. Check the token again and assert that the active result has not been remembered, so the realm is requested again.
+     */
+    @Test
+    void shouldNotRememberResult_whenTokenIsRevokedDuringIntrospection() {
+
+        // GIVEN
+        Mockito.when( keycloakServiceConnectionService.sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN ) ).thenAnswer( aInvocation -> {
+            tokenRevocationRegistry.revokeUser( TEST_USER_ID );
+            return true;
+        } );
+
+        // WHEN
+        boolean firstResult = underTest.isTokenActive( claims );
+        boolean secondResult = underTest.isTokenActive( claims );
+
+        // THEN
+        assertFalse( firstResult );
+        assertFalse( secondResult );
+        verify( keycloakServiceConnectionService, times( 2 ) ).sendTokenIntrospectionRequest( TEST_ACCESS_TOKEN );
+    }
+}
@@ -0,0 +1,285 @@
+package com.goaleaf.accounts.service.impl;
+
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
+import com.goaleaf.accounts.data.dto.user.UserSessionDetailsDto;
+import com.goaleaf.accounts.persistence.entity.UserSessionDetails;
+import com.goaleaf.accounts.persistence.repository.UserSessionDetailsRepository;
+import com.goaleaf.accounts.service.*;
+import com.goaleaf.accounts.system.concurrent.StripedSessionLocks;
+import com.goaleaf.accounts.system.properties.AccountsSystemProperties;
+import com.goaleaf.accounts.system.util.token.AccessTokenValidationStrategies;
+import com.goaleaf.accounts.system.util.token.TokenRevocationRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.goaleaf.accounts.system.properties.AccountsConfigurationTestUtils.createConfigurationService;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link UserSessionDetailsServiceImpl} class.
+ * Tests the in-memory cache of the session details: the hits, the copies handed out and the removal of the entries
+ * on the deletion, the deletion of all the user's sessions, the failed rotation and the explicit invalidation.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 10:15
+ */
+class UserSessionDetailsServiceImplTest {
+
+    private static final String TEST_SESSION_ID = "8656ceb4-6aa0-4e57-97ef-919859358b18";
+    private static final String TEST_USER_ID = "4568651b-15d5-44c2-948d-12a03483ac1a";
+    private static final String TEST_OTHER_SESSION_ID = "0c5e4a3e-1b8f-4b6e-9f55-6f1d9a2c7b01";
+    private static final String TEST_OTHER_USER_ID = "a7d2c1f4-3e5b-4c8d-9a0f-2b6e8d4c1f93";
+    private static final String TEST_REFRESH_TOKEN = "testRefreshToken";
+    private static final String TEST_NEW_REFRESH_TOKEN = "testNewRefreshToken";
+    private static final String TEST_CONCURRENT_REFRESH_TOKEN = "testConcurrentRefreshToken";
+    private static final ZonedDateTime TEST_TIME = ZonedDateTime.parse( "2026-10-17T10:00:00Z" );
+
+    /**
+     * A mocked instance of the {@link UserSessionDetailsRepository}.
+     */
+    private UserSessionDetailsRepository userSessionDetailsRepository;
+
+    /**
+     * An instance of the object being tested.
+     */
+    private UserSessionDetailsServiceImpl underTest;
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     */
+    @BeforeEach
+    void setUp() {
+        userSessionDetailsRepository = Mockito.mock( UserSessionDetailsRepository.class );
+        TimeService timeService = Mockito.mock( TimeService.class );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( TEST_TIME );
+        TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry( timeService, Duration.ofMinutes( 5 ) );
+
+        underTest = new UserSessionDetailsServiceImpl( userSessionDetailsRepository,
+                createConfigurationService( Map.of(
+                        AccountsSystemProperties.SESSION_DETAILS_CACHE_MAX_SIZE, "100",
+                        AccountsSystemProperties.SESSION_DETAILS_CACHE_MAX_STALENESS, "60" ) ),
+                Mockito.mock( KeycloakReactiveConnectionService.class ), Mockito.mock( UserDetailsService.class ),
+                new AccessTokenValidationStrategies( timeService, Mockito.mock( TokenIntrospectionService.class ),
+                        Mockito.mock( RealmPublicKeysService.class ), tokenRevocationRegistry ),
+                new StripedSessionLocks( 1 ), tokenRevocationRegistry,
+                timeService, new SimpleMeterRegistry() );
+    }
+
+    /**
+     * Tests the scenario where the details of the same session are read twice.
+     * <p>
+     * Test Steps:
+     * 1. Read the session details twice.
+     * 2. Assert that both reads return the stored details and the database has been read only once.
+     */
+    @Test
+    void shouldReadDatabaseOnce_whenSessionDetailsAreReadAgain() {
+
+        // GIVEN
+        Mockito.when( userSessionDetailsRepository.findBySessionId( TEST_SESSION_ID ) ).thenReturn( Optional.of( createStoredDetails( TEST_REFRESH_TOKEN ) ) );
+
+        // WHEN
+        UserSessionDetailsDto firstResult = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+        UserSessionDetailsDto secondResult = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+
+        // THEN
+        assertEquals( TEST_REFRESH_TOKEN, firstResult.getRefreshToken() );
+        assertEquals( TEST_REFRESH_TOKEN, secondResult.getRefreshToken() );
+        verify( userSessionDetailsRepository, times( 1 ) ).findBySessionId( TEST_SESSION_ID );
+    }
+
+    /**
+     * Tests the scenario where the caller modifies the returned session details.
+     * <p>
+     * Test Steps:
+     * 1. Read the session details and modify them.
+     * 2. Read the session details again.
+     * 3. Assert that the second read returns the unmodified details, from the cache.
+     */
+    @Test
+    void shouldReturnUnmodifiedDetails_whenReturnedCopyHasBeenModified() {
+
+        // GIVEN
+        Mockito.when( userSessionDetailsRepository.findBySessionId( TEST_SESSION_ID ) ).thenReturn( Optional.of( createStoredDetails( TEST_REFRESH_TOKEN ) ) );
+        UserSessionDetailsDto firstResult = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+
+        // WHEN
+        firstResult.setRefreshToken( TEST_NEW_REFRESH_TOKEN );
+        UserSessionDetailsDto secondResult = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+
+        // THEN
+        assertNotSame( firstResult, secondResult );
+        assertEquals( TEST_REFRESH_TOKEN, secondResult.getRefreshToken() );
+        verify( userSessionDetailsRepository, times( 1 ) ).findBySessionId( TEST_SESSION_ID );
+    }
+
+    /**
+     * Tests the scenario where the cached session details are deleted.
+     * <p>
+     * Test Steps:
+     * 1. Read the session details, so they are cached.
+     * 2. Delete the session details.
+     * 3. Assert that the next read finds no details instead of returning the cached ones.
+     */
+    @Test
+    void shouldNotReturnCachedDetails_whenSessionDetailsHaveBeenDeleted() {
+
+        // GIVEN
+        UserSessionDetails storedDetails = createStoredDetails( TEST_REFRESH_TOKEN );
+        Mockito.when( userSessionDetailsRepository.findBySessionId( TEST_SESSION_ID ) )
+                .thenReturn( Optional.of( storedDetails ), Optional.of( storedDetails ), Optional.empty() );
+        underTest.getUserSessionDetails( TEST_SESSION_ID );
+
+        // WHEN
+        underTest.deleteSessionDetails( TEST_SESSION_ID );
+        Optional< UserSessionDetailsDto > result = underTest.getUserSessionDetails( TEST_SESSION_ID );
+
+        // THEN
+        assertTrue( result.isEmpty() );
+        verify( userSessionDetailsRepository ).delete( storedDetails );
+    }
+
+    /**
+     * Tests the scenario where the refresh token is rotated.
+     * <p>
+     * Test Steps:
+     * 1. Read the session details, so they are cached.
+     * 2. Rotate the refresh token successfully.
+     * 3. Assert that the next read returns the new refresh token without reading the database.
+     */
+    @Test
+    void shouldReturnRotatedRefreshToken_whenRotationSucceeds() {
+
+        // GIVEN
+        Mockito.when( userSessionDetailsRepository.findBySessionId( TEST_SESSION_ID ) ).thenReturn( Optional.of( createStoredDetails( TEST_REFRESH_TOKEN ) ) );
+        Mockito.when( userSessionDetailsRepository.rotateRefreshToken( eq( TEST_SESSION_ID ), eq( TEST_REFRESH_TOKEN ), eq( TEST_NEW_REFRESH_TOKEN ), any() ) ).thenReturn( 1 );
+        UserSessionDetailsDto details = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+
+        // WHEN
+        boolean rotated = underTest.updateSessionDetails( details, createRefreshedToken() );
+        UserSessionDetailsDto result = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+
+        // THEN
+        assertTrue( rotated );
+        assertEquals( TEST_NEW_REFRESH_TOKEN, result.getRefreshToken() );
+        verify( userSessionDetailsRepository, times( 1 ) ).findBySessionId( TEST_SESSION_ID );
+    }
+
+    /**
+     * Tests the scenario where the refresh token has been rotated concurrently, e.g. by another instance of the service.
+     * <p>
+     * Test Steps:
+     * 1. Read the session details, so they are cached.
+     * 2. Let the conditional rotation update no row, as the stored refresh token is a different one.
+     * 3. Assert that the rotation is reported as failed and the next read returns the stored refresh token.
+     */
+    @Test
+    void shouldReadStoredDetails_whenRotationMisses() {
+
+        // GIVEN
+        Mockito.when( userSessionDetailsRepository.findBySessionId( TEST_SESSION_ID ) )
+                .thenReturn( Optional.of( createStoredDetails( TEST_REFRESH_TOKEN ) ), Optional.of( createStoredDetails( TEST_CONCURRENT_REFRESH_TOKEN ) ) );
+        Mockito.when( userSessionDetailsRepository.rotateRefreshToken( any(), any(), any(), any() ) ).thenReturn( 0 );
+        UserSessionDetailsDto details = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+
+        // WHEN
+        boolean rotated = underTest.updateSessionDetails( details, createRefreshedToken() );
+        UserSessionDetailsDto result = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+
+        // THEN
+        assertFalse( rotated );
+        assertEquals( TEST_CONCURRENT_REFRESH_TOKEN, result.getRefreshToken() );
+        verify( userSessionDetailsRepository, times( 2 ) ).findBySessionId( TEST_SESSION_ID );
+    }
+
+    /**
+     * Tests the scenario where the cached session details are invalidated explicitly, e.g. after a failed refresh.
+     * <p>
+     * Test Steps:
+     * 1. Read the session details, so they are cached.
+     * 2. Invalidate the cached details.
+     * 3. Assert that the next read returns the stored details, read from the database again.
+     */
+    @Test
+    void shouldReadStoredDetails_whenCachedDetailsHaveBeenInvalidated() {
+
+        // GIVEN
+        Mockito.when( userSessionDetailsRepository.findBySessionId( TEST_SESSION_ID ) )
+                .thenReturn( Optional.of( createStoredDetails( TEST_REFRESH_TOKEN ) ), Optional.of( createStoredDetails( TEST_CONCURRENT_REFRESH_TOKEN ) ) );
+        underTest.getUserSessionDetails( TEST_SESSION_ID );
+
+        // WHEN
+        underTest.invalidateCachedSessionDetails( TEST_SESSION_ID );
+        UserSessionDetailsDto result = underTest.getUserSessionDetails( TEST_SESSION_ID ).orElseThrow();
+
+        // THEN
+        assertEquals( TEST_CONCURRENT_REFRESH_TOKEN, result.getRefreshToken() );
+        verify( userSessionDetailsRepository, times( 2 ) ).findBySessionId( TEST_SESSION_ID );
+    }
+
+    /**
+     * Tests the scenario where the details of all the sessions of a user are deleted.
+     * <p>
+     * Test Steps:
+     * 1. Read the details of a session of the user and of a session of another user, so they are cached.
+     * 2. Delete the details of all the sessions of the user.
+     * 3. Assert that the next read of the user's session reads the database again, while the other user's session is still cached.
+     */
+    @Test
+    void shouldForgetCachedDetailsOfUserOnly_whenAllUserSessionDetailsHaveBeenDeleted() {
+
+        // GIVEN
+        Mockito.when( userSessionDetailsRepository.findBySessionId( TEST_SESSION_ID ) )
+                .thenReturn( Optional.of( createStoredDetails( TEST_REFRESH_TOKEN ) ), Optional.empty() );
+        Mockito.when( userSessionDetailsRepository.findBySessionId( TEST_OTHER_SESSION_ID ) )
+                .thenReturn( Optional.of( createStoredDetails( TEST_OTHER_SESSION_ID, TEST_OTHER_USER_ID, TEST_REFRESH_TOKEN ) ) );
+        Mockito.when( userSessionDetailsRepository.deleteAllByAuthenticatedUserId( TEST_USER_ID ) ).thenReturn( 1 );
+        underTest.getUserSessionDetails( TEST_SESSION_ID );
+        underTest.getUserSessionDetails( TEST_OTHER_SESSION_ID );
+
+        // WHEN
+        underTest.deleteAllUserSessionDetails( TEST_USER_ID );
+        Optional< UserSessionDetailsDto > result = underTest.getUserSessionDetails( TEST_SESSION_ID );
+        Optional< UserSessionDetailsDto > otherResult = underTest.getUserSessionDetails( TEST_OTHER_SESSION_ID );
+
+        // THEN
+        assertTrue( result.isEmpty() );
+        assertTrue( otherResult.isPresent() );
+        verify( userSessionDetailsRepository, times( 2 ) ).findBySessionId( TEST_SESSION_ID );
+        verify( userSessionDetailsRepository, times( 1 ) ).findBySessionId( TEST_OTHER_SESSION_ID );
+    }
+
+    private static UserSessionDetails createStoredDetails( String aRefreshToken ) {
+        return createStoredDetails( TEST_SESSION_ID, TEST_USER_ID, aRefreshToken );
+    }
+
+    private static UserSessionDetails createStoredDetails( String aSessionId, String aUserId, String aRefreshToken ) {
+        return UserSessionDetails.builder()
+                .sessionId( aSessionId )
+                .authenticatedUserId( aUserId )
+                .refreshToken( aRefreshToken )
+                .expiresAt( TEST_TIME.toInstant().plus( Duration.ofHours( 1 ) ) )
+                .createdAt( Instant.EPOCH )
+                .createdBy( "SYSTEM" )
+                .build();
+    }
+
+    private static AuthenticationTokenDto createRefreshedToken() {
+        AuthenticationTokenDto token = new AuthenticationTokenDto();
+        token.setRefreshToken( TEST_NEW_REFRESH_TOKEN );
+        token.setRefreshExpiresIn( 1800 );
+        return token;
+    }
+}
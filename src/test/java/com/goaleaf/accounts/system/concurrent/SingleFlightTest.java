@@ -0,0 +1,161 @@
+package com.goaleaf.accounts.system.concurrent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SingleFlight} class.
+ * Tests the coalescing of the concurrent executions for the same key.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 15:48
+ */
+class SingleFlightTest {
+
+    private static final String TEST_SESSION_ID = "8656ceb4-6aa0-4e57-97ef-919859358b18";
+    private static final String TEST_OTHER_SESSION_ID = "29c2f6d5-8d0c-4c3c-9d1f-6f9a0e4c7b11";
+    private static final int TEST_CALLERS_COUNT = 8;
+
+    /**
+     * An instance of the object being tested.
+     */
+    private SingleFlight< String, String > underTest;
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     */
+    @BeforeEach
+    void setUp() {
+        underTest = new SingleFlight<>();
+    }
+
+    /**
+     * Tests the scenario where several callers execute the action for the same key at the same time.
+     * <p>
+     * Test Steps:
+     * 1. Start several callers executing a blocked action for the same key.
+     * 2. Release the action once all the callers have arrived.
+     * 3. Assert that the action has been executed once and all the callers received its result.
+     */
+    @Test
+    void shouldExecuteActionOnce_whenCalledConcurrentlyForTheSameKey() throws Exception {
+
+        // GIVEN
+        AtomicInteger executionsCount = new AtomicInteger();
+        CountDownLatch actionStarted = new CountDownLatch( 1 );
+        CountDownLatch actionReleased = new CountDownLatch( 1 );
+        ExecutorService executor = Executors.newFixedThreadPool( TEST_CALLERS_COUNT );
+
+        try {
+            // WHEN
+            Future< String > leader = executor.submit( () -> underTest.execute( TEST_SESSION_ID, () -> {
+                executionsCount.incrementAndGet();
+                actionStarted.countDown();
+                awaitQuietly( actionReleased );
+                return "refreshed";
+            } ) );
+            assertTrue( actionStarted.await( 5, TimeUnit.SECONDS ) );
+
+            Future< ? >[] followers = new Future< ? >[ TEST_CALLERS_COUNT - 1 ];
+            for ( int i = 0; i < followers.length; i++ ) {
+                followers[ i ] = executor.submit( () -> underTest.execute( TEST_SESSION_ID, () -> {
+                    executionsCount.incrementAndGet();
+                    return "duplicate";
+                } ) );
+            }
+            Thread.sleep( 100 );
+            actionReleased.countDown();
+
+            // THEN
+            assertEquals( "refreshed", leader.get( 5, TimeUnit.SECONDS ) );
+            for ( Future< ? > follower : followers ) {
+                assertEquals( "refreshed", follower.get( 5, TimeUnit.SECONDS ) );
+            }
+            assertEquals( 1, executionsCount.get() );
+            assertEquals( 0, underTest.getInFlightCount() );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests the scenario where the executions for different keys are in flight at the same time.
+     * <p>
+     * Test Steps:
+     * 1. Start a blocked action for one key.
+     * 2. Execute an action for another key.
+     * 3. Assert that the second action completes without waiting for the first one.
+     */
+    @Test
+    void shouldNotBlock_whenCalledForDifferentKeys() throws Exception {
+
+        // GIVEN
+        CountDownLatch actionStarted = new CountDownLatch( 1 );
+        CountDownLatch actionReleased = new CountDownLatch( 1 );
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future< String > blocked = executor.submit( () -> underTest.execute( TEST_SESSION_ID, () -> {
+                actionStarted.countDown();
+                awaitQuietly( actionReleased );
+                return "first";
+            } ) );
+            assertTrue( actionStarted.await( 5, TimeUnit.SECONDS ) );
+
+            // WHEN
+            String result = underTest.execute( TEST_OTHER_SESSION_ID, () -> "second" );
+
+            // THEN
+            assertEquals( "second", result );
+            actionReleased.countDown();
+            assertEquals( "first", blocked.get( 5, TimeUnit.SECONDS ) );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests the scenario where the action fails.
+     * <p>
+     * Expected behavior:
+     * - The exception is rethrown and the key is released, so the next call executes the action again.
+     */
+    @Test
+    void shouldRethrowExceptionAndReleaseKey_whenActionFails() {
+
+        // WHEN
+        assertThrows( IllegalStateException.class, () -> underTest.execute( TEST_SESSION_ID, () -> {
+            throw new IllegalStateException( "Token refresh failed." );
+        } ) );
+
+        // THEN
+        assertEquals( "refreshed", underTest.execute( TEST_SESSION_ID, () -> "refreshed" ) );
+        assertEquals( 0, underTest.getInFlightCount() );
+    }
+
+    /**
+     * Tests the behavior of the {@code execute} method when provided with a {@code null} key.
+     */
+    @Test
+    void shouldThrowNullPointerException_whenNullGivenAsKey() {
+        assertThrows( NullPointerException.class, () -> underTest.execute( null, () -> "refreshed" ) );
+    }
+
+    /**
+     * Waits for the latch, restoring the interruption flag if interrupted.
+     *
+     * @param aLatch
+     *         the latch to wait for.
+     */
+    private static void awaitQuietly( CountDownLatch aLatch ) {
+        try {
+            aLatch.await( 5, TimeUnit.SECONDS );
+        } catch ( InterruptedException aE ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.goaleaf.accounts.system.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StripedSessionLocks} class.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 16:55
+ */
+class StripedSessionLocksTest {
+
+    private static final String TEST_SESSION_ID = "8656ceb4-6aa0-4e57-97ef-919859358b18";
+
+    /**
+     * Tests that the number of the stripes is rounded up to the nearest power of two.
+     */
+    @Test
+    void shouldRoundStripesCountUpToPowerOfTwo_whenCountIsNotPowerOfTwo() {
+        assertEquals( 1, new StripedSessionLocks( 1 ).getStripesCount() );
+        assertEquals( 64, new StripedSessionLocks( 64 ).getStripesCount() );
+        assertEquals( 128, new StripedSessionLocks( 65 ).getStripesCount() );
+    }
+
+    /**
+     * Tests that the same session is always guarded by the same lock.
+     */
+    @Test
+    void shouldReturnTheSameLock_whenCalledForTheSameSession() {
+
+        // GIVEN
+        StripedSessionLocks underTest = new StripedSessionLocks( 64 );
+
+        // THEN
+        assertSame( underTest.getLock( TEST_SESSION_ID ), underTest.getLock( new String( TEST_SESSION_ID ) ) );
+    }
+
+    /**
+     * Tests that a guarded mutation may call another guarded mutation of the same session.
+     */
+    @Test
+    void shouldAllowNestedMutations_whenCalledForTheSameSession() {
+
+        // GIVEN
+        StripedSessionLocks underTest = new StripedSessionLocks( 64 );
+
+        // WHEN
+        String result = underTest.executeLocked( TEST_SESSION_ID, () -> underTest.executeLocked( TEST_SESSION_ID, () -> "nested" ) );
+
+        // THEN
+        assertEquals( "nested", result );
+        assertFalse( underTest.getLock( TEST_SESSION_ID ).isLocked() );
+    }
+
+    /**
+     * Tests the behavior of the constructor when provided with a non-positive number of the stripes.
+     */
+    @Test
+    void shouldThrowIllegalArgumentException_whenStripesCountIsNotPositive() {
+        assertThrows( IllegalArgumentException.class, () -> new StripedSessionLocks( 0 ) );
+    }
+}
@@ -5,8 +5,11 @@ import com.github.pplociennik.commons.system.registry.impl.HashSetBasedSystemReg
 import com.goaleaf.accounts.data.dto.response.AuthenticationTokenDto;
 import com.goaleaf.accounts.data.dto.user.UserSessionDetailsDto;
 import com.goaleaf.accounts.service.AuthenticationService;
+import com.goaleaf.accounts.service.SessionRefreshAheadService;
+import com.goaleaf.accounts.service.SupersededTokensService;
 import com.goaleaf.accounts.service.UserSessionDetailsService;
 import com.goaleaf.accounts.system.exc.auth.SessionExpiredException;
+import com.goaleaf.accounts.system.util.AccessTokenClaims;
 import com.goaleaf.accounts.system.util.AccessTokenUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,6 +23,7 @@ import org.mockito.MockedStatic;
 import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -74,6 +78,14 @@ class UserTokenValidationFilterTest {
      * This variable is used in the context of testing the functionalities within {@code UserTokenValidationFilterTest}.
      */
     private AuthenticationService authenticationService;
+    /**
+     * A mocked {@code SessionRefreshAheadService}, by default not holding any session refreshed in the background.
+     */
+    private SessionRefreshAheadService sessionRefreshAheadService;
+    /**
+     * A mocked {@code SupersededTokensService}, by default not holding any replacement of the refreshed tokens.
+     */
+    private SupersededTokensService supersededTokensService;
     /**
      * A private instance of CollectingSystemRegistry used for storing and managing a
      * collection of registries related to the system's configuration or paths.
@@ -103,9 +115,11 @@ class UserTokenValidationFilterTest {
     void setUp() {
         userSessionDetailsService = prepareUserSessionDetailsService();
         authenticationService = prepareAuthenticationService();
+        sessionRefreshAheadService = mock( SessionRefreshAheadService.class );
+        supersededTokensService = mock( SupersededTokensService.class );
         systemRegistry = new HashSetBasedSystemRegistry<>();
 
-        underTest = new UserTokenValidationFilter( userSessionDetailsService, authenticationService, systemRegistry );
+        underTest = new UserTokenValidationFilter( userSessionDetailsService, authenticationService, sessionRefreshAheadService, supersededTokensService, systemRegistry );
     }
 
     /**
@@ -264,14 +278,13 @@ class UserTokenValidationFilterTest {
         HttpServletRequest request = mock( HttpServletRequest.class );
         when( request.getHeader( "User-Token" ) ).thenReturn( TEST_ACCESS_TOKEN );
 
-        when( userSessionDetailsService.checkAccessToken( TEST_ACCESS_TOKEN ) ).thenReturn( false );
-
-        accessTokenUtilsMock.when( () -> AccessTokenUtils.getSessionId( TEST_ACCESS_TOKEN ) ).thenReturn( TEST_SESSION_ID );
+        AccessTokenClaims claims = mockClaims( TEST_ACCESS_TOKEN );
+        when( userSessionDetailsService.checkAccessToken( claims ) ).thenReturn( false );
 
         UserSessionDetailsDto details = getUserSessionDetails();
         when( userSessionDetailsService.getUserSessionDetails( TEST_SESSION_ID ) ).thenReturn( Optional.of( details ) );
 
-        when( userSessionDetailsService.checkAccessToken( TEST_REFRESH_TOKEN ) ).thenReturn( false );
+        when( userSessionDetailsService.checkRefreshToken( details ) ).thenReturn( false );
 
         // THEN
         assertThrows( SessionExpiredException.class, () -> underTest.doFilterInternal( request, null, null ) );
@@ -305,18 +318,18 @@ class UserTokenValidationFilterTest {
         // get user access token from header
         when( request.getHeader( "User-Token" ) ).thenReturn( TEST_ACCESS_TOKEN );
 
-        // get session id from the user access token
-        accessTokenUtilsMock.when( () -> AccessTokenUtils.getSessionId( TEST_ACCESS_TOKEN ) ).thenReturn( TEST_SESSION_ID );
+        // parse the user access token
+        AccessTokenClaims claims = mockClaims( TEST_ACCESS_TOKEN );
 
         // get session details by session id
         UserSessionDetailsDto details = getUserSessionDetails();
         when( userSessionDetailsService.getUserSessionDetails( TEST_SESSION_ID ) ).thenReturn( Optional.of( details ) );
 
         // first check of user access token = false
-        when( userSessionDetailsService.checkAccessToken( TEST_ACCESS_TOKEN ) ).thenReturn( false );
+        when( userSessionDetailsService.checkAccessToken( claims ) ).thenReturn( false );
 
         // check of refresh token = true
-        when( userSessionDetailsService.checkAccessToken( TEST_REFRESH_TOKEN ) ).thenReturn( true );
+        when( userSessionDetailsService.checkRefreshToken( details ) ).thenReturn( true );
 
         // refresh user access token
         AuthenticationTokenDto refreshedToken = new AuthenticationTokenDto();
@@ -325,7 +338,8 @@ class UserTokenValidationFilterTest {
         when( authenticationService.refreshUserSession( TEST_ACCESS_TOKEN ) ).thenReturn( refreshedToken );
 
         // refreshed access token invalid or error during the process
-        when( userSessionDetailsService.checkAccessToken( TEST_ACCESS_TOKEN_2 ) ).thenReturn( false );
+        AccessTokenClaims refreshedClaims = mockClaims( TEST_ACCESS_TOKEN_2 );
+        when( userSessionDetailsService.checkAccessToken( refreshedClaims ) ).thenReturn( false );
 
         // THEN
         assertThrows( IllegalStateException.class, () -> underTest.doFilterInternal( request, response, filterChain ) );
@@ -365,7 +379,8 @@ class UserTokenValidationFilterTest {
 
         when( request.getHeader( "User-Token" ) ).thenReturn( TEST_ACCESS_TOKEN );
 
-        when( userSessionDetailsService.checkAccessToken( TEST_ACCESS_TOKEN ) ).thenReturn( true );
+        AccessTokenClaims claims = mockClaims( TEST_ACCESS_TOKEN );
+        when( userSessionDetailsService.checkAccessToken( claims ) ).thenReturn( true );
 
         // WHEN
         underTest.doFilterInternal( request, response, filterChain );
@@ -376,6 +391,56 @@ class UserTokenValidationFilterTest {
 
         assertEquals( TEST_ACCESS_TOKEN, newWrapper.getHeader( "User-Token" ) );
         assertFalse( ( Boolean ) newWrapper.getAttribute( "USER_ACCESS_TOKEN_REFRESHED" ) );
+        assertSame( claims, newWrapper.getAttribute( "USER_ACCESS_TOKEN_CLAIMS" ) );
+        verify( sessionRefreshAheadService ).scheduleRefreshIfExpiring( claims );
+
+    }
+
+    /**
+     * Verifies that the token the session has been refreshed with in the background is handed out
+     * with the request carrying the replaced, still valid token, without refreshing the session again.
+     * <p>
+     * Test Steps:
+     * 1. The mocked {@code SupersededTokensService} holds a valid new token in place of the still valid one carried by the request.
+     * 2. Call the {@code doFilterInternal} method.
+     * 3. Assert that the request passed down the chain carries the new token marked as refreshed
+     * and that no refresh has been requested.
+     *
+     * @throws ServletException
+     *         if a servlet error occurs during filter processing
+     * @throws IOException
+     *         if an I/O error occurs during filter processing
+     */
+    @Test
+    void shouldModifyUserAccessTokenHeader_whenSessionRefreshedInBackground() throws ServletException, IOException {
+
+        // GIVEN
+        HttpServletRequest request = mock( HttpServletRequest.class );
+        HttpServletResponse response = mock( HttpServletResponse.class );
+        FilterChain filterChain = mock( FilterChain.class );
+        ArgumentCaptor< UserTokenValidationFilter.ModifiedHeaderRequestWrapper > wrapperCaptor = ArgumentCaptor.forClass( UserTokenValidationFilter.ModifiedHeaderRequestWrapper.class );
+
+        when( request.getHeader( "User-Token" ) ).thenReturn( TEST_ACCESS_TOKEN );
+
+        AccessTokenClaims claims = mockClaims( TEST_ACCESS_TOKEN );
+        when( userSessionDetailsService.checkAccessToken( claims ) ).thenReturn( true );
+
+        AccessTokenClaims refreshedClaims = new AccessTokenClaims( TEST_ACCESS_TOKEN_2, TEST_SESSION_ID, null, null, null, Instant.now().plusSeconds( 300 ) );
+        when( supersededTokensService.findReplacement( claims ) ).thenReturn( Optional.of( refreshedClaims ) );
+        when( userSessionDetailsService.checkAccessToken( refreshedClaims ) ).thenReturn( true );
+
+        // WHEN
+        underTest.doFilterInternal( request, response, filterChain );
+
+        // THEN
+        verify( filterChain ).doFilter( wrapperCaptor.capture(), any() );
+        UserTokenValidationFilter.ModifiedHeaderRequestWrapper newWrapper = wrapperCaptor.getValue();
+
+        assertEquals( TEST_ACCESS_TOKEN_2, newWrapper.getHeader( "User-Token" ) );
+        assertTrue( ( Boolean ) newWrapper.getAttribute( "USER_ACCESS_TOKEN_REFRESHED" ) );
+        assertSame( refreshedClaims, newWrapper.getAttribute( "USER_ACCESS_TOKEN_CLAIMS" ) );
+        verify( authenticationService, never() ).refreshUserSession( any() );
+        verify( sessionRefreshAheadService, never() ).scheduleRefreshIfExpiring( any() );
 
     }
 
@@ -411,17 +476,15 @@ class UserTokenValidationFilterTest {
         when( request.getHeader( "User-Token" ) ).thenReturn( TEST_ACCESS_TOKEN );
 
         // first access token check = false, refreshing...
-        when( userSessionDetailsService.checkAccessToken( TEST_ACCESS_TOKEN ) ).thenReturn( false );
-
-        // get session id from a user access token
-        accessTokenUtilsMock.when( () -> AccessTokenUtils.getSessionId( TEST_ACCESS_TOKEN ) ).thenReturn( TEST_SESSION_ID );
+        AccessTokenClaims claims = mockClaims( TEST_ACCESS_TOKEN );
+        when( userSessionDetailsService.checkAccessToken( claims ) ).thenReturn( false );
 
         // get user session details by session id
         UserSessionDetailsDto details = getUserSessionDetails();
         when( userSessionDetailsService.getUserSessionDetails( TEST_SESSION_ID ) ).thenReturn( Optional.of( details ) );
 
         // check refresh token = true
-        when( userSessionDetailsService.checkAccessToken( TEST_REFRESH_TOKEN ) ).thenReturn( true );
+        when( userSessionDetailsService.checkRefreshToken( details ) ).thenReturn( true );
 
         // refresh token
         AuthenticationTokenDto refreshedToken = new AuthenticationTokenDto();
@@ -430,7 +493,8 @@ class UserTokenValidationFilterTest {
         when( authenticationService.refreshUserSession( TEST_ACCESS_TOKEN ) ).thenReturn( refreshedToken );
 
         // check refreshed access token = true
-        when( userSessionDetailsService.checkAccessToken( TEST_ACCESS_TOKEN_2 ) ).thenReturn( true );
+        AccessTokenClaims refreshedClaims = mockClaims( TEST_ACCESS_TOKEN_2 );
+        when( userSessionDetailsService.checkAccessToken( refreshedClaims ) ).thenReturn( true );
 
         // WHEN
         underTest.doFilterInternal( request, response, filterChain );
@@ -441,9 +505,72 @@ class UserTokenValidationFilterTest {
 
         assertEquals( TEST_ACCESS_TOKEN_2, newWrapper.getHeader( "User-Token" ) );
         assertTrue( ( Boolean ) newWrapper.getAttribute( "USER_ACCESS_TOKEN_REFRESHED" ) );
+        assertSame( refreshedClaims, newWrapper.getAttribute( "USER_ACCESS_TOKEN_CLAIMS" ) );
 
     }
 
+    /**
+     * Verifies that a request carrying an already expired token, refreshed by another request within the grace period,
+     * receives the replacement token without looking up the session and without refreshing it again.
+     * <p>
+     * Test Steps:
+     * 1. The carried token is invalid and the mocked {@code SupersededTokensService} holds its valid replacement.
+     * 2. Call the {@code doFilterInternal} method.
+     * 3. Assert that the request passed down the chain carries the replacement token marked as refreshed
+     * and that neither the session details nor the refresh have been requested.
+     *
+     * @throws ServletException
+     *         if a servlet error occurs during filter processing
+     * @throws IOException
+     *         if an I/O error occurs during filter processing
+     */
+    @Test
+    void shouldModifyUserAccessTokenHeader_whenAccessTokenSupersededWithinGracePeriod() throws ServletException, IOException {
+
+        // GIVEN
+        HttpServletRequest request = mock( HttpServletRequest.class );
+        HttpServletResponse response = mock( HttpServletResponse.class );
+        FilterChain filterChain = mock( FilterChain.class );
+        ArgumentCaptor< UserTokenValidationFilter.ModifiedHeaderRequestWrapper > wrapperCaptor = ArgumentCaptor.forClass( UserTokenValidationFilter.ModifiedHeaderRequestWrapper.class );
+
+        when( request.getHeader( "User-Token" ) ).thenReturn( TEST_ACCESS_TOKEN );
+
+        AccessTokenClaims claims = mockClaims( TEST_ACCESS_TOKEN );
+        when( userSessionDetailsService.checkAccessToken( claims ) ).thenReturn( false );
+
+        AccessTokenClaims replacementClaims = new AccessTokenClaims( TEST_ACCESS_TOKEN_2, TEST_SESSION_ID, null, null, null, Instant.now().plusSeconds( 300 ) );
+        when( supersededTokensService.findReplacement( claims ) ).thenReturn( Optional.of( replacementClaims ) );
+        when( userSessionDetailsService.checkAccessToken( replacementClaims ) ).thenReturn( true );
+
+        // WHEN
+        underTest.doFilterInternal( request, response, filterChain );
+
+        // THEN
+        verify( filterChain ).doFilter( wrapperCaptor.capture(), any() );
+        UserTokenValidationFilter.ModifiedHeaderRequestWrapper newWrapper = wrapperCaptor.getValue();
+
+        assertEquals( TEST_ACCESS_TOKEN_2, newWrapper.getHeader( "User-Token" ) );
+        assertTrue( ( Boolean ) newWrapper.getAttribute( "USER_ACCESS_TOKEN_REFRESHED" ) );
+        assertSame( replacementClaims, newWrapper.getAttribute( "USER_ACCESS_TOKEN_CLAIMS" ) );
+        verify( userSessionDetailsService, never() ).getUserSessionDetails( any() );
+        verify( authenticationService, never() ).refreshUserSession( any() );
+
+    }
+
+    /**
+     * Prepares the claims of the specified access token and makes the mocked {@link AccessTokenUtils} return them
+     * when the token is parsed.
+     *
+     * @param aAccessToken
+     *         the access token.
+     * @return the {@link AccessTokenClaims} of the token bound to the test session.
+     */
+    private AccessTokenClaims mockClaims( String aAccessToken ) {
+        AccessTokenClaims claims = new AccessTokenClaims( aAccessToken, TEST_SESSION_ID, null, null, null, Instant.now() );
+        accessTokenUtilsMock.when( () -> AccessTokenUtils.parseClaims( aAccessToken ) ).thenReturn( claims );
+        return claims;
+    }
+
     /**
      * Retrieves the details of a user's session.
      * <p>
@@ -0,0 +1,48 @@
+package com.goaleaf.accounts.system.properties;
+
+import com.github.pplociennik.commons.service.SystemPropertiesReaderService;
+import com.github.pplociennik.commons.system.SystemProperty;
+import com.goaleaf.accounts.service.AccountsConfigurationService;
+import org.mockito.Mockito;
+
+import java.util.Map;
+
+/**
+ * Creates the configuration snapshots for the unit tests, without the Spring environment.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 09:30
+ */
+public final class AccountsConfigurationTestUtils {
+
+    /**
+     * The value of every property not provided explicitly; parseable as a number, a boolean and a string.
+     */
+    private static final String DEFAULT_VALUE = "1";
+
+    private AccountsConfigurationTestUtils() {
+    }
+
+    /**
+     * Creates a mocked configuration service providing the snapshot of the specified property values.
+     * The validation strategy defaults to {@code ONLINE}, the other properties default to {@value #DEFAULT_VALUE}.
+     *
+     * @param aValues
+     *         the values of the properties overriding the defaults.
+     * @return the configuration service.
+     */
+    public static AccountsConfigurationService createConfigurationService( Map< AccountsSystemProperties, String > aValues ) {
+        SystemPropertiesReaderService reader = Mockito.mock( SystemPropertiesReaderService.class );
+        Mockito.when( reader.readProperty( Mockito.any( SystemProperty.class ) ) ).thenAnswer( aInvocation -> {
+            AccountsSystemProperties property = aInvocation.getArgument( 0 );
+            if ( aValues.containsKey( property ) ) {
+                return aValues.get( property );
+            }
+            return property == AccountsSystemProperties.ACCESS_TOKEN_VALIDATION_STRATEGY ? "ONLINE" : DEFAULT_VALUE;
+        } );
+
+        AccountsConfiguration configuration = AccountsConfiguration.read( reader );
+        AccountsConfigurationService service = Mockito.mock( AccountsConfigurationService.class );
+        Mockito.when( service.getConfiguration() ).thenReturn( configuration );
+        return service;
+    }
+}
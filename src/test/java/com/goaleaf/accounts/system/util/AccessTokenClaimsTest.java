@@ -0,0 +1,39 @@
+package com.goaleaf.accounts.system.util;
+
+import com.github.pplociennik.commons.service.TimeService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AccessTokenClaims} class.
+ *
+ * @author Created by: Pplociennik at 17.10.2026 09:15
+ */
+class AccessTokenClaimsTest {
+
+    private static final Instant TEST_EXPIRATION_TIME = Instant.parse( "2026-10-17T09:05:00Z" );
+
+    /**
+     * Tests that the remaining lifetime of the token is computed against the time provided by the {@link TimeService}.
+     */
+    @Test
+    void shouldReturnSecondsUntilExpiration_whenTimeIsProvidedByTimeService() {
+
+        // GIVEN
+        TimeService timeService = Mockito.mock( TimeService.class );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( ZonedDateTime.parse( "2026-10-17T09:00:00Z" ) );
+        AccessTokenClaims underTest = new AccessTokenClaims( "token", "sessionId", "userId", "user@goaleaf.com",
+                TEST_EXPIRATION_TIME.minusSeconds( 300 ), TEST_EXPIRATION_TIME );
+
+        // WHEN
+        Integer result = underTest.getExpiresIn( timeService );
+
+        // THEN
+        assertEquals( 300, result );
+    }
+}
@@ -0,0 +1,38 @@
+package com.goaleaf.accounts.system.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EmailAddressUtils} class.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 23:55
+ */
+class EmailAddressUtilsTest {
+
+    /**
+     * Tests that the email address is trimmed and converted to lower case.
+     */
+    @Test
+    void shouldReturnTrimmedLowerCaseAddress_whenAddressIsNotNormalized() {
+        assertEquals( "john.doe@goaleaf.com", EmailAddressUtils.normalize( "  John.Doe@GoaLeaf.COM " ) );
+        assertEquals( "john.doe@goaleaf.com", EmailAddressUtils.normalize( "john.doe@goaleaf.com" ) );
+    }
+
+    /**
+     * Tests that the letters are converted independently of the default locale (e.g. the dotless i of the Turkish locale).
+     */
+    @Test
+    void shouldUseRootLocale_whenAddressContainsCapitalI() {
+        assertEquals( "info@goaleaf.com", EmailAddressUtils.normalize( "INFO@GOALEAF.COM" ) );
+    }
+
+    /**
+     * Tests that the null email address is rejected.
+     */
+    @Test
+    void shouldThrowException_whenAddressIsNull() {
+        assertThrows( NullPointerException.class, () -> EmailAddressUtils.normalize( null ) );
+    }
+}
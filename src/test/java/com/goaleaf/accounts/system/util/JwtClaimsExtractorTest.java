@@ -0,0 +1,144 @@
+package com.goaleaf.accounts.system.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link JwtClaimsExtractor} class.
+ * Verifies the extracted claims against the {@code JWT.decode} on a corpus of tokens and the rejection of the malformed tokens.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 21:00
+ */
+class JwtClaimsExtractorTest {
+
+    /**
+     * A token issued by the realm.
+     */
+    private static final String REALM_ACCESS_TOKEN = "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICJXWXZpRWo5N3NZQmFvWVQ3bnN5Y2w1MnNWdm9oRU1pTzBVUXU1LTlFNHM4In0.eyJleHAiOjE3NDgzNzE3ODUsImlhdCI6MTc0ODM3MTQ4NSwianRpIjoib25ydHJvOjUwMDZmZDU2LTIzMGUtNGMzYi04NzRlLTgyOTY4MmMzYmI3YiIsImlzcyI6Imh0dHA6Ly9sb2NhbGhvc3Q6NzA4MC9yZWFsbXMvZ29hbGVhZiIsImF1ZCI6ImFjY291bnQiLCJzdWIiOiI0NTY4NjUxYi0xNWQ1LTQ0YzItOTQ4ZC0xMmEwMzQ4M2FjMWEiLCJ0eXAiOiJCZWFyZXIiLCJhenAiOiJnb2FsZWFmLW1zcy1zZXJ2ZXIiLCJzaWQiOiI4NjU2Y2ViNC02YWEwLTRlNTctOTdlZi05MTk4NTkzNThiMTgiLCJhY3IiOiIxIiwiYWxsb3dlZC1vcmlnaW5zIjpbIi8qIl0sInJlYWxtX2FjY2VzcyI6eyJyb2xlcyI6WyJvZmZsaW5lX2FjY2VzcyIsInVtYV9hdXRob3JpemF0aW9uIiwiZGVmYXVsdC1yb2xlcy1nb2FsZWFmIl19LCJyZXNvdXJjZV9hY2Nlc3MiOnsiYWNjb3VudCI6eyJyb2xlcyI6WyJtYW5hZ2UtYWNjb3VudCIsIm1hbmFnZS1hY2NvdW50LWxpbmtzIiwidmlldy1wcm9maWxlIl19fSwic2NvcGUiOiJwcm9maWxlIGVtYWlsIiwiZW1haWxfdmVyaWZpZWQiOnRydWUsInByZWZlcnJlZF91c2VybmFtZSI6InBwbG9jaWVubmlrMiIsImVtYWlsIjoicHJ6ZW14Ljg0QGdtYWlsLmNvbSJ9.fjVGhjvObZ6LmnOUVc7ek6Cm9wxFJC2a6ce1GWlc_o10wGTZZNCU53Ja3r_ki2eF2p_MSUwmKGzGGZYeAY6iwr9GfrIqtuJVyVJpABv-ds-jtPQoKvkos5tH0SPy4mRIlH__TnAcCKmBWtdmqXKyzXposRHcxsdEFjvuqZCQk24tlwfGQzW2gx5fJqF8QAPmNzv0bOuC3c8WaF67rAxfrZCSVhRI7wws6uZFZuOkrE1Y6LfqWxCQB2jfJ-jBcvET7vH_6ZzysizynQSEfhQSOvD3UtnDol5avi4bDgaetJtVZAJ4gShn_MNi8KVMqA08ZZKW1mdMvGYB21Uj_SoDtQ";
+
+    private static final Algorithm ALGORITHM = Algorithm.HMAC256( "testSecret" );
+
+    /**
+     * Tests that the claims extracted from the corpus of tokens are the same as the claims decoded by the {@code JWT.decode}.
+     */
+    @Test
+    void shouldExtractTheSameClaimsAsJwtDecode() {
+        List< String > corpus = List.of(
+                REALM_ACCESS_TOKEN,
+                JWT.create()
+                        .withSubject( "4568651b-15d5-44c2-948d-12a03483ac1a" )
+                        .withClaim( "sid", "8656ceb4-6aa0-4e57-97ef-919859358b18" )
+                        .withClaim( "email", "zażółć.gęślą\"jaźń\"\\@example.com\n" )
+                        .withIssuedAt( Instant.ofEpochSecond( 1748371485 ) )
+                        .withExpiresAt( Instant.ofEpochSecond( 1748371785 ) )
+                        .withClaim( "realm_access", Map.of( "roles", List.of( "offline_access", "{\"sid\":\"fake\"}" ) ) )
+                        .withArrayClaim( "aud", new String[]{ "account", "sub" } )
+                        .sign( ALGORITHM ),
+                JWT.create()
+                        .withClaim( "email_verified", true )
+                        .withClaim( "nbf", 1748371485L )
+                        .withNullClaim( "sid" )
+                        .sign( ALGORITHM ),
+                JWT.create()
+                        .withClaim( "sid", 42 )
+                        .withClaim( "sub", List.of( "4568651b" ) )
+                        .sign( ALGORITHM ),
+                JWT.create().sign( ALGORITHM )
+        );
+
+        for ( String token : corpus ) {
+            DecodedJWT expected = JWT.decode( token );
+            AccessTokenClaims result = JwtClaimsExtractor.extract( token );
+
+            assertEquals( token, result.getToken() );
+            assertEquals( expected.getClaim( "sid" ).asString(), result.getSessionId() );
+            assertEquals( expected.getSubject(), result.getUserId() );
+            assertEquals( expected.getClaim( "email" ).asString(), result.getEmailAddress() );
+            assertEquals( expected.getIssuedAtAsInstant(), result.getIssuedAt() );
+            assertEquals( expected.getExpiresAtAsInstant(), result.getExpirationTime() );
+        }
+    }
+
+    /**
+     * Tests that the claims of a padded payload are extracted.
+     */
+    @Test
+    void shouldExtractClaims_whenPayloadIsPadded() {
+
+        // GIVEN
+        String token = "eyJhbGciOiJub25lIn0." + encode( "{\"sub\":\"abc\"}", true ) + ".";
+
+        // WHEN
+        AccessTokenClaims result = JwtClaimsExtractor.extract( token );
+
+        // THEN
+        assertEquals( "abc", result.getUserId() );
+    }
+
+    /**
+     * Tests that the malformed tokens are rejected with the {@link JWTDecodeException}, the exception thrown by the {@code JWT.decode}.
+     * Unlike the {@code JWT.decode}, the extractor also checks the signature's alphabet and rejects the data trailing the payload.
+     */
+    @Test
+    void shouldThrowJWTDecodeException_whenTokenIsMalformed() {
+        String header = "eyJhbGciOiJub25lIn0";
+        List< String > malformed = List.of(
+                "",
+                "abc",
+                header + "." + encode( "{\"sub\":\"ab\"}", false ),
+                header + "." + encode( "{\"sub\":\"ab\"}", false ) + ".sig.extra",
+                header + "!." + encode( "{\"sub\":\"ab\"}", false ) + ".sig",
+                header + "." + encode( "{\"sub\":\"ab\"}", false ) + ".si+g",
+                header + ".e*J9.sig",
+                header + "..sig",
+                header + "." + encode( "[1,2]", false ) + ".sig",
+                header + "." + encode( "{\"sub\":\"ab\"", false ) + ".sig",
+                header + "." + encode( "{\"sub\":\"ab\"}{}", false ) + ".sig",
+                header + "." + encode( "{\"exp\":\"tomorrow\"}", false ) + ".sig",
+                header + "." + encode( "{\"exp\":99999999999999999999}", false ) + ".sig"
+        );
+
+        for ( String token : malformed ) {
+            assertThrows( JWTDecodeException.class, () -> JwtClaimsExtractor.extract( token ), token );
+        }
+    }
+
+    /**
+     * Tests that the tokens longer than the {@link JwtClaimsExtractor#MAX_TOKEN_LENGTH} are rejected.
+     */
+    @Test
+    void shouldThrowJWTDecodeException_whenTokenIsOversized() {
+
+        // GIVEN
+        String token = "eyJhbGciOiJub25lIn0." + encode( "{\"pad\":\"" + "a".repeat( JwtClaimsExtractor.MAX_TOKEN_LENGTH ) + "\"}", false ) + ".";
+
+        // THEN
+        assertThrows( JWTDecodeException.class, () -> JwtClaimsExtractor.extract( token ) );
+    }
+
+    /**
+     * Tests the behavior of the {@code extract} method when provided with a {@code null} parameter.
+     */
+    @Test
+    void shouldThrowNullPointerException_whenNullGivenAsParameter() {
+
+        // THEN
+        assertThrows( NullPointerException.class, () -> JwtClaimsExtractor.extract( null ) );
+    }
+
+    private static String encode( String aJson, boolean aPadded ) {
+        Base64.Encoder encoder = aPadded ? Base64.getUrlEncoder() : Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString( aJson.getBytes( StandardCharsets.UTF_8 ) );
+    }
+}
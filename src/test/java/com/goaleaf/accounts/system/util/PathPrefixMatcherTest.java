@@ -0,0 +1,48 @@
+package com.goaleaf.accounts.system.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PathPrefixMatcher} class.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 17:35
+ */
+class PathPrefixMatcherTest {
+
+    private static final PathPrefixMatcher UNDER_TEST = PathPrefixMatcher.compile( List.of( "/api/auth/logout", "/api/auth/logout/all", "/api/sessions/all" ) );
+
+    /**
+     * Tests that the exactly matching path and the paths starting with a prefix are matched.
+     */
+    @Test
+    void shouldReturnTrue_whenPathStartsWithPrefix() {
+        assertTrue( UNDER_TEST.matches( "/api/auth/logout" ) );
+        assertTrue( UNDER_TEST.matches( "/api/auth/logout/all" ) );
+        assertTrue( UNDER_TEST.matches( "/api/auth/logout/session/8656ceb4" ) );
+        assertTrue( UNDER_TEST.matches( "/api/sessions/all?page=1" ) );
+    }
+
+    /**
+     * Tests that the paths not starting with any of the prefixes are not matched.
+     */
+    @Test
+    void shouldReturnFalse_whenPathDoesNotStartWithPrefix() {
+        assertFalse( UNDER_TEST.matches( "/api/auth/log" ) );
+        assertFalse( UNDER_TEST.matches( "/api/auth/login" ) );
+        assertFalse( UNDER_TEST.matches( "/actuator/prometheus" ) );
+        assertFalse( UNDER_TEST.matches( "" ) );
+        assertFalse( UNDER_TEST.matches( null ) );
+    }
+
+    /**
+     * Tests that nothing is matched by a matcher without prefixes.
+     */
+    @Test
+    void shouldReturnFalse_whenThereAreNoPrefixes() {
+        assertFalse( PathPrefixMatcher.compile( List.of() ).matches( "/api/sessions/all" ) );
+    }
+}
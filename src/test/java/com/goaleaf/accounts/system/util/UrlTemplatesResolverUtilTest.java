@@ -2,6 +2,8 @@ package com.goaleaf.accounts.system.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -149,5 +151,46 @@ class UrlTemplatesResolverUtilTest {
         }
     }
 
+    /**
+     * Tests the conversion of a URL template with several placeholders into a URI template.
+     * <p>
+     * Expected behavior:
+     * - The consecutive placeholders are replaced with the consecutive URI variables.
+     */
+    @Test
+    void shouldReturnUriTemplateWithConsecutiveVariables_whenThereAreManyPlaceholders() {
+
+        // WHEN
+        String result = UrlTemplatesResolverUtil.resolveUriTemplate( KeycloakUrlTemplates.GET_ALL_SESSIONS_URL_TEMPLATE );
+
+        // THEN
+        assertEquals( "/admin/realms/{p0}/users/{p1}/sessions", result );
+    }
+
+    /**
+     * Tests the mapping of the parameters to the URI variables of the resolved URI template.
+     * <p>
+     * Expected behavior:
+     * - The parameters are mapped to the variables in the order of the template's placeholders.
+     */
+    @Test
+    void shouldMapParametersToUriVariables_whenThereIsCorrectNumberOfParameters() {
+
+        // WHEN
+        Map< String, Object > result = UrlTemplatesResolverUtil.resolveUriVariables( KeycloakUrlTemplates.GET_ALL_SESSIONS_URL_TEMPLATE, "TEST_REALM", "TEST_USER_ID" );
+
+        // THEN
+        assertEquals( Map.of( "p0", "TEST_REALM", "p1", "TEST_USER_ID" ), result );
+    }
+
+    /**
+     * Verifies that an {@link IllegalArgumentException} is thrown when the URI variables are resolved
+     * with fewer parameters than required by the specified URL template.
+     */
+    @Test
+    void shouldThrowIllegalArgumentException_whenUriVariablesAreResolvedWithTooLessParameters() {
+        assertThrows( IllegalArgumentException.class, () -> UrlTemplatesResolverUtil.resolveUriVariables( KeycloakUrlTemplates.GET_ALL_SESSIONS_URL_TEMPLATE, "TEST_REALM" ) );
+    }
+
 
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,11 +24,26 @@ class OfflineValidationStrategyTest {
      */
     private static final String TEST_ACCESS_TOKEN = "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICJXWXZpRWo5N3NZQmFvWVQ3bnN5Y2w1MnNWdm9oRU1pTzBVUXU1LTlFNHM4In0.eyJleHAiOjE3NDgzNzE3ODUsImlhdCI6MTc0ODM3MTQ4NSwianRpIjoib25ydHJvOjUwMDZmZDU2LTIzMGUtNGMzYi04NzRlLTgyOTY4MmMzYmI3YiIsImlzcyI6Imh0dHA6Ly9sb2NhbGhvc3Q6NzA4MC9yZWFsbXMvZ29hbGVhZiIsImF1ZCI6ImFjY291bnQiLCJzdWIiOiI0NTY4NjUxYi0xNWQ1LTQ0YzItOTQ4ZC0xMmEwMzQ4M2FjMWEiLCJ0eXAiOiJCZWFyZXIiLCJhenAiOiJnb2FsZWFmLW1zcy1zZXJ2ZXIiLCJzaWQiOiI4NjU2Y2ViNC02YWEwLTRlNTctOTdlZi05MTk4NTkzNThiMTgiLCJhY3IiOiIxIiwiYWxsb3dlZC1vcmlnaW5zIjpbIi8qIl0sInJlYWxtX2FjY2VzcyI6eyJyb2xlcyI6WyJvZmZsaW5lX2FjY2VzcyIsInVtYV9hdXRob3JpemF0aW9uIiwiZGVmYXVsdC1yb2xlcy1nb2FsZWFmIl19LCJyZXNvdXJjZV9hY2Nlc3MiOnsiYWNjb3VudCI6eyJyb2xlcyI6WyJtYW5hZ2UtYWNjb3VudCIsIm1hbmFnZS1hY2NvdW50LWxpbmtzIiwidmlldy1wcm9maWxlIl19fSwic2NvcGUiOiJwcm9maWxlIGVtYWlsIiwiZW1haWxfdmVyaWZpZWQiOnRydWUsInByZWZlcnJlZF91c2VybmFtZSI6InBwbG9jaWVubmlrMiIsImVtYWlsIjoicHJ6ZW14Ljg0QGdtYWlsLmNvbSJ9.fjVGhjvObZ6LmnOUVc7ek6Cm9wxFJC2a6ce1GWlc_o10wGTZZNCU53Ja3r_ki2eF2p_MSUwmKGzGGZYeAY6iwr9GfrIqtuJVyVJpABv-ds-jtPQoKvkos5tH0SPy4mRIlH__TnAcCKmBWtdmqXKyzXposRHcxsdEFjvuqZCQk24tlwfGQzW2gx5fJqF8QAPmNzv0bOuC3c8WaF67rAxfrZCSVhRI7wws6uZFZuOkrE1Y6LfqWxCQB2jfJ-jBcvET7vH_6ZzysizynQSEfhQSOvD3UtnDol5avi4bDgaetJtVZAJ4gShn_MNi8KVMqA08ZZKW1mdMvGYB21Uj_SoDtQ";
 
+    /**
+     * The session identifier ({@code sid} claim) of the test token.
+     */
+    private static final String TEST_SESSION_ID = "8656ceb4-6aa0-4e57-97ef-919859358b18";
+
+    /**
+     * The user identifier ({@code sub} claim) of the test token.
+     */
+    private static final String TEST_USER_ID = "4568651b-15d5-44c2-948d-12a03483ac1a";
+
     /**
      * A mocked instance of the {@link TimeService}.
      */
     private TimeService timeService;
 
+    /**
+     * The registry of the locally revoked tokens used by the strategy.
+     */
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
     /**
      * An instance of the object being tested.
      */
@@ -41,7 +57,7 @@ class OfflineValidationStrategyTest {
      * <p>
      * 1. Creates a mocked instance of {@code TimeService} using Mockito.
      * 2. Instantiates the {@code OfflineValidationStrategy} under test
-     * with the mocked {@code TimeService} as its dependency.
+     * with the mocked {@code TimeService} and an empty {@code TokenRevocationRegistry} as its dependencies.
      * <p>
      * The setup ensures that each test runs in isolation with a consistent
      * and controlled environment.
@@ -49,7 +65,8 @@ class OfflineValidationStrategyTest {
     @BeforeEach
     void setUp() {
         timeService = Mockito.mock( TimeService.class );
-        underTest = new OfflineValidationStrategy( timeService );
+        tokenRevocationRegistry = new TokenRevocationRegistry( timeService, Duration.ofMinutes( 5 ) );
+        underTest = new OfflineValidationStrategy( timeService, tokenRevocationRegistry );
     }
 
     /**
@@ -102,6 +119,102 @@ class OfflineValidationStrategyTest {
         assertFalse( result );
     }
 
+    /**
+     * Tests the scenario where the session of a not expired access token has been ended locally.
+     * <p>
+     * Test Steps:
+     * 1. Configure the mocked {@code TimeService} to return a time before the token's expiration.
+     * 2. Revoke the token's session in the registry.
+     * 3. Call the {@code validateAccessToken} method with the test access token.
+     * 4. Assert that the method returns {@code false}, indicating that the token has been revoked.
+     */
+    @Test
+    void shouldReturnFalse_whenTheTokenSessionHasBeenRevoked() {
+
+        // GIVEN
+        ZonedDateTime dateTime = ZonedDateTime.parse( "2025-05-27T18:45:45Z" );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( dateTime );
+        tokenRevocationRegistry.revokeSession( TEST_SESSION_ID );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( TEST_ACCESS_TOKEN );
+
+        // THEN
+        assertFalse( result );
+    }
+
+    /**
+     * Tests the scenario where all the sessions of the token's user have been ended locally after the token was issued.
+     * <p>
+     * Test Steps:
+     * 1. Configure the mocked {@code TimeService} to return a time after the token's issuance and before its expiration.
+     * 2. Revoke the token's user in the registry.
+     * 3. Call the {@code validateAccessToken} method with the test access token.
+     * 4. Assert that the method returns {@code false}, indicating that the token has been revoked.
+     */
+    @Test
+    void shouldReturnFalse_whenTheTokenUserHasBeenRevokedAfterTheTokenWasIssued() {
+
+        // GIVEN
+        ZonedDateTime dateTime = ZonedDateTime.parse( "2025-05-27T18:45:45Z" );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( dateTime );
+        tokenRevocationRegistry.revokeUser( TEST_USER_ID );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( TEST_ACCESS_TOKEN );
+
+        // THEN
+        assertFalse( result );
+    }
+
+    /**
+     * Tests the scenario where all the sessions of the token's user had been ended locally before the token was issued.
+     * <p>
+     * Test Steps:
+     * 1. Revoke the token's user in the registry at a time before the token's issuance.
+     * 2. Configure the mocked {@code TimeService} to return a time before the token's expiration.
+     * 3. Call the {@code validateAccessToken} method with the test access token.
+     * 4. Assert that the method returns {@code true}, indicating that the token issued after the revocation is accepted.
+     */
+    @Test
+    void shouldReturnTrue_whenTheTokenUserHasBeenRevokedBeforeTheTokenWasIssued() {
+
+        // GIVEN
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( ZonedDateTime.parse( "2025-05-27T18:40:00Z" ) );
+        tokenRevocationRegistry.revokeUser( TEST_USER_ID );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( ZonedDateTime.parse( "2025-05-27T18:45:45Z" ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( TEST_ACCESS_TOKEN );
+
+        // THEN
+        assertTrue( result );
+    }
+
+    /**
+     * Tests the scenario where the token's user has been revoked within the same second as the token was issued.
+     * <p>
+     * Test Steps:
+     * 1. Revoke the token's user at a time within the second of the token's issuance time ('2025-05-27T18:44:45Z').
+     * 2. Configure the mocked {@code TimeService} to return a time before the token's expiration.
+     * 3. Call the {@code validateAccessToken} method with the test access token.
+     * 4. Assert that the method returns {@code false}, as the token may have been issued before the revocation.
+     */
+    @Test
+    void shouldReturnFalse_whenTheTokenUserHasBeenRevokedWithinTheSecondTheTokenWasIssued() {
+
+        // GIVEN
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( ZonedDateTime.parse( "2025-05-27T18:44:45.700Z" ) );
+        tokenRevocationRegistry.revokeUser( TEST_USER_ID );
+        Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( ZonedDateTime.parse( "2025-05-27T18:45:45Z" ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( TEST_ACCESS_TOKEN );
+
+        // THEN
+        assertFalse( result );
+    }
+
     /**
      * Tests the behavior of the {@code validateAccessToken} method when provided with a {@code null} parameter.
      * <p>
@@ -122,7 +235,7 @@ class OfflineValidationStrategyTest {
         Mockito.when( timeService.getCurrentSystemDateTime() ).thenReturn( dateTime );
 
         // THEN
-        assertThrows( NullPointerException.class, () -> underTest.validateAccessToken( null ) );
+        assertThrows( NullPointerException.class, () -> underTest.validateAccessToken( ( String ) null ) );
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,343 @@
+package com.goaleaf.accounts.system.util.token;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.github.pplociennik.commons.service.TimeService;
+import com.goaleaf.accounts.service.RealmPublicKeysService;
+import com.goaleaf.accounts.system.util.AccessTokenUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SignatureValidationStrategy} class.
+ * Tests the local verification of the JWT access tokens' signatures and standard claims
+ * with the realm's public keys.
+ *
+ * @author Created by: Pplociennik at 16.10.2026 11:02
+ */
+class SignatureValidationStrategyTest {
+
+    private static final String TEST_ISSUER = "http://localhost:7080/realms/goaleaf";
+    private static final String TEST_AUDIENCE = "account";
+    private static final String TEST_KEY_ID = "testKeyId";
+    private static final String TEST_UNKNOWN_KEY_ID = "testUnknownKeyId";
+    private static final String TEST_SESSION_ID = "8656ceb4-6aa0-4e57-97ef-919859358b18";
+
+    /**
+     * A key pair published by the mocked realm.
+     */
+    private static KeyPair realmKeyPair;
+
+    /**
+     * A key pair unknown to the realm, used for forging the tokens.
+     */
+    private static KeyPair foreignKeyPair;
+
+    /**
+     * A mocked instance of the {@link RealmPublicKeysService}.
+     */
+    private RealmPublicKeysService realmPublicKeysService;
+
+    /**
+     * The registry of the revoked tokens used by the tested object.
+     */
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * An instance of the object being tested.
+     */
+    private SignatureValidationStrategy underTest;
+
+    /**
+     * Generates the RSA key pairs used for signing the test tokens.
+     */
+    @BeforeAll
+    static void prepareKeys() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance( "RSA" );
+        generator.initialize( 2048 );
+        realmKeyPair = generator.generateKeyPair();
+        foreignKeyPair = generator.generateKeyPair();
+    }
+
+    /**
+     * Sets up the test environment before each test method is executed.
+     * <p>
+     * The mocked {@code RealmPublicKeysService} knows only the public key of the realm's key pair
+     * identified by {@link #TEST_KEY_ID}.
+     */
+    @BeforeEach
+    void setUp() {
+        realmPublicKeysService = Mockito.mock( RealmPublicKeysService.class );
+        Mockito.when( realmPublicKeysService.getPublicKey( TEST_KEY_ID ) ).thenReturn( Optional.of( realmKeyPair.getPublic() ) );
+        Mockito.when( realmPublicKeysService.getPublicKey( TEST_UNKNOWN_KEY_ID ) ).thenReturn( Optional.empty() );
+        tokenRevocationRegistry = new TokenRevocationRegistry( Mockito.mock( TimeService.class ), Duration.ofMinutes( 5 ) );
+        underTest = new SignatureValidationStrategy( realmPublicKeysService, TEST_ISSUER, TEST_AUDIENCE, tokenRevocationRegistry );
+    }
+
+    /**
+     * Tests the scenario where the token is signed with the realm's key and all the claims are correct.
+     * <p>
+     * Test Steps:
+     * 1. Sign a token with the realm's private key, the expected issuer and audience and the expiration time in the future.
+     * 2. Call the {@code validateAccessToken} method with the token.
+     * 3. Assert that the method returns {@code true}.
+     */
+    @Test
+    void shouldReturnTrue_whenTheTokenIsSignedWithRealmKeyAndClaimsAreCorrect() {
+
+        // GIVEN
+        String token = createToken( realmKeyPair, TEST_KEY_ID, TEST_ISSUER, Instant.now().plusSeconds( 300 ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( token );
+
+        // THEN
+        assertTrue( result );
+    }
+
+    /**
+     * Tests the scenario where the token claims to be signed with the realm's key but the signature was made with another key.
+     * <p>
+     * Test Steps:
+     * 1. Sign a token with a foreign private key but with the realm's key identifier.
+     * 2. Call the {@code validateAccessToken} method with the token.
+     * 3. Assert that the method returns {@code false}, indicating that the token has been forged.
+     */
+    @Test
+    void shouldReturnFalse_whenTheTokenIsSignedWithForeignKey() {
+
+        // GIVEN
+        String token = createToken( foreignKeyPair, TEST_KEY_ID, TEST_ISSUER, Instant.now().plusSeconds( 300 ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( token );
+
+        // THEN
+        assertFalse( result );
+    }
+
+    /**
+     * Tests the scenario where the token's key identifier is not published by the realm.
+     * <p>
+     * Test Steps:
+     * 1. Sign a token with a key identifier unknown to the realm.
+     * 2. Call the {@code validateAccessToken} method with the token.
+     * 3. Assert that the method returns {@code false}.
+     */
+    @Test
+    void shouldReturnFalse_whenTheTokenKeyIdIsUnknown() {
+
+        // GIVEN
+        String token = createToken( realmKeyPair, TEST_UNKNOWN_KEY_ID, TEST_ISSUER, Instant.now().plusSeconds( 300 ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( token );
+
+        // THEN
+        assertFalse( result );
+    }
+
+    /**
+     * Tests the scenario where the token is issued by an unexpected issuer.
+     * <p>
+     * Test Steps:
+     * 1. Sign a token with the realm's key but with another issuer.
+     * 2. Call the {@code validateAccessToken} method with the token.
+     * 3. Assert that the method returns {@code false}.
+     */
+    @Test
+    void shouldReturnFalse_whenTheTokenIssuerIsUnexpected() {
+
+        // GIVEN
+        String token = createToken( realmKeyPair, TEST_KEY_ID, "http://localhost:7080/realms/other", Instant.now().plusSeconds( 300 ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( token );
+
+        // THEN
+        assertFalse( result );
+    }
+
+    /**
+     * Tests the scenario where the correctly signed token has already expired.
+     * <p>
+     * Test Steps:
+     * 1. Sign a token with the realm's key and the expiration time in the past.
+     * 2. Call the {@code validateAccessToken} method with the token.
+     * 3. Assert that the method returns {@code false}, indicating that the token has expired.
+     */
+    @Test
+    void shouldReturnFalse_whenTheTokenHasExpired() {
+
+        // GIVEN
+        String token = createToken( realmKeyPair, TEST_KEY_ID, TEST_ISSUER, Instant.now().minusSeconds( 60 ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( token );
+
+        // THEN
+        assertFalse( result );
+    }
+
+    /**
+     * Tests the scenario where the strategy is created without the expected issuer.
+     * <p>
+     * Test Steps:
+     * 1. Create the strategy with the null, empty and blank issuer.
+     * 2. Assert that each creation fails, so no strategy silently skips or always fails the issuer check.
+     */
+    @Test
+    void shouldThrowIllegalArgumentException_whenIssuerIsBlank() {
+
+        // GIVEN
+        TokenRevocationRegistry registry = new TokenRevocationRegistry( Mockito.mock( TimeService.class ), Duration.ofMinutes( 5 ) );
+
+        // THEN
+        assertThrows( IllegalArgumentException.class, () -> new SignatureValidationStrategy( realmPublicKeysService, null, TEST_AUDIENCE, registry ) );
+        assertThrows( IllegalArgumentException.class, () -> new SignatureValidationStrategy( realmPublicKeysService, "", TEST_AUDIENCE, registry ) );
+        assertThrows( IllegalArgumentException.class, () -> new SignatureValidationStrategy( realmPublicKeysService, "  ", TEST_AUDIENCE, registry ) );
+    }
+
+    /**
+     * Tests the scenario where the token's issuer differs from the expected one only by the trailing slash.
+     * <p>
+     * Test Steps:
+     * 1. Sign a token with the realm's key and the expected issuer followed by a slash.
+     * 2. Call the {@code validateAccessToken} method with the token.
+     * 3. Assert that the method returns {@code false}, as the issuer must match exactly.
+     */
+    @Test
+    void shouldReturnFalse_whenTheTokenIssuerDoesNotMatchExactly() {
+
+        // GIVEN
+        String token = createToken( realmKeyPair, TEST_KEY_ID, TEST_ISSUER + "/", Instant.now().plusSeconds( 300 ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( token );
+
+        // THEN
+        assertFalse( result );
+    }
+
+    /**
+     * Tests the scenario where the realm's keys cannot be fetched, e.g. when the realm is unreachable.
+     * <p>
+     * Test Steps:
+     * 1. Make the lookup of the realm's key fail.
+     * 2. Call the {@code validateAccessToken} method with a token signed with the realm's key.
+     * 3. Assert that the method returns {@code false} instead of throwing the exception.
+     */
+    @Test
+    void shouldReturnFalse_whenRealmKeysCannotBeFetched() {
+
+        // GIVEN
+        Mockito.when( realmPublicKeysService.getPublicKey( TEST_KEY_ID ) ).thenThrow( new IllegalStateException( "The realm is unreachable" ) );
+        String token = createToken( realmKeyPair, TEST_KEY_ID, TEST_ISSUER, Instant.now().plusSeconds( 300 ) );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( token );
+
+        // THEN
+        assertFalse( result );
+    }
+
+    /**
+     * Tests the scenario where the realm publishes another key under the identifier the verifier has been built for.
+     * <p>
+     * Test Steps:
+     * 1. Validate a token signed with the realm's key.
+     * 2. Publish the foreign key under the same identifier.
+     * 3. Assert that the token signed with the previous key is rejected and the token signed with the new key is accepted.
+     */
+    @Test
+    void shouldVerifyWithNewKey_whenRealmReplacesKeyUnderSameId() {
+
+        // GIVEN
+        String oldKeyToken = createToken( realmKeyPair, TEST_KEY_ID, TEST_ISSUER, Instant.now().plusSeconds( 300 ) );
+        String newKeyToken = createToken( foreignKeyPair, TEST_KEY_ID, TEST_ISSUER, Instant.now().plusSeconds( 300 ) );
+        boolean resultBeforeReplacement = underTest.validateAccessToken( oldKeyToken );
+
+        // WHEN
+        Mockito.when( realmPublicKeysService.getPublicKey( TEST_KEY_ID ) ).thenReturn( Optional.of( foreignKeyPair.getPublic() ) );
+        boolean oldKeyResult = underTest.validateAccessToken( oldKeyToken );
+        boolean newKeyResult = underTest.validateAccessToken( newKeyToken );
+
+        // THEN
+        assertTrue( resultBeforeReplacement );
+        assertFalse( oldKeyResult );
+        assertTrue( newKeyResult );
+    }
+
+    /**
+     * Tests the scenario where the correctly signed token's session has been revoked.
+     * <p>
+     * Test Steps:
+     * 1. Revoke the session of a token signed with the realm's key.
+     * 2. Call the {@code validateAccessToken} method with the token's parsed claims.
+     * 3. Assert that the method returns {@code false} without looking the realm's key up.
+     */
+    @Test
+    void shouldReturnFalseWithoutKeyLookup_whenTheTokenIsRevoked() {
+
+        // GIVEN
+        String token = createToken( realmKeyPair, TEST_KEY_ID, TEST_ISSUER, Instant.now().plusSeconds( 300 ) );
+        tokenRevocationRegistry.revokeSession( TEST_SESSION_ID );
+
+        // WHEN
+        boolean result = underTest.validateAccessToken( AccessTokenUtils.parseClaims( token ) );
+
+        // THEN
+        assertFalse( result );
+        Mockito.verifyNoInteractions( realmPublicKeysService );
+    }
+
+    /**
+     * Tests the behavior of the {@code validateAccessToken} method when provided with a {@code null} parameter.
+     */
+    @Test
+    void shouldThrowNullPointerException_whenNullGivenAsParameter() {
+
+        // THEN
+        assertThrows( NullPointerException.class, () -> underTest.validateAccessToken( ( String ) null ) );
+    }
+
+    /**
+     * Creates an RS256 signed token.
+     *
+     * @param aKeyPair
+     *         the key pair used for signing.
+     * @param aKeyId
+     *         the value of the {@code kid} header.
+     * @param aIssuer
+     *         the value of the {@code iss} claim.
+     * @param aExpiresAt
+     *         the value of the {@code exp} claim.
+     * @return the signed token.
+     */
+    private String createToken( KeyPair aKeyPair, String aKeyId, String aIssuer, Instant aExpiresAt ) {
+        Algorithm algorithm = Algorithm.RSA256( ( RSAPublicKey ) aKeyPair.getPublic(), ( RSAPrivateKey ) aKeyPair.getPrivate() );
+        return JWT.create()
+                .withKeyId( aKeyId )
+                .withIssuer( aIssuer )
+                .withAudience( TEST_AUDIENCE )
+                .withSubject( "4568651b-15d5-44c2-948d-12a03483ac1a" )
+                .withClaim( "sid", TEST_SESSION_ID )
+                .withIssuedAt( aExpiresAt.minusSeconds( 300 ) )
+                .withNotBefore( aExpiresAt.minusSeconds( 300 ) )
+                .withExpiresAt( aExpiresAt )
+                .sign( algorithm );
+    }
+}